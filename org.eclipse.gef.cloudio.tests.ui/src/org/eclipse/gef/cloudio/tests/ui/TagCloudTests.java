@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.eclipse.gef.cloudio.internal.ui.TagCloud;
 import org.eclipse.gef.cloudio.internal.ui.Word;
+import org.eclipse.gef.cloudio.internal.ui.layout.PackingLayouter;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseListener;
@@ -293,6 +294,18 @@ public class TagCloudTests {
 		cloud.setLayouter(null);
 	}
 
+	@Test
+	public void testPackingLayouter() {
+		TagCloud cloud = new TagCloud(composite, SWT.NONE);
+		cloud.setLayouter(new PackingLayouter(5, 5));
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			words.add(getWord());
+		}
+		int placed = cloud.setWords(words, null);
+		Assert.assertEquals(10, placed);
+	}
+
 	// Zoom
 
 	@Test
@@ -31,7 +31,7 @@ public class DefaultLayouter implements ILayouter {
 
 	public static final String Y_AXIS_VARIATION = "yaxis";
 
-	private Random random = new Random();
+	protected final Random random = new Random();
 
 	/**
 	 * Percentage of the x axis variation. By default, searching for free space is
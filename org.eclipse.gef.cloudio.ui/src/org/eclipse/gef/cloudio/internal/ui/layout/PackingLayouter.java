@@ -0,0 +1,253 @@
+/******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.cloudio.internal.ui.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.gef.cloudio.internal.ui.Word;
+import org.eclipse.gef.cloudio.internal.ui.util.CloudMatrix;
+import org.eclipse.gef.cloudio.internal.ui.util.RectTree;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * An {@link ILayouter} that searches the same spiral positions as the
+ * {@link DefaultLayouter}, but tests them against the bit mask of the
+ * {@link CloudMatrix} instead of the {@link RectTree}. A word is first checked
+ * by its bounding box, and only if that is (partially) occupied, by the rows of
+ * its own mask. While the first candidates of the spiral are tested
+ * sequentially, the remaining ones are tested speculatively in parallel
+ * batches. The word is placed at the first fitting candidate in spiral order,
+ * so that the result is the same as with sequential testing.
+ *
+ * @author agent
+ *
+ */
+public class PackingLayouter extends DefaultLayouter {
+
+	/**
+	 * Option to set the number of candidates that are tested in parallel
+	 * (after the first {@value #SEQUENTIAL_CANDIDATES} candidates have been
+	 * tested sequentially). A value of <code>0</code> disables parallel
+	 * testing.
+	 */
+	public static final String BATCH_SIZE = "batchsize";
+
+	private static final int SEQUENTIAL_CANDIDATES = 64;
+
+	private static final int MAX_CANDIDATES = 5000;
+
+	private int batchSize = 512;
+
+	public PackingLayouter(int i, int j) {
+		super(i, j);
+	}
+
+	/**
+	 * Generates the spiral positions of the {@link DefaultLayouter} on demand,
+	 * skipping those that are outside of the cloud area as well as repeated
+	 * ones.
+	 */
+	private static class Spiral {
+
+		private final Word word;
+		private final Rectangle cloudArea;
+		private final int accuracy;
+		private final Point offset;
+		private final Point next;
+		private double growFactor = 1.6;
+		private int step = 0;
+		private int lastX = Integer.MIN_VALUE, lastY = Integer.MIN_VALUE;
+
+		Spiral(Point offset, Point start, Word word, Rectangle cloudArea, int accuracy) {
+			this.offset = offset;
+			this.next = start;
+			this.word = word;
+			this.cloudArea = cloudArea;
+			this.accuracy = accuracy;
+		}
+
+		/**
+		 * Stores the x and y coordinates of up to <code>count</code> further
+		 * candidates in the given array.
+		 * 
+		 * @return the number of candidates that were stored
+		 */
+		int next(int[] candidates, int count) {
+			int found = 0;
+			while (found < count && step < MAX_CANDIDATES) {
+				step++;
+				final double radius = Math.sqrt((double) (next.x * next.x + next.y * next.y)) + growFactor;
+				double atan = Math.atan2(next.y, next.x);
+				if (growFactor > 1.1) {
+					growFactor -= 0.0007;
+				}
+				if (radius < 80) {
+					atan += 0.7;
+				} else {
+					atan += 20 / radius;
+				}
+				if (growFactor < 0.0005) {
+					growFactor = 0.0005;
+				}
+				next.x = (int) (radius * Math.cos(atan));
+				next.y = (int) (radius * Math.sin(atan));
+				int x = ((next.x + offset.x) / accuracy) * accuracy;
+				int y = ((next.y + offset.y) / accuracy) * accuracy;
+				if (x == lastX && y == lastY) {
+					continue;
+				}
+				if (cloudArea.x <= x && cloudArea.y <= y && cloudArea.x + cloudArea.width >= x + word.width
+						&& cloudArea.y + cloudArea.height >= y + word.height) {
+					candidates[2 * found] = x;
+					candidates[2 * found + 1] = y;
+					lastX = x;
+					lastY = y;
+					found++;
+				}
+			}
+			return found;
+		}
+	}
+
+	@Override
+	public boolean layout(Point offset, final Word word, final Rectangle cloudArea, final CloudMatrix mainTree) {
+		Assert.isLegal(word != null, "Word cannot be null!");
+		final RectTree rt = word.tree;
+		if (rt == null)
+			return false;
+		Point next = new Point(-word.width / 2, -word.height / 2);
+		next.x += random.nextInt(25);
+		next.y += random.nextInt(25);
+		offset.x += cloudArea.width / 2;
+		offset.y += cloudArea.height / 2;
+		final int accuracy = mainTree.getMinResolution();
+		final Spiral spiral = new Spiral(offset, next, word, cloudArea, accuracy);
+		final long[][] mask = rt.getMask();
+		final int width = (word.width + accuracy - 1) / accuracy;
+		final int height = (word.height + accuracy - 1) / accuracy;
+		int[] candidates = new int[2 * Math.max(SEQUENTIAL_CANDIDATES, batchSize)];
+		int count = spiral.next(candidates, SEQUENTIAL_CANDIDATES);
+		int found = findFirst(candidates, 0, count, mask, width, height, accuracy, mainTree, null);
+		while (found < 0 && count > 0) {
+			if (batchSize > 0) {
+				count = spiral.next(candidates, batchSize);
+				found = findFirstParallel(candidates, count, mask, width, height, accuracy, mainTree);
+			} else {
+				count = spiral.next(candidates, SEQUENTIAL_CANDIDATES);
+				found = findFirst(candidates, 0, count, mask, width, height, accuracy, mainTree, null);
+			}
+		}
+		if (found < 0)
+			return false;
+		word.x = candidates[2 * found];
+		word.y = candidates[2 * found + 1];
+		rt.move(word.x, word.y);
+		rt.place(mainTree, word.id);
+		return true;
+	}
+
+	/**
+	 * Returns the index of the first candidate in the given range at which the
+	 * word fits, or <code>-1</code>. If <code>best</code> is given, the search
+	 * is aborted as soon as a preceding candidate is known to fit.
+	 */
+	private static int findFirst(int[] candidates, int start, int end, long[][] mask, int width, int height,
+			int accuracy, CloudMatrix mainTree, AtomicInteger best) {
+		for (int i = start; i < end; i++) {
+			if (best != null && best.get() < i)
+				return -1;
+			int x = candidates[2 * i] / accuracy;
+			int y = candidates[2 * i + 1] / accuracy;
+			if (mainTree.isEmpty(x, y, width, height) || mainTree.fits(mask, x, y)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void cancel(List<Future<Integer>> results) {
+		for (Future<Integer> result : results) {
+			result.cancel(false);
+		}
+	}
+
+	private static int findFirstParallel(final int[] candidates, int count, final long[][] mask, final int width,
+			final int height, final int accuracy, final CloudMatrix mainTree) {
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int chunks = pool.getParallelism();
+		if (chunks <= 1) {
+			return findFirst(candidates, 0, count, mask, width, height, accuracy, mainTree, null);
+		}
+		int chunkSize = Math.max(1, (count + chunks - 1) / chunks);
+		final AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int chunk = 0; chunk < count; chunk += chunkSize) {
+			final int chunkStart = chunk;
+			final int chunkEnd = Math.min(count, chunk + chunkSize);
+			results.add(pool.submit(new Callable<Integer>() {
+
+				@Override
+				public Integer call() throws Exception {
+					int found = findFirst(candidates, chunkStart, chunkEnd, mask, width, height, accuracy, mainTree,
+							best);
+					if (found >= 0) {
+						int current = best.get();
+						while (found < current && !best.compareAndSet(current, found)) {
+							current = best.get();
+						}
+					}
+					return found;
+				}
+			}));
+		}
+		for (Future<Integer> result : results) {
+			try {
+				result.get();
+			} catch (InterruptedException e) {
+				// restore the interrupt flag and complete the search on the
+				// calling thread, which yields the same result
+				Thread.currentThread().interrupt();
+				cancel(results);
+				return findFirst(candidates, 0, count, mask, width, height, accuracy, mainTree, null);
+			} catch (ExecutionException e) {
+				cancel(results);
+				Throwable cause = e.getCause();
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw (RuntimeException) cause;
+			}
+		}
+		int found = best.get();
+		return found == Integer.MAX_VALUE ? -1 : found;
+	}
+
+	@Override
+	public void setOption(String optionName, Object object) {
+		if (BATCH_SIZE.equals(optionName)) {
+			Integer value = (Integer) object;
+			Assert.isLegal(value >= 0, "Parameter must not be negative: " + value);
+			this.batchSize = value;
+			return;
+		}
+		super.setOption(optionName, object);
+	}
+
+}
@@ -16,7 +16,10 @@ import org.eclipse.gef.cloudio.internal.ui.util.RectTree.RectNode;
 
 /**
  * This class contains all global information about the drawable area and the
- * layouted words in form of a {@link RectTree}.
+ * layouted words in form of a {@link RectTree}. In addition, the occupied cells
+ * are tracked in a bit mask (one bit per cell, 64 cells per <code>long</code>),
+ * so that collision tests do not have to traverse the tree, and can be
+ * performed for whole rows of a word at once.
  * 
  * @author sschwieb
  *
@@ -29,6 +32,18 @@ public class CloudMatrix {
 
 	private final int minResolution;
 
+	/**
+	 * Number of cells per row and column.
+	 */
+	private final int cells;
+
+	/**
+	 * Number of <code>long</code>s per row of {@link #occupied}.
+	 */
+	private final int stride;
+
+	private long[] occupied;
+
 	public int getMinResolution() {
 		return minResolution;
 	}
@@ -36,6 +51,8 @@ public class CloudMatrix {
 	public CloudMatrix(int maxSize, int minResolution) {
 		this.max = maxSize;
 		this.minResolution = minResolution;
+		this.cells = maxSize / minResolution;
+		this.stride = (cells + 63) / 64;
 		reset();
 	}
 
@@ -44,20 +61,111 @@ public class CloudMatrix {
 	}
 
 	public boolean isEmpty(int x, int y) {
-		short id = tree.getRoot().getWordId(x * minResolution, y * minResolution);
-		return id == RectTree.EMPTY;
+		if (x < 0 || y < 0 || x >= cells || y >= cells) {
+			short id = tree.getRoot().getWordId(x * minResolution, y * minResolution);
+			return id == RectTree.EMPTY;
+		}
+		return (occupied[y * stride + (x >> 6)] & (1L << x)) == 0;
+	}
+
+	/**
+	 * Checks whether all cells within the given area (in cell coordinates) are
+	 * empty.
+	 * 
+	 * @param x
+	 * @param y
+	 * @param width
+	 * @param height
+	 * @return <code>true</code> if none of the cells is occupied
+	 */
+	public boolean isEmpty(int x, int y, int width, int height) {
+		if (x < 0 || y < 0 || x + width > cells || y + height > cells) {
+			return false;
+		}
+		if (width <= 0 || height <= 0) {
+			return true;
+		}
+		int first = x >> 6;
+		int last = (x + width - 1) >> 6;
+		long firstMask = -1L << x;
+		long lastMask = -1L >>> (63 - ((x + width - 1) & 63));
+		for (int row = y; row < y + height; row++) {
+			int offset = row * stride;
+			for (int i = first; i <= last; i++) {
+				long bits = -1L;
+				if (i == first) {
+					bits &= firstMask;
+				}
+				if (i == last) {
+					bits &= lastMask;
+				}
+				if ((occupied[offset + i] & bits) != 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the given mask (as returned by {@link RectTree#getMask()})
+	 * can be placed at the given position (in cell coordinates) without
+	 * overlapping any occupied cell. This method does not modify the matrix,
+	 * so that it may be called concurrently, as long as no words are placed at
+	 * the same time.
+	 * 
+	 * @param mask
+	 * @param x
+	 * @param y
+	 * @return <code>true</code> if the mask fits at the given position
+	 */
+	public boolean fits(long[][] mask, int x, int y) {
+		if (x < 0 || y < 0) {
+			for (int row = 0; row < mask.length; row++) {
+				for (int i = 0; i < mask[row].length * 64; i++) {
+					if ((mask[row][i >> 6] & (1L << i)) != 0 && !isEmpty(x + i, y + row)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		final int shift = x & 63;
+		final int base = x >> 6;
+		final int rows = Math.min(mask.length, cells - y);
+		for (int row = 0; row < rows; row++) {
+			final long[] bits = mask[row];
+			final int offset = (y + row) * stride + base;
+			for (int i = 0; i < bits.length && base + i < stride; i++) {
+				if (bits[i] == 0) {
+					continue;
+				}
+				if ((occupied[offset + i] & (bits[i] << shift)) != 0) {
+					return false;
+				}
+				if (shift != 0 && base + i + 1 < stride && (occupied[offset + i + 1] & (bits[i] >>> (64 - shift))) != 0) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	public void reset() {
 		SmallRect root = new SmallRect(0, 0, max, max);
 		tree = new RectTree(root, minResolution);
+		occupied = new long[cells * stride];
 	}
 
 	public void set(RectNode node, short id, short xOffset, short yOffset, int minResolution) {
 		int cleanX = ((xOffset + node.rect.x) / minResolution) * minResolution;
 		int cleanY = ((yOffset + node.rect.y) / minResolution) * minResolution;
-		SmallRect rect = new SmallRect(cleanX, cleanY, minResolution, minResolution);
-		tree.insert(rect, id);
+		tree.insert(cleanX, cleanY, id);
+		int x = cleanX / this.minResolution;
+		int y = cleanY / this.minResolution;
+		if (x >= 0 && y >= 0 && x < cells && y < cells) {
+			occupied[y * stride + (x >> 6)] |= 1L << x;
+		}
 	}
 
 }
@@ -12,11 +12,9 @@
 package org.eclipse.gef.cloudio.internal.ui.util;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipse.swt.graphics.Point;
 
@@ -36,6 +34,8 @@ public class RectTree {
 
 	private LinkedList<RectNode> leaves;
 
+	private long[][] mask;
+
 	public static short EMPTY = -3, MISC = -2, BACKGROUND = -1;
 
 	class RectNode {
@@ -68,15 +68,19 @@ public class RectTree {
 		}
 
 		private int getChildIndex(SmallRect r) {
+			return getChildIndex(r.x, r.y);
+		}
+
+		private int getChildIndex(int x, int y) {
 			int index = 0;
-			if (r.y >= childAreas[3].y) {
-				if (r.x >= childAreas[3].x) {
+			if (y >= childAreas[3].y) {
+				if (x >= childAreas[3].x) {
 					index = 3;
 				} else {
 					index = 2;
 				}
 			} else {
-				if (r.x >= childAreas[1].x) {
+				if (x >= childAreas[1].x) {
 					index = 1;
 				}
 			}
@@ -84,20 +88,27 @@ public class RectTree {
 		}
 
 		public boolean insert(SmallRect r, short id) {
+			return insert(r.x, r.y, id);
+		}
+
+		boolean insert(int x, int y, short id) {
 			if (rect.width == minResolution) {
 				filled = id;
 				return true;
 			}
-			int i = getChildIndex(r);
+			int i = getChildIndex(x, y);
 			if (children == null) {
 				children = new RectNode[4];
 			}
 			if (children[i] == null) {
 				children[i] = new RectNode(childAreas[i]);
 			}
-			boolean filledChild = children[i].insert(r, id);
+			boolean filledChild = children[i].insert(x, y, id);
 			if (filledChild) {
-				Set<Short> ids = new HashSet<>();
+				// determine whether all siblings are filled with the same id
+				// (without allocating a set of ids)
+				short id0 = EMPTY;
+				boolean uniform = true;
 				boolean filled = true;
 				for (int j = 0; j < children.length; j++) {
 					if (i == j)
@@ -106,11 +117,15 @@ public class RectTree {
 						filled = false;
 						break;
 					}
-					ids.add(children[j].filled);
+					if (id0 == EMPTY) {
+						id0 = children[j].filled;
+					} else if (id0 != children[j].filled) {
+						uniform = false;
+					}
 				}
 				if (filled) {
-					if (ids.size() == 1) {
-						this.filled = ids.iterator().next();
+					if (uniform) {
+						this.filled = id0;
 						if (this.filled == BACKGROUND) {
 							children = null;
 						}
@@ -162,6 +177,15 @@ public class RectTree {
 
 	public void insert(SmallRect r, short id) {
 		root.insert(r, id);
+		// the cached leaves and mask are outdated
+		leaves = null;
+		mask = null;
+	}
+
+	void insert(int x, int y, short id) {
+		root.insert(x, y, id);
+		leaves = null;
+		mask = null;
 	}
 
 	public void move(int x, int y) {
@@ -205,6 +229,36 @@ public class RectTree {
 		}
 	}
 
+	/**
+	 * Returns the occupied cells of this tree as a bit mask, relative to the
+	 * tree origin. Row <code>i</code> of the mask contains the cells with
+	 * <code>y == i * minResolution</code>, in which bit <code>j % 64</code> of
+	 * element <code>j / 64</code> is set if the cell with
+	 * <code>x == j * minResolution</code> is occupied. Like
+	 * {@link #fits(CloudMatrix)}, only the top-left cell of each leaf is taken
+	 * into account.
+	 * 
+	 * @return the occupied cells of this tree
+	 */
+	public long[][] getMask() {
+		if (mask == null) {
+			LinkedList<RectNode> leaves = getLeaves();
+			int rows = 0;
+			int columns = 0;
+			for (RectNode node : leaves) {
+				rows = Math.max(rows, node.rect.y / minResolution + 1);
+				columns = Math.max(columns, node.rect.x / minResolution + 1);
+			}
+			long[][] mask = new long[rows][(columns + 63) / 64];
+			for (RectNode node : leaves) {
+				int column = node.rect.x / minResolution;
+				mask[node.rect.y / minResolution][column >> 6] |= 1L << column;
+			}
+			this.mask = mask;
+		}
+		return mask;
+	}
+
 	public void place(final CloudMatrix mainTree, short id) {
 		Collection<RectNode> leaves = getLeaves();
 		for (RectNode node : leaves) {
@@ -223,6 +277,8 @@ public class RectTree {
 
 	public void reset() {
 		root = new RectNode(root.rect);
+		leaves = null;
+		mask = null;
 	}
 
 }
@@ -23,6 +23,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.gef.common.reflect.ReflectionUtils;
 import org.eclipse.swt.SWT;
@@ -157,11 +158,11 @@ public class FXCanvasEx extends FXCanvas {
 			// https://bugs.openjdk.java.net/browse/JDK-8161587)
 			long millisNow = System.currentTimeMillis();
 			if (millisNow - lastRedrawMillis > REDRAW_INTERVAL_MILLIS) {
-				redraw();
-				if (WIN32) {
-					// XXX: Only call update() on some platforms to prevent a
-					// loss of performance while keeping the UI up-to-date.
-					update();
+				// only request a redraw if the previously requested one has
+				// already been issued
+				if (!redrawPending) {
+					redrawPending = true;
+					getDisplay().asyncExec(redrawRunnable);
 				}
 				lastRedrawMillis = millisNow;
 			}
@@ -197,6 +198,99 @@ public class FXCanvasEx extends FXCanvas {
 		public void run(TKSceneListenerWrapper sceneListener);
 	}
 
+	/**
+	 * An {@link ISceneRunnable} that forwards an event to JavaFX, into which
+	 * succeeding events may be merged as long as it has not been executed (see
+	 * {@link FXCanvasEx#scheduleSceneRunnable(ISceneRunnable)}).
+	 */
+	private static abstract class MergeableSceneRunnable
+			implements ISceneRunnable {
+		/**
+		 * Merges the given (succeeding) {@link ISceneRunnable} into this one
+		 * if possible.
+		 *
+		 * @param next
+		 *            The {@link ISceneRunnable} that was scheduled after this
+		 *            one.
+		 * @return <code>true</code> if the given {@link ISceneRunnable} was
+		 *         merged into this one (and thus does not need to be
+		 *         executed), <code>false</code> otherwise.
+		 */
+		public abstract boolean merge(ISceneRunnable next);
+	}
+
+	/**
+	 * A {@link MergeableSceneRunnable} that forwards a {@link ScrollEvent} to
+	 * JavaFX. Successive {@link ScrollEvent#SCROLL} events are merged by
+	 * adding up their deltas.
+	 */
+	private class ScrollSceneRunnable extends MergeableSceneRunnable {
+
+		private final EventType<ScrollEvent> eventType;
+		private double scrollX;
+		private double scrollY;
+		private double totalScrollX;
+		private double totalScrollY;
+		private final double multiplier;
+		private int x;
+		private int y;
+		private Point los;
+		private final int stateMask;
+		private final boolean inertia;
+
+		public ScrollSceneRunnable(EventType<ScrollEvent> eventType,
+				double scrollX, double scrollY, double totalScrollX,
+				double totalScrollY, double multiplier, int x, int y,
+				int stateMask, boolean inertia) {
+			this.eventType = eventType;
+			this.scrollX = scrollX;
+			this.scrollY = scrollY;
+			this.totalScrollX = totalScrollX;
+			this.totalScrollY = totalScrollY;
+			this.multiplier = multiplier;
+			this.x = x;
+			this.y = y;
+			this.los = toDisplay(x, y);
+			this.stateMask = stateMask;
+			this.inertia = inertia;
+		}
+
+		@Override
+		public boolean merge(ISceneRunnable next) {
+			if (!(next instanceof ScrollSceneRunnable)) {
+				return false;
+			}
+			ScrollSceneRunnable n = (ScrollSceneRunnable) next;
+			if (eventType != ScrollEvent.SCROLL
+					|| n.eventType != ScrollEvent.SCROLL
+					|| multiplier != n.multiplier || stateMask != n.stateMask
+					|| inertia != n.inertia) {
+				return false;
+			}
+			scrollX += n.scrollX;
+			scrollY += n.scrollY;
+			// the total scroll of mouse wheel and inertia events is equal to
+			// their delta, while it is accumulated for gesture events
+			totalScrollX = n.totalScrollX == n.scrollX ? scrollX
+					: n.totalScrollX;
+			totalScrollY = n.totalScrollY == n.scrollY ? scrollY
+					: n.totalScrollY;
+			x = n.x;
+			y = n.y;
+			los = n.los;
+			return true;
+		}
+
+		@Override
+		public void run(TKSceneListenerWrapper sceneListener) {
+			sceneListener.scrollEvent(eventType, scrollX, scrollY,
+					totalScrollX, totalScrollY, multiplier, multiplier, 0, 0, 0,
+					0, 0, x, y, los.x, los.y, (stateMask & SWT.SHIFT) != 0,
+					(stateMask & SWT.CONTROL) != 0, (stateMask & SWT.ALT) != 0,
+					(stateMask & SWT.COMMAND) != 0, false, inertia);
+		}
+	}
+
 	// XXX: This class is used to wrap a com.sun.javafx.tk.TKSceneListener
 	// object, so respective methods can be called on it via reflection without
 	// introducing compile-time dependencies.
@@ -331,6 +425,62 @@ public class FXCanvasEx extends FXCanvas {
 		}
 	}
 
+	/**
+	 * A {@link MergeableSceneRunnable} that forwards a {@link ZoomEvent} to
+	 * JavaFX. Successive {@link ZoomEvent#ZOOM} events are merged by
+	 * multiplying their zoom factors.
+	 */
+	private class ZoomSceneRunnable extends MergeableSceneRunnable {
+
+		private final EventType<ZoomEvent> eventType;
+		private double zoomFactor;
+		private double totalZoomFactor;
+		private int x;
+		private int y;
+		private Point los;
+		private final int stateMask;
+		private final boolean inertia;
+
+		public ZoomSceneRunnable(EventType<ZoomEvent> eventType,
+				double zoomFactor, double totalZoomFactor, int x, int y,
+				int stateMask, boolean inertia) {
+			this.eventType = eventType;
+			this.zoomFactor = zoomFactor;
+			this.totalZoomFactor = totalZoomFactor;
+			this.x = x;
+			this.y = y;
+			this.los = toDisplay(x, y);
+			this.stateMask = stateMask;
+			this.inertia = inertia;
+		}
+
+		@Override
+		public boolean merge(ISceneRunnable next) {
+			if (!(next instanceof ZoomSceneRunnable)) {
+				return false;
+			}
+			ZoomSceneRunnable n = (ZoomSceneRunnable) next;
+			if (eventType != ZoomEvent.ZOOM || n.eventType != ZoomEvent.ZOOM
+					|| stateMask != n.stateMask || inertia != n.inertia) {
+				return false;
+			}
+			zoomFactor *= n.zoomFactor;
+			totalZoomFactor = n.totalZoomFactor;
+			x = n.x;
+			y = n.y;
+			los = n.los;
+			return true;
+		}
+
+		@Override
+		public void run(TKSceneListenerWrapper sceneListener) {
+			sceneListener.zoomEvent(eventType, zoomFactor, totalZoomFactor, x,
+					y, los.x, los.y, (stateMask & SWT.SHIFT) != 0,
+					(stateMask & SWT.CONTROL) != 0, (stateMask & SWT.ALT) != 0,
+					(stateMask & SWT.COMMAND) != 0, false, inertia);
+		}
+	}
+
 	private static final boolean JAVA_8 = System.getProperty("java.version")
 			.startsWith("1.8.0");
 	private static final boolean WIN32 = SWT.getPlatform().equals("win32");
@@ -434,6 +584,9 @@ public class FXCanvasEx extends FXCanvas {
 					sendScrollEventToFX(ScrollEvent.SCROLL,
 							e.count > 0 ? 1 : -1, 0, e.x, e.y, e.stateMask);
 				}
+			} else {
+				// the mouse wheel event duplicates a (native) gesture event
+				droppedEventCount.incrementAndGet();
 			}
 		}
 
@@ -442,19 +595,9 @@ public class FXCanvasEx extends FXCanvas {
 			// granularity for mouse wheel scroll events is more
 			// coarse-grained than for pan gesture events
 			final double multiplier = 40.0;
-			final Point los = toDisplay(x, y);
-			scheduleSceneRunnable(new ISceneRunnable() {
-				@Override
-				public void run(TKSceneListenerWrapper sceneListener) {
-					sceneListener.scrollEvent(eventType, scrollX, scrollY,
-							scrollX, scrollY, multiplier, multiplier, 0, 0, 0,
-							0, 0, x, y, los.x, los.y,
-							(stateMask & SWT.SHIFT) != 0,
-							(stateMask & SWT.CONTROL) != 0,
-							(stateMask & SWT.ALT) != 0,
-							(stateMask & SWT.COMMAND) != 0, false, false);
-				}
-			});
+			scheduleSceneRunnable(new ScrollSceneRunnable(eventType, scrollX,
+					scrollY, scrollX, scrollY, multiplier, x, y, stateMask,
+					false));
 		}
 	};
 	// including inertia events)
@@ -680,19 +823,9 @@ public class FXCanvasEx extends FXCanvas {
 				totalScrollY += scrollY;
 			}
 
-			final Point los = toDisplay(x, y);
-			scheduleSceneRunnable(new ISceneRunnable() {
-				@Override
-				public void run(TKSceneListenerWrapper sceneListener) {
-					sceneListener.scrollEvent(eventType, scrollX, scrollY,
-							totalScrollX, totalScrollY, multiplier, multiplier,
-							0, 0, 0, 0, 0, x, y, los.x, los.y,
-							(stateMask & SWT.SHIFT) != 0,
-							(stateMask & SWT.CONTROL) != 0,
-							(stateMask & SWT.ALT) != 0,
-							(stateMask & SWT.COMMAND) != 0, false, inertia);
-				}
-			});
+			scheduleSceneRunnable(new ScrollSceneRunnable(eventType, scrollX,
+					scrollY, totalScrollX, totalScrollY, multiplier, x, y,
+					stateMask, inertia));
 		}
 
 		private void sendSwipeEventToFX(EventType<SwipeEvent> eventType,
@@ -714,8 +847,6 @@ public class FXCanvasEx extends FXCanvas {
 
 		private void sendZoomEventToFX(EventType<ZoomEvent> eventType,
 				GestureEvent gestureEvent) {
-			Point los = toDisplay(gestureEvent.x, gestureEvent.y);
-
 			double[] totalZoom = new double[] { gestureEvent.magnification };
 			if (eventType == ZoomEvent.ZOOM_STARTED) {
 				// ensure first event does not provide any zoom yet
@@ -730,22 +861,40 @@ public class FXCanvasEx extends FXCanvas {
 			lastTotalZoom = totalZoom[0];
 
 			final boolean inertia = !gestureActive;
-			scheduleSceneRunnable(new ISceneRunnable() {
-				@Override
-				public void run(TKSceneListenerWrapper sceneListener) {
-					sceneListener.zoomEvent(eventType, zoom, totalZoom[0],
-							gestureEvent.x, gestureEvent.y, los.x, los.y,
-							(gestureEvent.stateMask & SWT.SHIFT) != 0,
-							(gestureEvent.stateMask & SWT.CONTROL) != 0,
-							(gestureEvent.stateMask & SWT.ALT) != 0,
-							(gestureEvent.stateMask & SWT.COMMAND) != 0, false,
-							inertia);
-				}
-			});
+			scheduleSceneRunnable(new ZoomSceneRunnable(eventType, zoom,
+					totalZoom[0], gestureEvent.x, gestureEvent.y,
+					gestureEvent.stateMask, inertia));
 		}
 	};
 	private TraverseListener traverseListener = null;
 	private DisposeListener disposeListener;
+
+	// the most recently scheduled scene runnable, as long as it has not been
+	// executed (so that succeeding events can be merged into it)
+	private MergeableSceneRunnable pendingSceneRunnable;
+	private final Object pendingSceneRunnableLock = new Object();
+	// the counters are updated from the SWT as well as the JavaFX application
+	// thread
+	private final AtomicLong mergedEventCount = new AtomicLong();
+	private final AtomicLong droppedEventCount = new AtomicLong();
+
+	// true while a redraw has been requested but not yet issued, so that no
+	// further redraw needs to be requested
+	private volatile boolean redrawPending = false;
+	private final Runnable redrawRunnable = new Runnable() {
+		@Override
+		public void run() {
+			redrawPending = false;
+			if (!isDisposed()) {
+				redraw();
+				if (WIN32) {
+					// XXX: Only call update() on some platforms to prevent a
+					// loss of performance while keeping the UI up-to-date.
+					update();
+				}
+			}
+		}
+	};
 	// XXX: JavaFX does not forward the consumption state of key events to the
 	// embedded scene (see https://bugs.openjdk.java.net/browse/JDK-8159227).
 	// We use an SWT listener to capture all key events, so our JavaFX event
@@ -1039,6 +1188,31 @@ public class FXCanvasEx extends FXCanvas {
 		}
 	}
 
+	/**
+	 * Returns the number of SWT events that were dropped, i.e. not forwarded
+	 * to the embedded scene, because they duplicated other events (mouse
+	 * wheel events that are emulated for native pan gestures), or because the
+	 * embedded scene was no longer available when they were to be processed.
+	 *
+	 * @return The number of dropped events.
+	 */
+	public long getDroppedEventCount() {
+		return droppedEventCount.get();
+	}
+
+	/**
+	 * Returns the number of SWT scroll and zoom events that were merged into
+	 * a preceding event of the same kind, because they were received before
+	 * the preceding event was forwarded to the embedded scene. This happens
+	 * when input events (e.g. from a trackpad) are received at a higher rate
+	 * than they can be processed by JavaFX.
+	 *
+	 * @return The number of merged events.
+	 */
+	public long getMergedEventCount() {
+		return mergedEventCount.get();
+	}
+
 	/**
 	 * Returns the stage {@link Window} hold by this {@link FXCanvas}.
 	 *
@@ -1101,16 +1275,35 @@ public class FXCanvasEx extends FXCanvas {
 
 	/**
 	 * Schedules the given {@link ISceneRunnable} for execution in a privileged
-	 * runnable on the JavaFX application thread.
+	 * runnable on the JavaFX application thread. If the most recently
+	 * scheduled {@link ISceneRunnable} has not been executed yet and the given
+	 * one can be merged into it (see {@link MergeableSceneRunnable}), the
+	 * given {@link ISceneRunnable} is not scheduled at all, so that bursts of
+	 * scroll and zoom events are forwarded as a single event.
 	 *
 	 * @param sr
 	 *            The {@link ISceneRunnable} that will be executed in a
 	 *            privileged runnable on the JavaFX application thread.
 	 */
 	private void scheduleSceneRunnable(final ISceneRunnable sr) {
+		synchronized (pendingSceneRunnableLock) {
+			if (pendingSceneRunnable != null
+					&& pendingSceneRunnable.merge(sr)) {
+				mergedEventCount.incrementAndGet();
+				return;
+			}
+			pendingSceneRunnable = sr instanceof MergeableSceneRunnable
+					? (MergeableSceneRunnable) sr : null;
+		}
 		Platform.runLater(new Runnable() {
 			@Override
 			public void run() {
+				// no further events may be merged from now on
+				synchronized (pendingSceneRunnableLock) {
+					if (pendingSceneRunnable == sr) {
+						pendingSceneRunnable = null;
+					}
+				}
 				final Object scenePeer = ReflectionUtils
 						.getPrivateFieldValue(FXCanvasEx.this, "scenePeer");
 				AccessController.doPrivileged(new PrivilegedAction<Void>() {
@@ -1120,6 +1313,7 @@ public class FXCanvasEx extends FXCanvas {
 								.getPrivateFieldValue(scenePeer,
 										"sceneListener");
 						if (sceneListener == null) {
+							droppedEventCount.incrementAndGet();
 							return null;
 						}
 						sr.run(new TKSceneListenerWrapper(sceneListener));
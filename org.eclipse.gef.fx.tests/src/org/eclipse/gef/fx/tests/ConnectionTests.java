@@ -13,6 +13,11 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +30,11 @@ import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
 import org.junit.Test;
 
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Polygon;
+
 public class ConnectionTests {
 
 	@Test
@@ -96,6 +106,73 @@ public class ConnectionTests {
 		assertEquals(2, connection.getControlPoints().size());
 	}
 
+	@Test
+	public void decorationClipCache() {
+		Connection connection = new Connection();
+		connection.setStartPoint(new Point(0, 0));
+		connection.setEndPoint(new Point(80, 60));
+		Polygon decoration = new Polygon(0, -5, 10, 0, 0, 5);
+		connection.setEndDecoration(decoration);
+		Node curve = connection.getCurve();
+		Node clip = curve.getClip();
+		assertNotNull(clip);
+		// points on the curve at a distance of 5 and 15 from the end point
+		Point2D near = curve.parentToLocal(76, 57);
+		Point2D far = curve.parentToLocal(68, 51);
+		assertFalse(clip.contains(near));
+		assertTrue(clip.contains(far));
+
+		// the clip is reused as long as the decoration is unchanged
+		connection.getInterpolator().interpolate(connection);
+		assertSame(clip, curve.getClip());
+
+		// the clip is recomputed when the decoration geometry changes
+		decoration.getPoints().setAll(0d, -10d, 20d, 0d, 0d, 10d);
+		connection.getInterpolator().interpolate(connection);
+		Node resizedClip = curve.getClip();
+		assertNotSame(clip, resizedClip);
+		assertFalse(resizedClip.contains(near));
+		assertFalse(resizedClip.contains(far));
+		connection.getInterpolator().interpolate(connection);
+		assertSame(resizedClip, curve.getClip());
+	}
+
+	@Test
+	public void decorationClipTranslucent() {
+		Connection connection = new Connection();
+		connection.setStartPoint(new Point(0, 0));
+		connection.setEndPoint(new Point(80, 60));
+		Polygon decoration = new Polygon(0, -5, 10, 0, 0, 5);
+		decoration.setFill(Color.rgb(0, 0, 0, 0.5));
+		connection.setEndDecoration(decoration);
+		Node curve = connection.getCurve();
+		// a point on the curve beneath the decoration, at a distance of 5 from
+		// the end point
+		Point2D beneath = curve.parentToLocal(76, 57);
+		// the curve remains visible beneath a translucent decoration
+		Node clip = curve.getClip();
+		assertNotNull(clip);
+		assertTrue(clip.contains(clip.parentToLocal(beneath)));
+
+		// the same applies to a decoration without fill, or with an opaque fill
+		// that is rendered translucently
+		decoration.setFill(null);
+		connection.getInterpolator().interpolate(connection);
+		clip = curve.getClip();
+		assertTrue(clip.contains(clip.parentToLocal(beneath)));
+		decoration.setFill(Color.BLACK);
+		decoration.setOpacity(0.5);
+		connection.getInterpolator().interpolate(connection);
+		clip = curve.getClip();
+		assertTrue(clip.contains(clip.parentToLocal(beneath)));
+
+		// an opaque decoration covers the curve, which is clipped beneath it
+		decoration.setOpacity(1);
+		connection.getInterpolator().interpolate(connection);
+		clip = curve.getClip();
+		assertFalse(clip.contains(clip.parentToLocal(beneath)));
+	}
+
 	@Test
 	public void exchangeCurve() {
 		// setup connection with start, control, end points
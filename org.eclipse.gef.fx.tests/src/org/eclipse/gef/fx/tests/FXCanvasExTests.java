@@ -12,20 +12,50 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.gef.fx.swt.canvas.FXCanvasEx;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.Test;
 
 import javafx.embed.swt.FXCanvas;
+import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.input.ScrollEvent;
 
 public class FXCanvasExTests {
 
+	private static void notifyMouseWheel(FXCanvasEx canvas, int stateMask) {
+		Event event = new Event();
+		event.count = 1;
+		event.stateMask = stateMask;
+		event.x = 10;
+		event.y = 10;
+		canvas.notifyListeners(SWT.MouseVerticalWheel, event);
+	}
+
+	private static void processEvents(Display display, List<ScrollEvent> scrollEvents, int expectedSize) {
+		long timeout = System.currentTimeMillis() + 5000;
+		while (scrollEvents.size() < expectedSize && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+		// process remaining events, so that additional scroll events would be
+		// detected
+		while (display.readAndDispatch()) {
+		}
+	}
+
 	@Test
 	public void getFXCanvas() throws Exception {
 		Display display = Display.getDefault();
@@ -36,4 +66,55 @@ public class FXCanvasExTests {
 		canvas.setScene(scene);
 		assertSame(canvas, FXCanvasEx.getFXCanvas(scene));
 	}
+
+	@Test
+	public void mergeScrollEvents() throws Exception {
+		// the mouse wheel listener that forwards (and merges) scroll events is
+		// only registered on JavaSE-1.8
+		assumeTrue(System.getProperty("java.version").startsWith("1.8"));
+		Display display = Display.getDefault();
+		Shell shell = new Shell(display);
+		FXCanvasEx canvas = new FXCanvasEx(shell, SWT.NONE);
+		canvas.setSize(400, 400);
+		final List<ScrollEvent> scrollEvents = new ArrayList<>();
+		Scene scene = new Scene(new Group(), 400, 400);
+		scene.addEventHandler(ScrollEvent.SCROLL, new EventHandler<ScrollEvent>() {
+			@Override
+			public void handle(ScrollEvent event) {
+				scrollEvents.add(event);
+			}
+		});
+		canvas.setScene(scene);
+		shell.open();
+		try {
+			// a single event is forwarded as is
+			notifyMouseWheel(canvas, SWT.NONE);
+			processEvents(display, scrollEvents, 1);
+			assertEquals(1, scrollEvents.size());
+			double deltaY = scrollEvents.get(0).getDeltaY();
+			assertEquals(0, canvas.getMergedEventCount());
+
+			// a burst of events that is received before the first one is
+			// forwarded is merged into a single event
+			scrollEvents.clear();
+			notifyMouseWheel(canvas, SWT.NONE);
+			notifyMouseWheel(canvas, SWT.NONE);
+			notifyMouseWheel(canvas, SWT.NONE);
+			assertEquals(2, canvas.getMergedEventCount());
+			processEvents(display, scrollEvents, 1);
+			assertEquals(1, scrollEvents.size());
+			assertEquals(3 * deltaY, scrollEvents.get(0).getDeltaY(), 1e-9);
+
+			// events with different modifiers are not merged
+			scrollEvents.clear();
+			notifyMouseWheel(canvas, SWT.NONE);
+			notifyMouseWheel(canvas, SWT.CONTROL);
+			processEvents(display, scrollEvents, 2);
+			assertEquals(2, scrollEvents.size());
+			assertEquals(3, canvas.getMergedEventCount());
+			assertEquals(0, canvas.getDroppedEventCount());
+		} finally {
+			shell.dispose();
+		}
+	}
 }
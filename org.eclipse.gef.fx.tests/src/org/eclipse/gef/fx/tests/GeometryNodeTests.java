@@ -15,10 +15,17 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.utils.Shape2Geometry;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Polyline;
@@ -26,13 +33,38 @@ import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.geometry.planar.RoundedRectangle;
 import org.junit.Test;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeType;
 
 public class GeometryNodeTests {
 
+	/**
+	 * Exposes the geometric shape, so that its path elements can be inspected.
+	 */
+	private static class PathElementsGeometryNode<T extends IGeometry> extends GeometryNode<T> {
+		@Override
+		public Path getGeometricShape() {
+			return super.getGeometricShape();
+		}
+	}
+
+	/**
+	 * Ensures the path elements of the geometric shape reflect the geometry, relative to the layout position.
+	 */
+	private static void assertPathElements(PathElementsGeometryNode<?> n) {
+		org.eclipse.gef.geometry.planar.Path expected = n.getGeometry().toPath()
+				.getTransformed(new AffineTransform().setToTranslation(-n.getLayoutX(), -n.getLayoutY()));
+		assertEquals(expected, Shape2Geometry.toPath(n.getGeometricShape()));
+	}
+
 	@Test
 	public void boundsForLineGeometry() {
 		// test line bounds with default styles
@@ -182,6 +214,87 @@ public class GeometryNodeTests {
 		assertEquals(50.0, n.getHeight(), 0);
 	}
 
+	@Test
+	public void refreshPathElementsOnGeometryChange() {
+		PathElementsGeometryNode<Polyline> n = new PathElementsGeometryNode<>();
+		n.setGeometry(new Polyline(10, 10, 50, 20, 30, 60));
+		assertPathElements(n);
+
+		// a new geometry of the same structure updates the elements in place
+		List<PathElement> elements = new ArrayList<>(n.getGeometricShape().getElements());
+		n.setGeometry(new Polyline(20, 10, 60, 30, 10, 80));
+		assertPathElements(n);
+		assertEquals(elements, n.getGeometricShape().getElements());
+
+		// a new geometry of another structure replaces the elements
+		n.setGeometry(new Polyline(0, 0, 10, 10, 20, 0, 30, 10));
+		assertPathElements(n);
+		assertEquals(4, n.getGeometricShape().getElements().size());
+	}
+
+	@Test
+	public void refreshPathElementsOnResizeAndRelocate() {
+		PathElementsGeometryNode<Rectangle> n = new PathElementsGeometryNode<>();
+		n.setGeometry(new Rectangle(30, 40, 30, 40));
+		assertPathElements(n);
+
+		n.resize(60, 20);
+		assertEquals(new Rectangle(30, 40, 59, 19), n.getGeometry());
+		assertPathElements(n);
+
+		n.relocate(100, 200);
+		assertEquals(new Rectangle(100.5, 200.5, 59, 19), n.getGeometry());
+		assertPathElements(n);
+
+		n.resizeRelocate(10, 20, 30, 40);
+		assertEquals(new Rectangle(10.5, 20.5, 29, 39), n.getGeometry());
+		assertPathElements(n);
+	}
+
+	@Test
+	public void ignoreSameGeometry() {
+		PathElementsGeometryNode<Polyline> n = new PathElementsGeometryNode<>();
+		Polyline geometry = new Polyline(10, 10, 50, 20, 30, 60);
+		n.setGeometry(geometry);
+
+		// count all changes of the path elements
+		final int[] changes = new int[1];
+		InvalidationListener listener = new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				changes[0]++;
+			}
+		};
+		n.getGeometricShape().getElements().addListener(listener);
+		for (PathElement element : n.getGeometricShape().getElements()) {
+			if (element instanceof MoveTo) {
+				((MoveTo) element).xProperty().addListener(listener);
+				((MoveTo) element).yProperty().addListener(listener);
+			} else if (element instanceof LineTo) {
+				((LineTo) element).xProperty().addListener(listener);
+				((LineTo) element).yProperty().addListener(listener);
+			}
+		}
+
+		// setting the same geometry again does not lead to an update
+		n.setGeometry(geometry);
+		assertEquals(0, changes[0]);
+		assertSame(geometry, n.getGeometry());
+
+		// neither does an unchanged layout
+		n.relocate(n.getLayoutX(), n.getLayoutY());
+		n.resize(n.getWidth(), n.getHeight());
+		n.autosize();
+		n.layout();
+		assertEquals(0, changes[0]);
+		assertPathElements(n);
+
+		// whereas resizing updates the elements
+		n.resize(n.getWidth() + 10, n.getHeight());
+		assertTrue(changes[0] > 0);
+		assertPathElements(n);
+	}
+
 	@Test
 	public void relocateGeometryOnRelocate() {
 		GeometryNode<RoundedRectangle> n = new GeometryNode<>();
@@ -14,12 +14,17 @@ package org.eclipse.gef.fx.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.utils.NodePicker;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
+import javafx.geometry.BoundingBox;
+import javafx.scene.Group;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.StrokeType;
 
@@ -62,6 +67,38 @@ public class NodeUtilsTests {
 		assertEquals(new Rectangle(33, 43, 30, 40), NodeUtils.localToParent(geometryNode, geometricOutline).getBounds());
 	}
 
+	@Test
+	public void getNodesAt() {
+		javafx.scene.shape.Rectangle r1 = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		javafx.scene.shape.Rectangle r2 = new javafx.scene.shape.Rectangle(25, 25, 50, 50);
+		javafx.scene.shape.Rectangle r3 = new javafx.scene.shape.Rectangle(200, 200, 50, 50);
+		Group inner = new Group(r2, r3);
+		inner.setTranslateX(10);
+		Group root = new Group(r1, inner);
+
+		NodePicker picker = new NodePicker(root);
+		// nodes are returned from top to bottom
+		assertEquals(Arrays.asList(r2, inner, r1, root), NodeUtils.getNodesAt(root, 40, 40));
+		assertEquals(NodeUtils.getNodesAt(root, 40, 40), picker.getNodesAt(40, 40));
+		assertEquals(Arrays.asList(r3, inner, root), picker.getNodesAt(220, 220));
+		assertEquals(Arrays.asList(r2, inner, r1, root), picker.getNodesAt(new BoundingBox(40, 40, 100, 100)));
+
+		// changes of bounds and children are reflected
+		inner.setTranslateX(200);
+		r3.setTranslateX(-400);
+		assertEquals(Arrays.asList(r1, root), picker.getNodesAt(40, 40));
+		assertEquals(Arrays.asList(r3, inner, root), picker.getNodesAt(40, 210));
+		inner.getChildren().remove(r3);
+		r3.setTranslateX(-200);
+		root.getChildren().add(0, r3);
+		r1.setHeight(300);
+		assertEquals(Arrays.asList(r1, r3, root), picker.getNodesAt(40, 210));
+		r1.setMouseTransparent(true);
+		assertEquals(Arrays.asList(r3, root), picker.getNodesAt(40, 210));
+		assertEquals(NodeUtils.getNodesAt(root, 40, 210), picker.getNodesAt(40, 210));
+		picker.dispose();
+	}
+
 	@Test
 	public void getShapeOutline() {
 		// GeometryNode
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ObstacleAvoidingOrthogonalRouter;
+import org.eclipse.gef.fx.nodes.OrthogonalRoutingEngine;
+import org.eclipse.gef.fx.nodes.StraightRouter;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.transform.Affine;
+
+public class OrthogonalRoutingEngineTests {
+
+	private static void assertAvoids(List<Point> route, Rectangle... obstacles) {
+		for (int i = 0; i < route.size() - 1; i++) {
+			Point p = route.get(i);
+			Point q = route.get(i + 1);
+			// orthogonal segments
+			assertTrue(p.x == q.x || p.y == q.y);
+			for (Rectangle o : obstacles) {
+				// the (axis-parallel) segment may not pass through the interior
+				assertFalse(Math.min(p.x, q.x) < o.getX() + o.getWidth() && Math.max(p.x, q.x) > o.getX()
+						&& Math.min(p.y, q.y) < o.getY() + o.getHeight() && Math.max(p.y, q.y) > o.getY());
+			}
+		}
+	}
+
+	@Test
+	public void avoidObstacle() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		Rectangle obstacle = new Rectangle(80, 20, 40, 60);
+		engine.setObstacle("o", obstacle);
+		engine.setConnection("c", new Point(0, 50), new Point(200, 50));
+		List<Point> route = engine.getRoute("c");
+		assertNotNull(route);
+		assertEquals(new Point(0, 50), route.get(0));
+		assertEquals(new Point(200, 50), route.get(route.size() - 1));
+		assertAvoids(route, obstacle);
+		// the route keeps the margin to the obstacle
+		for (Point p : route.subList(1, route.size() - 1)) {
+			assertTrue(p.y == 20 - OrthogonalRoutingEngine.DEFAULT_MARGIN
+					|| p.y == 80 + OrthogonalRoutingEngine.DEFAULT_MARGIN);
+		}
+		// removing the obstacle lifts the route
+		engine.removeObstacle("o");
+		assertEquals(Collections.singleton("c"), engine.route());
+		assertNull(engine.getRoute("c"));
+	}
+
+	@Test
+	public void leaveAndEnterEndPointObstacles() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		Rectangle source = new Rectangle(0, 0, 50, 50);
+		Rectangle obstacle = new Rectangle(100, 0, 50, 150);
+		Rectangle target = new Rectangle(200, 100, 50, 50);
+		engine.setObstacle("source", source);
+		engine.setObstacle("obstacle", obstacle);
+		engine.setObstacle("target", target);
+		// end points on the outlines of source and target
+		engine.setConnection("c", new Point(50, 25), new Point(200, 125));
+		List<Point> route = engine.getRoute("c");
+		assertNotNull(route);
+		assertAvoids(route, source, obstacle, target);
+	}
+
+	@Test
+	public void leaveAndEnterEndPointObstaclesOnFarSides() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		Rectangle source = new Rectangle(0, 0, 50, 50);
+		Rectangle target = new Rectangle(200, 0, 50, 50);
+		engine.setObstacle("source", source);
+		engine.setObstacle("target", target);
+		// end points on the sides of source and target that face away from
+		// each other, so that the route may not pass through them
+		engine.setConnection("c", new Point(0, 25), new Point(250, 25));
+		List<Point> route = engine.getRoute("c");
+		assertNotNull(route);
+		assertAvoids(route, source, target);
+		// the route leaves and enters on the respective sides
+		assertTrue(route.get(1).x <= 0);
+		assertTrue(route.get(route.size() - 2).x >= 250);
+	}
+
+	@Test
+	public void invalidateWithinSearchVicinity() {
+		// an obstacle within twice the margin of the end points is part of the
+		// search vicinity, so it has to invalidate the connection
+		Rectangle obstacle = new Rectangle(220, 40, 20, 20);
+		OrthogonalRoutingEngine before = new OrthogonalRoutingEngine();
+		before.setObstacle("o", obstacle);
+		before.setConnection("c", new Point(0, 0), new Point(200, 100));
+		assertNotNull(before.getRoute("c"));
+
+		OrthogonalRoutingEngine after = new OrthogonalRoutingEngine();
+		after.setConnection("c", new Point(0, 0), new Point(200, 100));
+		assertNull(after.getRoute("c"));
+		after.setObstacle("o", obstacle);
+		assertEquals(Collections.singleton("c"), after.route());
+		assertEquals(before.getRoute("c"), after.getRoute("c"));
+	}
+
+	@Test
+	public void removeConnections() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		engine.setObstacle("o", new Rectangle(80, 20, 40, 60));
+		Group layer = new Group();
+		Connection removed = new Connection();
+		Connection rerouted = new Connection();
+		Connection other = new Connection();
+		for (Connection connection : Arrays.asList(removed, rerouted, other)) {
+			layer.getChildren().add(connection);
+			connection.setRouter(new ObstacleAvoidingOrthogonalRouter(engine));
+			connection.setStartPoint(new Point(0, 50));
+			connection.setEndPoint(new Point(200, 50));
+			assertNotNull(engine.getRoute(connection));
+		}
+
+		// connections are unregistered when they are removed from their parent
+		// or routed by another router
+		layer.getChildren().remove(removed);
+		rerouted.setRouter(new StraightRouter());
+		assertNull(engine.getRoute(removed));
+		assertNull(engine.getRoute(rerouted));
+
+		// only the remaining connection is affected by obstacle changes
+		engine.setObstacle("o", new Rectangle(60, 0, 40, 100));
+		assertEquals(Collections.singleton(other), engine.route());
+	}
+
+	@Test
+	public void routeInParentCoordinates() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		Rectangle obstacle = new Rectangle(80, 20, 40, 60);
+		engine.setObstacle("o", obstacle);
+		// the layer that contains the connection is zoomed and scrolled
+		Group layer = new Group();
+		Group root = new Group(layer);
+		root.getTransforms().add(new Affine(2, 0, 30, 0, 2, -40));
+		Connection connection = new Connection();
+		layer.getChildren().add(connection);
+		connection.setRouter(new ObstacleAvoidingOrthogonalRouter(engine));
+		connection.setStartPoint(new Point(0, 50));
+		connection.setEndPoint(new Point(200, 50));
+		List<Point> points = connection.getPointsUnmodifiable();
+		assertTrue(points.size() > 2);
+		List<Point> route = new ArrayList<>();
+		for (Point point : points) {
+			route.add(NodeUtils.localToParent(connection, point));
+		}
+		assertEquals(new Point(0, 50), route.get(0));
+		assertEquals(new Point(200, 50), route.get(route.size() - 1));
+		assertAvoids(route, obstacle);
+	}
+
+	@Test
+	public void routeOnlyAffectedConnections() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		engine.setObstacle("o1", new Rectangle(80, 20, 40, 60));
+		engine.setObstacle("o2", new Rectangle(80, 520, 40, 60));
+		engine.setConnection("c1", new Point(0, 50), new Point(200, 50));
+		engine.setConnection("c2", new Point(0, 550), new Point(200, 550));
+		assertEquals(2, engine.route().size());
+		assertTrue(engine.route().isEmpty());
+
+		// moving the first obstacle only affects the first connection
+		Rectangle moved = new Rectangle(60, 0, 40, 100);
+		engine.setObstacle("o1", moved);
+		assertEquals(Collections.singleton("c1"), engine.route());
+		assertAvoids(engine.getRoute("c1"), moved);
+
+		// an obstacle that is added far away does not affect any connection
+		engine.setObstacle("o3", new Rectangle(1000, 1000, 10, 10));
+		assertTrue(engine.route().isEmpty());
+	}
+
+	@Test
+	public void straightConnection() {
+		OrthogonalRoutingEngine engine = new OrthogonalRoutingEngine();
+		engine.setObstacle("o", new Rectangle(80, 100, 40, 60));
+		engine.setConnection("c", new Point(0, 50), new Point(200, 50));
+		// no obstacle in between, so no route is imposed
+		assertNull(engine.getRoute("c"));
+	}
+}
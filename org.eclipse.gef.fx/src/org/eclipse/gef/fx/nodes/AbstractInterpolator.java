@@ -13,6 +13,11 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.nodes;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import org.eclipse.gef.fx.utils.Geometry2Shape;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
@@ -24,11 +29,13 @@ import org.eclipse.gef.geometry.planar.BezierCurve;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
 
 import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.FillRule;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
@@ -44,6 +51,34 @@ import javafx.scene.shape.Shape;
  */
 public abstract class AbstractInterpolator implements IConnectionInterpolator {
 
+	/**
+	 * The clip outline of a decoration, which is cached together with the
+	 * shape bounds and transformation of the decoration it was computed for.
+	 */
+	private static class DecorationClip {
+		private org.eclipse.gef.geometry.planar.Rectangle shapeBounds;
+		private AffineTransform transform;
+		private Polygon outline;
+	}
+
+	/**
+	 * The clip of a curve node, which is cached together with the key (i.e.
+	 * the bounds, transformation, and decoration outlines) it was computed
+	 * for.
+	 */
+	private static class CurveClip {
+		private List<Object> key;
+		private Shape clip;
+	}
+
+	// the decoration clips are cached per decoration, so that they only have
+	// to be recomputed if the decoration is resized or re-arranged
+	private final Map<Shape, DecorationClip> decorationClips = new WeakHashMap<>();
+
+	// the curve clips are cached per curve node, so that the clip node only
+	// has to be replaced if one of its inputs changed
+	private final Map<Node, CurveClip> curveClips = new WeakHashMap<>();
+
 	/**
 	 * Arranges the given decoration according to the passed-in values.
 	 *
@@ -133,7 +168,12 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 
 	/**
 	 * Adjusts the curveClip so that the curve node does not paint through the
-	 * given decoration.
+	 * given decoration. The curve node is only clipped within the shape bounds
+	 * of the decoration, but outside of its geometric outline, so that it
+	 * remains visible beneath the decoration. This is used for decorations
+	 * that are not opaque (see {@link #isOpaque(Shape)}), while opaque
+	 * decorations are clipped geometrically (see
+	 * {@link #getDecorationClipOutline(Shape)}).
 	 *
 	 * @param curveShape
 	 *            A shape describing the {@link ICurve} geometry, which is used
@@ -164,6 +204,88 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 		return clip;
 	}
 
+	/**
+	 * Computes the clip of the curve node by means of CAG operations, i.e. the
+	 * given bounds of the curve node (specified within its local coordinate
+	 * system), which are clipped at the given decorations using
+	 * {@link #clipAtDecoration(Shape, Shape, Shape)}.
+	 *
+	 * @param curveNode
+	 *            The curve node for which to compute the clip.
+	 * @param bounds
+	 *            The bounds of the curve node's children.
+	 * @param decorations
+	 *            The decorations at which to clip the curve node.
+	 * @return A {@link Shape} representing the clip, interpreted in the local
+	 *         coordinate system of the curve node.
+	 */
+	private Shape computeCAGClip(GeometryNode<ICurve> curveNode,
+			org.eclipse.gef.geometry.planar.Rectangle bounds,
+			List<Shape> decorations) {
+		// XXX Use scene coordinates, as the clip node does not provide a
+		// parent.
+		Bounds visualBounds = curveNode
+				.localToScene(Geometry2FX.toFXBounds(bounds));
+		Shape clip = new Rectangle(visualBounds.getMinX(),
+				visualBounds.getMinY(), visualBounds.getWidth(),
+				visualBounds.getHeight());
+		clip.setFill(Color.RED);
+		for (Shape decoration : decorations) {
+			clip = clipAtDecoration(curveNode.getGeometricShape(), clip,
+					decoration);
+		}
+		// XXX: All CAG operations deliver result shapes that reflect areas
+		// in scene coordinates.
+		AffineTransform sceneToLocalTx = NodeUtils.getSceneToLocalTx(curveNode);
+		clip.getTransforms().add(Geometry2FX.toFXAffine(sceneToLocalTx));
+		return clip;
+	}
+
+	/**
+	 * Computes the clip of the curve node, i.e. the given bounds of the curve
+	 * node (specified within its local coordinate system), from which the
+	 * given decoration clip outlines are excluded.
+	 *
+	 * @param curveNode
+	 *            The curve node for which to compute the clip.
+	 * @param bounds
+	 *            The bounds of the curve node's children.
+	 * @param decorationClipOutlines
+	 *            The clip outlines of the decorations within the coordinate
+	 *            system of the curve node's parent (i.e. the
+	 *            {@link Connection}).
+	 * @return A {@link Shape} representing the clip, interpreted in the local
+	 *         coordinate system of the curve node.
+	 */
+	private Shape computeClip(Node curveNode,
+			org.eclipse.gef.geometry.planar.Rectangle bounds,
+			List<Polygon> decorationClipOutlines) {
+		// combine the decoration outlines into a single area (only if they
+		// overlap, the outlines actually have to be united)
+		List<org.eclipse.gef.geometry.planar.Path> holes = new ArrayList<>();
+		for (Polygon outline : decorationClipOutlines) {
+			org.eclipse.gef.geometry.planar.Path hole = ((Polygon) NodeUtils
+					.parentToLocal(curveNode, outline)).toPath();
+			for (int i = holes.size() - 1; i >= 0; i--) {
+				if (holes.get(i).getBounds().touches(hole.getBounds())) {
+					hole = org.eclipse.gef.geometry.planar.Path.add(hole,
+							holes.remove(i));
+				}
+			}
+			holes.add(hole);
+		}
+		// as the holes do not overlap each other, they can be cut out of the
+		// bounds using the even-odd rule (parts of the holes that lie outside
+		// the bounds are irrelevant, as nothing is painted there)
+		Path clip = new Path(Geometry2Shape.toPathElements(bounds.toPath()));
+		for (org.eclipse.gef.geometry.planar.Path hole : holes) {
+			clip.getElements().addAll(Geometry2Shape.toPathElements(hole));
+		}
+		clip.setFillRule(FillRule.EVEN_ODD);
+		clip.setFill(Color.RED);
+		return clip;
+	}
+
 	/**
 	 * Computes an {@link ICurve} geometry from the {@link Connection}'s points,
 	 * which is used to update the {@link Connection#getCurve() curve node}.
@@ -175,6 +297,59 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 	 */
 	protected abstract ICurve computeCurve(Connection connection);
 
+	/**
+	 * Returns the outline of the area that is to be clipped from the curve
+	 * node at the given decoration, specified within the coordinate system of
+	 * the decoration's parent (i.e. the {@link Connection}). The curve node
+	 * does not paint within this area, so that it does not paint through the
+	 * decoration.
+	 * <p>
+	 * The outline corresponds to the shape bounds of the decoration. As the
+	 * curve node is clipped within the complete outline, this is only used for
+	 * opaque decorations (see {@link #isOpaque(Shape)}), which cover the curve
+	 * node beneath them anyway. It is computed geometrically and cached per
+	 * decoration, so that it only needs to be recomputed if the shape bounds
+	 * or the transformation of the decoration change.
+	 *
+	 * @param decoration
+	 *            The decoration for which to determine the clip outline.
+	 * @return A {@link Polygon} representing the outline of the area that is
+	 *         to be clipped from the curve node.
+	 */
+	protected Polygon getDecorationClipOutline(Shape decoration) {
+		org.eclipse.gef.geometry.planar.Rectangle shapeBounds = NodeUtils
+				.getShapeBounds(decoration);
+		AffineTransform transform = FX2Geometry
+				.toAffineTransform(decoration.getLocalToParentTransform());
+		DecorationClip decorationClip = decorationClips.get(decoration);
+		if (decorationClip == null
+				|| !decorationClip.shapeBounds.equals(shapeBounds)
+				|| !decorationClip.transform.equals(transform)) {
+			decorationClip = new DecorationClip();
+			decorationClip.shapeBounds = shapeBounds;
+			decorationClip.transform = transform;
+			decorationClip.outline = shapeBounds.getTransformed(transform);
+			decorationClips.put(decoration, decorationClip);
+		}
+		return decorationClip.outline;
+	}
+
+	/**
+	 * Determines whether the given decoration is opaque, i.e. whether it
+	 * completely covers the curve node beneath it. This is the case if it is
+	 * filled with an opaque {@link javafx.scene.paint.Paint} and not rendered
+	 * translucently.
+	 *
+	 * @param decoration
+	 *            The decoration to test.
+	 * @return <code>true</code> if the decoration is opaque, otherwise
+	 *         <code>false</code>.
+	 */
+	protected boolean isOpaque(Shape decoration) {
+		return decoration.getOpacity() >= 1 && decoration.getFill() != null
+				&& decoration.getFill().isOpaque();
+	}
+
 	@Override
 	public void interpolate(Connection connection) {
 		// compute new curve (this can lead to another refreshGeometry() call
@@ -208,9 +383,6 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 
 		if (!newGeometry.getBounds().isEmpty()
 				&& (startDecoration != null || endDecoration != null)) {
-			// XXX Use scene coordinates, as the clip node does not provide a
-			// parent.
-
 			// union curve node's children's bounds-in-parent
 			org.eclipse.gef.geometry.planar.Rectangle unionBoundsInCurveNode = new org.eclipse.gef.geometry.planar.Rectangle();
 			ObservableList<Node> childrenUnmodifiable = curveNode
@@ -222,36 +394,53 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 				unionBoundsInCurveNode.union(rectangle);
 			}
 
-			// convert unioned bounds to scene coordinates
-			Bounds visualBounds = curveNode.localToScene(
-					Geometry2FX.toFXBounds(unionBoundsInCurveNode));
-
-			// create clip
-			Shape clip = new Rectangle(visualBounds.getMinX(),
-					visualBounds.getMinY(), visualBounds.getWidth(),
-					visualBounds.getHeight());
-			clip.setFill(Color.RED);
-
 			// can only clip Shape decorations
-			if (startDecoration != null && startDecoration instanceof Shape) {
-				clip = clipAtDecoration(curveNode.getGeometricShape(), clip,
-						(Shape) startDecoration);
+			List<Shape> decorations = new ArrayList<>();
+			boolean opaque = true;
+			for (Node decoration : new Node[] { startDecoration,
+					endDecoration }) {
+				if (decoration instanceof Shape) {
+					decorations.add((Shape) decoration);
+					opaque &= isOpaque((Shape) decoration);
+				}
 			}
-			// can only clip Shape decorations
-			if (endDecoration != null && endDecoration instanceof Shape) {
-				clip = clipAtDecoration(curveNode.getGeometricShape(), clip,
-						(Shape) endDecoration);
+
+			if (!opaque) {
+				// the curve node has to remain visible beneath decorations
+				// that are not opaque, so that the clip depends on their
+				// geometric outlines (and on the curve's geometry)
+				curveClips.remove(curveNode);
+				curveNode.setClip(computeCAGClip(curveNode,
+						unionBoundsInCurveNode, decorations));
+				return;
 			}
 
-			// XXX: All CAG operations deliver result shapes that reflect areas
-			// in scene coordinates.
-			AffineTransform sceneToLocalTx = NodeUtils
-					.getSceneToLocalTx(curveNode);
-			clip.getTransforms().add(Geometry2FX.toFXAffine(sceneToLocalTx));
+			List<Polygon> decorationClipOutlines = new ArrayList<>();
+			for (Shape decoration : decorations) {
+				decorationClipOutlines
+						.add(getDecorationClipOutline(decoration));
+			}
 
-			// set clip
-			curveNode.setClip(clip);
+			// the clip only needs to be replaced if the bounds or the
+			// decoration outlines changed (the clip does not depend on the
+			// scene transformation, as it is specified in local coordinates)
+			List<Object> clipKey = new ArrayList<>();
+			clipKey.add(unionBoundsInCurveNode);
+			clipKey.add(FX2Geometry
+					.toAffineTransform(curveNode.getLocalToParentTransform()));
+			clipKey.addAll(decorationClipOutlines);
+			CurveClip curveClip = curveClips.get(curveNode);
+			if (curveClip == null || curveNode.getClip() != curveClip.clip
+					|| !curveClip.key.equals(clipKey)) {
+				curveClip = new CurveClip();
+				curveClip.key = clipKey;
+				curveClip.clip = computeClip(curveNode, unionBoundsInCurveNode,
+						decorationClipOutlines);
+				curveClips.put(curveNode, curveClip);
+				curveNode.setClip(curveClip.clip);
+			}
 		} else {
+			curveClips.remove(curveNode);
 			curveNode.setClip(null);
 		}
 	}
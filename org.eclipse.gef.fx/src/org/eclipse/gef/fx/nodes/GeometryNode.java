@@ -21,6 +21,7 @@ import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IScalable;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.ITranslatable;
+import org.eclipse.gef.geometry.planar.Path.Segment;
 import org.eclipse.gef.geometry.planar.Pie;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -41,9 +42,14 @@ import javafx.scene.Node;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.CubicCurveTo;
 import javafx.scene.shape.FillRule;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
+import javafx.scene.shape.QuadCurveTo;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
@@ -85,17 +91,26 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	private DoubleProperty clickableAreaWidth = new SimpleDoubleProperty();
 	private ObjectProperty<T> geometryProperty = new SimpleObjectProperty<>();
 
-	private int listeningCount = 0;
+	// instead of removing and re-adding the listeners (which is expensive),
+	// changes are ignored while the geometry (layout) is adjusted to match
+	// the layout (geometry)
+	private boolean ignoreGeometryChanges = false;
+	private boolean ignoreLayoutChanges = false;
+
+	// the geometry and layout position the path elements have been computed
+	// for (the geometry is compared by identity, as geometries may not be
+	// changed in place once they are set, see geometryProperty())
+	private IGeometry pathElementsGeometry;
+	private double pathElementsLayoutX;
+	private double pathElementsLayoutY;
 
 	private ChangeListener<T> geometryChangeListener = new ChangeListener<T>() {
 		@Override
 		public void changed(ObservableValue<? extends T> observable, T oldValue,
 				T newValue) {
-			if (newValue != null) {
-				widthProperty().removeListener(widthListener);
-				heightProperty().removeListener(heightListener);
-				layoutXProperty().removeListener(layoutXListener);
-				layoutYProperty().removeListener(layoutYListener);
+			if (newValue != null && !ignoreGeometryChanges) {
+				boolean wasIgnoringLayoutChanges = ignoreLayoutChanges;
+				ignoreLayoutChanges = true;
 
 				// XXX: We need to clear the size caches; even if we use
 				// computed sizes in the following, if not doing so the
@@ -119,10 +134,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 							computedLayoutY);
 				}
 
-				widthProperty().addListener(widthListener);
-				heightProperty().addListener(heightListener);
-				layoutXProperty().addListener(layoutXListener);
-				layoutYProperty().addListener(layoutYListener);
+				ignoreLayoutChanges = wasIgnoringLayoutChanges;
 
 				// update visuals to reflect changes
 				updateShapes();
@@ -134,12 +146,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		@Override
 		public void changed(ObservableValue<? extends Number> observable,
 				Number oldValue, Number newValue) {
-			listeningCount--;
-			geometryProperty.removeListener(geometryChangeListener);
-			resizeGeometryToMatchLayoutBoundsSize(newValue.doubleValue(),
-					getHeight());
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
+			if (!ignoreLayoutChanges) {
+				resizeGeometryToMatchLayoutBoundsSize(newValue.doubleValue(),
+						getHeight());
+			}
 		}
 	};
 	private ChangeListener<Number> heightListener = new ChangeListener<Number>() {
@@ -147,12 +157,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		@Override
 		public void changed(ObservableValue<? extends Number> observable,
 				Number oldValue, Number newValue) {
-			listeningCount--;
-			geometryProperty.removeListener(geometryChangeListener);
-			resizeGeometryToMatchLayoutBoundsSize(getWidth(),
-					newValue.doubleValue());
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
+			if (!ignoreLayoutChanges) {
+				resizeGeometryToMatchLayoutBoundsSize(getWidth(),
+						newValue.doubleValue());
+			}
 		}
 	};
 	private ChangeListener<Number> layoutXListener = new ChangeListener<Number>() {
@@ -160,12 +168,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		@Override
 		public void changed(ObservableValue<? extends Number> observable,
 				Number oldValue, Number newValue) {
-			listeningCount--;
-			geometryProperty.removeListener(geometryChangeListener);
-			relocateGeometryToMatchLayoutXY(newValue.doubleValue(),
-					getLayoutY());
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
+			if (!ignoreLayoutChanges) {
+				relocateGeometryToMatchLayoutXY(newValue.doubleValue(),
+						getLayoutY());
+			}
 		}
 	};
 	private ChangeListener<Number> layoutYListener = new ChangeListener<Number>() {
@@ -173,12 +179,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		@Override
 		public void changed(ObservableValue<? extends Number> observable,
 				Number oldValue, Number newValue) {
-			listeningCount--;
-			geometryProperty.removeListener(geometryChangeListener);
-			relocateGeometryToMatchLayoutXY(getLayoutX(),
-					newValue.doubleValue());
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
+			if (!ignoreLayoutChanges) {
+				relocateGeometryToMatchLayoutXY(getLayoutX(),
+						newValue.doubleValue());
+			}
 		}
 	};
 
@@ -192,7 +196,6 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		setGeometricShape(geometricShape);
 
 		// update path elements whenever the geometry property is changed
-		listeningCount++;
 		geometryProperty.addListener(geometryChangeListener);
 
 		// stroke width and type affect the layout bounds, so we have to react
@@ -360,6 +363,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	/**
 	 * Provides a {@link Property} holding the geometry of this
 	 * {@link GeometryNode}.
+	 * <p>
+	 * The geometry is not copied, and it may not be changed in place once it
+	 * has been set. In order to change the geometry, a new (e.g. a modified
+	 * copy of the current) geometry has to be set, as changes are only
+	 * detected by identity.
 	 *
 	 * @return A (writable) property for the geometry of this node.
 	 */
@@ -553,11 +561,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	@Override
 	public void relocate(double x, double y) {
 		// prevent unnecessary updates
-		layoutXProperty().removeListener(layoutXListener);
-		layoutYProperty().removeListener(layoutYListener);
+		boolean wasIgnoringLayoutChanges = ignoreLayoutChanges;
+		ignoreLayoutChanges = true;
 		super.relocate(x, y);
-		layoutXProperty().addListener(layoutXListener);
-		layoutYProperty().addListener(layoutYListener);
+		ignoreLayoutChanges = wasIgnoringLayoutChanges;
 
 		relocateGeometryToMatchLayoutXY(x, y);
 	}
@@ -594,17 +601,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 		// geometry has to reflect final position relative to layout bounds,
 		// which are based on (0, 0)
-		boolean reAdd = listeningCount >= 1;
-		if (reAdd) {
-			geometryProperty.removeListener(geometryChangeListener);
-			listeningCount--;
-		}
+		boolean wasIgnoringGeometryChanges = ignoreGeometryChanges;
+		ignoreGeometryChanges = true;
 		relocateGeometry(layoutX + getStrokeOffset() + getInsets().getLeft(),
 				layoutY + getStrokeOffset() + getInsets().getTop());
-		if (reAdd) {
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
-		}
+		ignoreGeometryChanges = wasIgnoringGeometryChanges;
 		updateShapes();
 	}
 
@@ -622,11 +623,10 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		}
 
 		// prevent unnecessary updates
-		widthProperty().removeListener(widthListener);
-		heightProperty().removeListener(heightListener);
+		boolean wasIgnoringLayoutChanges = ignoreLayoutChanges;
+		ignoreLayoutChanges = true;
 		super.resize(width, height);
-		widthProperty().addListener(widthListener);
-		heightProperty().addListener(heightListener);
+		ignoreLayoutChanges = wasIgnoringLayoutChanges;
 
 		resizeGeometryToMatchLayoutBoundsSize(width, height);
 	}
@@ -706,11 +706,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 		// Disable listening to geometry changes while determine new geometry
 		// size (to match given visual bounds size)
-		boolean reAdd = listeningCount >= 1;
-		if (reAdd) {
-			geometryProperty.removeListener(geometryChangeListener);
-			listeningCount--;
-		}
+		boolean wasIgnoringGeometryChanges = ignoreGeometryChanges;
+		ignoreGeometryChanges = true;
 
 		// System.out.println("Resizing to " + width + ", " + height);
 
@@ -737,10 +734,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 		// update geometry of underlying path (which should invalidate the
 		// layout bounds)
-		if (reAdd) {
-			geometryProperty.addListener(geometryChangeListener);
-			listeningCount++;
-		}
+		ignoreGeometryChanges = wasIgnoringGeometryChanges;
 		updateShapes();
 	}
 
@@ -856,7 +850,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 	/**
 	 * Sets the {@link IGeometry} of this {@link GeometryNode} to the given
-	 * value.
+	 * value. The geometry may not be changed in place afterwards (see
+	 * {@link #geometryProperty()}).
 	 *
 	 * @param geometry
 	 *            The new {@link IGeometry} for this {@link GeometryNode}.
@@ -1060,23 +1055,100 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	}
 
 	/**
-	 * Updates the visual representation (Path) of this GeometryNode. This is
-	 * done automatically when setting the geometry. But in case you change
-	 * properties of a geometry, you have to call this method in order to update
-	 * its visual counter part.
+	 * Updates the given {@link PathElement}s to reflect the given geometric
+	 * {@link org.eclipse.gef.geometry.planar.Path}, translated by the given
+	 * offset. If the types of the {@link PathElement}s correspond to the types
+	 * of the path's {@link Segment}s, the {@link PathElement}s are updated in
+	 * place, otherwise they are replaced.
 	 */
-	private void updateShapes() {
-		if (clickableAreaShape != null) {
-			updateShapes(geometricShape, clickableAreaShape);
-		} else {
-			updateShapes(geometricShape);
+	private void updatePathElements(ObservableList<PathElement> elements,
+			org.eclipse.gef.geometry.planar.Path path, Segment[] segments,
+			double dx, double dy) {
+		boolean inPlace = elements.size() == segments.length;
+		for (int i = 0; inPlace && i < segments.length; i++) {
+			PathElement element = elements.get(i);
+			switch (segments[i].getType()) {
+			case Segment.MOVE_TO:
+				inPlace = element instanceof MoveTo;
+				break;
+			case Segment.LINE_TO:
+				inPlace = element instanceof LineTo;
+				break;
+			case Segment.QUAD_TO:
+				inPlace = element instanceof QuadCurveTo;
+				break;
+			case Segment.CUBIC_TO:
+				inPlace = element instanceof CubicCurveTo;
+				break;
+			default:
+				inPlace = element instanceof ClosePath;
+			}
+			inPlace = inPlace && element.isAbsolute();
+		}
+		if (!inPlace) {
+			elements.setAll(Geometry2Shape.toPathElements(path.getTransformed(
+					new AffineTransform().setToTranslation(dx, dy))));
+			return;
+		}
+		for (int i = 0; i < segments.length; i++) {
+			Point[] points = segments[i].getPoints();
+			PathElement element = elements.get(i);
+			switch (segments[i].getType()) {
+			case Segment.MOVE_TO:
+				((MoveTo) element).setX(points[0].x + dx);
+				((MoveTo) element).setY(points[0].y + dy);
+				break;
+			case Segment.LINE_TO:
+				((LineTo) element).setX(points[0].x + dx);
+				((LineTo) element).setY(points[0].y + dy);
+				break;
+			case Segment.QUAD_TO:
+				QuadCurveTo quadCurveTo = (QuadCurveTo) element;
+				quadCurveTo.setControlX(points[0].x + dx);
+				quadCurveTo.setControlY(points[0].y + dy);
+				quadCurveTo.setX(points[1].x + dx);
+				quadCurveTo.setY(points[1].y + dy);
+				break;
+			case Segment.CUBIC_TO:
+				CubicCurveTo cubicCurveTo = (CubicCurveTo) element;
+				cubicCurveTo.setControlX1(points[0].x + dx);
+				cubicCurveTo.setControlY1(points[0].y + dy);
+				cubicCurveTo.setControlX2(points[1].x + dx);
+				cubicCurveTo.setControlY2(points[1].y + dy);
+				cubicCurveTo.setX(points[2].x + dx);
+				cubicCurveTo.setY(points[2].y + dy);
+				break;
+			default:
+				// nothing to update for ClosePath
+			}
 		}
 	}
 
-	private void updateShapes(Path... paths) {
-		PathElement[] pathElements = getPathElements();
-		for (Path p : paths) {
-			p.getElements().setAll(pathElements);
+	/**
+	 * Updates the visual representation (Path) of this GeometryNode. This is
+	 * done automatically when setting the geometry, or when the layout
+	 * position changes. The update is skipped if neither the (identity of the)
+	 * geometry nor the layout position changed since the last update.
+	 */
+	private void updateShapes() {
+		T geometry = geometryProperty.get();
+		double layoutX = getLayoutX();
+		double layoutY = getLayoutY();
+		if (geometry == pathElementsGeometry && layoutX == pathElementsLayoutX
+				&& layoutY == pathElementsLayoutY) {
+			// path elements are up to date
+			return;
+		}
+		org.eclipse.gef.geometry.planar.Path path = geometry.toPath();
+		Segment[] segments = path.getSegments();
+		updatePathElements(geometricShape.getElements(), path, segments,
+				-layoutX, -layoutY);
+		if (clickableAreaShape != null) {
+			updatePathElements(clickableAreaShape.getElements(), path, segments,
+					-layoutX, -layoutY);
 		}
+		pathElementsGeometry = geometry;
+		pathElementsLayoutX = layoutX;
+		pathElementsLayoutY = layoutY;
 	}
 }
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.Point;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * An {@link OrthogonalRouter} that routes {@link Connection}s around
+ * obstacles. The routes are computed by an {@link OrthogonalRoutingEngine},
+ * which may be shared by several {@link Connection}s (and routers), so that the
+ * obstacles only need to be indexed once, and all connections affected by an
+ * obstacle change can be routed in one pass.
+ * <p>
+ * The obstacles have to be registered at the {@link OrthogonalRoutingEngine}
+ * by clients, specifying their bounds within the coordinate system of the
+ * parent of the {@link Connection}s (e.g. a content layer), which has to be
+ * shared by all {@link Connection}s that are routed by the same engine. Only
+ * {@link Connection}s without (explicit) control points are routed around
+ * obstacles, all others are routed as by the {@link OrthogonalRouter}. As a
+ * {@link Connection} is only routed when it is refreshed, clients should
+ * refresh those {@link Connection}s that are returned by
+ * {@link OrthogonalRoutingEngine#route()} after obstacles have changed. A
+ * {@link Connection} is removed from the {@link OrthogonalRoutingEngine} when
+ * it is removed from its parent, or when its router is replaced.
+ *
+ * @author agent
+ *
+ */
+public class ObstacleAvoidingOrthogonalRouter extends OrthogonalRouter {
+
+	private final OrthogonalRoutingEngine engine;
+	// listeners that remove the connections from the engine
+	private final Map<Connection, ChangeListener<Object>> connectionListeners = new HashMap<>();
+
+	/**
+	 * Creates a new {@link ObstacleAvoidingOrthogonalRouter} that uses the
+	 * given {@link OrthogonalRoutingEngine} to compute routes.
+	 *
+	 * @param engine
+	 *            The (shared) {@link OrthogonalRoutingEngine} to use.
+	 */
+	public ObstacleAvoidingOrthogonalRouter(OrthogonalRoutingEngine engine) {
+		this.engine = engine;
+	}
+
+	/**
+	 * Returns the {@link OrthogonalRoutingEngine} that is used to compute
+	 * routes.
+	 *
+	 * @return The {@link OrthogonalRoutingEngine} that is used.
+	 */
+	public OrthogonalRoutingEngine getEngine() {
+		return engine;
+	}
+
+	/**
+	 * Registers listeners at the given {@link Connection}, which remove it from
+	 * the {@link OrthogonalRoutingEngine} when it is removed from its parent or
+	 * when its router is replaced.
+	 */
+	private void register(final Connection connection) {
+		if (connectionListeners.containsKey(connection)) {
+			return;
+		}
+		ChangeListener<Object> listener = new ChangeListener<Object>() {
+			@Override
+			public void changed(ObservableValue<? extends Object> observable,
+					Object oldValue, Object newValue) {
+				if (connection.getParent() == null || connection
+						.getRouter() != ObstacleAvoidingOrthogonalRouter.this) {
+					unregister(connection);
+				}
+			}
+		};
+		connection.parentProperty().addListener(listener);
+		connection.routerProperty().addListener(listener);
+		connectionListeners.put(connection, listener);
+	}
+
+	/**
+	 * Removes the given {@link Connection} from the
+	 * {@link OrthogonalRoutingEngine} and unregisters the listeners that were
+	 * registered by {@link #register(Connection)}.
+	 */
+	private void unregister(Connection connection) {
+		engine.removeConnection(connection);
+		ChangeListener<Object> listener = connectionListeners
+				.remove(connection);
+		if (listener != null) {
+			connection.parentProperty().removeListener(listener);
+			connection.routerProperty().removeListener(listener);
+		}
+	}
+
+	/**
+	 * Returns the position of the anchor at the given index within the
+	 * coordinate system of the given {@link Connection}.
+	 */
+	private Point getPosition(Connection connection, int index) {
+		Point position = connection.getAnchor(index)
+				.getPosition(connection.getAnchorKey(index));
+		return FX2Geometry.toPoint(connection.getCurve()
+				.localToParent(Geometry2FX.toFXPoint(position)));
+	}
+
+	@Override
+	protected void insertRouterAnchors(Connection connection) {
+		if (connection.getPointsUnmodifiable().size() != 2) {
+			// the control points are respected
+			unregister(connection);
+			super.insertRouterAnchors(connection);
+			return;
+		}
+		Point start = getPosition(connection, 0);
+		Point end = getPosition(connection, 1);
+		register(connection);
+		engine.setConnection(connection,
+				NodeUtils.localToParent(connection, start),
+				NodeUtils.localToParent(connection, end));
+		List<Point> route = engine.getRoute(connection);
+		if (route == null) {
+			// no obstacle in between
+			super.insertRouterAnchors(connection);
+			return;
+		}
+		// insert the bend points of the route
+		ControlPointManipulator cpm = createControlPointManipulator(
+				connection);
+		for (Point bendPointInParent : route.subList(1, route.size() - 1)) {
+			Point bendPoint = NodeUtils.parentToLocal(connection,
+					bendPointInParent);
+			cpm.addRoutingPoint(1, start, bendPoint.x - start.x,
+					bendPoint.y - start.y);
+		}
+		cpm.applyChanges();
+	}
+}
@@ -0,0 +1,551 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.internal.utils.RTree;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link OrthogonalRoutingEngine} computes obstacle-avoiding orthogonal
+ * routes for a number of connections at once. It is independent of the
+ * visuals, i.e. obstacles and connections are identified by arbitrary keys,
+ * and all coordinates are interpreted within a single (common) coordinate
+ * system.
+ * <p>
+ * The obstacle bounds are maintained in a spatial index (an R-tree), which is
+ * updated incrementally and shared by all connections. A change of an obstacle
+ * or of the end points of a connection only marks the affected connections
+ * (i.e. those whose routes are located within the changed area) as dirty. All
+ * dirty connections are routed in one pass, either explicitly via
+ * {@link #route()}, or lazily, when a route is queried via
+ * {@link #getRoute(Object)}.
+ * <p>
+ * A route is searched on a sparse orthogonal grid, which is spanned by the
+ * coordinates of the end points and the (margin-expanded) bounds of the
+ * obstacles within the vicinity of the connection. The search area is only
+ * enlarged in case no route can be found within the vicinity, so that the
+ * routing cost scales with the changed region rather than with the number of
+ * obstacles.
+ *
+ * @author agent
+ *
+ */
+public class OrthogonalRoutingEngine {
+
+	private static class Route {
+		private Point start;
+		private Point end;
+		private List<Point> points;
+	}
+
+	private static class SearchNode implements Comparable<SearchNode> {
+		private final long state;
+		private final double cost;
+		private final double estimate;
+
+		public SearchNode(long state, double cost, double estimate) {
+			this.state = state;
+			this.cost = cost;
+			this.estimate = estimate;
+		}
+
+		@Override
+		public int compareTo(SearchNode o) {
+			int result = Double.compare(estimate, o.estimate);
+			if (result == 0) {
+				// prefer deeper nodes, so that plateaus of equally estimated
+				// nodes are not explored breadth-first
+				return Double.compare(o.cost, cost);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * The default distance that is kept between routes and obstacles.
+	 */
+	public static final double DEFAULT_MARGIN = 15;
+
+	// the directions of the search states (+x, -x, +y, -y)
+	private static final int[] DX = new int[] { 1, -1, 0, 0 };
+	private static final int[] DY = new int[] { 0, 0, 1, -1 };
+
+	private double margin = DEFAULT_MARGIN;
+	private RTree<Object> obstacleIndex = new RTree<>();
+	private RTree<Object> routeIndex = new RTree<>();
+	private Map<Object, Route> routes = new HashMap<>();
+	private Set<Object> dirtyConnections = new LinkedHashSet<>();
+
+	/**
+	 * Removes all obstacles and connections.
+	 */
+	public void clear() {
+		obstacleIndex.clear();
+		routeIndex.clear();
+		routes.clear();
+		dirtyConnections.clear();
+	}
+
+	/**
+	 * Computes an orthogonal route between the given start and end
+	 * {@link Point}, which avoids all obstacles. Returns <code>null</code> if
+	 * no such route exists.
+	 */
+	private List<Point> computeRoute(Point start, Point end) {
+		// search within the vicinity of the end points first
+		Rectangle vicinity = new Rectangle(start, end).expand(2 * margin,
+				2 * margin);
+		List<Object> obstacles = obstacleIndex.search(vicinity.getX(),
+				vicinity.getY(), vicinity.getX() + vicinity.getWidth(),
+				vicinity.getY() + vicinity.getHeight());
+		if (obstacles.isEmpty() || isStraight(start, end)) {
+			return null;
+		}
+		// include the obstacles that lie within the margin of the vicinity's
+		// obstacles (so that these can be bypassed)
+		for (Object obstacle : new ArrayList<>(obstacles)) {
+			double[] bounds = obstacleIndex.getBounds(obstacle);
+			vicinity.union(new Rectangle(bounds[0] - margin,
+					bounds[1] - margin, bounds[2] - bounds[0] + 2 * margin,
+					bounds[3] - bounds[1] + 2 * margin));
+		}
+		obstacles = obstacleIndex.search(vicinity.getX(), vicinity.getY(),
+				vicinity.getX() + vicinity.getWidth(),
+				vicinity.getY() + vicinity.getHeight());
+		List<Point> route = computeRoute(start, end, obstacles);
+		if (route == null && obstacles.size() < obstacleIndex.size()) {
+			// fall back to a search among all obstacles
+			route = computeRoute(start, end,
+					obstacleIndex.search(Double.NEGATIVE_INFINITY,
+							Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+							Double.POSITIVE_INFINITY));
+		}
+		return route;
+	}
+
+	/**
+	 * Searches an orthogonal route between the given start and end
+	 * {@link Point} on the sparse grid that is spanned by the given obstacles
+	 * (using A* with a penalty for each bend).
+	 */
+	private List<Point> computeRoute(Point start, Point end,
+			List<Object> obstacles) {
+		double[] xs = new double[2 * obstacles.size() + 2];
+		double[] ys = new double[2 * obstacles.size() + 2];
+		int n = 0;
+		for (Object obstacle : obstacles) {
+			double[] b = obstacleIndex.getBounds(obstacle);
+			xs[n] = b[0] - margin;
+			ys[n++] = b[1] - margin;
+			xs[n] = b[2] + margin;
+			ys[n++] = b[3] + margin;
+		}
+		xs[n] = start.x;
+		ys[n++] = start.y;
+		xs[n] = end.x;
+		ys[n++] = end.y;
+		xs = unique(xs);
+		ys = unique(ys);
+		int sx = Arrays.binarySearch(xs, start.x);
+		int sy = Arrays.binarySearch(ys, start.y);
+		int ex = Arrays.binarySearch(xs, end.x);
+		int ey = Arrays.binarySearch(ys, end.y);
+
+		// obstacles that contain an end point may be left (entered) along the
+		// grid lines through the respective end point
+		List<Object> startObstacles = obstacleIndex.search(start.x, start.y,
+				start.x, start.y);
+		List<Object> endObstacles = obstacleIndex.search(end.x, end.y, end.x,
+				end.y);
+
+		// A* search, the states are (x index, y index, direction); only the
+		// visited states are recorded
+		Map<Long, Double> costs = new HashMap<>();
+		Map<Long, Long> predecessors = new HashMap<>();
+		PriorityQueue<SearchNode> queue = new PriorityQueue<>();
+		for (int d = 0; d < 4; d++) {
+			long state = ((long) sx * ys.length + sy) * 4 + d;
+			costs.put(state, 0d);
+			queue.add(new SearchNode(state, 0,
+					getEstimate(start.x, start.y, end)));
+		}
+		long target = -1;
+		while (!queue.isEmpty()) {
+			SearchNode node = queue.poll();
+			if (node.cost > costs.get(node.state)) {
+				// outdated queue entry
+				continue;
+			}
+			int d = (int) (node.state % 4);
+			int y = (int) (node.state / 4 % ys.length);
+			int x = (int) (node.state / 4 / ys.length);
+			if (x == ex && y == ey) {
+				target = node.state;
+				break;
+			}
+			for (int nd = 0; nd < 4; nd++) {
+				if (nd == (d ^ 1)) {
+					// do not reverse the direction
+					continue;
+				}
+				int nx = x + DX[nd];
+				int ny = y + DY[nd];
+				if (nx < 0 || nx >= xs.length || ny < 0 || ny >= ys.length) {
+					continue;
+				}
+				double newCost = node.cost + Math.abs(xs[nx] - xs[x])
+						+ Math.abs(ys[ny] - ys[y])
+						+ (nd == d || !predecessors.containsKey(node.state) ? 0
+								: margin);
+				long newState = ((long) nx * ys.length + ny) * 4 + nd;
+				Double oldCost = costs.get(newState);
+				if ((oldCost == null || newCost < oldCost)
+						&& !isBlocked(xs[x], ys[y], xs[nx], ys[ny], start,
+								startObstacles, end, endObstacles)) {
+					costs.put(newState, newCost);
+					predecessors.put(newState, node.state);
+					queue.add(new SearchNode(newState, newCost,
+							newCost + getEstimate(xs[nx], ys[ny], end)));
+				}
+			}
+		}
+		if (target == -1) {
+			return null;
+		}
+
+		// collect the bend points (in reverse order)
+		List<Point> route = new ArrayList<>();
+		route.add(end.getCopy());
+		long state = target;
+		Long predecessor = predecessors.get(state);
+		while (predecessor != null) {
+			if (predecessor % 4 != state % 4
+					&& predecessors.containsKey(predecessor)) {
+				int x = (int) (predecessor / 4 / ys.length);
+				int y = (int) (predecessor / 4 % ys.length);
+				route.add(new Point(xs[x], ys[y]));
+			}
+			state = predecessor;
+			predecessor = predecessors.get(state);
+		}
+		route.add(start.getCopy());
+		Collections.reverse(route);
+		return route;
+	}
+
+	/**
+	 * Returns the distance that is kept between routes and obstacles.
+	 *
+	 * @return The distance that is kept between routes and obstacles.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	private double getEstimate(double x, double y, Point end) {
+		return Math.abs(end.x - x) + Math.abs(end.y - y);
+	}
+
+	/**
+	 * Returns the route for the given connection, i.e. the list of
+	 * {@link Point}s (including start and end point) that constitute an
+	 * orthogonal route that avoids all obstacles. All dirty connections are
+	 * routed before the route is returned.
+	 * <p>
+	 * In case there is no obstacle between the start and end point of the
+	 * connection, or if no obstacle-avoiding route can be found,
+	 * <code>null</code> is returned, i.e. no route is imposed.
+	 *
+	 * @param connection
+	 *            The connection for which to return the route.
+	 * @return An unmodifiable list of the route {@link Point}s, or
+	 *         <code>null</code>.
+	 */
+	public List<Point> getRoute(Object connection) {
+		if (!dirtyConnections.isEmpty()) {
+			route();
+		}
+		Route route = routes.get(connection);
+		if (route == null || route.points == null) {
+			return null;
+		}
+		return Collections.unmodifiableList(route.points);
+	}
+
+	/**
+	 * Marks all connections as dirty whose routes could be affected by a change
+	 * within the given area, i.e. whose search vicinity (see
+	 * {@link #computeRoute(Point, Point)}) or route passes within twice the
+	 * margin of the area.
+	 */
+	private void invalidate(double minX, double minY, double maxX,
+			double maxY) {
+		// use the same extent as for the search vicinity, so that the result
+		// does not depend on the order of changes
+		minX -= 2 * margin;
+		minY -= 2 * margin;
+		maxX += 2 * margin;
+		maxY += 2 * margin;
+		// the route index provides the candidates, whose segments are then
+		// tested individually (as the bounds of long routes are large)
+		for (Object connection : routeIndex.search(minX, minY, maxX, maxY)) {
+			Route route = routes.get(connection);
+			if (Math.min(route.start.x, route.end.x) <= maxX
+					&& Math.max(route.start.x, route.end.x) >= minX
+					&& Math.min(route.start.y, route.end.y) <= maxY
+					&& Math.max(route.start.y, route.end.y) >= minY) {
+				// within the vicinity of the end points
+				dirtyConnections.add(connection);
+				continue;
+			}
+			if (route.points == null) {
+				continue;
+			}
+			List<Point> points = route.points;
+			for (int i = 0; i < points.size() - 1; i++) {
+				Point p = points.get(i);
+				Point q = points.get(i + 1);
+				if (Math.min(p.x, q.x) <= maxX && Math.max(p.x, q.x) >= minX
+						&& Math.min(p.y, q.y) <= maxY
+						&& Math.max(p.y, q.y) >= minY) {
+					dirtyConnections.add(connection);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the axis-parallel segment between (x1, y1) and (x2, y2)
+	 * passes through the interior of an obstacle. Within the obstacles that
+	 * contain the start (end) point, only the segments that leave (enter) the
+	 * start (end) point towards the nearest side of the obstacle are
+	 * permitted.
+	 */
+	private boolean isBlocked(double x1, double y1, double x2, double y2,
+			Point start, List<Object> startObstacles, Point end,
+			List<Object> endObstacles) {
+		double minX = Math.min(x1, x2);
+		double maxX = Math.max(x1, x2);
+		double minY = Math.min(y1, y2);
+		double maxY = Math.max(y1, y2);
+		for (Object obstacle : obstacleIndex.search(minX, minY, maxX, maxY)) {
+			double[] b = obstacleIndex.getBounds(obstacle);
+			// as the segment is axis-parallel, it passes through the interior
+			// if it overlaps the (open) bounds
+			if (minX < b[2] && maxX > b[0] && minY < b[3] && maxY > b[1]) {
+				if (startObstacles.contains(obstacle) && isLeaving(minX, minY,
+						maxX, maxY, start, b)) {
+					continue;
+				}
+				if (endObstacles.contains(obstacle)
+						&& isLeaving(minX, minY, maxX, maxY, end, b)) {
+					continue;
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the part of the axis-parallel segment between (minX,
+	 * minY) and (maxX, maxY) that lies within the given obstacle bounds is
+	 * located on a grid line through the given anchor point, between the
+	 * anchor point and the nearest side of the obstacle, i.e. whether the
+	 * segment (or a part of it) leaves the anchor point.
+	 */
+	private boolean isLeaving(double minX, double minY, double maxX,
+			double maxY, Point anchor, double[] b) {
+		if (minY == maxY && minY == anchor.y) {
+			return isWithinNearestSide(Math.max(minX, b[0]),
+					Math.min(maxX, b[2]), anchor.x, b[0], b[2]);
+		}
+		if (minX == maxX && minX == anchor.x) {
+			return isWithinNearestSide(Math.max(minY, b[1]),
+					Math.min(maxY, b[3]), anchor.y, b[1], b[3]);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the interval [min, max] lies between the given anchor
+	 * value and the nearest of the given lower and upper bound.
+	 */
+	private boolean isWithinNearestSide(double min, double max, double anchor,
+			double lower, double upper) {
+		if (anchor - lower <= upper - anchor) {
+			return min >= lower && max <= anchor;
+		}
+		return min >= anchor && max <= upper;
+	}
+
+	/**
+	 * Returns whether the straight (orthogonal) segment between the given
+	 * start and end point does not pass through any obstacle (other than
+	 * leaving or entering those containing the end points).
+	 */
+	private boolean isStraight(Point start, Point end) {
+		if (start.x != end.x && start.y != end.y) {
+			return false;
+		}
+		return !isBlocked(start.x, start.y, end.x, end.y, start,
+				obstacleIndex.search(start.x, start.y, start.x, start.y), end,
+				obstacleIndex.search(end.x, end.y, end.x, end.y));
+	}
+
+	/**
+	 * Removes the given connection.
+	 *
+	 * @param connection
+	 *            The connection to remove.
+	 */
+	public void removeConnection(Object connection) {
+		routes.remove(connection);
+		routeIndex.remove(connection);
+		dirtyConnections.remove(connection);
+	}
+
+	/**
+	 * Removes the given obstacle. The routes of all connections that are
+	 * located within the bounds of the obstacle are recomputed.
+	 *
+	 * @param obstacle
+	 *            The obstacle to remove.
+	 */
+	public void removeObstacle(Object obstacle) {
+		double[] bounds = obstacleIndex.getBounds(obstacle);
+		if (bounds != null) {
+			obstacleIndex.remove(obstacle);
+			invalidate(bounds[0], bounds[1], bounds[2], bounds[3]);
+		}
+	}
+
+	/**
+	 * Routes all dirty connections, i.e. those that were added or changed, or
+	 * whose routes are affected by an obstacle change since the last routing
+	 * pass. Returns the connections whose routes changed, so that clients can
+	 * refresh them.
+	 *
+	 * @return A {@link Set} containing the connections whose routes changed.
+	 */
+	public Set<Object> route() {
+		Set<Object> changed = new LinkedHashSet<>();
+		List<Object> connections = new ArrayList<>(dirtyConnections);
+		dirtyConnections.clear();
+		for (Object connection : connections) {
+			Route route = routes.get(connection);
+			List<Point> points = computeRoute(route.start, route.end);
+			if (points == null ? route.points != null
+					: !points.equals(route.points)) {
+				changed.add(connection);
+			}
+			route.points = points;
+			Rectangle bounds = points == null
+					? new Rectangle(route.start, route.end)
+					: Point.getBounds(points.toArray(new Point[] {}));
+			routeIndex.insert(connection, bounds.getX(), bounds.getY(),
+					bounds.getX() + bounds.getWidth(),
+					bounds.getY() + bounds.getHeight());
+		}
+		return changed;
+	}
+
+	/**
+	 * Adds the given connection, or updates its start and end {@link Point}
+	 * in case it is already known. The connection is marked as dirty if it was
+	 * not known before, or if its start or end point changed.
+	 *
+	 * @param connection
+	 *            The connection to add or update.
+	 * @param start
+	 *            The start {@link Point} of the connection.
+	 * @param end
+	 *            The end {@link Point} of the connection.
+	 */
+	public void setConnection(Object connection, Point start, Point end) {
+		Route route = routes.get(connection);
+		if (route == null) {
+			route = new Route();
+			routes.put(connection, route);
+		} else if (route.start.equals(start) && route.end.equals(end)) {
+			return;
+		}
+		route.start = start.getCopy();
+		route.end = end.getCopy();
+		dirtyConnections.add(connection);
+	}
+
+	/**
+	 * Sets the distance that is kept between routes and obstacles. All
+	 * connections are marked as dirty.
+	 *
+	 * @param margin
+	 *            The distance that is kept between routes and obstacles.
+	 */
+	public void setMargin(double margin) {
+		if (this.margin != margin) {
+			this.margin = margin;
+			dirtyConnections.addAll(routes.keySet());
+		}
+	}
+
+	/**
+	 * Adds the given obstacle, or updates its bounds in case it is already
+	 * known. The routes of all connections that are located within the old or
+	 * new bounds of the obstacle are recomputed.
+	 *
+	 * @param obstacle
+	 *            The obstacle to add or update.
+	 * @param bounds
+	 *            The bounds of the obstacle.
+	 */
+	public void setObstacle(Object obstacle, Rectangle bounds) {
+		double[] oldBounds = obstacleIndex.getBounds(obstacle);
+		double minX = bounds.getX();
+		double minY = bounds.getY();
+		double maxX = bounds.getX() + bounds.getWidth();
+		double maxY = bounds.getY() + bounds.getHeight();
+		if (oldBounds != null) {
+			if (oldBounds[0] == minX && oldBounds[1] == minY
+					&& oldBounds[2] == maxX && oldBounds[3] == maxY) {
+				return;
+			}
+			invalidate(oldBounds[0], oldBounds[1], oldBounds[2],
+					oldBounds[3]);
+		}
+		obstacleIndex.insert(obstacle, minX, minY, maxX, maxY);
+		invalidate(minX, minY, maxX, maxY);
+	}
+
+	private double[] unique(double[] values) {
+		Arrays.sort(values);
+		int n = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (n == 0 || values[i] != values[n - 1]) {
+				values[n++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, n);
+	}
+}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.internal.utils.RTree;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * The {@link NodePicker} performs picking of {@link Node}s within the scene
+ * graph below a given root {@link Node}, with the same semantics as
+ * {@link NodeUtils#getNodesAt(Node, double, double)}. However, instead of
+ * visiting all transitive children of the root {@link Node}, the children of
+ * each {@link Parent} are indexed by their bounds-in-parent within a spatial
+ * index, so that only those children have to be visited whose bounds contain
+ * the position to pick at.
+ * <p>
+ * The index is kept up to date by listening to the children of all indexed
+ * {@link Parent}s and to the bounds-in-parent of all indexed {@link Node}s.
+ * Changes of the bounds are only recorded when they occur and are applied to
+ * the index lazily, i.e. upon the next query. The {@link NodePicker} has to be
+ * {@link #dispose() disposed} to unregister all listeners when it is no longer
+ * needed.
+ *
+ * @author agent
+ *
+ */
+public class NodePicker {
+
+	/**
+	 * The spatial index of the children of a single {@link Parent}.
+	 */
+	private class ChildrenIndex {
+
+		private final Parent parent;
+		private final RTree<Node> tree = new RTree<>();
+		private final Set<Node> dirtyChildren = new LinkedHashSet<>();
+		// the index of each child within the children list of the parent,
+		// which is (re-)computed lazily
+		private Map<Node, Integer> order;
+
+		private final ListChangeListener<Node> childrenListener = new ListChangeListener<Node>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Node> change) {
+				while (change.next()) {
+					for (Node child : change.getRemoved()) {
+						if (child.getParent() != parent) {
+							unregister(ChildrenIndex.this, child);
+						}
+					}
+					for (Node child : change.getAddedSubList()) {
+						register(ChildrenIndex.this, child);
+					}
+				}
+				order = null;
+			}
+		};
+
+		public ChildrenIndex(Parent parent) {
+			this.parent = parent;
+		}
+
+		/**
+		 * Returns the children of the parent, whose bounds-in-parent intersect
+		 * the given bounds (in the local coordinate system of the parent),
+		 * sorted by their index within the children list of the parent.
+		 */
+		public List<Node> getChildren(double minX, double minY, double maxX,
+				double maxY) {
+			for (Node child : dirtyChildren) {
+				Bounds bounds = child.getBoundsInParent();
+				tree.insert(child, bounds.getMinX(), bounds.getMinY(),
+						bounds.getMaxX(), bounds.getMaxY());
+			}
+			dirtyChildren.clear();
+			List<Node> children = tree.search(minX, minY, maxX, maxY);
+			if (children.size() > 1) {
+				if (order == null) {
+					List<Node> childrenList = parent.getChildrenUnmodifiable();
+					order = new IdentityHashMap<>();
+					for (int i = 0; i < childrenList.size(); i++) {
+						order.put(childrenList.get(i), i);
+					}
+				}
+				Collections.sort(children, new Comparator<Node>() {
+					@Override
+					public int compare(Node n1, Node n2) {
+						return Integer.compare(order.get(n1), order.get(n2));
+					}
+				});
+			}
+			return children;
+		}
+	}
+
+	private final Node root;
+	private final Map<Parent, ChildrenIndex> indices = new IdentityHashMap<>();
+
+	private final InvalidationListener boundsInParentListener = new InvalidationListener() {
+		@Override
+		public void invalidated(Observable observable) {
+			Node node = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+			ChildrenIndex index = indices.get(node.getParent());
+			if (index != null) {
+				index.dirtyChildren.add(node);
+			}
+		}
+	};
+
+	/**
+	 * Creates a new {@link NodePicker} for the scene graph below the given
+	 * root {@link Node}.
+	 *
+	 * @param root
+	 *            The root {@link Node} at which picking is started.
+	 */
+	public NodePicker(Node root) {
+		this.root = root;
+		if (root instanceof Parent) {
+			index((Parent) root);
+		}
+	}
+
+	/**
+	 * Unregisters all listeners and clears the index. The {@link NodePicker}
+	 * may not be used afterwards.
+	 */
+	public void dispose() {
+		for (ChildrenIndex index : new ArrayList<>(indices.values())) {
+			index.parent.getChildrenUnmodifiable()
+					.removeListener(index.childrenListener);
+			for (Node child : index.parent.getChildrenUnmodifiable()) {
+				child.boundsInParentProperty()
+						.removeListener(boundsInParentListener);
+			}
+		}
+		indices.clear();
+	}
+
+	/**
+	 * Returns the {@link Node}s below the root {@link Node} (including the
+	 * root {@link Node} itself) that contain the given position (in scene
+	 * coordinates). The {@link Node}s are ordered from top to bottom, i.e. the
+	 * {@link Node} that is rendered on top is the first element of the
+	 * returned {@link List}.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @return A list of {@link Node}s which contain the the given coordinate.
+	 *
+	 * @see NodeUtils#getNodesAt(Node, double, double)
+	 */
+	public List<Node> getNodesAt(double sceneX, double sceneY) {
+		Deque<Node> picked = new ArrayDeque<>();
+		pick(root, root.sceneToLocal(sceneX, sceneY), picked);
+		return new ArrayList<>(picked);
+	}
+
+	/**
+	 * Returns the {@link Node}s below the root {@link Node} (including the
+	 * root {@link Node} itself) that intersect the given bounds (in scene
+	 * coordinates). The {@link Node}s are ordered from top to bottom, i.e. the
+	 * {@link Node} that is rendered on top is the first element of the
+	 * returned {@link List}.
+	 *
+	 * @param sceneBounds
+	 *            The {@link Bounds} to pick nodes at, interpreted in scene
+	 *            coordinate space.
+	 * @return A list of {@link Node}s which intersect the given bounds.
+	 */
+	public List<Node> getNodesAt(Bounds sceneBounds) {
+		Deque<Node> picked = new ArrayDeque<>();
+		pick(root, sceneBounds, picked);
+		return new ArrayList<>(picked);
+	}
+
+	private void index(Parent parent) {
+		ChildrenIndex index = new ChildrenIndex(parent);
+		indices.put(parent, index);
+		parent.getChildrenUnmodifiable().addListener(index.childrenListener);
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			register(index, child);
+		}
+	}
+
+	private void pick(Node node, Bounds sceneBounds, Deque<Node> picked) {
+		Bounds localBounds = node.sceneToLocal(sceneBounds);
+		if (node.isMouseTransparent()
+				|| !node.getBoundsInLocal().intersects(localBounds)) {
+			return;
+		}
+		if (node.intersects(localBounds)) {
+			picked.addFirst(node);
+		}
+		ChildrenIndex index = indices.get(node);
+		if (index != null) {
+			for (Node child : index.getChildren(localBounds.getMinX(),
+					localBounds.getMinY(), localBounds.getMaxX(),
+					localBounds.getMaxY())) {
+				pick(child, sceneBounds, picked);
+			}
+		}
+	}
+
+	private void pick(Node node, Point2D pLocal, Deque<Node> picked) {
+		// check if bounds contains (necessary to find children in mouse
+		// transparent regions)
+		if (node.isMouseTransparent()
+				|| !node.getBoundsInLocal().contains(pLocal)) {
+			return;
+		}
+		// check precisely
+		if (node.contains(pLocal)) {
+			picked.addFirst(node);
+		}
+		// test those children, whose bounds contain the position, too
+		ChildrenIndex index = indices.get(node);
+		if (index != null) {
+			for (Node child : index.getChildren(pLocal.getX(), pLocal.getY(),
+					pLocal.getX(), pLocal.getY())) {
+				pick(child, child.parentToLocal(pLocal), picked);
+			}
+		}
+	}
+
+	private void register(ChildrenIndex index, Node child) {
+		if (index.tree.contains(child) || index.dirtyChildren.contains(child)) {
+			return;
+		}
+		child.boundsInParentProperty().addListener(boundsInParentListener);
+		index.dirtyChildren.add(child);
+		if (child instanceof Parent && !indices.containsKey(child)) {
+			index((Parent) child);
+		}
+	}
+
+	private void unregister(ChildrenIndex index, Node child) {
+		if (!index.tree.remove(child) && !index.dirtyChildren.remove(child)) {
+			return;
+		}
+		child.boundsInParentProperty().removeListener(boundsInParentListener);
+		index.dirtyChildren.remove(child);
+		// keep the index of a child that was moved to another indexed parent
+		if (child instanceof Parent
+				&& !indices.containsKey(child.getParent())) {
+			unindex((Parent) child);
+		}
+	}
+
+	private void unindex(Parent parent) {
+		ChildrenIndex index = indices.remove(parent);
+		if (index == null) {
+			return;
+		}
+		parent.getChildrenUnmodifiable().removeListener(index.childrenListener);
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			unregister(index, child);
+		}
+	}
+}
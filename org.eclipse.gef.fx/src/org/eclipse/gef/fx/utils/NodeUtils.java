@@ -14,7 +14,9 @@
 package org.eclipse.gef.fx.utils;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -61,7 +63,8 @@ import javafx.scene.transform.Affine;
  * JavaFX {@link Node} ({@link #getLocalToSceneTx(Node)},
  * {@link #getSceneToLocalTx(Node)})</li>
  * <li>perform picking of {@link Node}s at a specific position within the JavaFX
- * scene graph ({@link #getNodesAt(Node, double, double)})</li>
+ * scene graph ({@link #getNodesAt(Node, double, double)}, see also
+ * {@link NodePicker})</li>
  * </ul>
  *
  * @author anyssen
@@ -252,17 +255,22 @@ public class NodeUtils {
 	 * @param root
 	 *            The root node at which to start with picking
 	 * @return A list of {@link Node}s which contain the the given coordinate.
+	 *
+	 * @see NodePicker
 	 */
 	public static List<Node> getNodesAt(Node root, double sceneX,
 			double sceneY) {
-		List<Node> picked = new ArrayList<>();
+		// nodes that are visited later are rendered on top, so they are
+		// prepended
+		Deque<Node> picked = new ArrayDeque<>();
 
-		// start with given root node
-		List<Node> nodes = new ArrayList<>();
-		nodes.add(root);
+		// start with given root node (the nodes are processed in depth-first
+		// order, so the children of a node are pushed in reverse order)
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
 
 		while (!nodes.isEmpty()) {
-			Node current = nodes.remove(0);
+			Node current = nodes.pop();
 			// transform to local coordinates
 			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
 			// check if bounds contains (necessary to find children in mouse
@@ -271,16 +279,19 @@ public class NodeUtils {
 					&& current.getBoundsInLocal().contains(pLocal)) {
 				// check precisely
 				if (current.contains(pLocal)) {
-					picked.add(0, current);
+					picked.addFirst(current);
 				}
 				// test all children, too
 				if (current instanceof Parent) {
-					nodes.addAll(0,
-							((Parent) current).getChildrenUnmodifiable());
+					List<Node> children = ((Parent) current)
+							.getChildrenUnmodifiable();
+					for (int i = children.size() - 1; i >= 0; i--) {
+						nodes.push(children.get(i));
+					}
 				}
 			}
 		}
-		return picked;
+		return new ArrayList<>(picked);
 	}
 
 	/**
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the intersection and overlap computations of
+ * {@link BezierCurve}s of different degree.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BezierCurveBenchmarks {
+
+	/**
+	 * The degree of the {@link BezierCurve}s.
+	 */
+	@Param({ "1", "2", "3", "5", "8" })
+	public int degree;
+
+	private BezierCurve[] curves;
+
+	/**
+	 * Computes the intersections of all pairs of (randomly distributed)
+	 * {@link BezierCurve}s.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the results.
+	 */
+	@Benchmark
+	public void getIntersections(Blackhole blackhole) {
+		for (int i = 0; i < curves.length; i++) {
+			for (int j = i + 1; j < curves.length; j++) {
+				blackhole.consume(curves[i].getIntersections(curves[j]));
+			}
+		}
+	}
+
+	/**
+	 * Tests all pairs of (randomly distributed) {@link BezierCurve}s for
+	 * overlaps.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the results.
+	 */
+	@Benchmark
+	public void overlaps(Blackhole blackhole) {
+		for (int i = 0; i < curves.length; i++) {
+			for (int j = i + 1; j < curves.length; j++) {
+				blackhole.consume(curves[i].overlaps(curves[j]));
+			}
+		}
+	}
+
+	/**
+	 * Creates the inputs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(Workloads.SEED);
+		Rectangle bounds = new Rectangle(0, 0, 100, 100);
+		curves = Workloads.createBezierCurves(random, 16, degree, bounds);
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the boolean operations of {@link Path}, applied to two
+ * star-shaped polygons with a given number of vertices and a given overlap.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathBenchmarks {
+
+	/**
+	 * The number of vertices of each polygon.
+	 */
+	@Param({ "8", "32", "128" })
+	public int pointCount;
+
+	/**
+	 * The overlap of the polygons, where <code>0</code> means that their
+	 * bounds touch and <code>1</code> means that they are centered at the
+	 * same point.
+	 */
+	@Param({ "0.25", "0.5", "0.9" })
+	public double overlap;
+
+	private Path path1;
+	private Path path2;
+
+	/**
+	 * Computes the union of the paths.
+	 *
+	 * @return The union.
+	 */
+	@Benchmark
+	public Path add() {
+		return Path.add(path1, path2);
+	}
+
+	/**
+	 * Computes the intersection of the paths.
+	 *
+	 * @return The intersection.
+	 */
+	@Benchmark
+	public Path intersect() {
+		return Path.intersect(path1, path2);
+	}
+
+	/**
+	 * Creates the inputs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(Workloads.SEED);
+		double radius = 100;
+		path1 = Workloads.createStarPolygon(random, pointCount,
+				new Point(radius, radius), radius).toPath();
+		path2 = Workloads.createStarPolygon(random, pointCount,
+				new Point(radius + 2 * radius * (1 - overlap), radius), radius)
+				.toPath();
+	}
+
+	/**
+	 * Computes the difference of the paths.
+	 *
+	 * @return The difference.
+	 */
+	@Benchmark
+	public Path subtract() {
+		return Path.subtract(path1, path2);
+	}
+}
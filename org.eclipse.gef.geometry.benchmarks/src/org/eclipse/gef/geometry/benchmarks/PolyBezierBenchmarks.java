@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the intersection of compound curves ({@link PolyBezier}s,
+ * whose intersections are computed by <code>CurveUtils</code>) with a given
+ * number of segments.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolyBezierBenchmarks {
+
+	/**
+	 * The number of segments of the {@link PolyBezier}s.
+	 */
+	@Param({ "4", "16", "64" })
+	public int segmentCount;
+
+	private PolyBezier polyBezier1;
+	private PolyBezier polyBezier2;
+
+	/**
+	 * Computes the intersections of two (meandering) {@link PolyBezier}s,
+	 * which is delegated to <code>CurveUtils.getIntersections()</code>.
+	 *
+	 * @return The intersection points.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		return polyBezier1.getIntersections(polyBezier2);
+	}
+
+	/**
+	 * Creates the inputs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(Workloads.SEED);
+		Rectangle bounds = new Rectangle(0, 0, 100, 100);
+		polyBezier1 = Workloads.createPolyBezier(random, segmentCount, bounds);
+		polyBezier2 = Workloads.createPolyBezier(random, segmentCount, bounds);
+	}
+}
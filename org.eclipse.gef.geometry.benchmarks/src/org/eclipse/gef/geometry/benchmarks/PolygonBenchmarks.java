@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the triangulation of {@link Polygon}s and for the
+ * <code>contains</code> and <code>touches</code> predicates, evaluated for a
+ * set of points and rectangles that are distributed around the
+ * {@link Polygon}.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolygonBenchmarks {
+
+	/**
+	 * The number of vertices of the {@link Polygon}.
+	 */
+	@Param({ "16", "64", "256" })
+	public int pointCount;
+
+	private Polygon polygon;
+	private Point[] points;
+	private Rectangle[] rectangles;
+
+	/**
+	 * Tests which of the points are contained in the {@link Polygon}.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the results.
+	 */
+	@Benchmark
+	public void containsPoint(Blackhole blackhole) {
+		for (Point p : points) {
+			blackhole.consume(polygon.contains(p));
+		}
+	}
+
+	/**
+	 * Tests which of the rectangles are contained in the {@link Polygon}.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the results.
+	 */
+	@Benchmark
+	public void containsRectangle(Blackhole blackhole) {
+		for (Rectangle r : rectangles) {
+			blackhole.consume(polygon.contains(r));
+		}
+	}
+
+	/**
+	 * Triangulates the {@link Polygon}.
+	 *
+	 * @return The triangles.
+	 */
+	@Benchmark
+	public Polygon[] getTriangulation() {
+		return polygon.getTriangulation();
+	}
+
+	/**
+	 * Creates the inputs.
+	 */
+	@Setup
+	public void setUp() {
+		Random random = new Random(Workloads.SEED);
+		polygon = Workloads.createStarPolygon(random, pointCount,
+				new Point(100, 100), 100);
+		Rectangle bounds = new Rectangle(-20, -20, 240, 240);
+		points = Workloads.createPoints(random, 256, bounds);
+		rectangles = Workloads.createRectangles(random, 256, bounds, 40);
+	}
+
+	/**
+	 * Tests which of the rectangles touch the {@link Polygon}.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the results.
+	 */
+	@Benchmark
+	public void touchesRectangle(Blackhole blackhole) {
+		for (Rectangle r : rectangles) {
+			blackhole.consume(polygon.touches(r));
+		}
+	}
+}
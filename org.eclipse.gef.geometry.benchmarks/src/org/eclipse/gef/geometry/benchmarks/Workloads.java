@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link Workloads} class provides the (random) inputs for the
+ * benchmarks. All inputs are created from a {@link Random} that is initialized
+ * with {@link #SEED}, so that each benchmark run operates on the same inputs.
+ *
+ * @author agent
+ *
+ */
+public class Workloads {
+
+	/**
+	 * The seed that is used to initialize the {@link Random} generators.
+	 */
+	public static final long SEED = 20170414L;
+
+	/**
+	 * Creates the given number of {@link BezierCurve}s of the given degree,
+	 * whose control points are distributed within the given bounds.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param count
+	 *            The number of {@link BezierCurve}s to create.
+	 * @param degree
+	 *            The degree of the {@link BezierCurve}s.
+	 * @param bounds
+	 *            The bounds within which to place the control points.
+	 * @return The {@link BezierCurve}s.
+	 */
+	public static BezierCurve[] createBezierCurves(Random random, int count,
+			int degree, Rectangle bounds) {
+		BezierCurve[] curves = new BezierCurve[count];
+		for (int i = 0; i < count; i++) {
+			curves[i] = new BezierCurve(
+					createPoints(random, degree + 1, bounds));
+		}
+		return curves;
+	}
+
+	/**
+	 * Creates a {@link PolyBezier} that consists of the given number of
+	 * connected cubic segments, which meander through the given bounds from
+	 * left to right.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param segmentCount
+	 *            The number of segments.
+	 * @param bounds
+	 *            The bounds within which to place the control points.
+	 * @return The {@link PolyBezier}.
+	 */
+	public static PolyBezier createPolyBezier(Random random, int segmentCount,
+			Rectangle bounds) {
+		BezierCurve[] segments = new BezierCurve[segmentCount];
+		double dx = bounds.getWidth() / segmentCount;
+		Point start = new Point(bounds.getX(),
+				bounds.getY() + random.nextDouble() * bounds.getHeight());
+		for (int i = 0; i < segmentCount; i++) {
+			Rectangle segmentBounds = new Rectangle(bounds.getX() + i * dx,
+					bounds.getY(), dx, bounds.getHeight());
+			Point[] points = createPoints(random, 4, segmentBounds);
+			// connect the segments and order the control points from left
+			// to right
+			Arrays.sort(points, 1, 3, new Comparator<Point>() {
+				@Override
+				public int compare(Point p, Point q) {
+					return Double.compare(p.x, q.x);
+				}
+			});
+			points[0] = start;
+			points[3].x = segmentBounds.getX() + dx;
+			segments[i] = new BezierCurve(points);
+			start = points[3];
+		}
+		return new PolyBezier(segments);
+	}
+
+	/**
+	 * Creates the given number of {@link Point}s within the given bounds.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param count
+	 *            The number of {@link Point}s to create.
+	 * @param bounds
+	 *            The bounds within which to place the {@link Point}s.
+	 * @return The {@link Point}s.
+	 */
+	public static Point[] createPoints(Random random, int count,
+			Rectangle bounds) {
+		Point[] points = new Point[count];
+		for (int i = 0; i < count; i++) {
+			points[i] = new Point(
+					bounds.getX() + random.nextDouble() * bounds.getWidth(),
+					bounds.getY() + random.nextDouble() * bounds.getHeight());
+		}
+		return points;
+	}
+
+	/**
+	 * Creates the given number of {@link Rectangle}s within the given bounds,
+	 * whose width and height do not exceed the given maximum size.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param count
+	 *            The number of {@link Rectangle}s to create.
+	 * @param bounds
+	 *            The bounds within which to place the {@link Rectangle}s.
+	 * @param maxSize
+	 *            The maximum width and height of the {@link Rectangle}s.
+	 * @return The {@link Rectangle}s.
+	 */
+	public static Rectangle[] createRectangles(Random random, int count,
+			Rectangle bounds, double maxSize) {
+		Rectangle[] rectangles = new Rectangle[count];
+		Point[] locations = createPoints(random, count, bounds);
+		for (int i = 0; i < count; i++) {
+			rectangles[i] = new Rectangle(locations[i].x, locations[i].y,
+					1 + random.nextDouble() * maxSize,
+					1 + random.nextDouble() * maxSize);
+		}
+		return rectangles;
+	}
+
+	/**
+	 * Creates a simple (i.e. not self-intersecting), star-shaped
+	 * {@link Polygon} with the given number of vertices around the given
+	 * center, whose vertices have a distance between half the given radius
+	 * and the given radius to the center.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param pointCount
+	 *            The number of vertices.
+	 * @param center
+	 *            The center of the {@link Polygon}.
+	 * @param radius
+	 *            The maximum distance of a vertex to the center.
+	 * @return The {@link Polygon}.
+	 */
+	public static Polygon createStarPolygon(Random random, int pointCount,
+			Point center, double radius) {
+		Point[] points = new Point[pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			double angle = 2 * Math.PI * i / pointCount;
+			double distance = radius * (0.5 + 0.5 * random.nextDouble());
+			points[i] = new Point(center.x + distance * Math.cos(angle),
+					center.y + distance * Math.sin(angle));
+		}
+		return new Polygon(points);
+	}
+
+	private Workloads() {
+		// utility class
+	}
+}
@@ -24,10 +24,10 @@ import org.junit.runners.Suite.SuiteClasses;
 		EllipseTests.class, IGeometryTests.class, LineTests.class,
 		PathTests.class, PieTests.class, PointListUtilsTests.class,
 		PointTests.class, PolygonTests.class, PolylineTests.class,
-		PrecisionUtilsTests.class, QuadraticCurveTests.class,
-		RectangleTests.class, RegionTests.class, RingTests.class,
-		RoundedRectangleTests.class, StraightTests.class, VectorTests.class,
-		Vector3DTests.class })
+		PrecisionUtilsTests.class, PreparedShapeTests.class,
+		QuadraticCurveTests.class, RectangleTests.class, RegionTests.class,
+		RingTests.class, RoundedRectangleTests.class, RTreeTests.class,
+		StraightTests.class, VectorTests.class, Vector3DTests.class })
 public class AllTests {
 
 }
@@ -13,6 +13,7 @@
 package org.eclipse.gef.geometry.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -26,6 +27,7 @@ import org.eclipse.gef.geometry.planar.CubicCurve;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.QuadraticCurve;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -260,6 +262,43 @@ public class CurveUtilsTests {
 		assertEquals(0, yAxis.getIntersections(curve).length);
 	}
 
+	@Test
+	public void test_getIntersections_many_segments() {
+		// zig-zag polyline crossing a horizontal line once per segment
+		Point[] points = new Point[1001];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new Point(i, i % 2 == 0 ? 0 : 2);
+		}
+		Polyline zigZag = new Polyline(points);
+		Line line = new Line(-1, 1, 1001, 1);
+		assertEquals(1000, zigZag.getIntersections(line).length);
+		assertEquals(1000, line.getIntersections(zigZag).length);
+		assertTrue(zigZag.intersects(line));
+
+		// two many-sided polygons approximating overlapping circles
+		Polygon p1 = new Polygon(getRegularPolygonPoints(0, 0, 100, 999));
+		Polygon p2 = new Polygon(getRegularPolygonPoints(100, 0, 100, 999));
+		assertEquals(2,
+				p1.getOutline().getIntersections(p2.getOutline()).length);
+
+		// disjoint polygons do not intersect
+		Polygon p3 = p2.getTranslated(1000, 1000);
+		assertEquals(0,
+				p1.getOutline().getIntersections(p3.getOutline()).length);
+		assertFalse(p1.getOutline().intersects(p3.getOutline()));
+	}
+
+	private static Point[] getRegularPolygonPoints(double cx, double cy,
+			double radius, int n) {
+		Point[] points = new Point[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			points[i] = new Point(cx + radius * Math.cos(angle),
+					cy + radius * Math.sin(angle));
+		}
+		return points;
+	}
+
 	@Test
 	public void test_getIntersections_overlapping() {
 		/*
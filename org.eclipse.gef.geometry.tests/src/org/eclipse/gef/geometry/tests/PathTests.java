@@ -18,8 +18,11 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Path.Segment;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
@@ -35,6 +38,36 @@ public class PathTests {
 		assertTrue(unionPath.contains(r1.getCenter()));
 	}
 
+	@Test
+	public void test_CAG_curved() {
+		// the curved segments of the operands are preserved
+		Path circle = new Ellipse(0, 0, 100, 100).toPath();
+		Path rect = new Rectangle(50, 0, 100, 100).toPath();
+		Path[] results = new Path[] { Path.add(circle, rect), Path.intersect(circle, rect),
+				Path.subtract(circle, rect), Path.exclusiveOr(circle, rect) };
+		for (Path result : results) {
+			int curves = 0;
+			int lines = 0;
+			for (Segment s : result.getSegments()) {
+				if (s.getType() == Segment.CUBIC_TO || s.getType() == Segment.QUAD_TO) {
+					curves++;
+				} else if (s.getType() == Segment.LINE_TO) {
+					lines++;
+				}
+			}
+			assertTrue(curves > 0);
+			assertTrue(curves + lines < 16);
+		}
+		assertTrue(results[0].contains(new Point(10, 50)));
+		assertTrue(results[0].contains(new Point(140, 50)));
+		assertTrue(results[1].contains(new Point(75, 50)));
+		assertFalse(results[1].contains(new Point(25, 50)));
+		assertTrue(results[2].contains(new Point(25, 50)));
+		assertFalse(results[2].contains(new Point(75, 50)));
+		assertFalse(results[3].contains(new Point(75, 50)));
+		assertTrue(results[3].contains(new Point(140, 50)));
+	}
+
 	@Test
 	public void test_CAG_exclusiveOr() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -69,6 +102,55 @@ public class PathTests {
 		assertFalse(differencePath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_CAG_shared_edges() {
+		// adjacent rectangles share an edge, which is not part of the union
+		Rectangle r0 = new Rectangle(0, 0, 50, 100);
+		Rectangle r1 = new Rectangle(50, 0, 50, 100);
+		Path unionPath = Path.add(r0.toPath(), r1.toPath());
+		assertEquals(5, unionPath.getSegments().length);
+		assertTrue(unionPath.contains(new Point(50, 50)));
+		assertTrue(unionPath.contains(new Rectangle(10, 10, 80, 80)));
+
+		// identical rectangles cancel each other out
+		Path xorPath = Path.exclusiveOr(r0.toPath(), r0.toPath());
+		assertEquals(0, xorPath.getSegments().length);
+		assertFalse(xorPath.contains(r0.getCenter()));
+	}
+
+	@Test
+	public void test_contains_curved() {
+		Path path = new Path().moveTo(0, 50)
+				.cubicTo(0, -16, 100, -16, 100, 50)
+				.cubicTo(100, 116, 0, 116, 0, 50).close();
+		assertTrue(path.contains(new Point(50, 50)));
+		assertTrue(path.contains(new Point(50, 1)));
+		assertFalse(path.contains(new Point(50, -1)));
+		assertFalse(path.contains(new Point(2, 2)));
+
+		assertTrue(path.contains(new Rectangle(30, 30, 40, 40)));
+		assertFalse(path.contains(new Rectangle(0, 0, 20, 20)));
+		assertTrue(path.touches(new Rectangle(0, 0, 20, 20)));
+		assertFalse(path.touches(new Rectangle(0, 0, 2, 2)));
+
+		// the cached outline is updated when the path is modified
+		assertFalse(path.contains(new Point(150, 50)));
+		path.moveTo(120, 40).lineTo(160, 40).lineTo(160, 60).close();
+		assertTrue(path.contains(new Point(150, 50)));
+	}
+
+	@Test
+	public void test_contains_windingRule() {
+		// two nested squares with the same orientation
+		Path path = new Path(Path.WIND_NON_ZERO).moveTo(0, 0).lineTo(100, 0)
+				.lineTo(100, 100).lineTo(0, 100).close().moveTo(25, 25)
+				.lineTo(75, 25).lineTo(75, 75).lineTo(25, 75).close();
+		assertTrue(path.contains(new Point(50, 50)));
+		path.setWindingRule(Path.WIND_EVEN_ODD);
+		assertFalse(path.contains(new Point(50, 50)));
+		assertTrue(path.contains(new Point(10, 10)));
+	}
+
 	@Test
 	public void test_getBounds_cubic() {
 		// create path using all segment types
@@ -160,4 +242,16 @@ public class PathTests {
 		assertEquals(outlineBounds, bounds);
 	}
 
+	@Test
+	public void test_getTransformed() {
+		Path path = new Rectangle(0, 0, 100, 50).toPath();
+		path.setWindingRule(Path.WIND_EVEN_ODD);
+		Path transformed = path
+				.getTransformed(new AffineTransform().translate(10, 20));
+		assertEquals(Path.WIND_EVEN_ODD, transformed.getWindingRule());
+		assertEquals(new Rectangle(10, 20, 100, 50), transformed.getBounds());
+		assertTrue(transformed.contains(new Point(105, 65)));
+		assertFalse(transformed.contains(new Point(5, 15)));
+	}
+
 }
@@ -268,6 +268,21 @@ public class PolygonTests {
 		assertTrue(new Polygon(new Point(), new Point(1, 1)).contains(0, 0));
 	}
 
+	@Test
+	public void test_contains_Point_translated() {
+		Polygon p = new Polygon(0, 0, 10, 0, 10, 10, 0, 10);
+		assertTrue(p.contains(new Point(5, 5)));
+		assertFalse(p.contains(new Point(15, 5)));
+
+		// the cached outline is updated when the polygon is modified
+		p.translate(10, 0);
+		assertFalse(p.contains(new Point(5, 5)));
+		assertTrue(p.contains(new Point(15, 5)));
+		assertTrue(p.contains(new Point(20, 10)));
+		p.scale(2, new Point(10, 0));
+		assertTrue(p.contains(new Point(25, 15)));
+	}
+
 	/**
 	 * Testing points outside the pentagon located on top concave tangent.
 	 * Excluding points of CONCAVE_PENTAGON border - separate test present for
@@ -544,6 +559,34 @@ public class PolygonTests {
 		assertTrue(true);
 	}
 
+	@Test
+	public void test_getTriangulation_coverage() {
+		// comb with horizontal edges, split and merge vertices
+		Polygon comb = new Polygon(0, 0, 50, 0, 50, 30, 40, 30, 40, 10, 30, 10,
+				30, 30, 20, 30, 20, 10, 10, 10, 10, 30, 0, 30);
+		assertTriangulation(comb);
+		// same polygon with reversed orientation
+		assertTriangulation(new Polygon(
+				Point.getReverseCopy(comb.getPoints())));
+		// star with collinear vertices
+		assertTriangulation(new Polygon(0, 0, 10, 5, 20, 10, 10, 20, 20, 30,
+				0, 25, -20, 30, -10, 20, -20, 10, -10, 5));
+	}
+
+	private void assertTriangulation(Polygon p) {
+		Polygon[] triangles = p.getTriangulation();
+		assertEquals(p.getPoints().length - 2, triangles.length);
+		double area = 0;
+		for (Polygon t : triangles) {
+			area += t.getArea();
+			assertTrue(p.contains(t.getCentroid()));
+			// the triangles are oriented like the polygon
+			assertTrue(Math.signum(t.getSignedArea()) == Math
+					.signum(p.getSignedArea()));
+		}
+		assertTrue(PrecisionUtils.equal(p.getArea(), area));
+	}
+
 	@Test
 	public void test_intersects_Ellipse() {
 		assertTrue(RHOMB.touches(new Ellipse(0, 0, 4, 4)));
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.CurvedPolygon;
+import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.geometry.planar.IShape;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.PreparedShape;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Ring;
+import org.junit.Test;
+
+public class PreparedShapeTests {
+
+	private static final Point[] POINTS = new Point[] { new Point(5, 5),
+			new Point(15, 5), new Point(25, 5), new Point(5, 15),
+			new Point(15, 15), new Point(10, 10), new Point(0, 0),
+			new Point(-1, 5) };
+
+	private static void assertConsistent(IGeometry shape,
+			PreparedShape prepared) {
+		boolean[] expected = new boolean[POINTS.length];
+		double[] coordinates = new double[2 * POINTS.length];
+		for (int i = 0; i < POINTS.length; i++) {
+			expected[i] = shape.contains(POINTS[i]);
+			coordinates[2 * i] = POINTS[i].x;
+			coordinates[2 * i + 1] = POINTS[i].y;
+			assertTrue(expected[i] == prepared.contains(POINTS[i].x,
+					POINTS[i].y));
+		}
+		assertTrue(Arrays.equals(expected, prepared.contains(POINTS)));
+		assertTrue(Arrays.equals(expected, prepared.contains(coordinates)));
+	}
+
+	@Test
+	public void test_contains_batch() {
+		// L-shaped polygon
+		Polygon polygon = new Polygon(0, 0, 20, 0, 20, 10, 10, 10, 10, 20, 0,
+				20);
+		assertTrue(Arrays.equals(
+				new boolean[] { true, true, false, true, false, true, true,
+						false },
+				new PreparedShape(polygon).contains(POINTS)));
+		assertConsistent(polygon, new PreparedShape(polygon));
+		Ring ring = new Ring(polygon);
+		assertConsistent(ring, new PreparedShape(ring));
+		IShape rectangle = new Rectangle(0, 0, 20, 10);
+		assertConsistent(rectangle, new PreparedShape(rectangle));
+		IShape curvedPolygon = new CurvedPolygon(new BezierCurve(0, 0, 20, 0),
+				new BezierCurve(20, 0, 30, 10, 20, 20),
+				new BezierCurve(20, 20, 10, 10, 0, 20),
+				new BezierCurve(0, 20, 0, 0));
+		assertConsistent(curvedPolygon, new PreparedShape(curvedPolygon));
+	}
+
+	@Test
+	public void test_containsAll_intersects() {
+		PreparedShape prepared = new PreparedShape(
+				new Polygon(0, 0, 20, 0, 20, 10, 10, 10, 10, 20, 0, 20));
+		assertTrue(prepared.containsAll(
+				new Point[] { new Point(5, 5), new Point(15, 5) }));
+		assertFalse(prepared.containsAll(POINTS));
+		assertTrue(prepared.intersects(POINTS));
+		assertFalse(prepared.intersects(
+				new Point[] { new Point(15, 15), new Point(25, 5) }));
+	}
+
+	@Test
+	public void test_modification() {
+		Polygon polygon = new Polygon(0, 0, 10, 0, 10, 10, 0, 10);
+		PreparedShape prepared = new PreparedShape(polygon);
+		assertTrue(prepared.contains(new Point(5, 5)));
+		assertFalse(prepared.contains(new Point(15, 5)));
+
+		// the prepared shape reflects modifications of the polygon
+		polygon.translate(10, 0);
+		assertFalse(prepared.contains(new Point(5, 5)));
+		assertTrue(prepared.contains(new Point(15, 5)));
+
+		Ring ring = new Ring(new Polygon(0, 0, 10, 0, 10, 10, 0, 10));
+		prepared = new PreparedShape(ring);
+		assertTrue(prepared.contains(new Point(5, 5)));
+		ring.add(new Polygon(10, 0, 20, 0, 20, 10, 10, 10));
+		assertTrue(prepared.contains(new Point(15, 5)));
+		ring.translate(0, 20);
+		assertFalse(prepared.contains(new Point(15, 5)));
+		assertTrue(prepared.contains(new Point(15, 25)));
+	}
+
+}
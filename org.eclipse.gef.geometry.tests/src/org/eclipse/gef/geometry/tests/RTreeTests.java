@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.internal.utils.RTree;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RTree}.
+ *
+ * @author agent
+ *
+ */
+public class RTreeTests {
+
+	private static void assertSearch(RTree<Integer> tree, double[][] bounds,
+			double minX, double minY, double maxX, double maxY) {
+		HashSet<Integer> expected = new HashSet<>();
+		for (int i = 0; i < bounds.length; i++) {
+			double[] b = bounds[i];
+			if (b != null && b[0] <= maxX && minX <= b[2] && b[1] <= maxY
+					&& minY <= b[3]) {
+				expected.add(i);
+			}
+		}
+		List<Integer> found = tree.search(minX, minY, maxX, maxY);
+		assertEquals(expected.size(), found.size());
+		assertEquals(expected, new HashSet<>(found));
+	}
+
+	@Test
+	public void test_insert_remove() {
+		RTree<String> tree = new RTree<>();
+		assertEquals(0, tree.size());
+		assertTrue(tree.search(0, 0, 100, 100).isEmpty());
+
+		tree.insert("a", 0, 0, 10, 10);
+		tree.insert("b", 20, 20, 30, 30);
+		assertEquals(2, tree.size());
+		assertTrue(tree.contains("a"));
+		assertEquals(Collections.singletonList("a"), tree.search(5, 5, 5, 5));
+		// closed bounds
+		assertEquals(Collections.singletonList("b"),
+				tree.search(30, 30, 40, 40));
+		assertTrue(tree.search(11, 11, 19, 19).isEmpty());
+
+		// update
+		tree.insert("a", 50, 50, 60, 60);
+		assertEquals(2, tree.size());
+		assertArrayEquals(new double[] { 50, 50, 60, 60 }, tree.getBounds("a"),
+				0);
+		assertTrue(tree.search(5, 5, 5, 5).isEmpty());
+
+		assertTrue(tree.remove("a"));
+		assertFalse(tree.remove("a"));
+		assertFalse(tree.contains("a"));
+		assertNull(tree.getBounds("a"));
+		assertEquals(1, tree.size());
+
+		tree.clear();
+		assertEquals(0, tree.size());
+		assertTrue(tree.search(0, 0, 100, 100).isEmpty());
+	}
+
+	@Test
+	public void test_search_random() {
+		Random random = new Random(42);
+		int n = 2000;
+		double[][] bounds = new double[n][];
+		RTree<Integer> tree = new RTree<>();
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			bounds[i] = new double[] { x, y, x + random.nextDouble() * 50,
+					y + random.nextDouble() * 50 };
+			tree.insert(i, bounds[i][0], bounds[i][1], bounds[i][2],
+					bounds[i][3]);
+			items.add(i);
+		}
+		assertEquals(n, tree.size());
+		for (int q = 0; q < 50; q++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			assertSearch(tree, bounds, x, y, x + random.nextDouble() * 200,
+					y + random.nextDouble() * 200);
+		}
+
+		// move some items and remove others
+		Collections.shuffle(items, random);
+		for (int i = 0; i < n / 2; i++) {
+			int item = items.get(i);
+			if (i % 2 == 0) {
+				assertTrue(tree.remove(item));
+				bounds[item] = null;
+			} else {
+				double x = random.nextDouble() * 1000;
+				double y = random.nextDouble() * 1000;
+				bounds[item] = new double[] { x, y, x + 10, y + 10 };
+				tree.insert(item, x, y, x + 10, y + 10);
+			}
+		}
+		assertEquals(n - n / 4, tree.size());
+		for (int q = 0; q < 50; q++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			assertSearch(tree, bounds, x, y, x + random.nextDouble() * 200,
+					y + random.nextDouble() * 200);
+		}
+		assertSearch(tree, bounds, -1, -1, 2000, 2000);
+
+		// remove all remaining items
+		for (int i = 0; i < n; i++) {
+			if (bounds[i] != null) {
+				assertTrue(tree.remove(i));
+			}
+		}
+		assertEquals(0, tree.size());
+		assertTrue(tree.search(-1, -1, 2000, 2000).isEmpty());
+	}
+
+}
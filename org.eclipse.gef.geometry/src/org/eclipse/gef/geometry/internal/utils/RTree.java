@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.internal.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link RTree} is a spatial index, which maps items to axis-aligned
+ * bounding boxes and provides range queries for them. It is implemented as
+ * described by Guttman (R-Trees: A Dynamic Index Structure for Spatial
+ * Searching, 1984), using the quadratic split algorithm. Each item (as
+ * determined by {@link Object#equals(Object)}) may be stored at most once.
+ * <p>
+ * Bounding boxes are closed, i.e. boxes that only share an edge or a corner
+ * are regarded to intersect.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the indexed items.
+ *
+ * @author agent
+ *
+ */
+public class RTree<T> {
+
+	private static final class Node<T> {
+
+		double minX, minY, maxX, maxY;
+
+		Node<T> parent;
+
+		// child nodes (of inner nodes) or entries (of leaf nodes); null for
+		// entries
+		final List<Node<T>> children;
+
+		final boolean leaf;
+
+		// the item of an entry
+		final T item;
+
+		Node(boolean leaf) {
+			this.leaf = leaf;
+			this.children = new ArrayList<>(MAX_ENTRIES + 1);
+			this.item = null;
+			resetBounds();
+		}
+
+		Node(T item, double minX, double minY, double maxX, double maxY) {
+			this.leaf = false;
+			this.children = null;
+			this.item = item;
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+		}
+
+		double area() {
+			return (maxX - minX) * (maxY - minY);
+		}
+
+		void include(Node<T> n) {
+			minX = Math.min(minX, n.minX);
+			minY = Math.min(minY, n.minY);
+			maxX = Math.max(maxX, n.maxX);
+			maxY = Math.max(maxY, n.maxY);
+		}
+
+		boolean intersects(double minX, double minY, double maxX,
+				double maxY) {
+			return this.minX <= maxX && minX <= this.maxX && this.minY <= maxY
+					&& minY <= this.maxY;
+		}
+
+		double enlargedArea(Node<T> n) {
+			return (Math.max(maxX, n.maxX) - Math.min(minX, n.minX))
+					* (Math.max(maxY, n.maxY) - Math.min(minY, n.minY));
+		}
+
+		void recomputeBounds() {
+			resetBounds();
+			for (Node<T> child : children) {
+				include(child);
+			}
+		}
+
+		void resetBounds() {
+			minX = minY = Double.POSITIVE_INFINITY;
+			maxX = maxY = Double.NEGATIVE_INFINITY;
+		}
+	}
+
+	private static final int MAX_ENTRIES = 16;
+
+	private static final int MIN_ENTRIES = 4;
+
+	private Node<T> root = new Node<>(true);
+
+	private final Map<T, Node<T>> entries = new HashMap<>();
+
+	private static <T> void collectEntries(Node<T> node, List<Node<T>> result) {
+		if (node.leaf) {
+			result.addAll(node.children);
+		} else {
+			for (Node<T> child : node.children) {
+				collectEntries(child, result);
+			}
+		}
+	}
+
+	/**
+	 * Removes all items from this {@link RTree}.
+	 */
+	public void clear() {
+		root = new Node<>(true);
+		entries.clear();
+	}
+
+	/**
+	 * Tests whether the given item is contained in this {@link RTree}.
+	 *
+	 * @param item
+	 *            The item to test.
+	 * @return <code>true</code> if the item is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(T item) {
+		return entries.containsKey(item);
+	}
+
+	private Node<T> chooseLeaf(Node<T> entry) {
+		Node<T> node = root;
+		while (!node.leaf) {
+			Node<T> best = node.children.get(0);
+			double bestEnlargement = Double.POSITIVE_INFINITY;
+			double bestArea = Double.POSITIVE_INFINITY;
+			for (Node<T> child : node.children) {
+				double area = child.area();
+				double enlargement = child.enlargedArea(entry) - area;
+				if (enlargement < bestEnlargement
+						|| enlargement == bestEnlargement && area < bestArea) {
+					best = child;
+					bestEnlargement = enlargement;
+					bestArea = area;
+				}
+			}
+			node = best;
+		}
+		return node;
+	}
+
+	private void condenseTree(Node<T> leaf) {
+		List<Node<T>> orphans = new ArrayList<>();
+		Node<T> node = leaf;
+		while (node != root) {
+			Node<T> parent = node.parent;
+			if (node.children.size() < MIN_ENTRIES) {
+				parent.children.remove(node);
+				collectEntries(node, orphans);
+			} else {
+				node.recomputeBounds();
+			}
+			node = parent;
+		}
+		root.recomputeBounds();
+		while (!root.leaf && root.children.size() == 1) {
+			root = root.children.get(0);
+			root.parent = null;
+		}
+		if (!root.leaf && root.children.isEmpty()) {
+			root = new Node<>(true);
+		}
+		for (Node<T> orphan : orphans) {
+			insert(orphan);
+		}
+	}
+
+	/**
+	 * Returns the bounds of the given item as an array of the form
+	 * <code>[minX, minY, maxX, maxY]</code>, or <code>null</code> if the item
+	 * is not contained in this {@link RTree}.
+	 *
+	 * @param item
+	 *            The item for which to return the bounds.
+	 * @return The bounds of the given item or <code>null</code>.
+	 */
+	public double[] getBounds(T item) {
+		Node<T> entry = entries.get(item);
+		if (entry == null) {
+			return null;
+		}
+		return new double[] { entry.minX, entry.minY, entry.maxX, entry.maxY };
+	}
+
+	private void insert(Node<T> entry) {
+		Node<T> leaf = chooseLeaf(entry);
+		entry.parent = leaf;
+		leaf.children.add(entry);
+		// adjust the tree, splitting overfull nodes
+		Node<T> node = leaf;
+		Node<T> split = null;
+		if (node.children.size() > MAX_ENTRIES) {
+			split = split(node);
+		} else {
+			node.include(entry);
+		}
+		while (node != root) {
+			Node<T> parent = node.parent;
+			if (split != null) {
+				split.parent = parent;
+				parent.children.add(split);
+				split = parent.children.size() > MAX_ENTRIES ? split(parent)
+						: null;
+				if (split == null) {
+					parent.recomputeBounds();
+				}
+			} else {
+				parent.include(node);
+			}
+			node = parent;
+		}
+		if (split != null) {
+			// grow the tree
+			Node<T> newRoot = new Node<>(false);
+			newRoot.children.add(root);
+			newRoot.children.add(split);
+			root.parent = newRoot;
+			split.parent = newRoot;
+			newRoot.recomputeBounds();
+			root = newRoot;
+		}
+	}
+
+	/**
+	 * Inserts the given item with the given bounds into this {@link RTree}. If
+	 * the item is already contained, its bounds are updated.
+	 *
+	 * @param item
+	 *            The item to insert.
+	 * @param minX
+	 *            The minimum x coordinate of the item's bounds.
+	 * @param minY
+	 *            The minimum y coordinate of the item's bounds.
+	 * @param maxX
+	 *            The maximum x coordinate of the item's bounds.
+	 * @param maxY
+	 *            The maximum y coordinate of the item's bounds.
+	 */
+	public void insert(T item, double minX, double minY, double maxX,
+			double maxY) {
+		if (item == null) {
+			throw new IllegalArgumentException(
+					"The given item may not be null.");
+		}
+		Node<T> entry = entries.get(item);
+		if (entry != null) {
+			if (entry.minX == minX && entry.minY == minY && entry.maxX == maxX
+					&& entry.maxY == maxY) {
+				return;
+			}
+			remove(item);
+		}
+		entry = new Node<>(item, minX, minY, maxX, maxY);
+		entries.put(item, entry);
+		insert(entry);
+	}
+
+	/**
+	 * Removes the given item from this {@link RTree}.
+	 *
+	 * @param item
+	 *            The item to remove.
+	 * @return <code>true</code> if the item was contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean remove(T item) {
+		Node<T> entry = entries.remove(item);
+		if (entry == null) {
+			return false;
+		}
+		Node<T> leaf = entry.parent;
+		leaf.children.remove(entry);
+		entry.parent = null;
+		condenseTree(leaf);
+		return true;
+	}
+
+	/**
+	 * Returns all items whose bounds intersect the given bounds.
+	 *
+	 * @param minX
+	 *            The minimum x coordinate of the query bounds.
+	 * @param minY
+	 *            The minimum y coordinate of the query bounds.
+	 * @param maxX
+	 *            The maximum x coordinate of the query bounds.
+	 * @param maxY
+	 *            The maximum y coordinate of the query bounds.
+	 * @return A new {@link List} containing all items whose bounds intersect
+	 *         the given bounds.
+	 */
+	public List<T> search(double minX, double minY, double maxX, double maxY) {
+		List<T> result = new ArrayList<>();
+		if (root.children.isEmpty()) {
+			return result;
+		}
+		List<Node<T>> stack = new ArrayList<>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Node<T> node = stack.remove(stack.size() - 1);
+			for (Node<T> child : node.children) {
+				if (child.intersects(minX, minY, maxX, maxY)) {
+					if (node.leaf) {
+						result.add(child.item);
+					} else {
+						stack.add(child);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of items contained in this {@link RTree}.
+	 *
+	 * @return The number of items.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Splits the given overfull node (using the quadratic split algorithm),
+	 * keeping one group of its children in the node and moving the other
+	 * group into a new sibling node, which is returned.
+	 */
+	private Node<T> split(Node<T> node) {
+		List<Node<T>> remaining = new ArrayList<>(node.children);
+		// pick seeds that would waste the most area if put together
+		int seed0 = 0, seed1 = 1;
+		double worst = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < remaining.size(); i++) {
+			Node<T> a = remaining.get(i);
+			for (int j = i + 1; j < remaining.size(); j++) {
+				Node<T> b = remaining.get(j);
+				double waste = a.enlargedArea(b) - a.area() - b.area();
+				if (waste > worst) {
+					worst = waste;
+					seed0 = i;
+					seed1 = j;
+				}
+			}
+		}
+		Node<T> sibling = new Node<>(node.leaf);
+		node.children.clear();
+		node.resetBounds();
+		Node<T> a = remaining.get(seed0);
+		Node<T> b = remaining.get(seed1);
+		// remove the higher index first
+		remaining.remove(seed1);
+		remaining.remove(seed0);
+		node.children.add(a);
+		node.include(a);
+		sibling.children.add(b);
+		sibling.include(b);
+
+		while (!remaining.isEmpty()) {
+			// assign all remaining children to a group if it would otherwise
+			// not reach the minimum number of entries
+			if (node.children.size() + remaining.size() == MIN_ENTRIES) {
+				for (Node<T> child : remaining) {
+					node.children.add(child);
+					node.include(child);
+				}
+				break;
+			}
+			if (sibling.children.size() + remaining.size() == MIN_ENTRIES) {
+				for (Node<T> child : remaining) {
+					sibling.children.add(child);
+					sibling.include(child);
+				}
+				break;
+			}
+			// pick the child with the greatest preference for one group
+			int next = 0;
+			double maxDifference = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < remaining.size(); i++) {
+				Node<T> child = remaining.get(i);
+				double d0 = node.enlargedArea(child) - node.area();
+				double d1 = sibling.enlargedArea(child) - sibling.area();
+				double difference = Math.abs(d0 - d1);
+				if (difference > maxDifference) {
+					maxDifference = difference;
+					next = i;
+				}
+			}
+			Node<T> child = remaining.remove(next);
+			double d0 = node.enlargedArea(child) - node.area();
+			double d1 = sibling.enlargedArea(child) - sibling.area();
+			Node<T> group;
+			if (d0 != d1) {
+				group = d0 < d1 ? node : sibling;
+			} else if (node.area() != sibling.area()) {
+				group = node.area() < sibling.area() ? node : sibling;
+			} else {
+				group = node.children.size() <= sibling.children.size() ? node
+						: sibling;
+			}
+			group.children.add(child);
+			group.include(child);
+		}
+		for (Node<T> child : sibling.children) {
+			child.parent = sibling;
+		}
+		return sibling;
+	}
+
+}
@@ -194,6 +194,15 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).translate(pt);
 	}
 
+	/**
+	 * Called after the {@link Point}s of this
+	 * {@link AbstractPointListBasedGeometry} have been modified in-place, so
+	 * that subclasses may discard any data they derived from them.
+	 */
+	void pointsChanged() {
+		// nothing to do by default
+	}
+
 	/**
 	 * Rotates this {@link AbstractPointListBasedGeometry} counter-clockwise
 	 * (CCW) by the given {@link Angle} around its centroid (see
@@ -351,6 +360,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 			p.x = np.x;
 			p.y = np.y;
 		}
+		pointsChanged();
 		return (T) this;
 	}
 
@@ -363,6 +373,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@SuppressWarnings("unchecked")
 	public T translate(double dx, double dy) {
 		Point.translate(points, dx, dy);
+		pointsChanged();
 		return (T) this;
 	}
 
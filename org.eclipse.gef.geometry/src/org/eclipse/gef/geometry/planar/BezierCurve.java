@@ -31,7 +31,6 @@ import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
-import org.eclipse.gef.geometry.projective.Straight3D;
 import org.eclipse.gef.geometry.projective.Vector3D;
 
 /**
@@ -656,8 +655,8 @@ public class BezierCurve extends AbstractGeometry
 
 	/**
 	 * <p>
-	 * A {@link FatLine} combines a {@link Straight3D} with a positive and
-	 * negative distance called dmax and dmin, respectively.
+	 * A {@link FatLine} combines a straight line (in implicit form) with a
+	 * positive and negative distance called dmax and dmin, respectively.
 	 * </p>
 	 * <p>
 	 * It is used to apply a geometric clipping algorithm for finding
@@ -668,42 +667,77 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private static class FatLine {
 
-		public static FatLine from(BezierCurve c, boolean ortho) {
-			FatLine L = new FatLine();
-			L.dmin = L.dmax = 0;
+		/**
+		 * Coefficients of the implicit line equation
+		 * <code>lx * x + ly * y + lz = 0</code>, as well as the length of the
+		 * normal vector <code>(lx, ly)</code>.
+		 */
+		private double lx, ly, lz, f;
 
-			L.line = Straight3D.through(c.points[0],
-					c.points[c.points.length - 1]);
-			if (L.line == null) {
-				return null;
+		public double dmin, dmax;
+
+		/**
+		 * Initializes this {@link FatLine} so that it bounds the
+		 * {@link BezierCurve} that is specified by the given control point
+		 * coordinates.
+		 *
+		 * @param c
+		 *            the control point coordinates (see
+		 *            {@link BezierCurve#points})
+		 * @param n
+		 *            the number of control points stored in <i>c</i>
+		 * @param ortho
+		 *            <code>true</code> to construct the {@link FatLine}
+		 *            orthogonal to the base line of the curve,
+		 *            <code>false</code> to construct it parallel to the base
+		 *            line of the curve
+		 * @return <code>false</code> if the curve is degenerated, i.e. the
+		 *         {@link FatLine} cannot be constructed, otherwise
+		 *         <code>true</code>
+		 */
+		public boolean set(double[] c, int n, boolean ortho) {
+			dmin = dmax = 0;
+
+			// straight through the start and end point (cross product of
+			// their homogeneous coordinates)
+			double sx = c[0], sy = c[1];
+			double ex = c[2 * n - 2], ey = c[2 * n - 1];
+			lx = sy - ey;
+			ly = ex - sx;
+			lz = sx * ey - sy * ex;
+			f = Math.sqrt(lx * lx + ly * ly);
+			if (f == 0d) {
+				return false;
 			}
 
 			if (ortho) {
-				L.line = L.line.getOrtho();
-			}
-			if (L.line == null) {
-				return null;
+				// straight through the start point and the start point
+				// translated by the normal vector
+				ex = sx + lx;
+				ey = sy + ly;
+				lx = sy - ey;
+				ly = ex - sx;
+				lz = sx * ey - sy * ex;
+				f = Math.sqrt(lx * lx + ly * ly);
+				if (f == 0d) {
+					return false;
+				}
 			}
 
-			for (int i = 0; i < c.points.length; i++) {
-				double d = L.line.getSignedDistanceCW(c.points[i]);
-				if (d < L.dmin) {
-					L.dmin = d;
-				} else if (d > L.dmax) {
-					L.dmax = d;
+			for (int i = 0; i < n; i++) {
+				double d = getSignedDistanceCW(c[2 * i], c[2 * i + 1]);
+				if (d < dmin) {
+					dmin = d;
+				} else if (d > dmax) {
+					dmax = d;
 				}
 			}
 
-			return L;
+			return true;
 		}
 
-		public Straight3D line;
-
-		public double dmin, dmax;
-
-		private FatLine() {
-			line = null;
-			dmin = dmax = 0;
+		public double getSignedDistanceCW(double x, double y) {
+			return (lx * x + ly * y + lz) / f;
 		}
 
 	}
@@ -927,12 +961,13 @@ public class BezierCurve extends AbstractGeometry
 			dst.qi = src.qi;
 		}
 
-		private static boolean equals(Vector3D v1, Vector3D v2,
+		private static boolean equals(BezierCurve c, double t1, double t2,
 				int precisionShift) {
-			return PrecisionUtils.equal(v1.x / v1.z, v2.x / v2.z,
-					precisionShift)
-					&& PrecisionUtils.equal(v1.y / v1.z, v2.y / v2.z,
-							precisionShift);
+			int n = c.points.length / 2;
+			return PrecisionUtils.equal(evaluate(c.points, n, 0, t1),
+					evaluate(c.points, n, 0, t2), precisionShift)
+					&& PrecisionUtils.equal(evaluate(c.points, n, 1, t1),
+							evaluate(c.points, n, 1, t2), precisionShift);
 		}
 
 		/**
@@ -1001,10 +1036,8 @@ public class BezierCurve extends AbstractGeometry
 		 *         converge, otherwise <code>false</code>
 		 */
 		public boolean converges(int shift) {
-			return (pi.converges(shift)
-					|| equals(p.getHC(pi.a), p.getHC(pi.b), shift))
-					&& (qi.converges(shift)
-							|| equals(q.getHC(qi.a), q.getHC(qi.b), shift));
+			return (pi.converges(shift) || equals(p, pi.a, pi.b, shift))
+					&& (qi.converges(shift) || equals(q, qi.a, qi.b, shift));
 		}
 
 		/**
@@ -1015,7 +1048,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         point, otherwise <code>false</code>.
 		 */
 		public boolean convergesP() {
-			return equals(p.getHC(pi.a), p.getHC(pi.b), 0);
+			return equals(p, pi.a, pi.b, 0);
 		}
 
 		/**
@@ -1026,7 +1059,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         single point, otherwise <code>false</code>.
 		 */
 		public boolean convergesQ() {
-			return equals(q.getHC(qi.a), q.getHC(qi.b), 0);
+			return equals(q, qi.a, qi.b, 0);
 		}
 
 		/**
@@ -1607,6 +1640,94 @@ public class BezierCurve extends AbstractGeometry
 		}
 	}
 
+	/**
+	 * Scratch buffers that are shared by the Bezier clipping routines
+	 * ({@link BezierCurve#findIntersectionChunks(IntervalPair, Set, Set, Scratch)}
+	 * and {@link BezierCurve#findSinglePreciseIntersection(IntervalPair, Scratch)}
+	 * ), so that the clipped sub-curves and {@link FatLine}s of an iteration do
+	 * not have to be allocated.
+	 */
+	private static final class Scratch {
+
+		/**
+		 * The control point coordinates of the clipped first and second
+		 * sub-curve of the current {@link IntervalPair}, and a temporary buffer
+		 * used for subdivision.
+		 */
+		private final double[] p, q, tmp;
+
+		/**
+		 * The number of control points stored in {@link #p} and {@link #q}.
+		 */
+		private int pn, qn;
+
+		/**
+		 * The parameter interval computed by the clipping.
+		 */
+		private final double[] interval = new double[2];
+
+		private final FatLine l1 = new FatLine(), l2 = new FatLine();
+
+		public Scratch(BezierCurve c1, BezierCurve c2) {
+			int length = Math.max(c1.points.length, c2.points.length);
+			p = new double[length];
+			q = new double[length];
+			tmp = new double[length];
+		}
+
+		/**
+		 * Stores the clipped sub-curves of the given {@link IntervalPair} in
+		 * {@link #p} and {@link #q}.
+		 *
+		 * @param ip
+		 *            the {@link IntervalPair} to clip
+		 */
+		public void clip(IntervalPair ip) {
+			pn = BezierCurve.clip(ip.p.points, ip.p.points.length / 2,
+					Math.max(ip.pi.a, 0), Math.min(ip.pi.b, 1), p, tmp);
+			qn = BezierCurve.clip(ip.q.points, ip.q.points.length / 2,
+					Math.max(ip.qi.a, 0), Math.min(ip.qi.b, 1), q, tmp);
+		}
+
+		/**
+		 * Clips {@link #p} to the "parallel" and the "orthogonal"
+		 * {@link FatLine} around {@link #q} and returns the smaller of both
+		 * resulting parameter intervals.
+		 *
+		 * @return the smaller parameter {@link Interval}, or <code>null</code>
+		 *         if {@link #q} is degenerated
+		 */
+		public Interval clipToFatLines() {
+			if (!l1.set(q, qn, PARALLEL) || !l2.set(q, qn, ORTHOGONAL)) {
+				return null;
+			}
+			clipTo(p, pn, l1, tmp, interval);
+			Interval parallel = new Interval(interval[0], interval[1]);
+			clipTo(p, pn, l2, tmp, interval);
+			Interval ortho = new Interval(interval[0], interval[1]);
+			return Interval.min(parallel, ortho);
+		}
+
+		/**
+		 * Tests if the control bounds of {@link #p} and {@link #q} touch.
+		 *
+		 * @return <code>true</code> if the control bounds of the clipped
+		 *         sub-curves touch, otherwise <code>false</code>
+		 */
+		public boolean touches() {
+			for (int dim = 0; dim < 2; dim++) {
+				getExtent(p, pn, dim, interval);
+				double pmin = interval[0], pmax = interval[1];
+				getExtent(q, qn, dim, interval);
+				if (!PrecisionUtils.smallerEqual(interval[0], pmax)
+						|| !PrecisionUtils.greaterEqual(interval[1], pmin)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	private static final long serialVersionUID = 1L;
 
 	private static final int CHUNK_SHIFT = -3;
@@ -1666,6 +1787,151 @@ public class BezierCurve extends AbstractGeometry
 		return PrecisionUtils.greaterEqual(p.y, q.y);
 	};
 
+	/**
+	 * Computes the control point coordinates of the sub-curve over the
+	 * parameter interval <code>[s;e]</code> of the {@link BezierCurve} that is
+	 * specified by the given control point coordinates. The result is written
+	 * to <i>dst</i> which needs to provide (at least) as many elements as
+	 * <i>src</i>.
+	 *
+	 * @param src
+	 *            the control point coordinates of the {@link BezierCurve} to
+	 *            clip (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>src</i>
+	 * @param s
+	 *            the start parameter value of the sub-curve
+	 * @param e
+	 *            the end parameter value of the sub-curve
+	 * @param dst
+	 *            the array to which the control point coordinates of the
+	 *            sub-curve are written
+	 * @param tmp
+	 *            a scratch buffer providing as many elements as <i>src</i>
+	 * @return the number of control points written to <i>dst</i>
+	 */
+	private static int clip(double[] src, int n, double s, double e,
+			double[] dst, double[] tmp) {
+		if (s == 1) {
+			// collapse to the end point
+			dst[0] = src[2 * n - 2];
+			dst[1] = src[2 * n - 1];
+			return 1;
+		}
+		subdivide(src, n, s, null, tmp, tmp);
+		subdivide(tmp, n, (e - s) / (1 - s), dst, null, dst);
+		return n;
+	}
+
+	/**
+	 * <p>
+	 * Firstly, the difference of the {@link BezierCurve} specified by the
+	 * given control point coordinates to the given {@link FatLine} is
+	 * computed. This is another {@link BezierCurve} of which the control
+	 * {@link Point}s are further examined.
+	 * </p>
+	 * <p>
+	 * Every difference control {@link Point} is checked if it is inside the
+	 * given {@link FatLine}. Difference control {@link Point}s within the
+	 * {@link FatLine} represent portions of the {@link BezierCurve} which
+	 * cannot be clipped. Therefore, the {@link Interval} recording the
+	 * parameter range of the {@link BezierCurve} is appropriately modified for
+	 * these difference control {@link Point}s.
+	 * </p>
+	 * <p>
+	 * Subsequently, the {@link Line}s connecting the start/end {@link Point} of
+	 * the difference {@link BezierCurve} and the other control {@link Point}s
+	 * of the difference {@link BezierCurve} are intersected with the
+	 * {@link FatLine}'s border {@link Line}s. The outermost intersections
+	 * identify parameter ranges that can be clipped away from the
+	 * {@link BezierCurve}. Therefore, the {@link Interval} recording the
+	 * parameter range of the {@link BezierCurve} is appropriately modified for
+	 * these intersections.
+	 * </p>
+	 * <p>
+	 * The starting {@link Interval} is chosen to be invalid. The individual
+	 * checks move the lower and upper limits past to one another. If everything
+	 * can be clipped, the resulting {@link Interval} remains invalid. If the
+	 * resulting {@link Interval} <code>I = [a;b]</code> is valid (
+	 * <code>a <= b</code>), then the portions <code>[0;a]</code> and
+	 * <code>[b;1]</code> of the {@link BezierCurve} can be clipped away.
+	 * </p>
+	 *
+	 * @param c
+	 *            the control point coordinates of the {@link BezierCurve} to
+	 *            clip (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>c</i>
+	 * @param L
+	 *            the {@link FatLine} to clip the {@link BezierCurve} to
+	 * @param d
+	 *            a scratch buffer providing (at least) <i>n</i> elements, to
+	 *            which the signed distances of the control points to the
+	 *            {@link FatLine} are written
+	 * @param interval
+	 *            the array to which the new parameter {@link Interval} for
+	 *            the {@link BezierCurve} is written
+	 */
+	private static void clipTo(double[] c, int n, FatLine L, double[] d,
+			double[] interval) {
+		interval[0] = 1;
+		interval[1] = 0;
+
+		// difference points are (i / (n - 1), d[i])
+		double dx = n - 1;
+		for (int i = 0; i < n; i++) {
+			d[i] = L.getSignedDistanceCW(c[2 * i], c[2 * i + 1]);
+		}
+
+		// inside fat line check
+		for (int i = 0; i < n; i++) {
+			if (Double.isNaN(d[i]) || L.dmin <= d[i] && d[i] <= L.dmax) {
+				moveInterval(interval, i / dx);
+			}
+		}
+
+		// intersections from start
+		for (int i = 1; i < n; i++) {
+			clipTo(0, d[0], i / dx, d[i], L, interval);
+		}
+
+		// intersections from end
+		for (int i = 0; i < n - 1; i++) {
+			clipTo(i / dx, d[i], (n - 1) / dx, d[n - 1], L, interval);
+		}
+	}
+
+	/**
+	 * Moves the given parameter interval to the intersections of the
+	 * difference {@link Line} from <code>(x1, y1)</code> to
+	 * <code>(x2, y2)</code> with the border {@link Line}s of the given
+	 * {@link FatLine}.
+	 *
+	 * @param x1
+	 *            the x coordinate of the start point of the difference line
+	 * @param y1
+	 *            the y coordinate of the start point of the difference line
+	 * @param x2
+	 *            the x coordinate of the end point of the difference line
+	 * @param y2
+	 *            the y coordinate of the end point of the difference line
+	 * @param L
+	 *            the {@link FatLine}
+	 * @param interval
+	 *            the parameter interval to modify
+	 */
+	private static void clipTo(double x1, double y1, double x2, double y2,
+			FatLine L, double[] interval) {
+		if (y1 < L.dmin != y2 < L.dmin) {
+			moveInterval(interval,
+					intersectXAxisParallel(x1, y1, x2, y2, L.dmin));
+		}
+		if (y1 < L.dmax != y2 < L.dmax) {
+			moveInterval(interval,
+					intersectXAxisParallel(x1, y1, x2, y2, L.dmax));
+		}
+	}
+
 	/**
 	 * <p>
 	 * Clusters consecutive {@link IntervalPair}s into a new array of
@@ -1757,6 +2023,9 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private static boolean containmentParameter(BezierCurve c,
 			double[] interval, Point p) {
+		int n = c.points.length / 2;
+		double[] clipped = new double[c.points.length];
+		double[] tmp = new double[c.points.length];
 		Stack<Interval> parts = new Stack<>();
 		parts.push(new Interval(interval));
 		while (!parts.empty()) {
@@ -1772,23 +2041,47 @@ public class BezierCurve extends AbstractGeometry
 			Interval left = new Interval(i.a, iMid);
 			Interval right = new Interval(iMid, i.b);
 
-			BezierCurve clipped = c.getClipped(left.a, left.b);
-			Rectangle bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
+			int cn = clip(c.points, n, left.a, left.b, clipped, tmp);
+			if (controlBoundsContain(clipped, cn, p, tmp)) {
 				parts.push(left);
 			}
 
-			clipped = c.getClipped(right.a, right.b);
-			bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
+			cn = clip(c.points, n, right.a, right.b, clipped, tmp);
+			if (controlBoundsContain(clipped, cn, p, tmp)) {
 				parts.push(right);
 			}
 		}
 		return PrecisionUtils.equal(interval[0], interval[1], 1);
 	}
 
+	/**
+	 * Tests if the bounds of the control points specified by the given
+	 * coordinates contain the given {@link Point} (see
+	 * {@link Rectangle#contains(Point)}).
+	 *
+	 * @param c
+	 *            the control point coordinates (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>c</i>
+	 * @param p
+	 *            the {@link Point} to test
+	 * @param extent
+	 *            a scratch buffer providing (at least) two elements
+	 * @return <code>true</code> if the control bounds contain the given
+	 *         {@link Point}, otherwise <code>false</code>
+	 */
+	private static boolean controlBoundsContain(double[] c, int n, Point p,
+			double[] extent) {
+		getExtent(c, n, 0, extent);
+		if (!PrecisionUtils.greaterEqual(p.x, extent[0])
+				|| !PrecisionUtils.smallerEqual(p.x, extent[1])) {
+			return false;
+		}
+		getExtent(c, n, 1, extent);
+		return PrecisionUtils.greaterEqual(p.y, extent[0])
+				&& PrecisionUtils.smallerEqual(p.y, extent[1]);
+	}
+
 	/**
 	 * <p>
 	 * Returns the similarity of the given {@link BezierCurve} to a {@link Line}
@@ -1807,20 +2100,49 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Line}
 	 */
 	private static double distanceToBaseLine(BezierCurve c) {
-		Straight3D baseLine = Straight3D.through(c.points[0],
-				c.points[c.points.length - 1]);
-
-		if (baseLine == null) {
+		FatLine baseLine = new FatLine();
+		int n = c.points.length / 2;
+		if (!baseLine.set(c.points, n, PARALLEL)) {
 			return 0d;
 		}
+		return Math.max(-baseLine.dmin, baseLine.dmax);
+	}
 
-		double maxDistance = 0d;
-		for (int i = 1; i < c.points.length - 1; i++) {
-			maxDistance = Math.max(maxDistance,
-					Math.abs(baseLine.getSignedDistanceCW(c.points[i])));
+	/**
+	 * Evaluates the {@link BezierCurve} that is specified by the given control
+	 * point coordinates at the given parameter value, using Horner's scheme.
+	 *
+	 * @param c
+	 *            the control point coordinates (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>c</i>
+	 * @param dim
+	 *            <code>0</code> to compute the x coordinate, <code>1</code> to
+	 *            compute the y coordinate
+	 * @param t
+	 *            the parameter value, which is expected to lie in the
+	 *            parameter {@link Interval} <code>[0;1]</code>
+	 * @return the x or y coordinate of the {@link Point} at the given
+	 *         parameter value
+	 */
+	private static double evaluate(double[] c, int n, int dim, double t) {
+		if (t < 0 || t > 1) {
+			throw new IllegalArgumentException("t out of range: " + t);
+		}
+
+		// evaluate in homogeneous coordinates, i.e. track the sum of the
+		// basis functions, too
+		double bn = 1, tn = 1, d = 1d - t;
+		double pn = c[dim] * (bn * tn);
+		double wn = bn * tn;
+		for (int i = 1; i < n; i++) {
+			bn = bn * (n - i) / i;
+			tn = tn * t;
+			pn = pn * d + c[2 * i + dim] * (bn * tn);
+			wn = wn * d + bn * tn;
 		}
 
-		return maxDistance;
+		return pn / wn;
 	}
 
 	/**
@@ -1915,7 +2237,7 @@ public class BezierCurve extends AbstractGeometry
 		final double CHUNK_SHIFT_EPSILON = PrecisionUtils
 				.calculateFraction(CHUNK_SHIFT);
 
-		Point poi = ip.p.points[0].toPoint();
+		Point poi = ip.p.getP1();
 		double[] interval = new double[] { 0, 1 };
 		if (containmentParameter(ip.q, interval, poi)) {
 			ip.pi.a = CHUNK_SHIFT_EPSILON;
@@ -1927,7 +2249,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.p.points[ip.p.points.length - 1].toPoint();
+		poi = ip.p.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.q, interval, poi)) {
@@ -1940,7 +2262,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[0].toPoint();
+		poi = ip.q.getP1();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1953,7 +2275,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[ip.q.points.length - 1].toPoint();
+		poi = ip.q.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1987,39 +2309,33 @@ public class BezierCurve extends AbstractGeometry
 	 *            the set of intersection {@link Point}s to store those in case
 	 *            of a degenerated {@link BezierCurve} (or a degenerated
 	 *            sub-curve)
+	 * @param scratch
+	 *            the {@link Scratch} buffers to use for clipping
 	 */
 	private static void findIntersectionChunks(IntervalPair ip,
-			Set<IntervalPair> intervalPairs, Set<Point> intersections) {
+			Set<IntervalPair> intervalPairs, Set<Point> intersections,
+			Scratch scratch) {
 		if (ip.converges(CHUNK_SHIFT)) {
 			intervalPairs.add(ip.getCopy());
 			return;
 		}
 
-		BezierCurve pClipped = ip.getPClipped();
-		BezierCurve qClipped = ip.getQClipped();
-
-		// construct "parallel" and "orthogonal" fat lines
-		FatLine L1 = FatLine.from(qClipped, PARALLEL);
-		FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
+		// clip to the "parallel" and "orthogonal" fat lines and pick smaller
+		// interval range
+		scratch.clip(ip);
+		Interval interval = scratch.clipToFatLines();
 
 		// curve implosion check
-		if (L1 == null || L2 == null) {
+		if (interval == null) {
 			// q is degenerated
-			Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
-			double[] interval = new double[] { 0, 1 };
-			if (poi != null && containmentParameter(ip.p, interval, poi)) {
+			Point poi = ip.q.get(ip.qi.getMid());
+			double[] range = new double[] { 0, 1 };
+			if (poi != null && containmentParameter(ip.p, range, poi)) {
 				intersections.add(poi);
 			}
 			return;
 		}
 
-		// clip to the fat lines
-		Interval interval = new Interval(pClipped.clipTo(L1));
-		Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-		// pick smaller interval range
-		interval = Interval.min(interval, intervalOrtho);
-
 		// re-calculate s and e from the clipped interval
 		double ratio = ip.pi.scaleTo(interval);
 
@@ -2035,18 +2351,22 @@ public class BezierCurve extends AbstractGeometry
 			 */
 			if (ip.isPLonger()) {
 				IntervalPair[] nip = ip.getPSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
+				findIntersectionChunks(nip[0], intervalPairs, intersections,
+						scratch);
+				findIntersectionChunks(nip[1], intervalPairs, intersections,
+						scratch);
 			} else {
 				IntervalPair[] nip = ip.getQSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
+				findIntersectionChunks(nip[0], intervalPairs, intersections,
+						scratch);
+				findIntersectionChunks(nip[1], intervalPairs, intersections,
+						scratch);
 			}
 
 			return;
 		} else {
 			findIntersectionChunks(ip.getSwapped(), intervalPairs,
-					intersections);
+					intersections, scratch);
 		}
 	}
 
@@ -2057,8 +2377,11 @@ public class BezierCurve extends AbstractGeometry
 	 * @param ipIO
 	 *            the {@link IntervalPair} that specifies a single {@link Point}
 	 *            of intersection on two {@link BezierCurve}s
+	 * @param scratch
+	 *            the {@link Scratch} buffers to use for clipping
 	 */
-	private static Point findSinglePreciseIntersection(IntervalPair ipIO) {
+	private static Point findSinglePreciseIntersection(IntervalPair ipIO,
+			Scratch scratch) {
 		Stack<IntervalPair> partStack = new Stack<>();
 		partStack.push(ipIO);
 
@@ -2066,22 +2389,20 @@ public class BezierCurve extends AbstractGeometry
 			IntervalPair ip = partStack.pop();
 
 			// quick check if intersections can be found
-			BezierCurve pClipped = ip.getPClipped();
-			BezierCurve qClipped = ip.getQClipped();
-			if (!pClipped.getControlBounds()
-					.touches(qClipped.getControlBounds())) {
+			scratch.clip(ip);
+			if (!scratch.touches()) {
 				continue;
 			}
 
 			if (ip.convergesP()) {
-				Point p = ip.p.getHC(ip.pi.a).toPoint();
+				Point p = ip.p.get(ip.pi.a);
 				if (ip.q.contains(p)) {
 					return p;
 				}
 			}
 
 			if (ip.convergesQ()) {
-				Point q = ip.q.getHC(ip.qi.a).toPoint();
+				Point q = ip.q.get(ip.qi.a);
 				if (ip.p.contains(q)) {
 					return q;
 				}
@@ -2101,14 +2422,14 @@ public class BezierCurve extends AbstractGeometry
 				continue;
 			}
 
-			// construct "parallel" and "orthogonal" fat lines
-			FatLine L1 = FatLine.from(qClipped, PARALLEL);
-			FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
+			// clip to the "parallel" and "orthogonal" fat lines and pick
+			// smaller interval range
+			Interval interval = scratch.clipToFatLines();
 
 			// curve implosion check
-			if (L1 == null || L2 == null) {
+			if (interval == null) {
 				// q is degenerated
-				Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+				Point poi = ip.q.get(ip.qi.getMid());
 				if (ip.p.contains(poi)) {
 					IntervalPair.copy(ipIO, ip);
 					return poi;
@@ -2116,13 +2437,6 @@ public class BezierCurve extends AbstractGeometry
 				continue;
 			}
 
-			// clip to the fat lines
-			Interval interval = new Interval(pClipped.clipTo(L1));
-			Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-			// pick smaller interval range
-			interval = Interval.min(interval, intervalOrtho);
-
 			// re-calculate s and e from the clipped interval
 			double ratio = ip.pi.scaleTo(interval);
 
@@ -2149,32 +2463,141 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * Computes the intersection of the line from {@link Point} p to
-	 * {@link Point} q with the x-axis-parallel line f(x) = y.
+	 * Computes the minimum and maximum x or y coordinate of the control points
+	 * specified by the given coordinates.
+	 *
+	 * @param c
+	 *            the control point coordinates (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>c</i>
+	 * @param dim
+	 *            <code>0</code> to compute the x extent, <code>1</code> to
+	 *            compute the y extent
+	 * @param extent
+	 *            the array to which the minimum and maximum are written
+	 */
+	private static void getExtent(double[] c, int n, int dim,
+			double[] extent) {
+		double min = c[dim], max = c[dim];
+		for (int i = 1; i < n; i++) {
+			double v = c[2 * i + dim];
+			if (v < min) {
+				min = v;
+			} else if (v > max) {
+				max = v;
+			}
+		}
+		extent[0] = min;
+		extent[1] = max;
+	}
+
+	/**
+	 * Computes the intersection of the line from <code>(x1, y1)</code> to
+	 * <code>(x2, y2)</code> with the x-axis-parallel line f(x) = y.
 	 *
 	 * There is always an intersection, because this routine is only called when
 	 * either the lower or the higher fat line bound is crossed.
 	 *
-	 * The following conditions are fulfilled: (p.x!=q.x) and (p.y!=q.y) and
-	 * (p.y<y<q.y) or (p.y>y>q.y).
+	 * The following conditions are fulfilled: (x1!=x2) and (y1!=y2) and
+	 * (y1<y<y2) or (y1>y>y2).
 	 *
 	 * From these values, one can build a function g(x) = m*x + b where
-	 * m=(q.y-p.y)/(q.x-p.x) and b=p.y-m*p.x.
+	 * m=(y2-y1)/(x2-x1) and b=y1-m*x1.
 	 *
 	 * The point of intersection is given by f(x) = g(x). The x-coordinate of
 	 * this point is x = (y - b) / m.
 	 *
-	 * @param p
-	 *            The start point of the {@link Line}
-	 * @param q
-	 *            The end point of the {@link Line}
+	 * @param x1
+	 *            The x coordinate of the start point of the {@link Line}
+	 * @param y1
+	 *            The y coordinate of the start point of the {@link Line}
+	 * @param x2
+	 *            The x coordinate of the end point of the {@link Line}
+	 * @param y2
+	 *            The y coordinate of the end point of the {@link Line}
 	 * @param y
 	 *            The x-axis-parallel line f(x) = y
 	 * @return the x coordinate of the intersection point.
 	 */
-	private static double intersectXAxisParallel(Point p, Point q, double y) {
-		double m = (q.y - p.y) / (q.x - p.x);
-		return (y - p.y + m * p.x) / m;
+	private static double intersectXAxisParallel(double x1, double y1,
+			double x2, double y2, double y) {
+		double m = (y2 - y1) / (x2 - x1);
+		return (y - y1 + m * x1) / m;
+	}
+
+	/**
+	 * Subdivides the {@link BezierCurve} that is specified by the given control
+	 * point coordinates at the given parameter value <i>t</i> (de Casteljau).
+	 * The control point coordinates of the left (<code>[0;t]</code>) and right
+	 * (<code>[t;1]</code>) sub-curves are written to <i>left</i> and
+	 * <i>right</i>, respectively, either of which may be <code>null</code> if
+	 * it is not needed. The given <i>tmp</i> buffer is used for the
+	 * intermediate results and needs to provide as many elements as
+	 * <i>src</i>. It may be identical to <i>src</i> (which is then
+	 * overwritten), as well as to <i>left</i> or <i>right</i> if the other
+	 * one is <code>null</code>.
+	 *
+	 * @param src
+	 *            the control point coordinates of the {@link BezierCurve} to
+	 *            subdivide (see {@link #points})
+	 * @param n
+	 *            the number of control points stored in <i>src</i>
+	 * @param t
+	 *            the parameter value at which to subdivide
+	 * @param left
+	 *            the array to which the control point coordinates of the left
+	 *            sub-curve are written, or <code>null</code>
+	 * @param right
+	 *            the array to which the control point coordinates of the
+	 *            right sub-curve are written, or <code>null</code>
+	 * @param tmp
+	 *            the scratch buffer
+	 */
+	private static void subdivide(double[] src, int n, double t,
+			double[] left, double[] right, double[] tmp) {
+		if (tmp != src) {
+			System.arraycopy(src, 0, tmp, 0, 2 * n);
+		}
+		if (right == tmp) {
+			// compute the right sub-curve in-place: after iteration i, the
+			// points n-1-i..n-1 are final
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n - i - 1; j++) {
+					tmp[2 * j] = tmp[2 * j]
+							+ (tmp[2 * j + 2] - tmp[2 * j]) * t;
+					tmp[2 * j + 1] = tmp[2 * j + 1]
+							+ (tmp[2 * j + 3] - tmp[2 * j + 1]) * t;
+				}
+			}
+			return;
+		} else if (left == tmp) {
+			// compute the left sub-curve in-place: after iteration i, the
+			// points 0..i are final
+			for (int i = 0; i < n; i++) {
+				for (int j = n - 1; j > i; j--) {
+					tmp[2 * j] = tmp[2 * j - 2]
+							+ (tmp[2 * j] - tmp[2 * j - 2]) * t;
+					tmp[2 * j + 1] = tmp[2 * j - 1]
+							+ (tmp[2 * j + 1] - tmp[2 * j - 1]) * t;
+				}
+			}
+			return;
+		}
+		for (int i = 0; i < n; i++) {
+			if (left != null) {
+				left[2 * i] = tmp[0];
+				left[2 * i + 1] = tmp[1];
+			}
+			if (right != null) {
+				right[2 * (n - 1 - i)] = tmp[2 * (n - 1 - i)];
+				right[2 * (n - 1 - i) + 1] = tmp[2 * (n - 1 - i) + 1];
+			}
+			for (int j = 0; j < n - i - 1; j++) {
+				tmp[2 * j] = tmp[2 * j] + (tmp[2 * j + 2] - tmp[2 * j]) * t;
+				tmp[2 * j + 1] = tmp[2 * j + 1]
+						+ (tmp[2 * j + 3] - tmp[2 * j + 1]) * t;
+			}
+		}
 	}
 
 	/**
@@ -2404,10 +2827,11 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * An array of {@link Vector3D}s which represent the control points of this
-	 * {@link BezierCurve} in homogenous coordinates.
+	 * The x and y coordinates of the control points of this
+	 * {@link BezierCurve}, where the x and y coordinates of the n-th control
+	 * point can be found at positions 2*n and 2*n+1.
 	 */
-	private final Vector3D[] points;
+	private final double[] points;
 
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
@@ -2430,7 +2854,11 @@ public class BezierCurve extends AbstractGeometry
 	 *            {@link BezierCurve} in x, y order
 	 */
 	public BezierCurve(double... controlPoints) {
-		this(PointListUtils.toPointsArray(controlPoints));
+		if (controlPoints.length % 2 != 0) {
+			throw new IllegalArgumentException(
+					"The coordinates array may not have an odd number of items.");
+		}
+		points = controlPoints.clone();
 	}
 
 	/**
@@ -2441,10 +2869,7 @@ public class BezierCurve extends AbstractGeometry
 	 *            the control {@link Point}s of the new {@link BezierCurve}
 	 */
 	public BezierCurve(Point... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(controlPoints[i].x, controlPoints[i].y, 1);
-		}
+		points = PointListUtils.toCoordinatesArray(controlPoints);
 	}
 
 	/**
@@ -2460,112 +2885,19 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * <p>
-	 * Constructs a new {@link BezierCurve} object from the control points
-	 * represented by the given {@link Vector3D}s.
-	 * </p>
-	 * <p>
-	 * Note that a Point(x, y) is represented by a Vector3D(x, y, 1).
-	 * </p>
+	 * Constructs a new {@link BezierCurve} from the given control point
+	 * coordinates (see {@link #points}), which are directly used (i.e. not
+	 * copied) by the new {@link BezierCurve}.
 	 *
 	 * @param controlPoints
-	 *            the {@link Vector3D}s representing the control points of the
-	 *            new {@link BezierCurve}
+	 *            the control point coordinates of the new {@link BezierCurve}
+	 * @param n
+	 *            the number of control points to use, which may be less than
+	 *            the number of control points stored in the given array
 	 */
-	private BezierCurve(Vector3D... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = controlPoints[i].getCopy();
-		}
-	}
-
-	/**
-	 * <p>
-	 * Firstly, the difference of this {@link BezierCurve} to the given
-	 * {@link FatLine} is computed. This is another {@link BezierCurve} of which
-	 * the control {@link Point}s are further examined.
-	 * </p>
-	 * <p>
-	 * Every difference control {@link Point} is checked if it is inside the
-	 * given {@link FatLine}. Difference control {@link Point}s within the
-	 * {@link FatLine} represent portions of this {@link BezierCurve} which
-	 * cannot be clipped. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these difference control {@link Point}s.
-	 * </p>
-	 * <p>
-	 * Subsequently, the {@link Line}s connecting the start/end {@link Point} of
-	 * the difference {@link BezierCurve} and the other control {@link Point}s
-	 * of the difference {@link BezierCurve} are intersected with the
-	 * {@link FatLine}'s border {@link Line}s. The outermost intersections
-	 * identify parameter ranges that can be clipped away from this
-	 * {@link BezierCurve}. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these intersections.
-	 * </p>
-	 * <p>
-	 * The starting {@link Interval} is chosen to be invalid. The individual
-	 * checks move the lower and upper limits past to one another. If everything
-	 * can be clipped, the resulting {@link Interval} remains invalid. If the
-	 * resulting {@link Interval} <code>I = [a;b]</code> is valid (
-	 * <code>a <= b</code>), then the portions <code>[0;a]</code> and
-	 * <code>[b;1]</code> of this {@link BezierCurve} can be clipped away.
-	 * </p>
-	 *
-	 * @param L
-	 *            the {@link FatLine} to clip this {@link BezierCurve} to
-	 * @return the new parameter {@link Interval} for this {@link BezierCurve}
-	 */
-	// TODO: return Interval
-	private double[] clipTo(FatLine L) {
-		double[] interval = new double[] { 1, 0 };
-
-		Vector3D[] differenceVectors = genDifferencePoints(L.line);
-
-		Point[] differencePoints = new Point[differenceVectors.length];
-		for (int i = 0; i < differenceVectors.length; i++) {
-			differencePoints[i] = differenceVectors[i].toPoint();
-		}
-
-		// inside fat line check
-		for (Point p : differencePoints) {
-			if (Double.isNaN(p.y) || L.dmin <= p.y && p.y <= L.dmax) {
-				moveInterval(interval, p.x);
-			}
-		}
-
-		// intersections from start
-		for (int i = 1; i < differencePoints.length; i++) {
-			Line seg = new Line(differencePoints[0], differencePoints[i]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
-		}
-
-		// intersections from end
-		for (int i = 0; i < differencePoints.length - 1; i++) {
-			Line seg = new Line(differencePoints[i],
-					differencePoints[differencePoints.length - 1]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
-		}
-
-		return interval;
+	private BezierCurve(double[] controlPoints, int n) {
+		points = controlPoints.length == 2 * n ? controlPoints
+				: Arrays.copyOf(controlPoints, 2 * n);
 	}
 
 	/**
@@ -2654,20 +2986,24 @@ public class BezierCurve extends AbstractGeometry
 		Stack<Interval> parts = new Stack<>();
 		parts.push(iStart);
 
-		Point xtreme = getHC(iStart.a).toPoint();
+		Point xtreme = get(iStart.a);
 
+		int n = points.length / 2;
+		double[] clipped = new double[points.length];
+		double[] tmp = new double[points.length];
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
-			BezierCurve clipped = getClipped(i.a, i.b);
+			int cn = clip(points, n, i.a, i.b, clipped, tmp);
 
-			Point sp = clipped.points[0].toPoint();
+			Point sp = new Point(clipped[0], clipped[1]);
 			xtreme = criteria.apply(sp, xtreme) ? sp : xtreme;
-			Point ep = clipped.points[clipped.points.length - 1].toPoint();
+			Point ep = new Point(clipped[2 * cn - 2], clipped[2 * cn - 1]);
 			xtreme = criteria.apply(ep, xtreme) ? ep : xtreme;
 
 			boolean everythingWorse = true;
-			for (int j = 1; j < clipped.points.length - 1; j++) {
-				if (!criteria.apply(xtreme, clipped.points[j].toPoint())) {
+			for (int j = 1; j < cn - 1; j++) {
+				if (!criteria.apply(xtreme,
+						new Point(clipped[2 * j], clipped[2 * j + 1]))) {
 					everythingWorse = false;
 					break;
 				}
@@ -2688,33 +3024,6 @@ public class BezierCurve extends AbstractGeometry
 		return xtreme;
 	}
 
-	/**
-	 * <p>
-	 * Generates the difference control {@link Point}s of this
-	 * {@link BezierCurve} to the given {@link Straight3D}.
-	 * </p>
-	 * <p>
-	 * The difference control {@link Point}s are the control {@link Point}s of a
-	 * {@link BezierCurve} that yields the signed distance of each {@link Point}
-	 * on this {@link BezierCurve} to the given {@link Straight3D}.
-	 * </p>
-	 *
-	 * @param line
-	 *            the {@link Straight3D} to which the difference
-	 *            {@link BezierCurve}'s control {@link Point}s are to be
-	 *            computed
-	 * @return the difference {@link BezierCurve}'s control {@link Point}s
-	 */
-	private Vector3D[] genDifferencePoints(Straight3D line) {
-		Vector3D[] D = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			double y = line.getSignedDistanceCW(points[i]);
-			D[i] = new Vector3D((double) (i) / (double) (points.length - 1), y,
-					1);
-		}
-		return D;
-	}
-
 	/**
 	 * Computes the {@link Point} on this {@link BezierCurve} at parameter value
 	 * <i>t</i>, which is expected to lie in the parameter {@link Interval}
@@ -2727,7 +3036,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         parameter value
 	 */
 	public Point get(double t) {
-		return getHC(t).toPoint();
+		int n = points.length / 2;
+		return new Point(evaluate(points, n, 0, t), evaluate(points, n, 1, t));
 	}
 
 	@Override
@@ -2754,12 +3064,10 @@ public class BezierCurve extends AbstractGeometry
 	 *         on the {@link Interval} <code>[s;e]</code>
 	 */
 	public BezierCurve getClipped(double s, double e) {
-		if (s == 1) {
-			return new BezierCurve(points[points.length - 1]);
-		}
-		BezierCurve right = split(s)[1];
-		double rightT2 = (e - s) / (1 - s);
-		return right.split(rightT2)[0];
+		double[] clipped = new double[points.length];
+		int n = clip(points, points.length / 2, s, e, clipped,
+				new double[points.length]);
+		return new BezierCurve(clipped, n);
 	}
 
 	/**
@@ -2770,31 +3078,18 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Polygon} of this {@link BezierCurve}
 	 */
 	public Rectangle getControlBounds() {
-		Point[] realPoints = getPoints();
-
-		double xmin = realPoints[0].x, xmax = realPoints[0].x,
-				ymin = realPoints[0].y, ymax = realPoints[0].y;
-
-		for (int i = 1; i < realPoints.length; i++) {
-			if (realPoints[i].x < xmin) {
-				xmin = realPoints[i].x;
-			} else if (realPoints[i].x > xmax) {
-				xmax = realPoints[i].x;
-			}
-
-			if (realPoints[i].y < ymin) {
-				ymin = realPoints[i].y;
-			} else if (realPoints[i].y > ymax) {
-				ymax = realPoints[i].y;
-			}
-		}
-
+		int n = points.length / 2;
+		double[] extent = new double[2];
+		getExtent(points, n, 0, extent);
+		double xmin = extent[0], xmax = extent[1];
+		getExtent(points, n, 1, extent);
+		double ymin = extent[0], ymax = extent[1];
 		return new Rectangle(xmin, ymin, xmax - xmin, ymax - ymin);
 	}
 
 	@Override
 	public BezierCurve getCopy() {
-		return new BezierCurve(points);
+		return new BezierCurve(points.clone(), points.length / 2);
 	}
 
 	/**
@@ -2804,16 +3099,14 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the hodograph of this {@link BezierCurve}
 	 */
 	public BezierCurve getDerivative() {
-		Vector3D[] controlPoints = new Vector3D[points.length - 1];
+		int n = points.length / 2;
+		double[] controlPoints = new double[points.length - 2];
 
 		for (int i = 0; i < controlPoints.length; i++) {
-			controlPoints[i] = points[i + 1].getSubtracted(points[i])
-					.getScaled(points.length - 1);
-			// ignore z coordinate:
-			controlPoints[i].z = 1;
+			controlPoints[i] = (points[i + 2] - points[i]) * (n - 1);
 		}
 
-		return new BezierCurve(controlPoints);
+		return new BezierCurve(controlPoints, n - 1);
 	}
 
 	/**
@@ -2835,38 +3128,6 @@ public class BezierCurve extends AbstractGeometry
 		return new BezierCurve(q);
 	}
 
-	/**
-	 * Returns a {@link Vector3D} representing the {@link Point} at the given
-	 * parameter value.
-	 *
-	 * @param t
-	 *            the parameter value for which this {@link BezierCurve} is
-	 *            evaluated
-	 * @return The point at the given parameter value, represented in
-	 *         homogeneous coordinates as a {@link Vector3D}.
-	 */
-	private Vector3D getHC(double t) {
-		if (t < 0 || t > 1) {
-			throw new IllegalArgumentException("t out of range: " + t);
-		}
-
-		// using horner's scheme:
-		int n = points.length;
-		if (n < 1) {
-			return null;
-		}
-
-		double bn = 1, tn = 1, d = 1d - t;
-		Vector3D pn = points[0].getScaled(bn * tn);
-		for (int i = 1; i < n; i++) {
-			bn = bn * (n - i) / i;
-			tn = tn * t;
-			pn = pn.getScaled(d).getAdded(points[i].getScaled(bn * tn));
-		}
-
-		return pn;
-	}
-
 	/**
 	 * <p>
 	 * Computes {@link IntervalPair}s which do reflect {@link Point}s of
@@ -2902,9 +3163,10 @@ public class BezierCurve extends AbstractGeometry
 
 		IntervalPair ip = new IntervalPair(this, Interval.getFull(), other,
 				Interval.getFull());
+		Scratch scratch = new Scratch(this, other);
 
 		findEndPointIntersections(ip, endPointIntervalPairs, intersections);
-		findIntersectionChunks(ip, intervalPairs, intersections);
+		findIntersectionChunks(ip, intervalPairs, intersections, scratch);
 		normalizeIntervalPairs(intervalPairs.toArray(new IntervalPair[] {}));
 		IntervalPair[] clusters = clusterChunks(
 				intervalPairs.toArray(new IntervalPair[] {}), 0);
@@ -2945,7 +3207,7 @@ public class BezierCurve extends AbstractGeometry
 
 			// a.t.m. assume for every cluster just a single point of
 			// intersection:
-			Point poi = findSinglePreciseIntersection(cluster);
+			Point poi = findSinglePreciseIntersection(cluster, scratch);
 			if (poi != null) {
 				intersections.add(poi);
 				if (cluster.converges()) {
@@ -2975,13 +3237,8 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public final Point[] getIntersections(ICurve curve) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (BezierCurve c : curve.toBezier()) {
-			intersections.addAll(Arrays.asList(getIntersections(c)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return CurveUtils.getIntersections(new BezierCurve[] { this },
+				curve.toBezier());
 	}
 
 	/**
@@ -3050,7 +3307,8 @@ public class BezierCurve extends AbstractGeometry
 				Interval.getFull());
 
 		findEndPointIntersections(ip, endPointIntervalPairs, intersections);
-		findIntersectionChunks(ip, intervalPairs, intersections);
+		findIntersectionChunks(ip, intervalPairs, intersections,
+				new Scratch(this, other));
 		IntervalPair[] intervalPairs2 = intervalPairs
 				.toArray(new IntervalPair[] {});
 		normalizeIntervalPairs(intervalPairs2);
@@ -3068,12 +3326,12 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public Point getP1() {
-		return points[0].toPoint();
+		return new Point(points[0], points[1]);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].toPoint();
+		return new Point(points[points.length - 2], points[points.length - 1]);
 	}
 
 	/**
@@ -3115,13 +3373,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the <i>i</i>th control {@link Point} of this {@link BezierCurve}
 	 */
 	public Point getPoint(int i) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= points.length / 2) {
 			throw new IllegalArgumentException(
 					"You can only index this BezierCurve's points from 0 to "
-							+ (points.length - 1) + ": getPoint(" + i
+							+ (points.length / 2 - 1) + ": getPoint(" + i
 							+ "), this = " + this);
 		}
-		return points[i].toPoint();
+		return new Point(points[2 * i], points[2 * i + 1]);
 	}
 
 	/**
@@ -3130,26 +3388,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the control {@link Point}s of this {@link BezierCurve}
 	 */
 	public Point[] getPoints() {
-		Point[] realPoints = new Point[points.length];
-		for (int i = 0; i < points.length; i++) {
-			realPoints[i] = points[i].toPoint();
-		}
-		return realPoints;
-	}
-
-	/**
-	 * Returns a copy of the {@link Vector3D} representations of the control
-	 * points of this {@link BezierCurve}.
-	 *
-	 * @return a copy of the {@link Vector3D} representations of the control
-	 *         points of this {@link BezierCurve}
-	 */
-	private Vector3D[] getPointsCopy() {
-		Vector3D[] copy = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			copy[i] = points[i].getCopy();
-		}
-		return copy;
+		return PointListUtils.toPointsArray(points);
 	}
 
 	@Override
@@ -3395,11 +3634,9 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve rotateCCW(Angle angle, Point center) {
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(new Vector(
-					points[i].toPoint().getTranslated(center.getNegated()))
-							.getRotatedCCW(angle).toPoint()
-							.getTranslated(center));
+		for (int i = 0; i < points.length / 2; i++) {
+			setPoint(i, new Vector(getPoint(i).getTranslated(center.getNegated()))
+					.getRotatedCCW(angle).toPoint().getTranslated(center));
 		}
 		return this;
 	}
@@ -3514,7 +3751,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setP2(Point p2) {
-		setPoint(points.length - 1, p2);
+		setPoint(points.length / 2 - 1, p2);
 		return this;
 	}
 
@@ -3531,12 +3768,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setPoint(int i, Point p) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= points.length / 2) {
 			throw new IllegalArgumentException("setPoint(" + i + ", " + p
 					+ "): You can only index this BezierCurve's points from 0 to "
-					+ (points.length - 1) + ".");
+					+ (points.length / 2 - 1) + ".");
 		}
-		points[i] = new Vector3D(p);
+		points[2 * i] = p.x;
+		points[2 * i + 1] = p.y;
 		return this;
 	}
 
@@ -3554,23 +3792,13 @@ public class BezierCurve extends AbstractGeometry
 	 *         <code>[0;t]</code>) and the right (<code>[t;1]</code>)
 	 */
 	public BezierCurve[] split(double t) {
-		Vector3D[] leftPoints = new Vector3D[points.length];
-		Vector3D[] rightPoints = new Vector3D[points.length];
-
-		Vector3D[] ratioPoints = getPointsCopy();
-
-		for (int i = 0; i < points.length; i++) {
-			leftPoints[i] = ratioPoints[0];
-			rightPoints[points.length - 1 - i] = ratioPoints[points.length - 1
-					- i];
-
-			for (int j = 0; j < points.length - i - 1; j++) {
-				ratioPoints[j] = ratioPoints[j].getRatio(ratioPoints[j + 1], t);
-			}
-		}
-
-		return new BezierCurve[] { new BezierCurve(leftPoints),
-				new BezierCurve(rightPoints) };
+		int n = points.length / 2;
+		double[] leftPoints = new double[points.length];
+		double[] rightPoints = new double[points.length];
+		subdivide(points, n, t, leftPoints, rightPoints,
+				new double[points.length]);
+		return new BezierCurve[] { new BezierCurve(leftPoints, n),
+				new BezierCurve(rightPoints, n) };
 	}
 
 	@Override
@@ -3594,9 +3822,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public CubicCurve toCubic() {
-		if (points.length > 3) {
-			return new CubicCurve(points[0].toPoint(), points[1].toPoint(),
-					points[2].toPoint(), points[points.length - 1].toPoint());
+		if (points.length > 6) {
+			return new CubicCurve(getP1(), getPoint(1), getPoint(2), getP2());
 		}
 		return null;
 	}
@@ -3611,9 +3838,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         this {@link BezierCurve} does only have one control {@link Point}
 	 */
 	public Line toLine() {
-		if (points.length > 1) {
-			return new Line(points[0].toPoint(),
-					points[points.length - 1].toPoint());
+		if (points.length > 2) {
+			return new Line(getP1(), getP2());
 		}
 		return null;
 	}
@@ -3660,7 +3886,7 @@ public class BezierCurve extends AbstractGeometry
 	public Line[] toLineStrip(double lineSimilarity, Interval startInterval) {
 		ArrayList<Line> lines = new ArrayList<>();
 
-		Point startPoint = getHC(startInterval.a).toPoint();
+		Point startPoint = get(startInterval.a);
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
@@ -3670,7 +3896,7 @@ public class BezierCurve extends AbstractGeometry
 			BezierCurve part = getClipped(i.a, i.b);
 
 			if (distanceToBaseLine(part) < lineSimilarity) {
-				Point endPoint = getHC(i.b).toPoint();
+				Point endPoint = get(i.b);
 				lines.add(new Line(startPoint, endPoint));
 				startPoint = endPoint;
 			} else {
@@ -3694,7 +3920,7 @@ public class BezierCurve extends AbstractGeometry
 	public Path toPath() {
 		Path path = new Path();
 
-		Point startPoint = points[0].toPoint();
+		Point startPoint = getP1();
 		path.moveTo(startPoint.x, startPoint.y);
 
 		for (Line seg : toLineStrip(0.25d)) {
@@ -3718,7 +3944,7 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	public Point[] toPoints(Interval startInterval) {
 		ArrayList<Point> points = new ArrayList<>();
-		points.add(getHC(startInterval.a).toPoint());
+		points.add(get(startInterval.a));
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
@@ -3765,9 +3991,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public QuadraticCurve toQuadratic() {
-		if (points.length > 2) {
-			return new QuadraticCurve(points[0].toPoint(), points[1].toPoint(),
-					points[points.length - 1].toPoint());
+		if (points.length > 4) {
+			return new QuadraticCurve(getP1(), getPoint(1), getP2());
 		}
 		return null;
 	}
@@ -3776,10 +4001,10 @@ public class BezierCurve extends AbstractGeometry
 	public String toString() {
 		StringBuffer str = new StringBuffer();
 		str.append("BezierCurve(");
-		for (int i = 0; i < points.length; i++) {
-			Vector3D v = points[i];
-			str.append(v);
-			if (i < points.length - 1) {
+		for (int i = 0; i < points.length / 2; i++) {
+			// control points are given in homogeneous coordinates
+			str.append(new Vector3D(getPoint(i)));
+			if (i < points.length / 2 - 1) {
 				str.append(", ");
 			}
 		}
@@ -12,10 +12,15 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
 /**
  * The {@link CurveUtils} class provides functionality that can be used for all
  * {@link ICurve}s, independent on their construction kind.
@@ -25,6 +30,85 @@ import java.util.Set;
  */
 class CurveUtils {
 
+	/**
+	 * The axis-aligned bounds of a single {@link BezierCurve} segment, as used
+	 * by
+	 * {@link CurveUtils#sweep(BezierCurve[], BezierCurve[], SegmentPairVisitor)}
+	 * to prune segment pairs that cannot intersect.
+	 */
+	private static final class SegmentBounds {
+
+		private final BezierCurve curve;
+		private double minX, minY, maxX, maxY;
+
+		public SegmentBounds(BezierCurve curve) {
+			this.curve = curve;
+			// the control polygon encloses the curve (convex hull property)
+			Point[] points = curve.getPoints();
+			minX = maxX = points[0].x;
+			minY = maxY = points[0].y;
+			for (int i = 1; i < points.length; i++) {
+				minX = Math.min(minX, points[i].x);
+				maxX = Math.max(maxX, points[i].x);
+				minY = Math.min(minY, points[i].y);
+				maxY = Math.max(maxY, points[i].y);
+			}
+			double tolerance = PrecisionUtils.calculateFraction(BOUNDS_SHIFT);
+			minX -= tolerance;
+			minY -= tolerance;
+			maxX += tolerance;
+			maxY += tolerance;
+		}
+
+		public boolean overlapsY(SegmentBounds o) {
+			return minY <= o.maxY && o.minY <= maxY;
+		}
+	}
+
+	/**
+	 * Call-back used by
+	 * {@link CurveUtils#sweep(BezierCurve[], BezierCurve[], SegmentPairVisitor)}
+	 * for each pair of {@link BezierCurve}s with overlapping bounds.
+	 */
+	private interface SegmentPairVisitor {
+
+		/**
+		 * Processes the given pair of {@link BezierCurve}s.
+		 *
+		 * @param p
+		 *            a {@link BezierCurve} of the first input array
+		 * @param q
+		 *            a {@link BezierCurve} of the second input array
+		 * @return <code>true</code> if the sweep should continue,
+		 *         <code>false</code> if it should be aborted
+		 */
+		public boolean visit(BezierCurve p, BezierCurve q);
+	}
+
+	/**
+	 * The precision shift by which the segment bounds are enlarged before
+	 * testing them for overlap. It corresponds to the imprecision that is
+	 * accepted when detecting intersections of {@link BezierCurve}s, so that
+	 * segments that (nearly) touch are still tested.
+	 */
+	private static final int BOUNDS_SHIFT = -3;
+
+	private static void addBezier(IGeometry geom, List<BezierCurve> beziers) {
+		if (geom instanceof ICurve) {
+			beziers.addAll(Arrays.asList(((ICurve) geom).toBezier()));
+		} else if (geom instanceof IShape) {
+			for (ICurve curve : ((IShape) geom).getOutlineSegments()) {
+				beziers.addAll(Arrays.asList(curve.toBezier()));
+			}
+		} else if (geom instanceof IMultiShape) {
+			for (IShape shape : ((IMultiShape) geom).getShapes()) {
+				addBezier(shape, beziers);
+			}
+		} else {
+			throw new UnsupportedOperationException("Not yet implemented.");
+		}
+	}
+
 	/**
 	 * Creates copies of the given {@link BezierCurve}s.
 	 *
@@ -41,7 +125,9 @@ class CurveUtils {
 	}
 
 	/**
-	 * Delegates to the {@link BezierCurve#getIntersections(ICurve)} method.
+	 * Computes the {@link Point}s of intersection of the given {@link ICurve}s.
+	 * Only those pairs of {@link BezierCurve} segments whose bounds overlap are
+	 * passed to {@link BezierCurve#getIntersections(BezierCurve)}.
 	 *
 	 * @param curve1
 	 *            The first {@link ICurve} to intersect
@@ -50,12 +136,31 @@ class CurveUtils {
 	 * @return An array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve1, ICurve curve2) {
-		Set<Point> intersections = new HashSet<>();
+		return getIntersections(curve1.toBezier(), curve2.toBezier());
+	}
 
-		for (BezierCurve bezier : curve1.toBezier()) {
-			intersections
-					.addAll(Arrays.asList(bezier.getIntersections(curve2)));
-		}
+	/**
+	 * Computes the {@link Point}s of intersection of the given
+	 * {@link BezierCurve} segments. Only those pairs of segments whose bounds
+	 * overlap are passed to {@link BezierCurve#getIntersections(BezierCurve)}.
+	 *
+	 * @param beziers1
+	 *            The first sequence of {@link BezierCurve}s to intersect
+	 * @param beziers2
+	 *            The second sequence of {@link BezierCurve}s to intersect
+	 * @return An array of intersection {@link Point}s
+	 */
+	static Point[] getIntersections(BezierCurve[] beziers1,
+			BezierCurve[] beziers2) {
+		final Set<Point> intersections = new HashSet<>();
+
+		sweep(beziers1, beziers2, new SegmentPairVisitor() {
+			@Override
+			public boolean visit(BezierCurve p, BezierCurve q) {
+				intersections.addAll(Arrays.asList(p.getIntersections(q)));
+				return true;
+			}
+		});
 
 		return intersections.toArray(new Point[] {});
 	}
@@ -74,15 +179,10 @@ class CurveUtils {
 	 * @see #getIntersections(ICurve, IMultiShape)
 	 */
 	public static Point[] getIntersections(ICurve curve, IGeometry geom) {
-		if (geom instanceof ICurve) {
-			return getIntersections(curve, (ICurve) geom);
-		} else if (geom instanceof IShape) {
-			return getIntersections(curve, (IShape) geom);
-		} else if (geom instanceof IMultiShape) {
-			return getIntersections(curve, (IMultiShape) geom);
-		} else {
-			throw new UnsupportedOperationException("Not yet implemented.");
-		}
+		List<BezierCurve> beziers = new ArrayList<>();
+		addBezier(geom, beziers);
+		return getIntersections(curve.toBezier(),
+				beziers.toArray(new BezierCurve[] {}));
 	}
 
 	/**
@@ -96,13 +196,7 @@ class CurveUtils {
 	 */
 	public static Point[] getIntersections(ICurve curve,
 			IMultiShape multiShape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (IShape shape : multiShape.getShapes()) {
-			intersections.addAll(Arrays.asList(getIntersections(curve, shape)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(curve, (IGeometry) multiShape);
 	}
 
 	/**
@@ -115,14 +209,7 @@ class CurveUtils {
 	 * @return an array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve, IShape shape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (ICurve curve2 : shape.getOutlineSegments()) {
-			intersections
-					.addAll(Arrays.asList(getIntersections(curve, curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(curve, (IGeometry) shape);
 	}
 
 	/**
@@ -135,29 +222,12 @@ class CurveUtils {
 	 * @return points of intersection
 	 */
 	public static Point[] getIntersections(IGeometry geom1, IGeometry geom2) {
-		if (geom1 instanceof ICurve) {
-			return getIntersections((ICurve) geom1, geom2);
-		} else {
-			Set<Point> intersections = new HashSet<>();
-
-			if (geom1 instanceof IShape) {
-				for (ICurve curve : ((IShape) geom1).getOutlineSegments()) {
-					intersections.addAll(
-							Arrays.asList(getIntersections(curve, geom2)));
-				}
-			} else if (geom1 instanceof IMultiShape) {
-				for (IShape shape : ((IMultiShape) geom1).getShapes()) {
-					for (ICurve curve : shape.getOutlineSegments()) {
-						intersections.addAll(
-								Arrays.asList(getIntersections(curve, geom2)));
-					}
-				}
-			} else {
-				throw new UnsupportedOperationException("Not yet implemented.");
-			}
-
-			return intersections.toArray(new Point[] {});
-		}
+		List<BezierCurve> beziers1 = new ArrayList<>();
+		List<BezierCurve> beziers2 = new ArrayList<>();
+		addBezier(geom1, beziers1);
+		addBezier(geom2, beziers2);
+		return getIntersections(beziers1.toArray(new BezierCurve[] {}),
+				beziers2.toArray(new BezierCurve[] {}));
 	}
 
 	/**
@@ -173,16 +243,18 @@ class CurveUtils {
 	 *         overlap.
 	 */
 	public static ICurve[] getOverlaps(ICurve curve1, ICurve curve2) {
-		Set<ICurve> overlaps = new HashSet<>();
+		final Set<ICurve> overlaps = new HashSet<>();
 
-		for (BezierCurve bezier1 : curve1.toBezier()) {
-			for (BezierCurve bezier2 : curve2.toBezier()) {
-				BezierCurve overlap = bezier1.getOverlap(bezier2);
+		sweep(curve1.toBezier(), curve2.toBezier(), new SegmentPairVisitor() {
+			@Override
+			public boolean visit(BezierCurve p, BezierCurve q) {
+				BezierCurve overlap = p.getOverlap(q);
 				if (overlap != null) {
 					overlaps.add(overlap);
 				}
+				return true;
 			}
-		}
+		});
 
 		return overlaps.toArray(new ICurve[] {});
 	}
@@ -201,7 +273,13 @@ class CurveUtils {
 	 *         intersection {@link Point}s, otherwise <code>false</code>
 	 */
 	public static boolean intersect(ICurve c1, ICurve c2) {
-		return getIntersections(c1, c2).length > 0;
+		// abort the sweep as soon as a point of intersection is found
+		return !sweep(c1.toBezier(), c2.toBezier(), new SegmentPairVisitor() {
+			@Override
+			public boolean visit(BezierCurve p, BezierCurve q) {
+				return p.getIntersections(q).length == 0;
+			}
+		});
 	}
 
 	/**
@@ -216,15 +294,47 @@ class CurveUtils {
 	 *         <code>false</code>
 	 */
 	public static boolean overlap(ICurve c1, ICurve c2) {
-		for (BezierCurve seg1 : c1.toBezier()) {
-			for (BezierCurve seg2 : c2.toBezier()) {
-				if (seg1.overlaps(seg2)) {
-					return true;
-				}
+		// abort the sweep as soon as an overlap is found
+		return !sweep(c1.toBezier(), c2.toBezier(), new SegmentPairVisitor() {
+			@Override
+			public boolean visit(BezierCurve p, BezierCurve q) {
+				return !p.overlaps(q);
 			}
+		});
+	}
+
+	private static SegmentBounds[] getSortedBounds(BezierCurve[] beziers) {
+		SegmentBounds[] bounds = new SegmentBounds[beziers.length];
+		for (int i = 0; i < beziers.length; i++) {
+			bounds[i] = new SegmentBounds(beziers[i]);
 		}
+		Arrays.sort(bounds, new Comparator<SegmentBounds>() {
+			@Override
+			public int compare(SegmentBounds b1, SegmentBounds b2) {
+				return Double.compare(b1.minX, b2.minX);
+			}
+		});
+		return bounds;
+	}
 
-		return false;
+	/**
+	 * Removes all {@link SegmentBounds} from the given active list that end
+	 * left of the given sweep position.
+	 *
+	 * @param active
+	 *            the list of active {@link SegmentBounds}
+	 * @param x
+	 *            the current sweep position
+	 */
+	private static void prune(List<SegmentBounds> active, double x) {
+		int size = 0;
+		for (int i = 0; i < active.size(); i++) {
+			SegmentBounds b = active.get(i);
+			if (b.maxX >= x) {
+				active.set(size++, b);
+			}
+		}
+		active.subList(size, active.size()).clear();
 	}
 
 	/**
@@ -309,6 +419,62 @@ class CurveUtils {
 		return segments;
 	}
 
+	/**
+	 * Reports all pairs of {@link BezierCurve}s (one of the first, one of the
+	 * second array) whose bounds overlap to the given
+	 * {@link SegmentPairVisitor}. The pairs are determined by sweeping a
+	 * vertical line over the bounds of all segments (sorted by their minimum
+	 * x coordinate), testing a segment only against those segments of the
+	 * other array that are intersected by the sweep line, too. Therefore,
+	 * the number of visited pairs is proportional to the number of actually
+	 * overlapping bounds, rather than to the product of the segment counts.
+	 *
+	 * @param beziers1
+	 *            the first array of {@link BezierCurve}s
+	 * @param beziers2
+	 *            the second array of {@link BezierCurve}s
+	 * @param visitor
+	 *            the {@link SegmentPairVisitor} to call for each pair of
+	 *            {@link BezierCurve}s with overlapping bounds
+	 * @return <code>false</code> if the sweep was aborted by the
+	 *         {@link SegmentPairVisitor}, otherwise <code>true</code>
+	 */
+	private static boolean sweep(BezierCurve[] beziers1,
+			BezierCurve[] beziers2, SegmentPairVisitor visitor) {
+		if (beziers1.length == 0 || beziers2.length == 0) {
+			return true;
+		}
+
+		SegmentBounds[] p = getSortedBounds(beziers1);
+		SegmentBounds[] q = getSortedBounds(beziers2);
+		List<SegmentBounds> activeP = new ArrayList<>();
+		List<SegmentBounds> activeQ = new ArrayList<>();
+
+		int i = 0, j = 0;
+		while (i < p.length || j < q.length) {
+			if (j >= q.length || i < p.length && p[i].minX <= q[j].minX) {
+				SegmentBounds b = p[i++];
+				prune(activeQ, b.minX);
+				for (SegmentBounds o : activeQ) {
+					if (b.overlapsY(o) && !visitor.visit(b.curve, o.curve)) {
+						return false;
+					}
+				}
+				activeP.add(b);
+			} else {
+				SegmentBounds b = q[j++];
+				prune(activeP, b.minX);
+				for (SegmentBounds o : activeP) {
+					if (b.overlapsY(o) && !visitor.visit(o.curve, b.curve)) {
+						return false;
+					}
+				}
+				activeQ.add(b);
+			}
+		}
+		return true;
+	}
+
 	private CurveUtils() {
 		// this class should not be instantiated by clients
 	}
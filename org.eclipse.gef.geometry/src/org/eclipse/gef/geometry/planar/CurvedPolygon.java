@@ -31,6 +31,12 @@ public class CurvedPolygon extends AbstractGeometry
 	private static final long serialVersionUID = 1L;
 	private BezierCurve[] edges;
 
+	/**
+	 * The cached {@link PathClipper.EdgeIndex} of the edges, which is
+	 * discarded whenever this {@link CurvedPolygon} is modified.
+	 */
+	private transient PathClipper.EdgeIndex edgeIndex;
+
 	/**
 	 * Constructs a new {@link CurvedPolygon} from the given {@link BezierCurve}
 	 * s. Subsequent {@link BezierCurve}s need to be connected with each other
@@ -178,6 +184,11 @@ public class CurvedPolygon extends AbstractGeometry
 			return edges[0].contains(p);
 		}
 
+		PathClipper.EdgeIndex index = getEdgeIndex();
+		if (index != null) {
+			return index.touches(p) || index.getWinding(p.x, p.y) != 0;
+		}
+
 		// compute the winding number for the given Point
 		int w = 0;
 		for (BezierCurve seg : edges) {
@@ -225,6 +236,24 @@ public class CurvedPolygon extends AbstractGeometry
 		return new CurvedPolygon(edges);
 	}
 
+	/**
+	 * Returns the {@link PathClipper.EdgeIndex} of the edges of this
+	 * {@link CurvedPolygon}, which is created lazily and cached until this
+	 * {@link CurvedPolygon} is modified.
+	 *
+	 * @return the {@link PathClipper.EdgeIndex} of this {@link CurvedPolygon},
+	 *         or <code>null</code> in case it has an edge of a degree greater
+	 *         than three
+	 */
+	PathClipper.EdgeIndex getEdgeIndex() {
+		PathClipper.EdgeIndex index = edgeIndex;
+		if (index == null) {
+			index = PathClipper.getEdgeIndex(edges);
+			edgeIndex = index;
+		}
+		return index;
+	}
+
 	@Override
 	public PolyBezier getOutline() {
 		return new PolyBezier(edges);
@@ -398,6 +427,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.rotateCCW(angle, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -446,6 +476,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.rotateCW(angle, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -485,6 +516,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.scale(fx, fy, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -521,6 +553,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.translate(dx, dy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
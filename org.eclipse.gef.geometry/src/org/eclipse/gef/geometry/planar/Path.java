@@ -254,6 +254,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
+		if (pa.isPolygonal() && pb.isPolygonal()) {
+			return PathClipper.combine(pa, pb, PathClipper.UNION);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.add(b);
@@ -271,6 +274,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
+		if (pa.isPolygonal() && pb.isPolygonal()) {
+			return PathClipper.combine(pa, pb, PathClipper.EXCLUSIVE_OR);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.exclusiveOr(b);
@@ -288,6 +294,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
+		if (pa.isPolygonal() && pb.isPolygonal()) {
+			return PathClipper.combine(pa, pb, PathClipper.INTERSECTION);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.intersect(b);
@@ -304,6 +313,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
+		if (pa.isPolygonal() && pb.isPolygonal()) {
+			return PathClipper.combine(pa, pb, PathClipper.DIFFERENCE);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.subtract(b);
@@ -314,6 +326,12 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	private List<Segment> segments = new ArrayList<>();
 
+	/**
+	 * The flattened outline of this {@link Path}, which is used for
+	 * containment tests. It is lazily created and reset on every modification.
+	 */
+	private transient PathClipper.EdgeIndex edgeIndex;
+
 	/**
 	 * Creates a new empty path with a default winding rule of
 	 * {@link #WIND_NON_ZERO}.
@@ -367,6 +385,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience.
 	 */
 	public final Path add(List<Segment> segments) {
+		edgeIndex = null;
 		this.segments.addAll(segments);
 		return this;
 	}
@@ -379,6 +398,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience.
 	 */
 	public final Path add(Segment... segments) {
+		edgeIndex = null;
 		this.segments.addAll(Arrays.asList(segments));
 		return this;
 	}
@@ -390,14 +410,15 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience
 	 */
 	public final Path close() {
+		edgeIndex = null;
 		segments.add(new Segment(Segment.CLOSE));
 		return this;
 	}
 
 	@Override
 	public boolean contains(Point p) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTPoint(p));
+		return PathClipper.isInside(getEdgeIndex().getWinding(p.x, p.y),
+				windingRule);
 	}
 
 	/**
@@ -412,8 +433,19 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         within this {@link IGeometry}
 	 */
 	public boolean contains(Rectangle r) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTRectangle(r));
+		if (!(r.getWidth() > 0 && r.getHeight() > 0)) {
+			return false;
+		}
+		PathClipper.EdgeIndex index = getEdgeIndex();
+		if (index.intersectsInterior(r.getX(), r.getY(),
+				r.getX() + r.getWidth(), r.getY() + r.getHeight())) {
+			return false;
+		}
+		// as no edge passes through the rectangle, its center is
+		// representative for the whole rectangle
+		Point center = r.getCenter();
+		return PathClipper.isInside(index.getWinding(center.x, center.y),
+				windingRule);
 	}
 
 	/**
@@ -437,6 +469,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path cubicTo(double control1X, double control1Y,
 			double control2X, double control2Y, double x, double y) {
+		edgeIndex = null;
 		segments.add(
 				new Segment(Segment.CUBIC_TO, new Point(control1X, control1Y),
 						new Point(control2X, control2Y), new Point(x, y)));
@@ -474,6 +507,19 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return new Path(getWindingRule(), getSegments());
 	}
 
+	/**
+	 * Returns the {@link PathClipper.EdgeIndex} of the flattened outline of
+	 * this {@link Path}, creating it if necessary.
+	 *
+	 * @return The {@link PathClipper.EdgeIndex} of this {@link Path}.
+	 */
+	PathClipper.EdgeIndex getEdgeIndex() {
+		if (edgeIndex == null) {
+			edgeIndex = PathClipper.getEdgeIndex(this);
+		}
+		return edgeIndex;
+	}
+
 	/**
 	 * Returns a {@link List} of {@link ICurve}s, representing the outline of
 	 * <code>this</code> {@link Path}. For every {@link Segment#LINE_TO},
@@ -548,9 +594,12 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Path getTransformed(AffineTransform t) {
-		return AWT2Geometry
-				.toPath(new Path2D.Double(Geometry2AWT.toAWTPath(this),
-						Geometry2AWT.toAWTAffineTransform(t)));
+		Path transformed = new Path(windingRule);
+		for (Segment s : segments) {
+			transformed.segments
+					.add(new Segment(s.type, t.getTransformed(s.points)));
+		}
+		return transformed;
 	}
 
 	/**
@@ -563,6 +612,24 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return windingRule;
 	}
 
+	/**
+	 * Returns whether this {@link Path} consists of straight segments only,
+	 * i.e. it does not contain any {@link Segment#QUAD_TO} or
+	 * {@link Segment#CUBIC_TO} segments.
+	 *
+	 * @return <code>true</code> if this {@link Path} does not contain curved
+	 *         segments, otherwise <code>false</code>.
+	 */
+	boolean isPolygonal() {
+		for (Segment s : segments) {
+			if (s.getType() == Segment.QUAD_TO
+					|| s.getType() == Segment.CUBIC_TO) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Adds a straight line segment from the current position to the specified
 	 * end position.
@@ -574,6 +641,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience
 	 */
 	public final Path lineTo(double x, double y) {
+		edgeIndex = null;
 		segments.add(new Segment(Segment.LINE_TO, new Point(x, y)));
 		return this;
 	}
@@ -589,6 +657,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience
 	 */
 	public final Path moveTo(double x, double y) {
+		edgeIndex = null;
 		segments.add(new Segment(Segment.MOVE_TO, new Point(x, y)));
 		return this;
 	}
@@ -610,6 +679,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path quadTo(double controlX, double controlY, double x,
 			double y) {
+		edgeIndex = null;
 		segments.add(new Segment(Segment.QUAD_TO, new Point(controlX, controlY),
 				new Point(x, y)));
 		return this;
@@ -621,6 +691,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return <code>this</code> for convenience
 	 */
 	public final Path reset() {
+		edgeIndex = null;
 		segments.clear();
 		return this;
 	}
@@ -662,8 +733,17 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @see IGeometry#touches(IGeometry)
 	 */
 	public boolean touches(Rectangle r) {
-		return Geometry2AWT.toAWTPath(this)
-				.intersects(Geometry2AWT.toAWTRectangle(r));
+		if (!(r.getWidth() > 0 && r.getHeight() > 0)) {
+			return false;
+		}
+		PathClipper.EdgeIndex index = getEdgeIndex();
+		if (index.intersectsInterior(r.getX(), r.getY(),
+				r.getX() + r.getWidth(), r.getY() + r.getHeight())) {
+			return true;
+		}
+		Point center = r.getCenter();
+		return PathClipper.isInside(index.getWinding(center.x, center.y),
+				windingRule);
 	}
 
 }
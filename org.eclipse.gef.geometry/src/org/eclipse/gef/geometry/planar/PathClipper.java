@@ -0,0 +1,1546 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.internal.utils.PointListUtils;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * The {@link PathClipper} class provides the area related functionality of a
+ * {@link Path}, i.e. the indexing of its (implicitly closed) outline, the
+ * winding number based containment tests, and the boolean operations (union,
+ * intersection, difference, exclusive-or) that are exposed by {@link Path}
+ * for operands without curved segments.
+ *
+ * The boolean operations are computed on an arrangement of the flattened
+ * outlines of both operands: All edges are split at their mutual
+ * intersections, coincident edges are merged, and every resulting edge is
+ * classified by the winding numbers of both operands on either of its sides.
+ * Those edges that separate the interior of the result from its exterior are
+ * finally chained into closed rings.
+ *
+ * The {@link EdgeIndex} is also used by {@link Polygon}, {@link Ring}, and
+ * {@link CurvedPolygon} to cache their outlines for repeated containment
+ * tests.
+ *
+ * @author agent
+ *
+ */
+class PathClipper {
+
+	/**
+	 * An index over the (directed) edges of one or more closed outlines, which
+	 * allows to compute winding numbers and to test the edges against
+	 * rectangles. An edge is either a straight line or a quadratic or cubic
+	 * Bezier curve that is monotone in both x and y direction, so that its
+	 * bounds are spanned by its end points. The edges are distributed into
+	 * horizontal bands, so that a winding number computation only has to
+	 * consider the edges of a single band.
+	 */
+	static final class EdgeIndex {
+
+		private final double[] coords;
+		private final int[] degrees;
+		private final int[] owners;
+		private final int[] groups;
+		private final int size;
+
+		private double minX = Double.POSITIVE_INFINITY;
+		private double minY = Double.POSITIVE_INFINITY;
+		private double maxX = Double.NEGATIVE_INFINITY;
+		private double maxY = Double.NEGATIVE_INFINITY;
+		private double bandHeight;
+		private int[][] bands;
+
+		/**
+		 * Constructs a new {@link EdgeIndex} for the given edges.
+		 *
+		 * @param coords
+		 *            The coordinates of the control points of the edges,
+		 *            where those of the edge at index <i>i</i> are stored
+		 *            starting at index 8i.
+		 * @param degrees
+		 *            The degrees of the edges, or <code>null</code> in case
+		 *            all edges are straight lines.
+		 * @param size
+		 *            The number of edges.
+		 * @param owners
+		 *            The owners (i.e. the index of the winding number to which
+		 *            an edge contributes) of the edges, or <code>null</code>
+		 *            in case all edges belong to the same owner.
+		 * @param groups
+		 *            The groups of coincident edges, which can be excluded
+		 *            from a winding number computation, or <code>null</code>.
+		 */
+		EdgeIndex(double[] coords, int[] degrees, int size, int[] owners,
+				int[] groups) {
+			this.coords = coords;
+			this.degrees = degrees;
+			this.size = size;
+			this.owners = owners;
+			this.groups = groups;
+			for (int i = 0; i < size; i++) {
+				int end = getEnd(i);
+				minX = Math.min(minX, Math.min(coords[8 * i], coords[end]));
+				maxX = Math.max(maxX, Math.max(coords[8 * i], coords[end]));
+				minY = Math.min(minY,
+						Math.min(coords[8 * i + 1], coords[end + 1]));
+				maxY = Math.max(maxY,
+						Math.max(coords[8 * i + 1], coords[end + 1]));
+			}
+			int bandCount = size < 16 ? 1 : (int) Math.sqrt(size);
+			bandHeight = (maxY - minY) / bandCount;
+			if (!(bandHeight > 0)) {
+				bandCount = 1;
+			}
+			// count the edges per band, then fill the bands
+			int[] counts = new int[bandCount];
+			for (int i = 0; i < size; i++) {
+				int end = getEnd(i);
+				int last = getBand(bandCount,
+						Math.max(coords[8 * i + 1], coords[end + 1]));
+				for (int b = getBand(bandCount, Math.min(coords[8 * i + 1],
+						coords[end + 1])); b <= last; b++) {
+					counts[b]++;
+				}
+			}
+			bands = new int[bandCount][];
+			for (int b = 0; b < bandCount; b++) {
+				bands[b] = new int[counts[b]];
+				counts[b] = 0;
+			}
+			for (int i = 0; i < size; i++) {
+				int end = getEnd(i);
+				int last = getBand(bandCount,
+						Math.max(coords[8 * i + 1], coords[end + 1]));
+				for (int b = getBand(bandCount, Math.min(coords[8 * i + 1],
+						coords[end + 1])); b <= last; b++) {
+					bands[b][counts[b]++] = i;
+				}
+			}
+		}
+
+		/**
+		 * Computes the x coordinate of the point of the given (curved) edge
+		 * that has the given y coordinate, which has to lie within the
+		 * vertical extent of the edge.
+		 *
+		 * @param i
+		 *            The index of the edge.
+		 * @param y
+		 *            The y coordinate.
+		 * @return The x coordinate of the point of the edge at the given y
+		 *         coordinate.
+		 */
+		private double getX(int i, double y) {
+			int degree = getDegree(i);
+			boolean increasing = coords[getEnd(i) + 1] > coords[8 * i + 1];
+			// the edge is monotone, so the parameter can be found by bisection
+			double t1 = 0;
+			double t2 = 1;
+			double t = 0.5;
+			while (t1 < t && t < t2) {
+				if (evaluate(coords, 8 * i + 1, degree, t) < y == increasing) {
+					t1 = t;
+				} else {
+					t2 = t;
+				}
+				t = (t1 + t2) / 2;
+			}
+			return evaluate(coords, 8 * i, degree, t);
+		}
+
+		/**
+		 * Returns the index of the band that covers the given y coordinate.
+		 *
+		 * @param bandCount
+		 *            The number of bands.
+		 * @param y
+		 *            The y coordinate.
+		 * @return The index of the band that covers the given y coordinate.
+		 */
+		private int getBand(int bandCount, double y) {
+			if (bandCount == 1) {
+				return 0;
+			}
+			int band = (int) ((y - minY) / bandHeight);
+			return band < 0 ? 0 : band >= bandCount ? bandCount - 1 : band;
+		}
+
+		/**
+		 * Returns the degree of the given edge.
+		 *
+		 * @param i
+		 *            The index of the edge.
+		 * @return <code>1</code> for a straight line, <code>2</code> for a
+		 *         quadratic, and <code>3</code> for a cubic Bezier curve.
+		 */
+		int getDegree(int i) {
+			return degrees == null ? 1 : degrees[i];
+		}
+
+		/**
+		 * Returns the coordinates of the control points of the given edge.
+		 *
+		 * @param i
+		 *            The index of the edge.
+		 * @return A new array containing the coordinates of the control points
+		 *         of the given edge.
+		 */
+		double[] getControlPoints(int i) {
+			return Arrays.copyOfRange(coords, 8 * i, getEnd(i) + 2);
+		}
+
+		/**
+		 * Returns the number of edges.
+		 *
+		 * @return The number of edges.
+		 */
+		int size() {
+			return size;
+		}
+
+		/**
+		 * Returns the index of the x coordinate of the end point of the given
+		 * edge.
+		 *
+		 * @param i
+		 *            The index of the edge.
+		 * @return The index of the x coordinate of the end point.
+		 */
+		private int getEnd(int i) {
+			return 8 * i + 2 * getDegree(i);
+		}
+
+		/**
+		 * Returns the winding number of the given point, i.e. the number of
+		 * edges crossing the ray from the point to positive infinity in
+		 * positive y direction, minus the number of edges crossing it in
+		 * negative y direction. An edge is regarded to cross the ray if the y
+		 * coordinate of the point is within the half-open interval spanned by
+		 * the edge's y coordinates and the point lies strictly left of the
+		 * edge.
+		 *
+		 * @param x
+		 *            The x coordinate of the point.
+		 * @param y
+		 *            The y coordinate of the point.
+		 * @return The winding number of the given point.
+		 */
+		int getWinding(double x, double y) {
+			int[] windings = new int[1];
+			getWindings(x, y, -1, windings);
+			return windings[0];
+		}
+
+		/**
+		 * Adds the winding numbers of the given point to the given array,
+		 * where the contribution of each edge is added to the winding number
+		 * of its owner.
+		 *
+		 * @param x
+		 *            The x coordinate of the point.
+		 * @param y
+		 *            The y coordinate of the point.
+		 * @param excludedGroup
+		 *            The group of edges to exclude, or <code>-1</code>.
+		 * @param windings
+		 *            The winding numbers per owner, which are updated.
+		 * @see #getWinding(double, double)
+		 */
+		void getWindings(double x, double y, int excludedGroup,
+				int[] windings) {
+			if (size == 0 || y < minY || y >= maxY || x >= maxX) {
+				return;
+			}
+			for (int i : bands[getBand(bands.length, y)]) {
+				if (excludedGroup >= 0 && groups[i] == excludedGroup) {
+					continue;
+				}
+				int end = getEnd(i);
+				double x1 = coords[8 * i];
+				double y1 = coords[8 * i + 1];
+				double x2 = coords[end];
+				double y2 = coords[end + 1];
+				if (y < y1 && y < y2 || y >= y1 && y >= y2
+						|| x >= x1 && x >= x2) {
+					continue;
+				}
+				if (x >= x1 || x >= x2) {
+					double crossing = end == 8 * i + 2
+							? x1 + (y - y1) * (x2 - x1) / (y2 - y1)
+							: getX(i, y);
+					if (x >= crossing) {
+						continue;
+					}
+				}
+				windings[owners == null ? 0 : owners[i]] += y1 < y2 ? 1 : -1;
+			}
+		}
+
+		/**
+		 * Tests if any of the edges has a point in common with the interior
+		 * of the given rectangle, i.e. the rectangle without its boundary.
+		 *
+		 * @param x1
+		 *            The minimal x coordinate of the rectangle.
+		 * @param y1
+		 *            The minimal y coordinate of the rectangle.
+		 * @param x2
+		 *            The maximal x coordinate of the rectangle.
+		 * @param y2
+		 *            The maximal y coordinate of the rectangle.
+		 * @return <code>true</code> if an edge passes through the interior of
+		 *         the given rectangle, otherwise <code>false</code>.
+		 */
+		boolean intersectsInterior(double x1, double y1, double x2,
+				double y2) {
+			if (size == 0 || maxX <= x1 || minX >= x2 || maxY <= y1
+					|| minY >= y2) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				int end = getEnd(i);
+				if (Math.max(coords[8 * i], coords[end]) <= x1
+						|| Math.min(coords[8 * i], coords[end]) >= x2
+						|| Math.max(coords[8 * i + 1], coords[end + 1]) <= y1
+						|| Math.min(coords[8 * i + 1],
+								coords[end + 1]) >= y2) {
+					continue;
+				}
+				if (PathClipper.intersectsInterior(getControlPoints(i), 0, x1,
+						y1, x2, y2)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Tests if the given {@link Point} lies on one of the edges, within
+		 * the imprecision of {@link PrecisionUtils}. Only those edges are
+		 * tested, whose band covers the y coordinate of the {@link Point}.
+		 *
+		 * @param p
+		 *            The {@link Point} to test.
+		 * @return <code>true</code> if the given {@link Point} lies on an
+		 *         edge, otherwise <code>false</code>.
+		 */
+		boolean touches(Point p) {
+			// a superset of the tolerance applied by Line and BezierCurve
+			double margin = PrecisionUtils.calculateFraction(-1);
+			if (size == 0 || p.x < minX - margin || p.x > maxX + margin
+					|| p.y < minY - margin || p.y > maxY + margin) {
+				return false;
+			}
+			int last = getBand(bands.length, p.y + margin);
+			for (int b = getBand(bands.length, p.y - margin); b <= last; b++) {
+				for (int i : bands[b]) {
+					int end = getEnd(i);
+					if (Math.min(coords[8 * i], coords[end]) > p.x + margin
+							|| Math.max(coords[8 * i], coords[end]) < p.x
+									- margin
+							|| Math.min(coords[8 * i + 1],
+									coords[end + 1]) > p.y + margin
+							|| Math.max(coords[8 * i + 1],
+									coords[end + 1]) < p.y - margin) {
+						continue;
+					}
+					if (end == 8 * i + 2
+							? new Line(coords[8 * i], coords[8 * i + 1],
+									coords[end], coords[end + 1]).contains(p)
+							: new BezierCurve(getControlPoints(i))
+									.contains(p)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * A growable sequence of coordinates, used to collect the points of a
+	 * flattened curve.
+	 */
+	private static final class CoordinateBuffer {
+
+		private double[] coords = new double[16];
+		private int size;
+
+		/**
+		 * Appends the given point to this {@link CoordinateBuffer}, unless it
+		 * equals the last point.
+		 *
+		 * @param x
+		 *            The x coordinate of the point.
+		 * @param y
+		 *            The y coordinate of the point.
+		 */
+		void add(double x, double y) {
+			if (size > 0 && coords[size - 2] == x && coords[size - 1] == y) {
+				return;
+			}
+			if (size == coords.length) {
+				coords = Arrays.copyOf(coords, 2 * size);
+			}
+			coords[size++] = x;
+			coords[size++] = y;
+		}
+
+	}
+
+	/**
+	 * A growable list of edges, used to collect the edges of a {@link Path}
+	 * for an {@link EdgeIndex}.
+	 */
+	private static final class PieceList {
+
+		private double[] coords = new double[64];
+		private int[] degrees = new int[8];
+		private int size;
+
+		/**
+		 * Appends the Bezier curve defined by the given control point
+		 * coordinates, unless it is degenerated to a single point.
+		 *
+		 * @param c
+		 *            The coordinates of the control points.
+		 */
+		void add(double[] c) {
+			int n = c.length;
+			if (c[0] == c[n - 2] && c[1] == c[n - 1]) {
+				return;
+			}
+			if (size == degrees.length) {
+				coords = Arrays.copyOf(coords, 16 * size);
+				degrees = Arrays.copyOf(degrees, 2 * size);
+			}
+			System.arraycopy(c, 0, coords, 8 * size, n);
+			degrees[size++] = n / 2 - 1;
+		}
+
+		/**
+		 * Appends the line between the given points, unless they are equal.
+		 *
+		 * @param x1
+		 *            The x coordinate of the start point.
+		 * @param y1
+		 *            The y coordinate of the start point.
+		 * @param x2
+		 *            The x coordinate of the end point.
+		 * @param y2
+		 *            The y coordinate of the end point.
+		 */
+		void add(double x1, double y1, double x2, double y2) {
+			add(new double[] { x1, y1, x2, y2 });
+		}
+
+		/**
+		 * Appends the Bezier curve defined by the given control point
+		 * coordinates, split into pieces that are monotone in x and y
+		 * direction.
+		 *
+		 * @param c
+		 *            The coordinates of the control points.
+		 */
+		void addMonotone(double[] c) {
+			double[] extrema = new double[4];
+			int count = addExtrema(c, 1, extrema, addExtrema(c, 0, extrema, 0));
+			Arrays.sort(extrema, 0, count);
+			double[] rest = c;
+			double start = 0;
+			for (int i = 0; i < count; i++) {
+				// map the parameter to the remaining part of the curve
+				double t = (extrema[i] - start) / (1 - start);
+				if (t > 0 && t < 1) {
+					double[] left = new double[c.length];
+					double[] right = new double[c.length];
+					subdivide(rest, t, left, right);
+					add(left);
+					rest = right;
+					start = extrema[i];
+				}
+			}
+			add(rest);
+		}
+
+	}
+
+	/**
+	 * The arrangement of the flattened outlines of two {@link Path}s, on which
+	 * a boolean operation is evaluated.
+	 */
+	private static final class Arrangement {
+
+		private final VertexTable vertices = new VertexTable();
+
+		// edges as (from, to, owner) triples
+		private int[] edges = new int[48];
+		private int edgeCount;
+
+		// the vertices at which the edges have to be split
+		private int[][] splits;
+		private int[] splitCounts;
+
+		/**
+		 * Adds the edges of the given {@link EdgeIndex} to this
+		 * {@link Arrangement}, flattening its curved edges.
+		 *
+		 * @param index
+		 *            The {@link EdgeIndex} whose edges to add.
+		 * @param owner
+		 *            The operand (<code>0</code> or <code>1</code>) the edges
+		 *            belong to.
+		 */
+		void add(EdgeIndex index, int owner) {
+			for (int i = 0; i < index.size(); i++) {
+				double[] c = index.getControlPoints(i);
+				int previous = vertices.get(c[0], c[1]);
+				if (c.length == 4) {
+					addEdge(previous, vertices.get(c[2], c[3]), owner);
+					continue;
+				}
+				CoordinateBuffer points = new CoordinateBuffer();
+				flatten(c, 0, points);
+				for (int j = 0; j < points.size; j += 2) {
+					int current = vertices.get(points.coords[j],
+							points.coords[j + 1]);
+					addEdge(previous, current, owner);
+					previous = current;
+				}
+			}
+		}
+
+		/**
+		 * Adds a new edge to this {@link Arrangement}, unless it is
+		 * degenerated.
+		 *
+		 * @param from
+		 *            The start vertex of the edge.
+		 * @param to
+		 *            The end vertex of the edge.
+		 * @param owner
+		 *            The owner of the edge.
+		 */
+		private void addEdge(int from, int to, int owner) {
+			if (from == to) {
+				return;
+			}
+			if (3 * edgeCount == edges.length) {
+				edges = Arrays.copyOf(edges, 2 * edges.length);
+			}
+			edges[3 * edgeCount] = from;
+			edges[3 * edgeCount + 1] = to;
+			edges[3 * edgeCount + 2] = owner;
+			edgeCount++;
+		}
+
+		/**
+		 * Appends the given ring of vertices as a closed sub-path to the given
+		 * {@link Path}, omitting vertices that lie on the straight line
+		 * between their neighbors.
+		 *
+		 * @param path
+		 *            The {@link Path} to append to.
+		 * @param ring
+		 *            The vertices of the ring.
+		 * @param size
+		 *            The number of vertices of the ring.
+		 */
+		private void addRing(Path path, int[] ring, int size) {
+			boolean empty = true;
+			for (int i = 0; i < size; i++) {
+				int previous = ring[(i + size - 1) % size];
+				int next = ring[(i + 1) % size];
+				double x = vertices.getX(ring[i]);
+				double y = vertices.getY(ring[i]);
+				double dx = vertices.getX(next) - vertices.getX(previous);
+				double dy = vertices.getY(next) - vertices.getY(previous);
+				double px = x - vertices.getX(previous);
+				double py = y - vertices.getY(previous);
+				double cross = px * dy - py * dx;
+				if (cross * cross <= SNAP * SNAP * (dx * dx + dy * dy)
+						&& px * dx + py * dy > 0
+						&& (vertices.getX(next) - x) * dx
+								+ (vertices.getY(next) - y) * dy > 0) {
+					continue;
+				}
+				if (empty) {
+					path.moveTo(x, y);
+					empty = false;
+				} else {
+					path.lineTo(x, y);
+				}
+			}
+			if (!empty) {
+				path.close();
+			}
+		}
+
+		/**
+		 * Registers the given vertex as a split vertex of the given edge.
+		 *
+		 * @param edge
+		 *            The edge to split.
+		 * @param vertex
+		 *            The vertex at which to split the edge.
+		 */
+		private void addSplit(int edge, int vertex) {
+			if (splits[edge] == null) {
+				splits[edge] = new int[2];
+			} else if (splitCounts[edge] == splits[edge].length) {
+				splits[edge] = Arrays.copyOf(splits[edge],
+						2 * splits[edge].length);
+			}
+			splits[edge][splitCounts[edge]++] = vertex;
+		}
+
+		/**
+		 * Computes the winding numbers of both operands on either side of
+		 * every (merged) edge and returns a {@link Path} that consists of
+		 * those edges that separate the interior of the result of the given
+		 * operation from its exterior.
+		 *
+		 * @param operation
+		 *            The boolean operation to evaluate.
+		 * @param windingRuleA
+		 *            The winding rule of the first operand.
+		 * @param windingRuleB
+		 *            The winding rule of the second operand.
+		 * @return The {@link Path} representing the result of the operation.
+		 */
+		Path evaluate(int operation, int windingRuleA, int windingRuleB) {
+			split();
+			int[] subEdges = getSubEdges();
+			int subEdgeCount = subEdges.length / 3;
+
+			// merge coincident sub-edges into groups
+			Map<Long, Integer> groupIds = new HashMap<>();
+			int[] groups = new int[subEdgeCount];
+			int[] groupHeads = new int[subEdgeCount];
+			int[] nextInGroup = new int[subEdgeCount];
+			int groupCount = 0;
+			int[] owners = new int[subEdgeCount];
+			double[] coords = new double[8 * subEdgeCount];
+			double[] swappedCoords = new double[8 * subEdgeCount];
+			for (int i = 0; i < subEdgeCount; i++) {
+				int from = subEdges[3 * i];
+				int to = subEdges[3 * i + 1];
+				owners[i] = subEdges[3 * i + 2];
+				long key = ((long) Math.min(from, to) << 32)
+						| Math.max(from, to);
+				Integer group = groupIds.get(key);
+				if (group == null) {
+					group = groupCount++;
+					groupIds.put(key, group);
+					groupHeads[group] = i;
+					nextInGroup[i] = -1;
+				} else {
+					nextInGroup[i] = groupHeads[group];
+					groupHeads[group] = i;
+				}
+				groups[i] = group;
+				coords[8 * i] = swappedCoords[8 * i + 1] = vertices.getX(from);
+				coords[8 * i + 1] = swappedCoords[8 * i] = vertices.getY(from);
+				coords[8 * i + 2] = swappedCoords[8 * i + 3] = vertices
+						.getX(to);
+				coords[8 * i + 3] = swappedCoords[8 * i + 2] = vertices
+						.getY(to);
+			}
+
+			// Winding numbers are computed along a horizontal ray for steep
+			// edges, and along a vertical ray (i.e. a horizontal ray in
+			// swapped coordinates) for flat edges. Mirroring the coordinates
+			// only negates all winding numbers, which does not affect the
+			// classification.
+			EdgeIndex index = new EdgeIndex(coords, null, subEdgeCount,
+					owners, groups);
+			EdgeIndex swappedIndex = null;
+			int[] boundary = new int[2 * groupCount];
+			int boundaryCount = 0;
+			int[] after = new int[2];
+			int[] before = new int[2];
+			for (int g = 0; g < groupCount; g++) {
+				int head = groupHeads[g];
+				double dx = coords[8 * head + 2] - coords[8 * head];
+				double dy = coords[8 * head + 3] - coords[8 * head + 1];
+				boolean swapped = Math.abs(dx) > Math.abs(dy);
+				double[] frame = coords;
+				if (swapped) {
+					if (swappedIndex == null) {
+						swappedIndex = new EdgeIndex(swappedCoords, null,
+								subEdgeCount, owners, groups);
+					}
+					frame = swappedCoords;
+				}
+				// winding numbers on the side of positive x, excluding the
+				// edges of the group itself
+				after[0] = after[1] = 0;
+				(swapped ? swappedIndex : index).getWindings(
+						(frame[8 * head] + frame[8 * head + 2]) / 2,
+						(frame[8 * head + 1] + frame[8 * head + 3]) / 2, g,
+						after);
+				// the winding numbers on the side of negative x also comprise
+				// the edges of the group
+				before[0] = after[0];
+				before[1] = after[1];
+				for (int i = head; i >= 0; i = nextInGroup[i]) {
+					before[owners[i]] += frame[8 * i + 1] < frame[8 * i + 3]
+							? 1 : -1;
+				}
+				boolean insideAfter = isInside(operation, after, windingRuleA,
+						windingRuleB);
+				if (insideAfter != isInside(operation, before, windingRuleA,
+						windingRuleB)) {
+					// orient the edge so that the interior is on its left
+					double tx = swapped ? 0 : insideAfter ? 1 : -1;
+					double ty = swapped ? insideAfter ? 1 : -1 : 0;
+					boolean forward = dx * ty - dy * tx > 0;
+					boundary[2 * boundaryCount] = subEdges[3 * head
+							+ (forward ? 0 : 1)];
+					boundary[2 * boundaryCount + 1] = subEdges[3 * head
+							+ (forward ? 1 : 0)];
+					boundaryCount++;
+				}
+			}
+			return toPath(boundary, boundaryCount);
+		}
+
+		/**
+		 * Returns the sub-edges that result from splitting all edges at their
+		 * split vertices.
+		 *
+		 * @return The sub-edges as (from, to, owner) triples.
+		 */
+		private int[] getSubEdges() {
+			int count = edgeCount;
+			for (int e = 0; e < edgeCount; e++) {
+				count += splitCounts[e];
+			}
+			int[] subEdges = new int[3 * count];
+			int size = 0;
+			for (int e = 0; e < edgeCount; e++) {
+				int from = edges[3 * e];
+				int to = edges[3 * e + 1];
+				int owner = edges[3 * e + 2];
+				int n = splitCounts[e];
+				if (n > 0) {
+					// sort the split vertices along the edge
+					double x = vertices.getX(from);
+					double y = vertices.getY(from);
+					double dx = vertices.getX(to) - x;
+					double dy = vertices.getY(to) - y;
+					int[] split = splits[e];
+					double[] keys = new double[n];
+					for (int i = 0; i < n; i++) {
+						keys[i] = (vertices.getX(split[i]) - x) * dx
+								+ (vertices.getY(split[i]) - y) * dy;
+						for (int j = i; j > 0 && keys[j - 1] > keys[j]; j--) {
+							double key = keys[j];
+							keys[j] = keys[j - 1];
+							keys[j - 1] = key;
+							int vertex = split[j];
+							split[j] = split[j - 1];
+							split[j - 1] = vertex;
+						}
+					}
+					for (int i = 0; i < n; i++) {
+						if (split[i] != from && split[i] != to) {
+							subEdges[size++] = from;
+							subEdges[size++] = split[i];
+							subEdges[size++] = owner;
+							from = split[i];
+						}
+					}
+				}
+				subEdges[size++] = from;
+				subEdges[size++] = to;
+				subEdges[size++] = owner;
+			}
+			return Arrays.copyOf(subEdges, size);
+		}
+
+		/**
+		 * Tests if the given edges intersect and registers the intersection
+		 * as a split vertex of the respective edges. Edges that share an end
+		 * point or overlap are split at the respective end points.
+		 *
+		 * @param e
+		 *            The first edge.
+		 * @param f
+		 *            The second edge.
+		 */
+		private void intersect(int e, int f) {
+			int p1 = edges[3 * e];
+			int p2 = edges[3 * e + 1];
+			int q1 = edges[3 * f];
+			int q2 = edges[3 * f + 1];
+			// end points that lie on the other edge (this covers touching as
+			// well as overlapping edges)
+			boolean touching = touches(q1, e) | touches(q2, e)
+					| touches(p1, f) | touches(p2, f);
+			if (touching) {
+				return;
+			}
+			double px = vertices.getX(p1);
+			double py = vertices.getY(p1);
+			double rx = vertices.getX(p2) - px;
+			double ry = vertices.getY(p2) - py;
+			double qx = vertices.getX(q1) - px;
+			double qy = vertices.getY(q1) - py;
+			double sx = vertices.getX(q2) - vertices.getX(q1);
+			double sy = vertices.getY(q2) - vertices.getY(q1);
+			double d = rx * sy - ry * sx;
+			if (d == 0) {
+				return;
+			}
+			double t = (qx * sy - qy * sx) / d;
+			double u = (qx * ry - qy * rx) / d;
+			if (t <= 0 || t >= 1 || u <= 0 || u >= 1) {
+				return;
+			}
+			int vertex = vertices.get(px + t * rx, py + t * ry);
+			if (vertex != p1 && vertex != p2) {
+				addSplit(e, vertex);
+			}
+			if (vertex != q1 && vertex != q2) {
+				addSplit(f, vertex);
+			}
+		}
+
+		/**
+		 * Splits all edges at their mutual intersections. The edges are
+		 * sorted by their minimal x coordinates, so that only those pairs of
+		 * edges have to be tested whose bounds overlap.
+		 */
+		private void split() {
+			splits = new int[edgeCount][];
+			splitCounts = new int[edgeCount];
+			final double[] bounds = new double[4 * edgeCount];
+			Integer[] order = new Integer[edgeCount];
+			for (int e = 0; e < edgeCount; e++) {
+				double x1 = vertices.getX(edges[3 * e]);
+				double y1 = vertices.getY(edges[3 * e]);
+				double x2 = vertices.getX(edges[3 * e + 1]);
+				double y2 = vertices.getY(edges[3 * e + 1]);
+				bounds[4 * e] = Math.min(x1, x2) - SNAP;
+				bounds[4 * e + 1] = Math.min(y1, y2) - SNAP;
+				bounds[4 * e + 2] = Math.max(x1, x2) + SNAP;
+				bounds[4 * e + 3] = Math.max(y1, y2) + SNAP;
+				order[e] = e;
+			}
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer e, Integer f) {
+					return Double.compare(bounds[4 * e], bounds[4 * f]);
+				}
+			});
+			for (int i = 0; i < edgeCount; i++) {
+				int e = order[i];
+				for (int j = i + 1; j < edgeCount
+						&& bounds[4 * order[j]] <= bounds[4 * e + 2]; j++) {
+					int f = order[j];
+					if (bounds[4 * f + 1] <= bounds[4 * e + 3]
+							&& bounds[4 * e + 1] <= bounds[4 * f + 3]) {
+						intersect(e, f);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Chains the given directed boundary edges into closed rings.
+		 *
+		 * @param boundary
+		 *            The boundary edges as (from, to) pairs.
+		 * @param count
+		 *            The number of boundary edges.
+		 * @return A {@link Path} consisting of the closed rings.
+		 */
+		private Path toPath(int[] boundary, int count) {
+			// outgoing edges per vertex
+			int vertexCount = vertices.size();
+			int[] firstOut = new int[vertexCount + 1];
+			for (int i = 0; i < count; i++) {
+				firstOut[boundary[2 * i] + 1]++;
+			}
+			for (int v = 0; v < vertexCount; v++) {
+				firstOut[v + 1] += firstOut[v];
+			}
+			int[] nextOut = Arrays.copyOf(firstOut, vertexCount);
+			int[] outgoing = new int[count];
+			for (int i = 0; i < count; i++) {
+				outgoing[nextOut[boundary[2 * i]]++] = i;
+			}
+			System.arraycopy(firstOut, 0, nextOut, 0, vertexCount);
+
+			Path path = new Path();
+			boolean[] used = new boolean[count];
+			int[] ring = new int[count];
+			for (int i = 0; i < count; i++) {
+				if (used[i]) {
+					continue;
+				}
+				int start = boundary[2 * i];
+				int size = 0;
+				int edge = i;
+				while (edge >= 0) {
+					used[edge] = true;
+					ring[size++] = boundary[2 * edge];
+					int vertex = boundary[2 * edge + 1];
+					if (vertex == start) {
+						break;
+					}
+					// continue with an unused outgoing edge
+					edge = -1;
+					while (nextOut[vertex] < firstOut[vertex + 1]) {
+						int candidate = outgoing[nextOut[vertex]++];
+						if (!used[candidate]) {
+							edge = candidate;
+							break;
+						}
+					}
+				}
+				addRing(path, ring, size);
+			}
+			return path;
+		}
+
+		/**
+		 * Tests if the given vertex lies on the given edge. If so, and if it
+		 * is not an end point of the edge, it is registered as a split vertex
+		 * of the edge.
+		 *
+		 * @param vertex
+		 *            The vertex to test.
+		 * @param edge
+		 *            The edge to test.
+		 * @return <code>true</code> if the vertex lies on the edge, otherwise
+		 *         <code>false</code>.
+		 */
+		private boolean touches(int vertex, int edge) {
+			int from = edges[3 * edge];
+			int to = edges[3 * edge + 1];
+			if (vertex == from || vertex == to) {
+				return true;
+			}
+			double x = vertices.getX(from);
+			double y = vertices.getY(from);
+			double dx = vertices.getX(to) - x;
+			double dy = vertices.getY(to) - y;
+			double px = vertices.getX(vertex) - x;
+			double py = vertices.getY(vertex) - y;
+			double t = (px * dx + py * dy) / (dx * dx + dy * dy);
+			if (t <= 0 || t >= 1) {
+				return false;
+			}
+			double ex = px - t * dx;
+			double ey = py - t * dy;
+			if (ex * ex + ey * ey > SNAP * SNAP) {
+				return false;
+			}
+			addSplit(edge, vertex);
+			return true;
+		}
+
+	}
+
+	/**
+	 * A table of vertices, which identifies points whose coordinates differ
+	 * by at most {@link PathClipper#SNAP}.
+	 */
+	private static final class VertexTable {
+
+		private double[] coords = new double[64];
+		private int size;
+		private final Map<Long, int[]> cells = new HashMap<>();
+
+		/**
+		 * Returns the index of the vertex at the given position, creating a
+		 * new vertex if none is located within snapping distance.
+		 *
+		 * @param x
+		 *            The x coordinate of the vertex.
+		 * @param y
+		 *            The y coordinate of the vertex.
+		 * @return The index of the vertex.
+		 */
+		int get(double x, double y) {
+			long cx = (long) Math.floor(x / SNAP);
+			long cy = (long) Math.floor(y / SNAP);
+			for (long i = cx - 1; i <= cx + 1; i++) {
+				for (long j = cy - 1; j <= cy + 1; j++) {
+					int[] cell = cells.get(getKey(i, j));
+					if (cell == null) {
+						continue;
+					}
+					for (int k = 1; k <= cell[0]; k++) {
+						int v = cell[k];
+						if (Math.abs(coords[2 * v] - x) <= SNAP
+								&& Math.abs(coords[2 * v + 1] - y) <= SNAP) {
+							return v;
+						}
+					}
+				}
+			}
+			// create a new vertex
+			if (2 * size == coords.length) {
+				coords = Arrays.copyOf(coords, 2 * coords.length);
+			}
+			coords[2 * size] = x;
+			coords[2 * size + 1] = y;
+			Long key = getKey(cx, cy);
+			int[] cell = cells.get(key);
+			if (cell == null) {
+				cell = new int[2];
+			} else if (cell[0] + 1 == cell.length) {
+				cell = Arrays.copyOf(cell, 2 * cell.length);
+			}
+			cell[++cell[0]] = size;
+			cells.put(key, cell);
+			return size++;
+		}
+
+		/**
+		 * Computes the hash key of the given grid cell. Different cells may
+		 * share a key, which is compensated by comparing the coordinates of
+		 * the vertices within a cell.
+		 *
+		 * @param cx
+		 *            The horizontal index of the cell.
+		 * @param cy
+		 *            The vertical index of the cell.
+		 * @return The key of the cell.
+		 */
+		private static long getKey(long cx, long cy) {
+			return cx * 0x9E3779B97F4A7C15L + cy;
+		}
+
+		/**
+		 * Returns the x coordinate of the given vertex.
+		 *
+		 * @param vertex
+		 *            The index of the vertex.
+		 * @return The x coordinate of the vertex.
+		 */
+		double getX(int vertex) {
+			return coords[2 * vertex];
+		}
+
+		/**
+		 * Returns the y coordinate of the given vertex.
+		 *
+		 * @param vertex
+		 *            The index of the vertex.
+		 * @return The y coordinate of the vertex.
+		 */
+		double getY(int vertex) {
+			return coords[2 * vertex + 1];
+		}
+
+		/**
+		 * Returns the number of vertices.
+		 *
+		 * @return The number of vertices.
+		 */
+		int size() {
+			return size;
+		}
+
+	}
+
+	/**
+	 * Boolean operation computing the area covered by either operand.
+	 */
+	static final int UNION = 0;
+
+	/**
+	 * Boolean operation computing the area covered by both operands.
+	 */
+	static final int INTERSECTION = 1;
+
+	/**
+	 * Boolean operation computing the area covered by the first but not the
+	 * second operand.
+	 */
+	static final int DIFFERENCE = 2;
+
+	/**
+	 * Boolean operation computing the area covered by exactly one operand.
+	 */
+	static final int EXCLUSIVE_OR = 3;
+
+	/**
+	 * The maximal distance between a curve and its flattened approximation.
+	 */
+	private static final double FLATNESS = PrecisionUtils.calculateFraction(-3);
+
+	/**
+	 * The maximal number of recursive subdivisions of a curve.
+	 */
+	private static final int MAX_SUBDIVISION_DEPTH = 16;
+
+	/**
+	 * The distance up to which points are regarded to be identical when
+	 * computing boolean operations.
+	 */
+	private static final double SNAP = PrecisionUtils.calculateFraction(3);
+
+	/**
+	 * Adds the parameter values in (0, 1) at which the derivative of the
+	 * Bezier curve defined by the given control point coordinates vanishes in
+	 * the given dimension to the given array.
+	 *
+	 * @param c
+	 *            The coordinates of the control points of a quadratic or
+	 *            cubic Bezier curve.
+	 * @param dim
+	 *            The dimension, i.e. <code>0</code> for x and <code>1</code>
+	 *            for y.
+	 * @param extrema
+	 *            The array to add the parameter values to.
+	 * @param count
+	 *            The number of parameter values already stored in the array.
+	 * @return The number of parameter values stored in the array.
+	 */
+	private static int addExtrema(double[] c, int dim, double[] extrema,
+			int count) {
+		double d0 = c[2 + dim] - c[dim];
+		double d1 = c[4 + dim] - c[2 + dim];
+		double[] roots;
+		if (c.length == 6) {
+			roots = new double[] { d0 / (d0 - d1) };
+		} else {
+			// the derivative is a * t^2 + b * t + d0
+			double d2 = c[6 + dim] - c[4 + dim];
+			double a = d0 - 2 * d1 + d2;
+			double b = 2 * (d1 - d0);
+			if (a == 0) {
+				roots = new double[] { -d0 / b };
+			} else {
+				double discriminant = b * b - 4 * a * d0;
+				if (discriminant < 0) {
+					return count;
+				}
+				double root = Math.sqrt(discriminant);
+				roots = new double[] { (-b + root) / (2 * a),
+						(-b - root) / (2 * a) };
+			}
+		}
+		for (double t : roots) {
+			if (t > 0 && t < 1) {
+				extrema[count++] = t;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Clips the parameter interval of an edge against one boundary line of a
+	 * rectangle (one step of the Liang-Barsky algorithm).
+	 *
+	 * @param p
+	 *            The negated (or not) delta of the edge perpendicular to the
+	 *            boundary line.
+	 * @param q
+	 *            The distance of the edge's start point to the boundary line.
+	 * @param t
+	 *            The parameter interval, which is updated.
+	 * @return <code>false</code> if the interval got empty, otherwise
+	 *         <code>true</code>.
+	 */
+	private static boolean clip(double p, double q, double[] t) {
+		if (p == 0) {
+			return q >= 0;
+		}
+		double r = q / p;
+		if (p < 0) {
+			t[0] = Math.max(t[0], r);
+		} else {
+			t[1] = Math.min(t[1], r);
+		}
+		return t[0] <= t[1];
+	}
+
+	/**
+	 * Computes the result of the given boolean operation for the given
+	 * {@link Path}s. Curved segments are flattened, so the resulting
+	 * {@link Path} consists of closed rings of straight line segments, and
+	 * uses the {@link Path#WIND_NON_ZERO} winding rule. {@link Path} therefore
+	 * only delegates to this method if both operands consist of straight
+	 * segments only.
+	 *
+	 * @param pa
+	 *            The first operand.
+	 * @param pb
+	 *            The second operand.
+	 * @param operation
+	 *            One of {@link #UNION}, {@link #INTERSECTION},
+	 *            {@link #DIFFERENCE}, or {@link #EXCLUSIVE_OR}.
+	 * @return The {@link Path} representing the result of the operation.
+	 */
+	static Path combine(Path pa, Path pb, int operation) {
+		Arrangement arrangement = new Arrangement();
+		arrangement.add(pa.getEdgeIndex(), 0);
+		arrangement.add(pb.getEdgeIndex(), 1);
+		return arrangement.evaluate(operation, pa.getWindingRule(),
+				pb.getWindingRule());
+	}
+
+	/**
+	 * Evaluates one coordinate of the Bezier curve of degree 1 to 3 defined
+	 * by the given control point coordinates.
+	 *
+	 * @param c
+	 *            The coordinates of the control points.
+	 * @param offset
+	 *            The index of the coordinate of the first control point.
+	 * @param degree
+	 *            The degree of the curve.
+	 * @param t
+	 *            The parameter value.
+	 * @return The coordinate of the curve's point at the given parameter.
+	 */
+	private static double evaluate(double[] c, int offset, int degree,
+			double t) {
+		double s = 1 - t;
+		switch (degree) {
+		case 1:
+			return s * c[offset] + t * c[offset + 2];
+		case 2:
+			return s * s * c[offset] + 2 * s * t * c[offset + 2]
+					+ t * t * c[offset + 4];
+		default:
+			return s * s * s * c[offset] + 3 * s * s * t * c[offset + 2]
+					+ 3 * s * t * t * c[offset + 4] + t * t * t * c[offset + 6];
+		}
+	}
+
+	/**
+	 * Appends the flattened approximation of the Bezier curve defined by the
+	 * given control point coordinates to the given {@link CoordinateBuffer}
+	 * (excluding the start point).
+	 *
+	 * @param c
+	 *            The coordinates of the control points.
+	 * @param depth
+	 *            The current subdivision depth.
+	 * @param points
+	 *            The {@link CoordinateBuffer} to append to.
+	 */
+	private static void flatten(double[] c, int depth,
+			CoordinateBuffer points) {
+		if (depth < MAX_SUBDIVISION_DEPTH && !isFlat(c, FLATNESS)) {
+			double[] left = new double[c.length];
+			double[] right = new double[c.length];
+			subdivide(c, 0.5, left, right);
+			flatten(left, depth + 1, points);
+			flatten(right, depth + 1, points);
+		} else {
+			points.add(c[c.length - 2], c[c.length - 1]);
+		}
+	}
+
+	/**
+	 * Creates an {@link EdgeIndex} for the closed outline formed by the given
+	 * connected {@link BezierCurve}s, which are split into pieces that are
+	 * monotone in x and y direction.
+	 *
+	 * @param curves
+	 *            The {@link BezierCurve}s to index.
+	 * @return An {@link EdgeIndex} for the given {@link BezierCurve}s, or
+	 *         <code>null</code> in case one of them is of a degree greater
+	 *         than three.
+	 */
+	static EdgeIndex getEdgeIndex(BezierCurve[] curves) {
+		for (BezierCurve curve : curves) {
+			if (curve.getPoints().length > 4) {
+				return null;
+			}
+		}
+		PieceList pieces = new PieceList();
+		for (BezierCurve curve : curves) {
+			double[] c = PointListUtils
+					.toCoordinatesArray(curve.getPoints());
+			if (c.length == 4) {
+				pieces.add(c);
+			} else {
+				pieces.addMonotone(c);
+			}
+		}
+		return new EdgeIndex(pieces.coords, pieces.degrees, pieces.size,
+				null, null);
+	}
+
+	/**
+	 * Creates an {@link EdgeIndex} for the outline of the given {@link Path}.
+	 * Every sub-path is implicitly closed, and curved segments are split into
+	 * pieces that are monotone in x and y direction.
+	 *
+	 * @param path
+	 *            The {@link Path} to index.
+	 * @return An {@link EdgeIndex} for the given {@link Path}.
+	 * @throws IllegalStateException
+	 *             if the {@link Path} does not start with a
+	 *             {@link Segment#MOVE_TO}.
+	 */
+	static EdgeIndex getEdgeIndex(Path path) {
+		PieceList pieces = new PieceList();
+		Point moveTo = null;
+		Point current = null;
+		for (Segment s : path.getSegments()) {
+			Point[] points = s.getPoints();
+			if (s.getType() == Segment.MOVE_TO) {
+				if (current != null) {
+					pieces.add(current.x, current.y, moveTo.x, moveTo.y);
+				}
+				moveTo = current = points[0];
+				continue;
+			}
+			if (moveTo == null) {
+				throw new IllegalStateException(
+						"This Path does not start with a MOVE_TO, therefore, no start position could be determined.");
+			}
+			if (s.getType() == Segment.CLOSE) {
+				pieces.add(current.x, current.y, moveTo.x, moveTo.y);
+				current = moveTo;
+				continue;
+			}
+			Point end = points[points.length - 1];
+			if (s.getType() == Segment.LINE_TO) {
+				pieces.add(current.x, current.y, end.x, end.y);
+			} else {
+				double[] c = new double[2 * points.length + 2];
+				c[0] = current.x;
+				c[1] = current.y;
+				for (int i = 0; i < points.length; i++) {
+					c[2 * i + 2] = points[i].x;
+					c[2 * i + 3] = points[i].y;
+				}
+				pieces.addMonotone(c);
+			}
+			current = end;
+		}
+		if (current != null) {
+			pieces.add(current.x, current.y, moveTo.x, moveTo.y);
+		}
+		return new EdgeIndex(pieces.coords, pieces.degrees, pieces.size,
+				null, null);
+	}
+
+	/**
+	 * Creates an {@link EdgeIndex} for the outlines of the given
+	 * {@link Polygon}s. Each outline is oriented counter-clockwise, so that
+	 * the winding numbers of the interiors of non-overlapping {@link Polygon}s
+	 * add up consistently.
+	 *
+	 * @param polygons
+	 *            The {@link Polygon}s to index.
+	 * @return An {@link EdgeIndex} for the given {@link Polygon}s.
+	 */
+	static EdgeIndex getEdgeIndex(Polygon... polygons) {
+		PieceList pieces = new PieceList();
+		for (Polygon polygon : polygons) {
+			Point[] points = polygon.points;
+			boolean reverse = polygon.getSignedArea() < 0;
+			for (int i = 0; i < points.length; i++) {
+				Point p = points[reverse ? points.length - 1 - i : i];
+				Point q = points[reverse
+						? (2 * points.length - 2 - i) % points.length
+						: (i + 1) % points.length];
+				pieces.add(p.x, p.y, q.x, q.y);
+			}
+		}
+		return new EdgeIndex(pieces.coords, null, pieces.size, null, null);
+	}
+
+	/**
+	 * Tests if the Bezier curve defined by the given control point
+	 * coordinates, which has to be monotone in x and y direction, has a point
+	 * in common with the interior of the given rectangle.
+	 *
+	 * @param c
+	 *            The coordinates of the control points.
+	 * @param depth
+	 *            The current subdivision depth.
+	 * @param x1
+	 *            The minimal x coordinate of the rectangle.
+	 * @param y1
+	 *            The minimal y coordinate of the rectangle.
+	 * @param x2
+	 *            The maximal x coordinate of the rectangle.
+	 * @param y2
+	 *            The maximal y coordinate of the rectangle.
+	 * @return <code>true</code> if the curve passes through the interior of
+	 *         the given rectangle, otherwise <code>false</code>.
+	 */
+	private static boolean intersectsInterior(double[] c, int depth,
+			double x1, double y1, double x2, double y2) {
+		int n = c.length;
+		double sx = c[0];
+		double sy = c[1];
+		double ex = c[n - 2];
+		double ey = c[n - 1];
+		if (Math.max(sx, ex) <= x1 || Math.min(sx, ex) >= x2
+				|| Math.max(sy, ey) <= y1 || Math.min(sy, ey) >= y2) {
+			return false;
+		}
+		if (x1 < sx && sx < x2 && y1 < sy && sy < y2
+				|| x1 < ex && ex < x2 && y1 < ey && ey < y2) {
+			return true;
+		}
+		if (n > 4 && depth < MAX_SUBDIVISION_DEPTH && !isFlat(c, SNAP)) {
+			double[] left = new double[n];
+			double[] right = new double[n];
+			subdivide(c, 0.5, left, right);
+			return intersectsInterior(left, depth + 1, x1, y1, x2, y2)
+					|| intersectsInterior(right, depth + 1, x1, y1, x2, y2);
+		}
+		// clip the line to the closed rectangle (Liang-Barsky)
+		double dx = ex - sx;
+		double dy = ey - sy;
+		double[] t = { 0, 1 };
+		if (clip(-dx, sx - x1, t) && clip(dx, x2 - sx, t)
+				&& clip(-dy, sy - y1, t) && clip(dy, y2 - sy, t)) {
+			// a clipped line either passes through the interior or lies on
+			// the boundary, which can be decided by its middle point
+			double x = sx + dx * (t[0] + t[1]) / 2;
+			double y = sy + dy * (t[0] + t[1]) / 2;
+			return x1 < x && x < x2 && y1 < y && y < y2;
+		}
+		return false;
+	}
+
+	/**
+	 * Tests if the control points of the Bezier curve defined by the given
+	 * coordinates deviate by at most the given tolerance from the line
+	 * through its start and end point.
+	 *
+	 * @param c
+	 *            The coordinates of the control points.
+	 * @param tolerance
+	 *            The maximal distance of a control point to the line.
+	 * @return <code>true</code> if the curve is flat enough, otherwise
+	 *         <code>false</code>.
+	 */
+	private static boolean isFlat(double[] c, double tolerance) {
+		int n = c.length;
+		double x = c[0];
+		double y = c[1];
+		double dx = c[n - 2] - x;
+		double dy = c[n - 1] - y;
+		double lengthSq = dx * dx + dy * dy;
+		for (int i = 2; i < n - 2; i += 2) {
+			double px = c[i] - x;
+			double py = c[i + 1] - y;
+			double distanceSq;
+			if (lengthSq == 0) {
+				distanceSq = px * px + py * py;
+			} else {
+				double cross = px * dy - py * dx;
+				distanceSq = cross * cross / lengthSq;
+			}
+			if (distanceSq > tolerance * tolerance) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests if a point with the given winding number is inside according to
+	 * the given winding rule.
+	 *
+	 * @param winding
+	 *            The winding number of the point.
+	 * @param windingRule
+	 *            The winding rule, i.e. {@link Path#WIND_EVEN_ODD} or
+	 *            {@link Path#WIND_NON_ZERO}.
+	 * @return <code>true</code> if the point is inside, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean isInside(int winding, int windingRule) {
+		return windingRule == Path.WIND_EVEN_ODD ? (winding & 1) != 0
+				: winding != 0;
+	}
+
+	/**
+	 * Tests if a point with the given winding numbers (w.r.t. both operands)
+	 * lies inside the result of the given boolean operation.
+	 *
+	 * @param operation
+	 *            The boolean operation.
+	 * @param windings
+	 *            The winding numbers w.r.t. the first and second operand.
+	 * @param windingRuleA
+	 *            The winding rule of the first operand.
+	 * @param windingRuleB
+	 *            The winding rule of the second operand.
+	 * @return <code>true</code> if the point is inside the result, otherwise
+	 *         <code>false</code>.
+	 */
+	private static boolean isInside(int operation, int[] windings,
+			int windingRuleA, int windingRuleB) {
+		boolean a = isInside(windings[0], windingRuleA);
+		boolean b = isInside(windings[1], windingRuleB);
+		switch (operation) {
+		case UNION:
+			return a || b;
+		case INTERSECTION:
+			return a && b;
+		case DIFFERENCE:
+			return a && !b;
+		default:
+			return a != b;
+		}
+	}
+
+	/**
+	 * Subdivides the Bezier curve defined by the given control point
+	 * coordinates at the given parameter value (de Casteljau).
+	 *
+	 * @param c
+	 *            The coordinates of the control points.
+	 * @param t
+	 *            The parameter value at which to subdivide.
+	 * @param left
+	 *            The array to store the control points of the left part in.
+	 * @param right
+	 *            The array to store the control points of the right part in.
+	 */
+	private static void subdivide(double[] c, double t, double[] left,
+			double[] right) {
+		int n = c.length;
+		System.arraycopy(c, 0, right, 0, n);
+		for (int k = n - 2; k >= 0; k -= 2) {
+			left[n - 2 - k] = right[0];
+			left[n - 1 - k] = right[1];
+			for (int i = 0; i < k; i++) {
+				right[i] += t * (right[i + 2] - right[i]);
+			}
+		}
+	}
+
+	private PathClipper() {
+		// this class should not be instantiated by clients
+	}
+
+}
@@ -161,6 +161,12 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The cached {@link PathClipper.EdgeIndex} of this {@link Polygon}'s
+	 * outline, which is discarded whenever its points are modified.
+	 */
+	private transient PathClipper.EdgeIndex edgeIndex;
+
 	/**
 	 * Constructs a new {@link Polygon} from a even-numbered sequence of
 	 * coordinates.
@@ -206,8 +212,27 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
 
-		for (Line e1 : getOutlineSegments()) {
-			for (Line e2 : getOutlineSegments()) {
+		// only compare edges whose horizontal extents overlap
+		final Line[] edges = getOutlineSegments();
+		final double[] minX = new double[edges.length];
+		double[] maxX = new double[edges.length];
+		Integer[] order = new Integer[edges.length];
+		for (int i = 0; i < edges.length; i++) {
+			minX[i] = Math.min(edges[i].getX1(), edges[i].getX2());
+			maxX[i] = Math.max(edges[i].getX1(), edges[i].getX2());
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(minX[i], minX[j]);
+			}
+		});
+		for (int i = 0; i < order.length; i++) {
+			Line e1 = edges[order[i]];
+			for (int j = i + 1; j < order.length && PrecisionUtils
+					.smallerEqual(minX[order[j]], maxX[order[i]], -1); j++) {
+				Line e2 = edges[order[j]];
 				if (!e1.getP1().equals(e2.getP1())
 						&& !e1.getP2().equals(e2.getP1())
 						&& !e1.getP1().equals(e2.getP2())
@@ -312,95 +337,17 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 			return points[0].equals(p);
 		} else if (points.length == 2) {
 			return new Line(points[0], points[1]).contains(p);
-		} else {
-			// perform a quick rejection test via the bounds
-			Rectangle bounds = getBounds();
-			if (!bounds.contains(p)) {
-				return false;
-			}
-
-			/*
-			 * choose a point p' outside the polygon:
-			 */
-			Point pp = new Point(p.x + bounds.getWidth() + 1, p.y);
-
-			/*
-			 * construct a line from p to p':
-			 */
-			Line testLine = new Line(p, pp);
-
-			/*
-			 * compute if there is an even or odd number of intersection of the
-			 * test line with all sides of the polygon; handle the special case
-			 * the point is located on one of the sides
-			 */
-			boolean odd = false;
-			for (int i = 0; i < points.length; i++) {
-				Point p1 = points[i];
-				Point p2 = points[i + 1 < points.length ? i + 1 : 0];
-
-				// check whether the point is located on the current side
-				if (p1.equals(p2)) {
-					if (p1.equals(p)) {
-						return true;
-					}
-					continue;
-				}
-
-				Line segment = new Line(p1, p2);
-
-				if (segment.contains(p)) {
-					return true;
-				}
-
-				/*
-				 * check if one of the two vertices of the link line is
-				 * contained by the test line. the containment test is done to
-				 * handle special cases where the intersection has to be counted
-				 * appropriately.
-				 * 
-				 * 1) if the vertex is above (greater y-component) the other
-				 * point of the line, it is counted once.
-				 * 
-				 * 2) if the vertex is below (lower y-component) or on the same
-				 * height as the other point of the line, it is omitted.
-				 */
-				boolean p1contained = testLine.contains(p1);
-				boolean p2contained = testLine.contains(p2);
-
-				// TODO: is imprecision needed for this test?
-				if (p1contained || p2contained) {
-					if (p1contained) {
-						if (p1.y > p2.y) {
-							odd = !odd;
-						}
-					}
-					if (p2contained) {
-						if (p2.y > p1.y) {
-							odd = !odd;
-						}
-					}
-					continue;
-				}
+		}
 
-				/*
-				 * check the current link for an intersection with the test
-				 * line. if there is an intersection, change state.
-				 * 
-				 * Special case error prevention: If the point in question (p)
-				 * is very near to an edge of and inside the polygon, it can
-				 * happen, that the edge.contains(p) is false, but an
-				 * intersection can be found, although p is right to the edge.
-				 * To prevent a wrong state change, the intersection has to be
-				 * right-of p.
-				 */
-				Point poi = testLine.getIntersection(segment);
-				if (poi != null && poi.x >= p.x) {
-					odd = !odd;
-				}
-			}
-			return odd;
+		PathClipper.EdgeIndex index = getEdgeIndex();
+		if (index.size() == 0) {
+			// all points are equal
+			return points[0].equals(p);
 		}
+
+		// points on the outline are regarded to be contained; otherwise, an
+		// odd number of edges has to cross the ray from p to the right
+		return index.touches(p) || (index.getWinding(p.x, p.y) & 1) != 0;
 	}
 
 	/**
@@ -531,6 +478,22 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		return new Polygon(getPoints());
 	}
 
+	/**
+	 * Returns the {@link PathClipper.EdgeIndex} of this {@link Polygon}'s
+	 * outline, which is created lazily and cached until the points of this
+	 * {@link Polygon} are modified.
+	 *
+	 * @return the {@link PathClipper.EdgeIndex} of this {@link Polygon}
+	 */
+	PathClipper.EdgeIndex getEdgeIndex() {
+		PathClipper.EdgeIndex index = edgeIndex;
+		if (index == null) {
+			index = PathClipper.getEdgeIndex(this);
+			edgeIndex = index;
+		}
+		return index;
+	}
+
 	@Override
 	public Polyline getOutline() {
 		return new Polyline(PointListUtils.toSegmentsArray(points, true));
@@ -584,16 +547,30 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	}
 
 	/**
-	 * Naive, recursive ear-clipping algorithm to triangulate this simple,
-	 * planar {@link Polygon}.
+	 * Triangulates this simple, planar {@link Polygon} by partitioning it into
+	 * y-monotone pieces, which are triangulated individually, in O(n log n)
+	 * time. Polygons that are only weakly simple (i.e. which have spikes or
+	 * touching vertices) are triangulated using a naive, recursive
+	 * ear-clipping algorithm instead.
 	 *
 	 * @return triangulation {@link Polygon}s (triangles)
 	 */
 	public Polygon[] getTriangulation() {
 		assureSimplicity();
-		ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
-		triangulate(this, ears);
-		return ears.toArray(new Polygon[] {});
+		Polygon[] triangles = PolygonTriangulator.triangulate(this);
+		if (triangles == null) {
+			// fall back to ear-clipping for polygons with spikes or touching
+			// vertices, which cannot be partitioned into monotone pieces
+			ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
+			triangulate(this, ears);
+			triangles = ears.toArray(new Polygon[] {});
+		}
+		return triangles;
+	}
+
+	@Override
+	void pointsChanged() {
+		edgeIndex = null;
 	}
 
 	/**
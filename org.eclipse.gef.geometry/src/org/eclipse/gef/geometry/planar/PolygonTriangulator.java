@@ -0,0 +1,505 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The {@link PolygonTriangulator} computes the triangulation of a simple
+ * {@link Polygon} in O(n log n) time. The {@link Polygon} is first partitioned
+ * into y-monotone pieces by a plane sweep, which inserts diagonals at its split
+ * and merge vertices, and each of the pieces is then triangulated in linear
+ * time (see M. de Berg et al., Computational Geometry, chapter 3).
+ *
+ * Vertices are ordered lexicographically, i.e. by their y coordinate and, in
+ * case of equal y coordinates, by their x coordinate, so that horizontal edges
+ * do not need any special treatment.
+ *
+ * @author agent
+ *
+ */
+class PolygonTriangulator {
+
+	private static final int START = 0;
+	private static final int END = 1;
+	private static final int SPLIT = 2;
+	private static final int MERGE = 3;
+	private static final int REGULAR = 4;
+
+	/**
+	 * Computes the twofold signed area of the triangle spanned by the given
+	 * vertices, which is positive in case they are oriented counter-clockwise
+	 * (with respect to a y axis pointing upwards).
+	 *
+	 * @param xs
+	 *            The x coordinates of the vertices.
+	 * @param ys
+	 *            The y coordinates of the vertices.
+	 * @param a
+	 *            The index of the first vertex.
+	 * @param b
+	 *            The index of the second vertex.
+	 * @param c
+	 *            The index of the third vertex.
+	 * @return The twofold signed area of the triangle.
+	 */
+	private static double cross(double[] xs, double[] ys, int a, int b,
+			int c) {
+		return (xs[b] - xs[a]) * (ys[c] - ys[b])
+				- (ys[b] - ys[a]) * (xs[c] - xs[b]);
+	}
+
+	/**
+	 * Triangulates the given simple {@link Polygon}. The resulting triangles
+	 * share the orientation of the given {@link Polygon}.
+	 *
+	 * @param polygon
+	 *            The simple {@link Polygon} to triangulate.
+	 * @return The triangles ({@link Polygon}s) of the triangulation, or
+	 *         <code>null</code> in case the {@link Polygon} is only weakly
+	 *         simple, i.e. it has spikes or non-successive vertices that
+	 *         coincide.
+	 */
+	static Polygon[] triangulate(Polygon polygon) {
+		// skip successive duplicate vertices
+		List<Point> vertices = new ArrayList<>(polygon.points.length);
+		for (Point p : polygon.points) {
+			if (vertices.isEmpty() || !vertices.get(vertices.size() - 1)
+					.equals(p)) {
+				vertices.add(p);
+			}
+		}
+		while (vertices.size() > 1
+				&& vertices.get(vertices.size() - 1).equals(vertices.get(0))) {
+			vertices.remove(vertices.size() - 1);
+		}
+		if (vertices.size() < 3) {
+			return new Polygon[] {};
+		} else if (vertices.size() == 3) {
+			return new Polygon[] { new Polygon(vertices.get(0),
+					vertices.get(1), vertices.get(2)) };
+		}
+		PolygonTriangulator triangulator = new PolygonTriangulator(
+				vertices.toArray(new Point[vertices.size()]));
+		if (triangulator.isDegenerated()) {
+			return null;
+		}
+		return triangulator.triangulate();
+	}
+
+	private final Point[] points;
+	private final double[] xs;
+	private final double[] ys;
+	private final int n;
+	private final boolean reversed;
+
+	// the position of each vertex within the sweep order
+	private final int[] ranks;
+
+	private final List<Polygon> triangles = new ArrayList<>();
+
+	/**
+	 * Constructs a new {@link PolygonTriangulator} for the simple polygon
+	 * defined by the given vertices, which are re-ordered counter-clockwise
+	 * if needed.
+	 *
+	 * @param vertices
+	 *            The vertices of the polygon, of which no two successive
+	 *            ones are equal.
+	 */
+	private PolygonTriangulator(Point[] vertices) {
+		n = vertices.length;
+		double area = 0;
+		for (int i = 0; i < n; i++) {
+			Point p = vertices[i];
+			Point q = vertices[(i + 1) % n];
+			area += p.x * q.y - q.x * p.y;
+		}
+		reversed = area < 0;
+		points = new Point[n];
+		xs = new double[n];
+		ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			points[i] = vertices[reversed ? n - 1 - i : i];
+			xs[i] = points[i].x;
+			ys[i] = points[i].y;
+		}
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		// vertices are swept from top (maximal y) to bottom
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				if (ys[a] != ys[b]) {
+					return ys[a] > ys[b] ? -1 : 1;
+				}
+				if (xs[a] != xs[b]) {
+					return xs[a] < xs[b] ? -1 : 1;
+				}
+				return a.compareTo(b);
+			}
+		});
+		ranks = new int[n];
+		for (int i = 0; i < n; i++) {
+			ranks[order[i]] = i;
+		}
+	}
+
+	/**
+	 * Adds the triangle spanned by the given vertices to the result, oriented
+	 * like the original polygon.
+	 *
+	 * @param a
+	 *            The index of the first vertex.
+	 * @param b
+	 *            The index of the second vertex.
+	 * @param c
+	 *            The index of the third vertex.
+	 */
+	private void addTriangle(int a, int b, int c) {
+		if (cross(xs, ys, a, b, c) < 0 != reversed) {
+			triangles.add(new Polygon(points[a], points[c], points[b]));
+		} else {
+			triangles.add(new Polygon(points[a], points[b], points[c]));
+		}
+	}
+
+	/**
+	 * Determines the diagonals that partition the polygon into y-monotone
+	 * pieces.
+	 *
+	 * @return The diagonals, as pairs of vertex indices.
+	 */
+	private List<int[]> getMonotoneDiagonals() {
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[ranks[i]] = i;
+		}
+		// the edge i leads from vertex i to vertex i + 1, the status only
+		// contains edges that have the interior of the polygon to their right
+		final double[] sweep = new double[2];
+		TreeSet<Integer> status = new TreeSet<>(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer e, Integer f) {
+				double ex = e < 0 ? sweep[1] : getX(e, sweep[0]);
+				double fx = f < 0 ? sweep[1] : getX(f, sweep[0]);
+				if (ex != fx) {
+					return ex < fx ? -1 : 1;
+				}
+				return e.compareTo(f);
+			}
+		});
+		int[] helpers = new int[n];
+		int[] types = new int[n];
+		List<int[]> diagonals = new ArrayList<>();
+		for (int v : order) {
+			int prev = (v + n - 1) % n;
+			int next = (v + 1) % n;
+			boolean convex = cross(xs, ys, prev, v, next) > 0;
+			if (ranks[prev] > ranks[v] && ranks[next] > ranks[v]) {
+				types[v] = convex ? START : SPLIT;
+			} else if (ranks[prev] < ranks[v] && ranks[next] < ranks[v]) {
+				types[v] = convex ? END : MERGE;
+			} else {
+				types[v] = REGULAR;
+			}
+			sweep[0] = ys[v];
+			sweep[1] = xs[v];
+			if (types[v] == END || types[v] == MERGE
+					|| types[v] == REGULAR && ranks[prev] < ranks[v]) {
+				// the edge ending in v leaves the status
+				if (types[helpers[prev]] == MERGE) {
+					diagonals.add(new int[] { v, helpers[prev] });
+				}
+				status.remove(prev);
+			}
+			if (types[v] == SPLIT || types[v] == MERGE
+					|| types[v] == REGULAR && ranks[prev] > ranks[v]) {
+				// update the helper of the edge directly left of v
+				Integer left = status.lower(-1);
+				if (left == null) {
+					throw new IllegalStateException(
+							"Only simple polygons can be triangulated.");
+				}
+				if (types[v] == SPLIT || types[helpers[left]] == MERGE) {
+					diagonals.add(new int[] { v, helpers[left] });
+				}
+				helpers[left] = v;
+			}
+			if (types[v] == START || types[v] == SPLIT
+					|| types[v] == REGULAR && ranks[prev] < ranks[v]) {
+				// the edge starting in v enters the status
+				helpers[v] = v;
+				status.add(v);
+			}
+		}
+		return diagonals;
+	}
+
+	/**
+	 * Partitions the polygon along the given diagonals and returns the
+	 * resulting pieces, each of which is given by its vertex indices in
+	 * counter-clockwise order.
+	 *
+	 * @param diagonals
+	 *            The diagonals, as pairs of vertex indices.
+	 * @return The pieces of the partition.
+	 */
+	private List<int[]> getPieces(List<int[]> diagonals) {
+		// collect the neighbors of all vertices
+		int[] degrees = new int[n];
+		Arrays.fill(degrees, 2);
+		Set<Long> seen = new HashSet<>();
+		List<int[]> unique = new ArrayList<>(diagonals.size());
+		for (int[] d : diagonals) {
+			int a = Math.min(d[0], d[1]);
+			int b = Math.max(d[0], d[1]);
+			if (b - a != 1 && b - a != n - 1
+					&& seen.add((long) a * n + b)) {
+				unique.add(d);
+				degrees[a]++;
+				degrees[b]++;
+			}
+		}
+		final int[][] neighbors = new int[n][];
+		for (int v = 0; v < n; v++) {
+			neighbors[v] = new int[degrees[v]];
+			neighbors[v][0] = (v + 1) % n;
+			neighbors[v][1] = (v + n - 1) % n;
+			degrees[v] = 2;
+		}
+		for (int[] d : unique) {
+			neighbors[d[0]][degrees[d[0]]++] = d[1];
+			neighbors[d[1]][degrees[d[1]]++] = d[0];
+		}
+		// sort the neighbors of each vertex counter-clockwise
+		boolean[][] visited = new boolean[n][];
+		for (int v = 0; v < n; v++) {
+			final int center = v;
+			Integer[] sorted = new Integer[neighbors[v].length];
+			for (int i = 0; i < sorted.length; i++) {
+				sorted[i] = neighbors[v][i];
+			}
+			Arrays.sort(sorted, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					return Double.compare(
+							Math.atan2(ys[a] - ys[center], xs[a] - xs[center]),
+							Math.atan2(ys[b] - ys[center],
+									xs[b] - xs[center]));
+				}
+			});
+			visited[v] = new boolean[sorted.length];
+			for (int i = 0; i < sorted.length; i++) {
+				neighbors[v][i] = sorted[i];
+				// the reversed polygon edges bound the exterior
+				visited[v][i] = sorted[i] == (v + n - 1) % n;
+			}
+		}
+		// traverse the faces, keeping them on the left
+		List<int[]> pieces = new ArrayList<>();
+		for (int v = 0; v < n; v++) {
+			for (int i = 0; i < neighbors[v].length; i++) {
+				if (visited[v][i]) {
+					continue;
+				}
+				List<Integer> piece = new ArrayList<>();
+				int from = v;
+				int k = i;
+				while (!visited[from][k]) {
+					visited[from][k] = true;
+					piece.add(from);
+					int to = neighbors[from][k];
+					int back = indexOf(neighbors[to], from);
+					k = (back + neighbors[to].length - 1)
+							% neighbors[to].length;
+					from = to;
+				}
+				int[] indices = new int[piece.size()];
+				for (int j = 0; j < indices.length; j++) {
+					indices[j] = piece.get(j);
+				}
+				pieces.add(indices);
+			}
+		}
+		return pieces;
+	}
+
+	/**
+	 * Computes the x coordinate of the given edge at the given y coordinate.
+	 * For a horizontal edge, its minimal x coordinate is returned.
+	 *
+	 * @param e
+	 *            The index of the edge.
+	 * @param y
+	 *            The y coordinate.
+	 * @return The x coordinate of the edge at the given y coordinate.
+	 */
+	private double getX(int e, double y) {
+		int f = (e + 1) % n;
+		if (ys[e] == ys[f]) {
+			return Math.min(xs[e], xs[f]);
+		}
+		return xs[e] + (y - ys[e]) * (xs[f] - xs[e]) / (ys[f] - ys[e]);
+	}
+
+	/**
+	 * Returns the index of the given value within the given array.
+	 *
+	 * @param values
+	 *            The array to search.
+	 * @param value
+	 *            The value to search for.
+	 * @return The index of the value, or <code>-1</code> if it is not
+	 *         contained.
+	 */
+	private static int indexOf(int[] values, int value) {
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Tests if the polygon is degenerated, i.e. if it has a spike (where an
+	 * edge turns back onto its predecessor), or if any two non-successive
+	 * vertices are equal.
+	 *
+	 * @return <code>true</code> if the polygon is degenerated, otherwise
+	 *         <code>false</code>.
+	 */
+	private boolean isDegenerated() {
+		int[] order = new int[n];
+		for (int v = 0; v < n; v++) {
+			order[ranks[v]] = v;
+			int prev = (v + n - 1) % n;
+			int next = (v + 1) % n;
+			if (cross(xs, ys, prev, v, next) == 0
+					&& (xs[v] - xs[prev]) * (xs[next] - xs[v])
+							+ (ys[v] - ys[prev]) * (ys[next] - ys[v]) < 0) {
+				return true;
+			}
+		}
+		// equal vertices are adjacent in sweep order
+		for (int i = 1; i < n; i++) {
+			if (points[order[i - 1]].equals(points[order[i]])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the triangulation of the polygon.
+	 *
+	 * @return The triangles of the triangulation.
+	 */
+	private Polygon[] triangulate() {
+		for (int[] piece : getPieces(getMonotoneDiagonals())) {
+			triangulateMonotone(piece);
+		}
+		return triangles.toArray(new Polygon[triangles.size()]);
+	}
+
+	/**
+	 * Triangulates the given y-monotone piece of the polygon.
+	 *
+	 * @param piece
+	 *            The vertex indices of the piece, in counter-clockwise order.
+	 */
+	private void triangulateMonotone(int[] piece) {
+		int m = piece.length;
+		if (m == 3) {
+			addTriangle(piece[0], piece[1], piece[2]);
+			return;
+		}
+		// determine the top- and bottom-most vertices
+		int top = 0;
+		int bottom = 0;
+		for (int i = 1; i < m; i++) {
+			if (ranks[piece[i]] < ranks[piece[top]]) {
+				top = i;
+			}
+			if (ranks[piece[i]] > ranks[piece[bottom]]) {
+				bottom = i;
+			}
+		}
+		// merge the left chain (counter-clockwise from the top) and the right
+		// chain (clockwise from the top) into sweep order
+		int[] sorted = new int[m];
+		boolean[] onLeftChain = new boolean[m];
+		int l = (top + 1) % m;
+		int r = (top + m - 1) % m;
+		sorted[0] = piece[top];
+		for (int i = 1; i < m; i++) {
+			if (r == bottom || l != bottom
+					&& ranks[piece[l]] < ranks[piece[r]]) {
+				onLeftChain[i] = true;
+				sorted[i] = piece[l];
+				l = (l + 1) % m;
+			} else {
+				sorted[i] = piece[r];
+				r = (r + m - 1) % m;
+			}
+		}
+		int[] stack = new int[m];
+		int size = 0;
+		stack[size++] = 0;
+		stack[size++] = 1;
+		for (int j = 2; j < m - 1; j++) {
+			if (onLeftChain[j] != onLeftChain[stack[size - 1]]) {
+				// connect to all vertices on the stack
+				for (int i = 0; i < size - 1; i++) {
+					addTriangle(sorted[j], sorted[stack[i]],
+							sorted[stack[i + 1]]);
+				}
+				stack[0] = j - 1;
+				stack[1] = j;
+				size = 2;
+			} else {
+				int last = stack[--size];
+				while (size > 0) {
+					int previous = stack[size - 1];
+					double turn = onLeftChain[j]
+							? cross(xs, ys, sorted[previous], sorted[last],
+									sorted[j])
+							: cross(xs, ys, sorted[j], sorted[last],
+									sorted[previous]);
+					if (turn <= 0) {
+						break;
+					}
+					addTriangle(sorted[j], sorted[last], sorted[previous]);
+					last = previous;
+					size--;
+				}
+				stack[size++] = last;
+				stack[size++] = j;
+			}
+		}
+		// connect the bottom-most vertex to all vertices on the stack
+		for (int i = 0; i < size - 1; i++) {
+			addTriangle(sorted[m - 1], sorted[stack[i]], sorted[stack[i + 1]]);
+		}
+	}
+
+}
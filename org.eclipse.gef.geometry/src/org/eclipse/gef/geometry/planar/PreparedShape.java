@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+/**
+ * A {@link PreparedShape} provides point containment tests for an
+ * {@link IShape} or {@link IMultiShape} that is queried repeatedly, e.g. while
+ * snapping or hit-testing during an interaction, including batch tests for
+ * whole arrays of points.
+ * <p>
+ * For {@link Polygon}s, {@link Ring}s, and {@link CurvedPolygon}s, the tests
+ * are evaluated on an index of the shape's outline, in which the edges are
+ * distributed into horizontal bands, so that only the edges of a single band
+ * have to be considered per point. The index is computed lazily and cached by
+ * the shape itself, which discards it whenever the shape is modified, so that
+ * a {@link PreparedShape} always reflects the current state of its shape. All
+ * other shapes are tested directly.
+ * </p>
+ * <p>
+ * Points that lie on the outline of the shape (within the imprecision of
+ * {@link org.eclipse.gef.geometry.internal.utils.PrecisionUtils}) are regarded
+ * to be contained, consistent with {@link IGeometry#contains(Point)}.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+public class PreparedShape {
+
+	private final IGeometry shape;
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given {@link IMultiShape}.
+	 *
+	 * @param multiShape
+	 *            The {@link IMultiShape} to prepare.
+	 */
+	public PreparedShape(IMultiShape multiShape) {
+		this((IGeometry) multiShape);
+	}
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given {@link IGeometry},
+	 * which has to be an {@link IShape} or an {@link IMultiShape}.
+	 *
+	 * @param shape
+	 *            The {@link IGeometry} to prepare.
+	 */
+	private PreparedShape(IGeometry shape) {
+		if (shape == null) {
+			throw new IllegalArgumentException(
+					"The given shape may not be null.");
+		}
+		this.shape = shape;
+	}
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given {@link IShape}.
+	 *
+	 * @param shape
+	 *            The {@link IShape} to prepare.
+	 */
+	public PreparedShape(IShape shape) {
+		this((IGeometry) shape);
+	}
+
+	/**
+	 * Tests whether the point specified by the given x and y coordinates is
+	 * contained by the prepared shape.
+	 *
+	 * @param x
+	 *            The x coordinate of the point to test.
+	 * @param y
+	 *            The y coordinate of the point to test.
+	 * @return <code>true</code> if the point is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(double x, double y) {
+		return shape.contains(new Point(x, y));
+	}
+
+	/**
+	 * Tests for each of the points specified by the given coordinates whether
+	 * it is contained by the prepared shape.
+	 *
+	 * @param coordinates
+	 *            An alternating, even-numbered sequence of x and y coordinates
+	 *            of the points to test.
+	 * @return An array, which contains the result of the containment test for
+	 *         the point at index <i>i</i> at index <i>i</i>.
+	 */
+	public boolean[] contains(double[] coordinates) {
+		boolean[] contained = new boolean[coordinates.length / 2];
+		Point p = new Point();
+		for (int i = 0; i < contained.length; i++) {
+			p.x = coordinates[2 * i];
+			p.y = coordinates[2 * i + 1];
+			contained[i] = shape.contains(p);
+		}
+		return contained;
+	}
+
+	/**
+	 * Tests whether the given {@link Point} is contained by the prepared shape.
+	 *
+	 * @param p
+	 *            The {@link Point} to test.
+	 * @return <code>true</code> if the {@link Point} is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(Point p) {
+		return shape.contains(p);
+	}
+
+	/**
+	 * Tests for each of the given {@link Point}s whether it is contained by
+	 * the prepared shape.
+	 *
+	 * @param points
+	 *            The {@link Point}s to test.
+	 * @return An array, which contains the result of the containment test for
+	 *         the {@link Point} at index <i>i</i> at index <i>i</i>.
+	 */
+	public boolean[] contains(Point[] points) {
+		boolean[] contained = new boolean[points.length];
+		for (int i = 0; i < points.length; i++) {
+			contained[i] = shape.contains(points[i]);
+		}
+		return contained;
+	}
+
+	/**
+	 * Tests whether all of the given {@link Point}s are contained by the
+	 * prepared shape.
+	 *
+	 * @param points
+	 *            The {@link Point}s to test.
+	 * @return <code>true</code> if all {@link Point}s are contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean containsAll(Point[] points) {
+		for (Point p : points) {
+			if (!shape.contains(p)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the prepared {@link IShape} or {@link IMultiShape}.
+	 *
+	 * @return The prepared {@link IShape} or {@link IMultiShape}.
+	 */
+	public IGeometry getShape() {
+		return shape;
+	}
+
+	/**
+	 * Tests whether any of the given {@link Point}s is contained by the
+	 * prepared shape, i.e. whether the point set intersects it.
+	 *
+	 * @param points
+	 *            The {@link Point}s to test.
+	 * @return <code>true</code> if at least one of the {@link Point}s is
+	 *         contained, otherwise <code>false</code>.
+	 */
+	public boolean intersects(Point[] points) {
+		for (Point p : points) {
+			if (shape.contains(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -223,6 +223,12 @@ public class Ring extends AbstractMultiShape
 
 	private ArrayList<Polygon> triangles;
 
+	/**
+	 * The cached {@link PathClipper.EdgeIndex} of the outlines of the
+	 * triangles, which is discarded whenever this {@link Ring} is modified.
+	 */
+	private transient PathClipper.EdgeIndex edgeIndex;
+
 	/**
 	 * Constructs a new empty {@link Ring}.
 	 */
@@ -277,9 +283,15 @@ public class Ring extends AbstractMultiShape
 
 		while (!toAdd.empty()) {
 			Polygon triangleToAdd = toAdd.pop();
+			Rectangle bounds = triangleToAdd.getBounds();
 			Stack<Polygon> localAddends = new Stack<>();
 			localAddends.push(triangleToAdd);
 			for (Polygon triangleAlreadyThere : triangles) {
+				// the sub-triangles of the addend cannot be split or
+				// contained by a triangle that does not touch its bounds
+				if (!bounds.touches(triangleAlreadyThere.getBounds())) {
+					continue;
+				}
 				for (Line e : triangleAlreadyThere.getOutlineSegments()) {
 					Stack<Polygon> nextAddends = new Stack<>();
 					for (Iterator<Polygon> i = localAddends.iterator(); i
@@ -303,6 +315,7 @@ public class Ring extends AbstractMultiShape
 		}
 
 		optimizeTriangles();
+		edgeIndex = null;
 
 		return this;
 	}
@@ -312,6 +325,14 @@ public class Ring extends AbstractMultiShape
 		return ShapeUtils.contains(this, g);
 	}
 
+	@Override
+	public boolean contains(Point p) {
+		PathClipper.EdgeIndex index = getEdgeIndex();
+		// the triangles do not overlap, so that their (equally oriented)
+		// outlines yield a non-zero winding number within any of them
+		return index.touches(p) || index.getWinding(p.x, p.y) != 0;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		// TODO: Invent a better algorithm.
@@ -391,6 +412,22 @@ public class Ring extends AbstractMultiShape
 		return new Ring(this);
 	}
 
+	/**
+	 * Returns the {@link PathClipper.EdgeIndex} of the outlines of the
+	 * triangles of this {@link Ring}, which is created lazily and cached until
+	 * this {@link Ring} is modified.
+	 *
+	 * @return the {@link PathClipper.EdgeIndex} of this {@link Ring}
+	 */
+	PathClipper.EdgeIndex getEdgeIndex() {
+		PathClipper.EdgeIndex index = edgeIndex;
+		if (index == null) {
+			index = PathClipper.getEdgeIndex(getShapes());
+			edgeIndex = index;
+		}
+		return index;
+	}
+
 	@Override
 	public Ring getRotatedCCW(Angle angle) {
 		return getCopy().rotateCCW(angle);
@@ -538,6 +575,7 @@ public class Ring extends AbstractMultiShape
 		for (Polygon p : triangles) {
 			p.rotateCCW(angle, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -587,6 +625,7 @@ public class Ring extends AbstractMultiShape
 		for (Polygon p : triangles) {
 			p.rotateCW(angle, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -626,6 +665,7 @@ public class Ring extends AbstractMultiShape
 		for (Polygon p : triangles) {
 			p.scale(fx, fy, cx, cy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
@@ -644,6 +684,7 @@ public class Ring extends AbstractMultiShape
 		for (Polygon p : triangles) {
 			p.translate(dx, dy);
 		}
+		edgeIndex = null;
 		return this;
 	}
 
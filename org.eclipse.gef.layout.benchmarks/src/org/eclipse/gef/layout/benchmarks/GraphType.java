@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutProperties;
+
+/**
+ * The kinds of {@link Graph}s that are used as inputs for the layout
+ * benchmarks. All {@link Graph}s are created from a {@link Random} that is
+ * initialized with {@link #SEED}, so that each benchmark run operates on the
+ * same {@link Graph}s.
+ *
+ * @author agent
+ *
+ */
+public enum GraphType {
+
+	/**
+	 * A layered (acyclic) {@link Graph}, where the nodes are distributed
+	 * evenly among layers of (about) the square root of the number of nodes,
+	 * and each node has two incoming edges from randomly chosen nodes of the
+	 * preceding layer.
+	 */
+	LAYERED {
+		@Override
+		protected void createEdges(Random random, List<Node> nodes,
+				List<Edge> edges) {
+			int layerSize = (int) Math.ceil(Math.sqrt(nodes.size()));
+			for (int i = layerSize; i < nodes.size(); i++) {
+				int layerStart = (i / layerSize - 1) * layerSize;
+				for (int j = 0; j < 2; j++) {
+					Node source = nodes
+							.get(layerStart + random.nextInt(layerSize));
+					edges.add(new Edge(source, nodes.get(i)));
+				}
+			}
+		}
+	},
+
+	/**
+	 * A random (Erdős–Rényi) {@link Graph} with twice as many edges as nodes,
+	 * whose end points are chosen uniformly.
+	 */
+	RANDOM {
+		@Override
+		protected void createEdges(Random random, List<Node> nodes,
+				List<Edge> edges) {
+			for (int i = 0; i < 2 * nodes.size(); i++) {
+				Node source = nodes.get(random.nextInt(nodes.size()));
+				Node target = nodes.get(random.nextInt(nodes.size()));
+				if (source != target) {
+					edges.add(new Edge(source, target));
+				}
+			}
+		}
+	},
+
+	/**
+	 * A scale-free (Barabási–Albert) {@link Graph}, where each node is
+	 * connected to two preceding nodes, which are chosen with a probability
+	 * proportional to their degree (preferential attachment).
+	 */
+	SCALE_FREE {
+		@Override
+		protected void createEdges(Random random, List<Node> nodes,
+				List<Edge> edges) {
+			// each node occurs once per incident edge, so that choosing a
+			// random element corresponds to preferential attachment
+			List<Node> endPoints = new ArrayList<>();
+			endPoints.add(nodes.get(0));
+			for (int i = 1; i < nodes.size(); i++) {
+				Node target = nodes.get(i);
+				for (int j = 0; j < Math.min(i, 2); j++) {
+					Node source = endPoints
+							.get(random.nextInt(endPoints.size()));
+					edges.add(new Edge(source, target));
+					endPoints.add(source);
+					endPoints.add(target);
+				}
+			}
+		}
+	},
+
+	/**
+	 * A random (recursive) tree, where each node (except the root) is the
+	 * child of a randomly chosen preceding node.
+	 */
+	TREE {
+		@Override
+		protected void createEdges(Random random, List<Node> nodes,
+				List<Edge> edges) {
+			for (int i = 1; i < nodes.size(); i++) {
+				edges.add(new Edge(nodes.get(random.nextInt(i)), nodes.get(i)));
+			}
+		}
+	};
+
+	/**
+	 * The seed that is used to initialize the {@link Random} generators.
+	 */
+	public static final long SEED = 20170414L;
+
+	/**
+	 * Creates a {@link Graph} of this type with the given number of nodes,
+	 * each of which has a size of 40x20 and is initially located at the
+	 * origin.
+	 *
+	 * @param nodeCount
+	 *            The number of nodes.
+	 * @return A new {@link Graph}.
+	 */
+	public Graph createGraph(int nodeCount) {
+		Random random = new Random(SEED);
+		List<Node> nodes = new ArrayList<>(nodeCount);
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(40, 20));
+			LayoutProperties.setLocation(node, new Point());
+			nodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		createEdges(random, nodes, edges);
+		return new Graph(nodes, edges);
+	}
+
+	/**
+	 * Creates the edges between the given nodes.
+	 *
+	 * @param random
+	 *            The {@link Random} to use.
+	 * @param nodes
+	 *            The nodes to connect.
+	 * @param edges
+	 *            The {@link List} to which the created edges are added.
+	 */
+	protected abstract void createEdges(Random random, List<Node> nodes,
+			List<Edge> edges);
+}
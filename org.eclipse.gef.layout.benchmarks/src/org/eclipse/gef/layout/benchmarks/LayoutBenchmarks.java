@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.GridLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.RadialLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.TreeLayoutAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks that apply the {@link ILayoutAlgorithm}s to {@link Graph}s of
+ * different type (see {@link GraphType}) and size via
+ * {@link LayoutContext#applyLayout(boolean)}.
+ * <p>
+ * By default, {@link Graph}s with up to 10,000 nodes are used. Larger
+ * {@link Graph}s can be benchmarked by overriding the parameters, e.g.
+ * <code>-p algorithm=GRID,TREE -p nodeCount=100000</code>. The allocation
+ * rate is reported when running with <code>-prof gc</code>.
+ * <p>
+ * Each invocation lays out the {@link Graph} from scratch, i.e. the node
+ * locations are restored and a new {@link ILayoutAlgorithm} is created before
+ * each invocation. The {@link SpringLayoutAlgorithm} does not place the nodes
+ * randomly (which is not reproducible), but starts from initial locations that
+ * are chosen randomly using {@link GraphType#SEED}. Note that it stops
+ * iterating after its (default) timeout of 10 seconds, so its results for
+ * large {@link Graph}s are bounded by it.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LayoutBenchmarks {
+
+	/**
+	 * The {@link ILayoutAlgorithm} to apply.
+	 */
+	@Param({ "COMPACT_TREE", "GRID", "RADIAL", "SPACE_TREE", "SPRING", "SUGIYAMA", "TREE" })
+	public String algorithm;
+
+	/**
+	 * The type of {@link Graph} to lay out.
+	 */
+	@Param({ "LAYERED", "RANDOM", "SCALE_FREE", "TREE" })
+	public GraphType graphType;
+
+	/**
+	 * The number of nodes of the {@link Graph}.
+	 */
+	@Param({ "100", "1000", "10000" })
+	public int nodeCount;
+
+	private LayoutContext context;
+	private List<Node> nodes;
+	private List<Point> initialLocations;
+
+	/**
+	 * Applies the {@link ILayoutAlgorithm} to the {@link Graph}.
+	 */
+	@Benchmark
+	public void applyLayout() {
+		context.applyLayout(true);
+	}
+
+	private ILayoutAlgorithm createLayoutAlgorithm() {
+		switch (algorithm) {
+		case "COMPACT_TREE":
+			TreeLayoutAlgorithm compactTreeLayoutAlgorithm = new TreeLayoutAlgorithm();
+			compactTreeLayoutAlgorithm.setCompact(true);
+			return compactTreeLayoutAlgorithm;
+		case "GRID":
+			return new GridLayoutAlgorithm();
+		case "RADIAL":
+			return new RadialLayoutAlgorithm();
+		case "SPACE_TREE":
+			return new SpaceTreeLayoutAlgorithm();
+		case "SPRING":
+			SpringLayoutAlgorithm springLayoutAlgorithm = new SpringLayoutAlgorithm();
+			springLayoutAlgorithm.setRandom(false);
+			return springLayoutAlgorithm;
+		case "SUGIYAMA":
+			// the default (simple) layer provider is restricted to 10 layers
+			return new SugiyamaLayoutAlgorithm(Direction.VERTICAL,
+					new DFSLayerProvider());
+		case "TREE":
+			return new TreeLayoutAlgorithm();
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported layout algorithm: " + algorithm);
+		}
+	}
+
+	/**
+	 * Restores the initial node locations and creates a new
+	 * {@link ILayoutAlgorithm}, so that each invocation starts from the same
+	 * state.
+	 */
+	@Setup(Level.Invocation)
+	public void reset() {
+		for (int i = 0; i < nodes.size(); i++) {
+			LayoutProperties.setLocation(nodes.get(i),
+					initialLocations.get(i).getCopy());
+		}
+		context.setLayoutAlgorithm(createLayoutAlgorithm());
+	}
+
+	/**
+	 * Creates the {@link Graph} and the {@link LayoutContext}.
+	 */
+	@Setup
+	public void setUp() {
+		Graph graph = graphType.createGraph(nodeCount);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		nodes = graph.getNodes();
+		if ("SPRING".equals(algorithm)) {
+			// the spring layout depends on the initial locations
+			Random random = new Random(GraphType.SEED);
+			for (Node node : nodes) {
+				LayoutProperties.setLocation(node, new Point(
+						random.nextDouble() * 1000, random.nextDouble() * 1000));
+			}
+		}
+		initialLocations = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			initialLocations.add(LayoutProperties.getLocation(node).getCopy());
+		}
+		context = new LayoutContext();
+		context.setGraph(graph);
+	}
+}
@@ -10,7 +10,23 @@
  *******************************************************************************/
 package org.eclipse.gef.layout.tests;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.TreeLayoutAlgorithm;
 import org.eclipse.gef.layout.algorithms.TreeLayoutHelper;
 import org.junit.Assert;
 import org.junit.Test;
@@ -83,4 +99,295 @@ public class LayoutAlgorithmTests {
 		Assert.assertFalse(node3.isAncestorOf(node4));
 		Assert.assertFalse(node4.isAncestorOf(node3));
 	}
+
+	private static void applyCompactTreeLayout(Graph graph) {
+		TreeLayoutAlgorithm algorithm = new TreeLayoutAlgorithm(
+				TreeLayoutAlgorithm.TOP_DOWN, new Dimension(10, 10));
+		algorithm.setCompact(true);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+	}
+
+	/**
+	 * Tests that the compact {@link TreeLayoutAlgorithm} places the nodes as
+	 * close to each other as possible, while centering each parent above its
+	 * children.
+	 */
+	@Test
+	public void testCompactTreeLayout() {
+		Node root = new Node();
+		Node a = new Node();
+		Node b = new Node();
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		nodes.add(root);
+		nodes.add(a);
+		nodes.add(b);
+		edges.add(new Edge(root, a));
+		edges.add(new Edge(root, b));
+		List<Node> leaves = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Node leaf = new Node();
+			nodes.add(leaf);
+			leaves.add(leaf);
+			edges.add(new Edge(a, leaf));
+		}
+		applyCompactTreeLayout(new Graph(nodes, edges));
+
+		// the leaves of a are spaced by the node space
+		for (int i = 0; i < leaves.size(); i++) {
+			Point location = LayoutProperties.getLocation(leaves.get(i));
+			Assert.assertEquals(
+					LayoutProperties.getLocation(leaves.get(0)).x + 10 * i,
+					location.x, 1e-9);
+		}
+		// a is centered above its leaves, b is placed next to a (and not next
+		// to the leaves of a), and root is centered above a and b
+		Point rootLocation = LayoutProperties.getLocation(root);
+		Point aLocation = LayoutProperties.getLocation(a);
+		Point bLocation = LayoutProperties.getLocation(b);
+		Assert.assertEquals(LayoutProperties.getLocation(leaves.get(2)).x,
+				aLocation.x, 1e-9);
+		Assert.assertEquals(aLocation.x + 10, bLocation.x, 1e-9);
+		Assert.assertEquals((aLocation.x + bLocation.x) / 2, rootLocation.x,
+				1e-9);
+		Assert.assertEquals(aLocation.y, bLocation.y, 1e-9);
+		Assert.assertTrue(rootLocation.y < aLocation.y);
+		Assert.assertTrue(
+				aLocation.y < LayoutProperties.getLocation(leaves.get(0)).y);
+	}
+
+	/**
+	 * Tests that the compact {@link TreeLayoutAlgorithm} separates the subtrees
+	 * of neighboring nodes.
+	 */
+	@Test
+	public void testCompactTreeLayoutSeparatesSubtrees() {
+		// a complete binary tree of depth 5
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 63; i++) {
+			nodes.add(new Node());
+			if (i > 0) {
+				edges.add(new Edge(nodes.get((i - 1) / 2), nodes.get(i)));
+			}
+		}
+		applyCompactTreeLayout(new Graph(nodes, edges));
+
+		for (int i = 0; i < nodes.size(); i++) {
+			Point p = LayoutProperties.getLocation(nodes.get(i));
+			for (int j = i + 1; j < nodes.size(); j++) {
+				Point q = LayoutProperties.getLocation(nodes.get(j));
+				if (p.y == q.y) {
+					Assert.assertTrue(Math.abs(p.x - q.x) >= 10 - 1e-9);
+				}
+			}
+			if (2 * i + 2 < nodes.size()) {
+				Point left = LayoutProperties
+						.getLocation(nodes.get(2 * i + 1));
+				Point right = LayoutProperties
+						.getLocation(nodes.get(2 * i + 2));
+				Assert.assertTrue(left.x < right.x);
+				Assert.assertEquals((left.x + right.x) / 2, p.x, 1e-9);
+			}
+		}
+		// the leaves are placed next to each other
+		Point firstLeaf = LayoutProperties.getLocation(nodes.get(31));
+		Point lastLeaf = LayoutProperties.getLocation(nodes.get(62));
+		Assert.assertEquals(31 * 10, lastLeaf.x - firstLeaf.x, 1e-9);
+	}
+
+	/**
+	 * Tests that the compact {@link TreeLayoutAlgorithm} can lay out deep trees
+	 * (without exceeding the call stack).
+	 */
+	@Test
+	public void testCompactTreeLayoutOfDeepTree() {
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			nodes.add(new Node());
+			if (i > 0) {
+				edges.add(new Edge(nodes.get(i - 1), nodes.get(i)));
+			}
+		}
+		applyCompactTreeLayout(new Graph(nodes, edges));
+
+		Point first = LayoutProperties.getLocation(nodes.get(0));
+		Point last = LayoutProperties
+				.getLocation(nodes.get(nodes.size() - 1));
+		Assert.assertEquals(first.x, last.x, 1e-9);
+		Assert.assertEquals(first.y + 10 * (nodes.size() - 1), last.y, 1e-9);
+	}
+
+	/**
+	 * Returns the state of all layers of the given
+	 * {@link SpaceTreeLayoutAlgorithm}, i.e. a full snapshot of their nodes
+	 * together with their positions and expansion states.
+	 */
+	private static List<List<Object>> getLayerStates(
+			SpaceTreeLayoutAlgorithm algorithm) throws Exception {
+		List<List<Object>> states = new ArrayList<>();
+		for (Object layer : getLayers(algorithm)) {
+			List<Object> state = new ArrayList<>();
+			for (Object node : (List<?>) getField(layer, "nodes")) {
+				state.add(node);
+				state.add(getField(node, "positionInLayer"));
+				state.add(getField(node, "expanded"));
+			}
+			states.add(state);
+		}
+		return states;
+	}
+
+	private static Object getField(Object object, String name)
+			throws Exception {
+		Field field = object.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(object);
+	}
+
+	private static List<?> getLayers(SpaceTreeLayoutAlgorithm algorithm)
+			throws Exception {
+		return (List<?>) getField(algorithm, "spaceTreeLayers");
+	}
+
+	private static Object invoke(Object object, String name, Object... args)
+			throws Exception {
+		for (Method method : object.getClass().getDeclaredMethods()) {
+			if (method.getName().equals(name)
+					&& method.getParameterTypes().length == args.length) {
+				method.setAccessible(true);
+				return method.invoke(object, args);
+			}
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	/**
+	 * Tests that reverting to a (nested) snapshot of the
+	 * {@link SpaceTreeLayoutAlgorithm}, which only records the layers that are
+	 * changed, restores the same state as a full snapshot of all layers.
+	 */
+	@Test
+	public void testSpaceTreeLayoutRevertToNestedSnapshots() throws Exception {
+		// a random tree, which does not fit into the bounds, so that nodes
+		// are collapsed when they are moved
+		Random random = new Random(412446);
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(
+					10 + random.nextInt(30), 10 + random.nextInt(10)));
+			LayoutProperties.setLocation(node, new Point());
+			if (i > 0) {
+				edges.add(new Edge(nodes.get(random.nextInt(i)), node));
+			}
+			nodes.add(node);
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 400, 400));
+		SpaceTreeLayoutAlgorithm algorithm = new SpaceTreeLayoutAlgorithm();
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		// the full snapshots that correspond to the taken snapshots
+		List<Integer> snapShots = new ArrayList<>();
+		List<List<List<Object>>> fullSnapShots = new ArrayList<>();
+		for (int step = 0; step < 500; step++) {
+			int operation = random.nextInt(4);
+			if (operation == 0 || snapShots.isEmpty()) {
+				snapShots.add((Integer) invoke(algorithm, "takeSnapShot"));
+				fullSnapShots.add(getLayerStates(algorithm));
+			} else if (operation == 1) {
+				// move a random node (which takes and releases nested
+				// snapshots itself)
+				List<?> layers = getLayers(algorithm);
+				Object layer = layers
+						.get(1 + random.nextInt(layers.size() - 1));
+				List<?> layerNodes = (List<?>) getField(layer, "nodes");
+				if (!layerNodes.isEmpty()) {
+					Object node = layerNodes
+							.get(random.nextInt(layerNodes.size()));
+					invoke(layer, "moveNode", node,
+							random.nextDouble() * 600 - 100);
+				}
+			} else if (operation == 2) {
+				// revert to the most recent snapshot, which remains taken
+				invoke(algorithm, "revertToSnapshot",
+						snapShots.get(snapShots.size() - 1));
+				Assert.assertEquals(
+						fullSnapShots.get(fullSnapShots.size() - 1),
+						getLayerStates(algorithm));
+			} else {
+				// releasing a snapshot does not change the state
+				List<List<Object>> states = getLayerStates(algorithm);
+				invoke(algorithm, "releaseSnapShot");
+				snapShots.remove(snapShots.size() - 1);
+				fullSnapShots.remove(fullSnapShots.size() - 1);
+				Assert.assertEquals(states, getLayerStates(algorithm));
+			}
+		}
+		// revert to the outermost snapshot
+		while (snapShots.size() > 1) {
+			invoke(algorithm, "releaseSnapShot");
+			snapShots.remove(snapShots.size() - 1);
+		}
+		invoke(algorithm, "revertToSnapshot", snapShots.get(0));
+		Assert.assertEquals(fullSnapShots.get(0), getLayerStates(algorithm));
+		invoke(algorithm, "releaseSnapShot");
+		Assert.assertTrue(((List<?>) getField(algorithm, "journal")).isEmpty());
+	}
+
+	/**
+	 * Tests that the {@link SpaceTreeLayoutAlgorithm} terminates when there is
+	 * not enough space to place all nodes next to each other, so that they
+	 * cannot be moved as far as needed (which previously resulted in an
+	 * endless loop due to rounding errors).
+	 */
+	@Test(timeout = 10000)
+	public void testSpaceTreeLayoutWithInsufficientSpace() {
+		Node root = new Node();
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		LayoutProperties.setSize(root, new Dimension(34.7, 10));
+		LayoutProperties.setSize(a, new Dimension(19.8, 10));
+		LayoutProperties.setSize(b, new Dimension(25.1, 10));
+		LayoutProperties.setSize(c, new Dimension(38.6, 10));
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		nodes.add(root);
+		nodes.add(a);
+		nodes.add(b);
+		nodes.add(c);
+		edges.add(new Edge(root, a));
+		edges.add(new Edge(root, b));
+		edges.add(new Edge(a, c));
+		for (Node node : nodes) {
+			LayoutProperties.setLocation(node, new Point());
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 72, 300));
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(new SpaceTreeLayoutAlgorithm());
+		context.applyLayout(true);
+
+		// the nodes are placed in their layers without overlapping
+		Point rootLocation = LayoutProperties.getLocation(root);
+		Point aLocation = LayoutProperties.getLocation(a);
+		Point bLocation = LayoutProperties.getLocation(b);
+		Point cLocation = LayoutProperties.getLocation(c);
+		Assert.assertTrue(rootLocation.y < aLocation.y);
+		Assert.assertEquals(aLocation.y, bLocation.y, 1e-9);
+		Assert.assertTrue(aLocation.y < cLocation.y);
+		Assert.assertTrue(
+				bLocation.x - aLocation.x >= (19.8 + 25.1) / 2 + 15 - 1e-9);
+	}
 }
@@ -73,6 +73,12 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		public boolean expanded = true;
 		public double positionInLayer;
 
+		/**
+		 * The size of the node, which is cached because it is queried very
+		 * often while nodes are moved within their layers.
+		 */
+		private Dimension size;
+
 		public SpaceTreeNode(Node node, TreeLayoutHelper owner) {
 			super(node, owner);
 		}
@@ -81,7 +87,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			super.addChild(child);
 
 			SpaceTreeNode child2 = (SpaceTreeNode) child;
-			child2.expanded = false;
+			child2.setExpanded(false);
 
 			if (child.depth >= 0)
 				spaceTreeLayers.get(child.depth).removeNode(child2);
@@ -134,16 +140,50 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 		}
 
+		public Dimension getSize() {
+			if (size == null)
+				size = LayoutProperties.getSize(node);
+			return size;
+		}
+
+		/**
+		 * Changes the expansion state of this node. The state of the layer
+		 * containing this node is recorded before, so that the change can be
+		 * reverted (see {@link SpaceTreeLayoutAlgorithm#takeSnapShot()}).
+		 * 
+		 * @param expanded
+		 *            The new expansion state.
+		 */
+		public void setExpanded(boolean expanded) {
+			if (depth >= 0 && depth < spaceTreeLayers.size())
+				spaceTreeLayers.get(depth).recordState();
+			this.expanded = expanded;
+		}
+
+		/**
+		 * Changes the position of this node within its layer. The state of the
+		 * layer is recorded before, so that the change can be reverted (see
+		 * {@link SpaceTreeLayoutAlgorithm#takeSnapShot()}).
+		 * 
+		 * @param positionInLayer
+		 *            The new position in layer.
+		 */
+		public void setPositionInLayer(double positionInLayer) {
+			if (depth >= 0 && depth < spaceTreeLayers.size())
+				spaceTreeLayers.get(depth).recordState();
+			this.positionInLayer = positionInLayer;
+		}
+
 		public double spaceRequiredForNode() {
 			if (node == null)
 				return 0;
 			switch (direction) {
 			case TOP_DOWN:
 			case BOTTOM_UP:
-				return LayoutProperties.getSize(node).width;
+				return getSize().width;
 			case LEFT_RIGHT:
 			case RIGHT_LEFT:
-				return LayoutProperties.getSize(node).height;
+				return getSize().height;
 			}
 			throw new RuntimeException("invalid direction");
 		}
@@ -281,7 +321,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		public boolean flushLocationChanges(double thicknessSoFar) {
 			boolean madeChanges = false;
 			if (node != null) {
-				Dimension nodeSize = LayoutProperties.getSize(node);
+				Dimension nodeSize = getSize();
 				double x = 0, y = 0;
 				switch (direction) {
 				case TOP_DOWN:
@@ -310,13 +350,13 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 							.getTreeNode(node);
 					spaceTreeNode
 							.adjustPosition(LayoutProperties.getLocation(node));
-					spaceTreeLayers.get(depth).refreshThickness();
 					madeChanges = true;
 				}
 			}
 			if (expanded) {
 				thicknessSoFar += (depth >= 0
-						? spaceTreeLayers.get(depth).thickness : 0) + layerGap;
+						? spaceTreeLayers.get(depth).getThickness() : 0)
+						+ layerGap;
 				for (Iterator<TreeNode> iterator = children.iterator(); iterator
 						.hasNext();) {
 					SpaceTreeNode child = (SpaceTreeNode) iterator.next();
@@ -354,13 +394,25 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 	private class SpaceTreeLayer {
 		public ArrayList<SpaceTreeNode> nodes = new ArrayList<>();
 		private final int depth;
-		public double thickness = 0;
+
+		/**
+		 * The thickness of this layer, which is computed lazily, i.e. a
+		 * negative value indicates that it has to be recomputed.
+		 */
+		private double thickness = -1;
+
+		/**
+		 * The snapshot epoch in which the state of this layer was last
+		 * recorded (see {@link SpaceTreeLayoutAlgorithm#takeSnapShot()}).
+		 */
+		private int recordedEpoch = -1;
 
 		public SpaceTreeLayer(int depth) {
 			this.depth = depth;
 		}
 
 		public void addNodes(List<TreeNode> nodesToAdd) {
+			recordState();
 			ListIterator<SpaceTreeNode> layerIterator = nodes.listIterator();
 			SpaceTreeNode previousNode = null;
 			for (Iterator<TreeNode> iterator = nodesToAdd.iterator(); iterator
@@ -375,8 +427,8 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 					double expectedPostion = (previousNode == null) ? 0
 							: previousNode.positionInLayer + expectedDistance(
 									previousNode, nodeInLayer);
-					nodeInLayer.positionInLayer = Math
-							.max(nodeInLayer.positionInLayer, expectedPostion);
+					nodeInLayer.setPositionInLayer(Math
+							.max(nodeInLayer.positionInLayer, expectedPostion));
 					previousNode = nodeInLayer;
 				}
 
@@ -397,8 +449,8 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 				double expectedPostion = (previousNode == null) ? 0
 						: previousNode.positionInLayer
 								+ expectedDistance(previousNode, nodeInLayer);
-				nodeInLayer.positionInLayer = Math
-						.max(nodeInLayer.positionInLayer, expectedPostion);
+				nodeInLayer.setPositionInLayer(Math
+						.max(nodeInLayer.positionInLayer, expectedPostion));
 				previousNode = nodeInLayer;
 			}
 
@@ -406,6 +458,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		public void removeNode(SpaceTreeNode node) {
+			recordState();
 			if (nodes.remove(node)) {
 				spaceTreeLayers.get(depth + 1).removeNodes(node.children);
 				refreshThickness();
@@ -413,6 +466,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		public void removeNodes(List<TreeNode> nodesToRemove) {
+			recordState();
 			if (this.nodes.removeAll(nodesToRemove)) {
 				SpaceTreeLayer nextLayer = spaceTreeLayers.get(depth + 1);
 				for (Iterator<TreeNode> iterator = nodesToRemove
@@ -427,23 +481,80 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 
 		public void checkThickness(SpaceTreeNode node) {
 			double nodeThickness = 0;
-			Dimension size = LayoutProperties.getSize(node.node);
+			Dimension size = node.getSize();
 			nodeThickness = (direction == TOP_DOWN || direction == BOTTOM_UP)
 					? size.height : size.width;
 			this.thickness = Math.max(this.thickness, nodeThickness);
 		}
 
+		/**
+		 * Returns the thickness of this layer, i.e. the maximum extent of its
+		 * nodes perpendicular to the layer. It is only recomputed when the
+		 * nodes of this layer have changed.
+		 * 
+		 * @return The thickness of this layer.
+		 */
+		public double getThickness() {
+			if (thickness < 0) {
+				thickness = 0;
+				for (Iterator<SpaceTreeNode> iterator = nodes
+						.iterator(); iterator.hasNext();) {
+					checkThickness(iterator.next());
+				}
+			}
+			return thickness;
+		}
+
+		/**
+		 * Records the current state of this layer (its nodes together with
+		 * their positions and expansion states), unless no snapshot has been
+		 * taken or the state has already been recorded in the current snapshot
+		 * epoch. Has to be called before this layer or any of its nodes is
+		 * changed.
+		 */
+		public void recordState() {
+			if (!snapShots.isEmpty() && recordedEpoch != snapShotEpoch) {
+				LayerSnapshot layerSnapshot = new LayerSnapshot();
+				layerSnapshot.layer = this;
+				layerSnapshot.nodes = nodes
+						.toArray(new SpaceTreeNode[nodes.size()]);
+				layerSnapshot.positions = new double[nodes.size()];
+				layerSnapshot.expanded = new boolean[nodes.size()];
+				for (int i = 0; i < layerSnapshot.nodes.length; i++) {
+					SpaceTreeNode node = layerSnapshot.nodes[i];
+					layerSnapshot.positions[i] = node.positionInLayer;
+					layerSnapshot.expanded[i] = node.expanded;
+				}
+				journal.add(layerSnapshot);
+				recordedEpoch = snapShotEpoch;
+			}
+		}
+
 		public void refreshThickness() {
-			this.thickness = 0;
-			for (Iterator<SpaceTreeNode> iterator = nodes.iterator(); iterator
-					.hasNext();) {
-				checkThickness(iterator.next());
+			thickness = -1;
+		}
+
+		/**
+		 * Restores the given state of this layer, as recorded by
+		 * {@link #recordState()}.
+		 * 
+		 * @param layerSnapshot
+		 *            The recorded state.
+		 */
+		public void restoreState(LayerSnapshot layerSnapshot) {
+			nodes.clear();
+			for (int i = 0; i < layerSnapshot.nodes.length; i++) {
+				SpaceTreeNode node = layerSnapshot.nodes[i];
+				node.positionInLayer = layerSnapshot.positions[i];
+				node.expanded = layerSnapshot.expanded[i];
+				nodes.add(node);
 			}
+			refreshThickness();
 		}
 
 		public void fitNodesWithinBounds(List<TreeNode> nodeList,
 				double startPosition, double endPosition) {
-			NodeSnapshot[][] snapShot = takeSnapShot();
+			int snapShot = takeSnapShot();
 			SpaceTreeNode[] nodes = nodeList
 					.toArray(new SpaceTreeNode[nodeList.size()]);
 			double initialStartPosition = nodes[0].positionInLayer;
@@ -510,14 +621,22 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 					revertToSnapshot(snapShot);
 				}
 			}
+			releaseSnapShot();
 		}
 
 		public void moveNode(SpaceTreeNode node, double newPosition) {
-			Collections.sort(nodes, new Comparator<SpaceTreeNode>() {
-				public int compare(SpaceTreeNode arg0, SpaceTreeNode arg1) {
-					return arg0.order - arg1.order;
+			for (int i = 1; i < nodes.size(); i++) {
+				if (nodes.get(i - 1).order > nodes.get(i).order) {
+					recordState();
+					Collections.sort(nodes, new Comparator<SpaceTreeNode>() {
+						public int compare(SpaceTreeNode arg0,
+								SpaceTreeNode arg1) {
+							return arg0.order - arg1.order;
+						}
+					});
+					break;
 				}
-			});
+			}
 			double positionInLayerAtStart = node.positionInLayer;
 			if (newPosition >= positionInLayerAtStart)
 				moveNodeForward(node, newPosition);
@@ -543,11 +662,20 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			if (nodeIndex == -1)
 				throw new IllegalArgumentException("node not on this layer");
 			// move forward -> check space to the 'right'
-			NodeSnapshot[][] snapShot = takeSnapShot();
+			int snapShot = takeSnapShot();
 			boolean firstRun = true;
+			int maxCount = nodes.size() * 100;
+			int totalCount = 0;
 			mainLoop: while (firstRun
 					|| nodeToMove.positionInLayer < newPosition) {
 				firstRun = false;
+				// Stop this cycle if no result can be found
+				// Possible cause: rounding errors when space is scarce
+				totalCount++;
+				if (totalCount > maxCount) {
+					revertToSnapshot(snapShot);
+					break;
+				}
 				double requiredSpace = 0;
 				SpaceTreeNode previousNode = nodeToMove;
 				for (int i = nodeIndex + 1; i < nodes.size(); i++) {
@@ -583,7 +711,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 				SpaceTreeNode currentNodeToMove = nodeToMove;
 				double newPositionForCurrent = newPosition;
 				for (int i = nodeIndex; i < nodes.size(); i++) {
-					currentNodeToMove.positionInLayer = newPositionForCurrent;
+					currentNodeToMove.setPositionInLayer(newPositionForCurrent);
 					// move parent if moved node is its first child
 					if (currentNodeToMove.firstChild) {
 						SpaceTreeNode parent = (SpaceTreeNode) currentNodeToMove.parent;
@@ -651,6 +779,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 					}
 				}
 			}
+			releaseSnapShot();
 		}
 
 		/**
@@ -668,11 +797,20 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 				throw new IllegalArgumentException("node not on this layer");
 			// move backward -> check space to the 'left'
 			// move and collapse until there's enough space
-			NodeSnapshot[][] snapShot = takeSnapShot();
+			int snapShot = takeSnapShot();
 			boolean firstRun = true;
+			int maxCount = nodes.size() * 100;
+			int totalCount = 0;
 			mainLoop: while (firstRun
 					|| nodeToMove.positionInLayer > newPosition) {
 				firstRun = false;
+				// Stop this cycle if no result can be found
+				// Possible cause: rounding errors when space is scarce
+				totalCount++;
+				if (totalCount > maxCount) {
+					revertToSnapshot(snapShot);
+					break;
+				}
 				double requiredSpace = 0;
 				SpaceTreeNode previousNode = nodeToMove;
 				for (int i = nodeIndex - 1; i >= 0; i--) {
@@ -709,7 +847,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 				SpaceTreeNode currentNodeToMove = nodeToMove;
 				double newPositionForCurrent = newPosition;
 				for (int i = nodeIndex; i >= 0; i--) {
-					currentNodeToMove.positionInLayer = newPositionForCurrent;
+					currentNodeToMove.setPositionInLayer(newPositionForCurrent);
 					// move parent if moved node is its last child
 					if (currentNodeToMove.lastChild) {
 						SpaceTreeNode parent = (SpaceTreeNode) currentNodeToMove.parent;
@@ -776,6 +914,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 					}
 				}
 			}
+			releaseSnapShot();
 		}
 
 		public String toString() {
@@ -790,7 +929,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		private void collapseNode(SpaceTreeNode node) {
-			node.expanded = false;
+			node.setExpanded(false);
 			SpaceTreeLayer layer = spaceTreeLayers.get(node.depth + 1);
 			layer.removeNodes(node.children);
 			for (Iterator<TreeNode> iterator = node.children
@@ -880,6 +1019,14 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private SpaceTreeNode protectedNode = null;
 
+	/**
+	 * The layer states that were recorded since the oldest snapshot that has
+	 * not been released yet (see {@link #takeSnapShot()}).
+	 */
+	private ArrayList<LayerSnapshot> journal = new ArrayList<>();
+	private ArrayList<Integer> snapShots = new ArrayList<>();
+	private int snapShotEpoch = 0;
+
 	private Rectangle bounds;
 
 	/**
@@ -935,6 +1082,9 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
+		journal.clear();
+		snapShots.clear();
+
 		treeObserver = new TreeLayoutHelper(spaceTreeNodeFactory);
 		treeObserver.computeTree(layoutContext.getNodes());
 
@@ -960,7 +1110,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		nodesInNextLayer.add(nodeToExpand);
 		double spaceRequiredInNextLayer = nodeToExpand.spaceRequiredForNode();
 		for (int layer = 0; !nodesInNextLayer.isEmpty(); layer++) {
-			NodeSnapshot[][] snapShot = takeSnapShot();
+			int snapShot = takeSnapShot();
 			requiredSpace = Math.max(requiredSpace, spaceRequiredInNextLayer);
 			spaceRequiredInNextLayer = 0;
 
@@ -972,7 +1122,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 					.iterator(); iterator.hasNext();) {
 				SpaceTreeNode node = (SpaceTreeNode) iterator.next();
 				if (!node.children.isEmpty()) {
-					node.expanded = true;
+					node.setExpanded(true);
 					spaceRequiredInNextLayer += node.spaceRequiredForChildren();
 					nodesInNextLayer.addAll(node.children);
 					numOfNodesWithChildren++;
@@ -982,11 +1132,13 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			for (Iterator<TreeNode> iterator = nodesInNextLayer
 					.iterator(); iterator.hasNext();) {
 				SpaceTreeNode node = (SpaceTreeNode) iterator.next();
-				node.expanded = false;
+				node.setExpanded(false);
 			}
 
-			if (numOfNodesWithChildren == 0)
+			if (numOfNodesWithChildren == 0) {
+				releaseSnapShot();
 				break;
+			}
 
 			spaceRequiredInNextLayer += branchGap
 					* (numOfNodesWithChildren - 1);
@@ -1021,8 +1173,10 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 			if (!addedNewLayer) {
 				revertToSnapshot(snapShot);
+				releaseSnapShot();
 				break;
 			}
+			releaseSnapShot();
 		}
 		nodeToExpand.centerParentsBottomUp();
 		nodeToExpand.centerParentsTopDown();
@@ -1079,30 +1233,55 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		return expectedDistance;
 	}
 
-	private class NodeSnapshot {
-		SpaceTreeNode node;
-		double position;
-		boolean expanded;
+	private class LayerSnapshot {
+		SpaceTreeLayer layer;
+		SpaceTreeNode[] nodes;
+		double[] positions;
+		boolean[] expanded;
 	}
 
 	/**
-	 * Stores current expansion state of tree nodes and their position in layers
+	 * Stores current expansion state of tree nodes and their position in
+	 * layers. Instead of copying all layers, the state of a layer is only
+	 * recorded (see {@link SpaceTreeLayer#recordState()}) before it is changed
+	 * for the first time after the snapshot was taken, so that only the layers
+	 * affected by subsequent node movements or expansion changes have to be
+	 * copied and restored. Each snapshot has to be released using
+	 * {@link #releaseSnapShot()} when it is no longer needed.
 	 * 
-	 * @return array containing state of all unpruned nodes
+	 * @return the snapshot, i.e. the current length of the {@link #journal}
 	 */
-	private NodeSnapshot[][] takeSnapShot() {
-		NodeSnapshot[][] result = new NodeSnapshot[spaceTreeLayers.size()][];
-		for (int i = 0; i < result.length; i++) {
-			SpaceTreeLayer layer = spaceTreeLayers.get(i);
-			result[i] = new NodeSnapshot[layer.nodes.size()];
-			for (int j = 0; j < result[i].length; j++) {
-				result[i][j] = new NodeSnapshot();
-				result[i][j].node = layer.nodes.get(j);
-				result[i][j].position = result[i][j].node.positionInLayer;
-				result[i][j].expanded = result[i][j].node.expanded;
+	private int takeSnapShot() {
+		snapShots.add(journal.size());
+		snapShotEpoch++;
+		return journal.size();
+	}
+
+	/**
+	 * Releases the most recently taken snapshot. The recorded layer states are
+	 * discarded when no snapshot is left. Otherwise, only the oldest recorded
+	 * state of each layer is kept, which is the one needed to revert to the
+	 * enclosing snapshot.
+	 */
+	private void releaseSnapShot() {
+		snapShots.remove(snapShots.size() - 1);
+		if (snapShots.isEmpty()) {
+			journal.clear();
+			return;
+		}
+		// start a new epoch, in which all layers that are still recorded for
+		// the enclosing snapshot do not have to be recorded again
+		snapShotEpoch++;
+		int enclosingSnapShot = snapShots.get(snapShots.size() - 1);
+		int size = enclosingSnapShot;
+		for (int i = enclosingSnapShot; i < journal.size(); i++) {
+			LayerSnapshot layerSnapshot = journal.get(i);
+			if (layerSnapshot.layer.recordedEpoch != snapShotEpoch) {
+				layerSnapshot.layer.recordedEpoch = snapShotEpoch;
+				journal.set(size++, layerSnapshot);
 			}
 		}
-		return result;
+		journal.subList(size, journal.size()).clear();
 	}
 
 	/**
@@ -1111,15 +1290,11 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 	 * @param snapShot
 	 *            state obtained with {@link #takeSnapShot()}
 	 */
-	private void revertToSnapshot(NodeSnapshot[][] snapShot) {
-		for (int i = 0; i < snapShot.length; i++) {
-			SpaceTreeLayer layer = spaceTreeLayers.get(i);
-			layer.nodes.clear();
-			for (int j = 0; j < snapShot[i].length; j++) {
-				snapShot[i][j].node.positionInLayer = snapShot[i][j].position;
-				snapShot[i][j].node.expanded = snapShot[i][j].expanded;
-				layer.nodes.add(snapShot[i][j].node);
-			}
+	private void revertToSnapshot(int snapShot) {
+		for (int i = journal.size() - 1; i >= snapShot; i--) {
+			LayerSnapshot layerSnapshot = journal.remove(i);
+			layerSnapshot.layer.restoreState(layerSnapshot);
 		}
+		snapShotEpoch++;
 	}
 }
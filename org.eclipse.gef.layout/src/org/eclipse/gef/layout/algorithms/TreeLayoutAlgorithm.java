@@ -14,7 +14,10 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
@@ -63,6 +66,41 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	public final static int RIGHT_LEFT = 4;
 
+	/**
+	 * A {@link TreeNode} that stores the (intermediate) data of the compact
+	 * layout computation.
+	 */
+	private static class TidyTreeNode extends TreeLayoutHelper.TreeNode {
+		private TidyTreeNode ancestor = this;
+		private TidyTreeNode thread;
+		private int number;
+		private double prelim, mod, midpoint, change, shift, modSum, x;
+
+		public TidyTreeNode(Node node, TreeLayoutHelper owner) {
+			super(node, owner);
+		}
+
+		private TidyTreeNode getChild(int index) {
+			return (TidyTreeNode) children.get(index);
+		}
+
+		private TidyTreeNode nextLeft() {
+			return children.isEmpty() ? thread : getChild(0);
+		}
+
+		private TidyTreeNode nextRight() {
+			return children.isEmpty() ? thread
+					: getChild(children.size() - 1);
+		}
+	}
+
+	private TreeLayoutHelper.TreeNodeFactory tidyTreeNodeFactory = new TreeLayoutHelper.TreeNodeFactory() {
+		public TreeLayoutHelper.TreeNode createTreeNode(Node nodeLayout,
+				TreeLayoutHelper observer) {
+			return new TidyTreeNode(nodeLayout, observer);
+		};
+	};
+
 	private int direction = TOP_DOWN;
 
 	private boolean resize = false;
@@ -75,6 +113,8 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 
 	private Dimension nodeSpace;
 
+	private boolean compact = false;
+
 	/**
 	 * Create a default Tree Layout.
 	 */
@@ -147,6 +187,37 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 					"Invalid direction: " + direction);
 	}
 
+	/**
+	 * Returns whether this {@link TreeLayoutAlgorithm} computes compact (tidy)
+	 * layouts.
+	 * 
+	 * @return <code>true</code> if this algorithm computes compact layouts,
+	 *         <code>false</code> otherwise.
+	 * @see #setCompact(boolean)
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * Specifies whether this {@link TreeLayoutAlgorithm} computes compact
+	 * (tidy) layouts. By default, each leaf of the tree is assigned a slot of
+	 * its own, and each inner node is centered above the slots of its leaves,
+	 * so that wide or unbalanced trees require lots of space. If set to
+	 * <code>true</code>, the nodes are instead positioned as close to each
+	 * other as possible (while each parent is still centered above its
+	 * children), using the linear time variant of Walker's algorithm by
+	 * Buchheim, J&uuml;nger, and Leipert ("Improving Walker's Algorithm to Run
+	 * in Linear Time", 2002).
+	 * 
+	 * @param compact
+	 *            <code>true</code> if this algorithm should compute compact
+	 *            layouts (default is <code>false</code>)
+	 */
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
 	/**
 	 * 
 	 * @return true if this algorithm is set to resize elements
@@ -198,12 +269,17 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 	 *            The {@link LayoutContext} to use.
 	 */
 	void internalApplyLayout(LayoutContext context) {
-		treeObserver = new TreeLayoutHelper(null);
+		treeObserver = new TreeLayoutHelper(
+				compact ? tidyTreeNodeFactory : null);
 		treeObserver.computeTree(context.getNodes());
 
 		TreeNode superRoot = treeObserver.getSuperRoot();
 		bounds = LayoutProperties.getBounds(context.getGraph());
-		updateLeafAndLayerSizes();
+		if (compact) {
+			computeCompactPositions((TidyTreeNode) superRoot);
+			return;
+		}
+		updateLeafAndLayerSizes(superRoot.numOfLeaves);
 		int leafCountSoFar = 0;
 		for (Iterator<TreeNode> iterator = superRoot.getChildren()
 				.iterator(); iterator.hasNext();) {
@@ -213,7 +289,7 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 	}
 
-	private void updateLeafAndLayerSizes() {
+	private void updateLeafAndLayerSizes(double breadth) {
 		if (nodeSpace != null) {
 			if (getDirection() == TOP_DOWN || getDirection() == BOTTOM_UP) {
 				leafSize = nodeSpace.getWidth();
@@ -225,10 +301,10 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 		} else {
 			TreeNode superRoot = treeObserver.getSuperRoot();
 			if (direction == TOP_DOWN || direction == BOTTOM_UP) {
-				leafSize = bounds.getWidth() / superRoot.numOfLeaves;
+				leafSize = bounds.getWidth() / breadth;
 				layerSize = bounds.getHeight() / superRoot.height;
 			} else {
-				leafSize = bounds.getHeight() / superRoot.numOfLeaves;
+				leafSize = bounds.getHeight() / breadth;
 				layerSize = bounds.getWidth() / superRoot.height;
 			}
 		}
@@ -241,6 +317,170 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 			int relativePosition) {
 		double breadthPosition = relativePosition
 				+ entityInfo.numOfLeaves / 2.0;
+		setLocation(entityInfo, breadthPosition);
+
+		for (Iterator<TreeNode> iterator = entityInfo.children
+				.iterator(); iterator.hasNext();) {
+			TreeNode childInfo = iterator.next();
+			computePositionRecursively(childInfo, relativePosition);
+			relativePosition += childInfo.numOfLeaves;
+		}
+	}
+
+	/**
+	 * Computes compact positions for all nodes of the trees below the given
+	 * super root, using the algorithm of Buchheim, J&uuml;nger, and Leipert.
+	 * The positions along the breadth axis are computed in units of the
+	 * minimum distance between two neighboring nodes. All traversals are
+	 * performed without recursion, so that deep trees can be laid out as well.
+	 */
+	private void computeCompactPositions(TidyTreeNode superRoot) {
+		// determine the nodes in pre-order
+		List<TidyTreeNode> preOrder = new ArrayList<>();
+		ArrayDeque<TidyTreeNode> stack = new ArrayDeque<>();
+		stack.push(superRoot);
+		while (!stack.isEmpty()) {
+			TidyTreeNode node = stack.pop();
+			preOrder.add(node);
+			for (int i = node.children.size() - 1; i >= 0; i--) {
+				stack.push((TidyTreeNode) node.children.get(i));
+			}
+		}
+
+		// first walk (bottom-up): the children of each node are placed and
+		// their subtrees are separated before the node itself is centered
+		for (int i = preOrder.size() - 1; i >= 0; i--) {
+			TidyTreeNode node = preOrder.get(i);
+			if (node.children.isEmpty()) {
+				continue;
+			}
+			TidyTreeNode defaultAncestor = node.getChild(0);
+			for (int j = 0; j < node.children.size(); j++) {
+				TidyTreeNode child = node.getChild(j);
+				child.number = j;
+				if (j == 0) {
+					child.prelim = child.midpoint;
+				} else {
+					child.prelim = node.getChild(j - 1).prelim + 1;
+					if (!child.children.isEmpty()) {
+						child.mod = child.prelim - child.midpoint;
+					}
+				}
+				defaultAncestor = apportion(child, defaultAncestor);
+			}
+			executeShifts(node);
+			node.midpoint = (node.getChild(0).prelim
+					+ node.getChild(node.children.size() - 1).prelim) / 2;
+		}
+
+		// second walk (top-down): the final positions are computed by summing
+		// up the modifiers of all ancestors
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (TidyTreeNode node : preOrder) {
+			for (TreeNode child : node.children) {
+				((TidyTreeNode) child).modSum = node.modSum + node.mod;
+			}
+			if (node != superRoot) {
+				node.x = node.prelim + node.modSum;
+				min = Math.min(min, node.x);
+				max = Math.max(max, node.x);
+			}
+		}
+		if (preOrder.size() == 1) {
+			return;
+		}
+
+		updateLeafAndLayerSizes(max - min + 1);
+		for (TidyTreeNode node : preOrder) {
+			if (node != superRoot) {
+				setLocation(node, node.x - min + 0.5);
+			}
+		}
+	}
+
+	/**
+	 * Separates the subtree of the given node from the subtrees of its left
+	 * siblings, by moving it to the right where necessary.
+	 */
+	private TidyTreeNode apportion(TidyTreeNode v,
+			TidyTreeNode defaultAncestor) {
+		if (v.number == 0) {
+			return defaultAncestor;
+		}
+		TidyTreeNode parent = (TidyTreeNode) v.parent;
+		// inside/outside contours of the right (p) and left (m) subtrees
+		TidyTreeNode vip = v;
+		TidyTreeNode vop = v;
+		TidyTreeNode vim = parent.getChild(v.number - 1);
+		TidyTreeNode vom = parent.getChild(0);
+		double sip = vip.mod;
+		double sop = vop.mod;
+		double sim = vim.mod;
+		double som = vom.mod;
+		while (vim.nextRight() != null && vip.nextLeft() != null) {
+			vim = vim.nextRight();
+			vip = vip.nextLeft();
+			vom = vom.nextLeft();
+			vop = vop.nextRight();
+			vop.ancestor = v;
+			double shift = (vim.prelim + sim) - (vip.prelim + sip) + 1;
+			if (shift > 0) {
+				TidyTreeNode ancestor = vim.ancestor.parent == parent
+						? vim.ancestor : defaultAncestor;
+				moveSubtree(ancestor, v, shift);
+				sip += shift;
+				sop += shift;
+			}
+			sim += vim.mod;
+			sip += vip.mod;
+			som += vom.mod;
+			sop += vop.mod;
+		}
+		if (vim.nextRight() != null && vop.nextRight() == null) {
+			vop.thread = vim.nextRight();
+			vop.mod += sim - sop;
+		}
+		if (vip.nextLeft() != null && vom.nextLeft() == null) {
+			vom.thread = vip.nextLeft();
+			vom.mod += sip - som;
+			defaultAncestor = v;
+		}
+		return defaultAncestor;
+	}
+
+	/**
+	 * Applies the shifts that were recorded for the children of the given node
+	 * by {@link #moveSubtree(TidyTreeNode, TidyTreeNode, double)}.
+	 */
+	private void executeShifts(TidyTreeNode node) {
+		double shift = 0;
+		double change = 0;
+		for (int i = node.children.size() - 1; i >= 0; i--) {
+			TidyTreeNode child = node.getChild(i);
+			child.prelim += shift;
+			child.mod += shift;
+			change += child.change;
+			shift += child.shift + change;
+		}
+	}
+
+	/**
+	 * Moves the subtree of <i>right</i> by the given shift, and records that
+	 * the subtrees in between <i>left</i> and <i>right</i> are to be spaced
+	 * out evenly (which is applied by {@link #executeShifts(TidyTreeNode)}).
+	 */
+	private void moveSubtree(TidyTreeNode left, TidyTreeNode right,
+			double shift) {
+		int subtrees = right.number - left.number;
+		right.change -= shift / subtrees;
+		right.shift += shift;
+		left.change += shift / subtrees;
+		right.prelim += shift;
+		right.mod += shift;
+	}
+
+	private void setLocation(TreeNode entityInfo, double breadthPosition) {
 		double depthPosition = (entityInfo.depth + 0.5);
 
 		switch (direction) {
@@ -263,13 +503,6 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 							breadthPosition * leafSize));
 			break;
 		}
-
-		for (Iterator<TreeNode> iterator = entityInfo.children
-				.iterator(); iterator.hasNext();) {
-			TreeNode childInfo = iterator.next();
-			computePositionRecursively(childInfo, relativePosition);
-			relativePosition += childInfo.numOfLeaves;
-		}
 	}
 
 	@Override
@@ -291,6 +524,7 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 			break;
 		}
 		sb.append(", resize : " + resize);
+		sb.append(", compact : " + compact);
 		sb.append(" }");
 		// TODO: include node space??
 		return sb.toString();
@@ -13,15 +13,20 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.LayoutContext;
 
@@ -245,29 +250,45 @@ public class TreeLayoutHelper {
 		/**
 		 * Performs a DFS on the tree structure and calculates all parameters of
 		 * its nodes. Should be called on {@link TreeLayoutHelper#getSuperRoot()
-		 * Super Root}. Uses recurrence to go through all the nodes.
+		 * Super Root}. Uses an explicit stack rather than recursion, so that
+		 * deep trees can be processed as well.
 		 */
 		protected void precomputeTree() {
-			if (children.isEmpty()) {
-				height = 0;
-				numOfLeaves = 1;
-				numOfDescendants = 0;
-			} else {
-				height = 0;
-				numOfLeaves = 0;
-				numOfDescendants = 0;
-				for (ListIterator<TreeNode> iterator = children
-						.listIterator(); iterator.hasNext();) {
-					TreeNode child = iterator.next();
-					child.depth = this.depth + 1;
-					child.order = this.order + this.numOfLeaves;
-					child.precomputeTree();
-					child.firstChild = (this.numOfLeaves == 0);
-					child.lastChild = !iterator.hasNext();
-
-					this.height = Math.max(this.height, child.height + 1);
-					this.numOfLeaves += child.numOfLeaves;
-					this.numOfDescendants += child.numOfDescendants + 1;
+			// determine the nodes in pre-order, so that the descendants of a
+			// node succeed it
+			List<TreeNode> preOrder = new ArrayList<>();
+			ArrayDeque<TreeNode> stack = new ArrayDeque<>();
+			stack.push(this);
+			while (!stack.isEmpty()) {
+				TreeNode current = stack.pop();
+				preOrder.add(current);
+				for (TreeNode child : current.children) {
+					child.depth = current.depth + 1;
+					stack.push(child);
+				}
+			}
+			// compute the bottom-up parameters in reverse pre-order
+			for (int i = preOrder.size() - 1; i >= 0; i--) {
+				TreeNode current = preOrder.get(i);
+				current.height = 0;
+				current.numOfLeaves = current.children.isEmpty() ? 1 : 0;
+				current.numOfDescendants = 0;
+				for (int j = 0; j < current.children.size(); j++) {
+					TreeNode child = current.children.get(j);
+					child.firstChild = j == 0;
+					child.lastChild = j == current.children.size() - 1;
+					current.height = Math.max(current.height,
+							child.height + 1);
+					current.numOfLeaves += child.numOfLeaves;
+					current.numOfDescendants += child.numOfDescendants + 1;
+				}
+			}
+			// compute the order top-down
+			for (TreeNode current : preOrder) {
+				int numOfLeavesSoFar = 0;
+				for (TreeNode child : current.children) {
+					child.order = current.order + numOfLeavesSoFar;
+					numOfLeavesSoFar += child.numOfLeaves;
 				}
 			}
 		}
@@ -388,6 +409,10 @@ public class TreeLayoutHelper {
 	}
 
 	private final HashMap<Object, TreeNode> layoutToTree = new HashMap<>();
+	// the (local) successors and predecessors of the nodes, which are
+	// determined within a single pass over the edges
+	private final Map<Node, List<Node>> successors = new IdentityHashMap<>();
+	private final Map<Node, List<Node>> predecessors = new IdentityHashMap<>();
 	private final TreeNodeFactory factory;
 	private TreeNode superRoot;
 
@@ -417,9 +442,44 @@ public class TreeLayoutHelper {
 	public void computeTree(Node[] nodes) {
 		superRoot = factory.createTreeNode(null, this);
 		layoutToTree.put(null, superRoot);
+		computeNeighbors(nodes);
 		createTrees(nodes);
 	}
 
+	/**
+	 * Determines the successors and predecessors of all nodes within the
+	 * graphs of the given nodes (and the graphs of their nesting nodes), so
+	 * that each edge is only visited once.
+	 *
+	 * @param nodes
+	 *            The nodes whose graphs are to be evaluated.
+	 */
+	private void computeNeighbors(Node[] nodes) {
+		successors.clear();
+		predecessors.clear();
+		Set<Graph> visitedGraphs = Collections
+				.newSetFromMap(new IdentityHashMap<Graph, Boolean>());
+		for (Node node : nodes) {
+			Graph graph = node.getGraph();
+			while (graph != null && visitedGraphs.add(graph)) {
+				for (Edge edge : graph.getEdges()) {
+					if (edge.getSource() != null
+							&& edge.getSource().getGraph() == graph) {
+						getNeighbors(successors, edge.getSource())
+								.add(edge.getTarget());
+					}
+					if (edge.getTarget() != null
+							&& edge.getTarget().getGraph() == graph) {
+						getNeighbors(predecessors, edge.getTarget())
+								.add(edge.getSource());
+					}
+				}
+				graph = graph.getNestingNode() == null ? null
+						: graph.getNestingNode().getGraph();
+			}
+		}
+	}
+
 	/**
 	 * Returns Super Root, that is an artificial node being a common parent for
 	 * all nodes in observed tree structure.
@@ -459,12 +519,9 @@ public class TreeLayoutHelper {
 	private void createTrees(Node[] nodes) {
 		HashSet<Node> alreadyVisited = new HashSet<>();
 		LinkedList<Object[]> nodesToAdd = new LinkedList<>();
-		for (int i = 0; i < nodes.length; i++) {
-			Node root = findRoot(nodes[i], alreadyVisited);
-			if (root != null) {
-				alreadyVisited.add(root);
-				nodesToAdd.addLast(new Object[] { root, superRoot });
-			}
+		for (Node root : findRoots(nodes)) {
+			alreadyVisited.add(root);
+			nodesToAdd.addLast(new Object[] { root, superRoot });
 		}
 		while (!nodesToAdd.isEmpty()) {
 			Object[] dequeued = nodesToAdd.removeFirst();
@@ -474,13 +531,10 @@ public class TreeLayoutHelper {
 			TreeNode currentRoot = (TreeNode) dequeued[1];
 
 			currentRoot.addChild(currentNode);
-			Node[] children = currentNode.node.getAllSuccessorNodes()
-					.toArray(new Node[] {});
-			for (int i = 0; i < children.length; i++) {
-				if (!alreadyVisited.contains(children[i])) {
-					alreadyVisited.add(children[i]);
-					nodesToAdd
-							.addLast(new Object[] { children[i], currentNode });
+			for (Node child : getAllNeighbors(successors, currentNode.node)) {
+				if (!alreadyVisited.contains(child)) {
+					alreadyVisited.add(child);
+					nodesToAdd.addLast(new Object[] { child, currentNode });
 				}
 			}
 		}
@@ -488,34 +542,87 @@ public class TreeLayoutHelper {
 	}
 
 	/**
-	 * Searches for a root of a tree containing given node by continuously
-	 * grabbing a predecessor of current node. If it reaches an node that exists
-	 * in alreadyVisited set, it returns null. If it detects a cycle, it returns
-	 * the first found node of that cycle. If it reaches a node that has no
-	 * predecessors, it returns that node.
+	 * Searches for the roots of the trees containing the given nodes by
+	 * continuously grabbing a predecessor of the current node. If it detects a
+	 * cycle, the first found node of that cycle is regarded as root. If it
+	 * reaches a node that has no predecessors, that node is regarded as root.
+	 * The root that is found for each visited node is remembered, so that each
+	 * node is only visited once.
 	 * 
-	 * @param nodeLayout
-	 *            starting node
-	 * @param alreadyVisited
-	 *            set of nodes that can't lay on path to the root (if one does,
-	 *            method stops and returns null).
-	 * @return
+	 * @param nodes
+	 *            The nodes for which to find the roots.
+	 * @return The roots, in the order in which they were found.
 	 */
-	private Node findRoot(Node nodeLayout, Set<Node> alreadyVisited) {
-		HashSet<Node> alreadyVisitedRoot = new HashSet<>();
-		while (true) {
-			if (alreadyVisited.contains(nodeLayout))
-				return null;
-			if (alreadyVisitedRoot.contains(nodeLayout))
-				return nodeLayout;
-			alreadyVisitedRoot.add(nodeLayout);
-			Node[] predecessingNodes = nodeLayout.getAllPredecessorNodes()
-					.toArray(new Node[] {});
-			if (predecessingNodes.length > 0) {
-				nodeLayout = predecessingNodes[0];
-			} else {
-				return nodeLayout;
+	private List<Node> findRoots(Node[] nodes) {
+		List<Node> roots = new ArrayList<>();
+		Map<Node, Node> rootOf = new IdentityHashMap<>();
+		List<Node> path = new ArrayList<>();
+		Set<Node> pathSet = Collections
+				.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+		for (Node node : nodes) {
+			if (rootOf.containsKey(node)) {
+				// the root of the tree containing the node was already found
+				continue;
+			}
+			Node current = node;
+			Node root = null;
+			while (root == null) {
+				root = rootOf.get(current);
+				if (root == null) {
+					if (!pathSet.add(current)) {
+						// cycle detected
+						root = current;
+						roots.add(root);
+					} else {
+						path.add(current);
+						List<Node> predecessingNodes = getAllNeighbors(
+								predecessors, current);
+						if (predecessingNodes.isEmpty()) {
+							root = current;
+							roots.add(root);
+						} else {
+							current = predecessingNodes.get(0);
+						}
+					}
+				}
 			}
+			for (Node visited : path) {
+				rootOf.put(visited, root);
+			}
+			path.clear();
+			pathSet.clear();
+		}
+		return roots;
+	}
+
+	/**
+	 * Returns the neighbors of the given node within the given map, which are
+	 * determined via the full graph hierarchy (like
+	 * {@link Node#getAllSuccessorNodes()} and
+	 * {@link Node#getAllPredecessorNodes()}).
+	 */
+	private List<Node> getAllNeighbors(Map<Node, List<Node>> neighbors,
+			Node node) {
+		List<Node> localNeighbors = neighbors.get(node);
+		if (localNeighbors == null) {
+			localNeighbors = Collections.emptyList();
+		}
+		Graph graph = node.getGraph();
+		if (graph == null || graph.getNestingNode() == null) {
+			return localNeighbors;
+		}
+		Set<Node> allNeighbors = new LinkedHashSet<>(localNeighbors);
+		allNeighbors.addAll(getAllNeighbors(neighbors, graph.getNestingNode()));
+		return new ArrayList<>(allNeighbors);
+	}
+
+	private static List<Node> getNeighbors(Map<Node, List<Node>> neighbors,
+			Node node) {
+		List<Node> nodeNeighbors = neighbors.get(node);
+		if (nodeNeighbors == null) {
+			nodeNeighbors = new ArrayList<>();
+			neighbors.put(node, nodeNeighbors);
 		}
+		return nodeNeighbors;
 	}
 }
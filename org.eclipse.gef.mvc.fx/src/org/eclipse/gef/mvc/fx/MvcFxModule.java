@@ -55,10 +55,12 @@ import org.eclipse.gef.mvc.fx.models.GridModel;
 import org.eclipse.gef.mvc.fx.models.HoverModel;
 import org.eclipse.gef.mvc.fx.models.SelectionModel;
 import org.eclipse.gef.mvc.fx.models.SnappingModel;
+import org.eclipse.gef.mvc.fx.models.SpatialIndexModel;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.AbstractHandlePart;
 import org.eclipse.gef.mvc.fx.parts.AbstractVisualPart;
+import org.eclipse.gef.mvc.fx.parts.DefaultAggregatedSelectionFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.DefaultFocusFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.DefaultHoverFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.DefaultHoverIntentHandlePartFactory;
@@ -191,6 +193,20 @@ public class MvcFxModule extends AbstractModule {
 		// nothing to bind by default
 	}
 
+	/**
+	 * Binds the {@link IFeedbackPartFactory} that is used to generate
+	 * aggregated selection feedback for large selections.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} for content viewer adapters.
+	 */
+	protected void bindAggregatedSelectionFeedbackPartFactoryAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.role(
+				SelectionBehavior.AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY))
+				.to(DefaultAggregatedSelectionFeedbackPartFactory.class);
+	}
+
 	/**
 	 * Adds a binding for {@link ViewportPolicy} to the adapter map binder for
 	 * {@link IRootPart}.
@@ -775,6 +791,7 @@ public class MvcFxModule extends AbstractModule {
 		bindHoverModelAsContentViewerAdapter(adapterMapBinder);
 		bindSelectionModelAsContentViewerAdapter(adapterMapBinder);
 		bindSnappingModelAsContentViewerAdapter(adapterMapBinder);
+		bindSpatialIndexModelAsContentViewerAdapter(adapterMapBinder);
 
 		bindRootPartAsContentViewerAdapter(adapterMapBinder);
 
@@ -782,6 +799,8 @@ public class MvcFxModule extends AbstractModule {
 		bindHoverFeedbackPartFactoryAsContentViewerAdapter(adapterMapBinder);
 		bindSelectionFeedbackPartFactoryAsContentViewerAdapter(
 				adapterMapBinder);
+		bindAggregatedSelectionFeedbackPartFactoryAsContentViewerAdapter(
+				adapterMapBinder);
 		bindHoverHandlePartFactoryAsContentViewerAdapter(adapterMapBinder);
 		bindSelectionHandlePartFactoryAsContentViewerAdapter(adapterMapBinder);
 		bindSnappingFeedbackPartFactoryAsContentViewerAdapter(adapterMapBinder);
@@ -1088,6 +1107,24 @@ public class MvcFxModule extends AbstractModule {
 				.to(SnappingModel.class);
 	}
 
+	/**
+	 * Adds a binding for {@link SpatialIndexModel} to the adapter map binder
+	 * for {@link IViewer}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindSpatialIndexModelAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(SpatialIndexModel.class);
+	}
+
 	/**
 	 * @param adapterMapBinder
 	 *            The {@link MapBinder} that is used to register adapter
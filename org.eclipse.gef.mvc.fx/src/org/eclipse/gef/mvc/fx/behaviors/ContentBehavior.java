@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.gef.common.collections.SetMultimapChangeListener;
 import org.eclipse.gef.common.dispose.IDisposable;
@@ -54,19 +55,6 @@ import javafx.scene.Node;
  */
 public class ContentBehavior extends AbstractBehavior implements IDisposable {
 
-	private static class ReorderData {
-		public IVisualPart<?> parent;
-		public IContentPart<?> child;
-		public int index;
-
-		public ReorderData(IVisualPart<?> parent, IContentPart<?> child,
-				int index) {
-			this.parent = parent;
-			this.child = child;
-			this.index = index;
-		}
-	}
-
 	private ListChangeListener<Object> contentObserver = new ListChangeListener<Object>() {
 		@Override
 		public void onChanged(
@@ -171,7 +159,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			List<? extends Object> contentChildren,
 			List<IContentPart<? extends Node>> added,
 			LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>> addsPerParent,
-			List<ReorderData> reorders) {
+			Map<IVisualPart<? extends Node>, List<? extends Object>> reordersPerParent) {
 		List<IContentPart<? extends Node>> childContentParts = PartUtils
 				.filterParts(parent.getChildrenUnmodifiable(),
 						IContentPart.class);
@@ -200,11 +188,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			IContentPart<? extends Node> contentPart = findOrCreatePartFor(
 					content);
 			if (contentPartMap.containsKey(content)) {
-				// Re-order the existing content part to its designated
-				// location in the children list.
-				// TODO: this is wrong, it has to take into consideration
-				// the visual parts in between
-				reorders.add(new ReorderData(parent, contentPart, i));
+				// The existing content part has to be re-ordered to its
+				// designated location in the children list; this is done for
+				// all children of the parent at once (after the additions).
+				reordersPerParent.put(parent, contentChildren);
 			} else {
 				if (contentPart.getViewer() != null) {
 					// TODO: Up to now a model element may only be
@@ -222,7 +209,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				childrenToAdd.put(i, contentPart);
 				addAll(contentPart,
 						contentPart.getContentChildrenUnmodifiable(), added,
-						addsPerParent, reorders);
+						addsPerParent, reordersPerParent);
 			}
 		}
 		if (!childrenToAdd.isEmpty()) {
@@ -376,6 +363,42 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	/**
+	 * Reorders the {@link IContentPart} children of the given parent
+	 * {@link IVisualPart}, so that their order corresponds to the order of the
+	 * given content children. The {@link IContentPart} children are permuted
+	 * within the positions they occupy, i.e. all other children of the parent
+	 * retain their positions. The permutation is applied at once via
+	 * {@link IVisualPart#reorderChildren(List)}.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose {@link IContentPart}
+	 *            children are to be reordered.
+	 * @param contentChildren
+	 *            The content children in their designated order.
+	 */
+	@SuppressWarnings("unchecked")
+	private void reorderContentPartChildren(IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		List<IVisualPart<? extends Node>> children = new ArrayList<>(
+				parent.getChildrenUnmodifiable());
+		Map<Object, IContentPart<? extends Node>> contentPartMap = new HashMap<>();
+		for (IContentPart<? extends Node> contentPart : (List<IContentPart<? extends Node>>) PartUtils
+				.filterParts(children, IContentPart.class)) {
+			contentPartMap.put(contentPart.getContent(), contentPart);
+		}
+		int next = 0;
+		for (int i = 0; i < children.size()
+				&& next < contentChildren.size(); i++) {
+			if (children.get(i) instanceof IContentPart) {
+				children.set(i, contentPartMap.get(contentChildren.get(next++)));
+			}
+		}
+		if (!children.equals(parent.getChildrenUnmodifiable())) {
+			parent.reorderChildren(children);
+		}
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -485,8 +508,9 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 
 		LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>> addsPerParent = new LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>>();
 		List<IContentPart<? extends Node>> added = Lists.newArrayList();
-		List<ReorderData> reorders = Lists.newArrayList();
-		addAll(parent, contentChildren, added, addsPerParent, reorders);
+		Map<IVisualPart<? extends Node>, List<? extends Object>> reordersPerParent = new LinkedHashMap<>();
+		addAll(parent, contentChildren, added, addsPerParent,
+				reordersPerParent);
 
 		ArrayList<IVisualPart<? extends Node>> parents = new ArrayList<IVisualPart<? extends Node>>(
 				addsPerParent.keySet());
@@ -495,7 +519,9 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			IVisualPart<? extends Node> parentContentPart = parents.get(i);
 			HashMultimap<Integer, IContentPart<? extends Node>> childContentParts = addsPerParent
 					.get(parentContentPart);
-			childContentParts.keySet().forEach(cp -> {
+			// add in ascending order of indexes, so that all preceding
+			// children are already present
+			new TreeSet<>(childContentParts.keySet()).forEach(cp -> {
 				ArrayList<IContentPart<? extends Node>> children = Lists
 						.newArrayList(childContentParts.get(cp));
 				parentContentPart.addChildren(children, cp);
@@ -506,8 +532,9 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			});
 		}
 
-		for (ReorderData rd : reorders) {
-			rd.parent.reorderChild(rd.child, rd.index);
+		for (Entry<IVisualPart<? extends Node>, List<? extends Object>> reorder : reordersPerParent
+				.entrySet()) {
+			reorderContentPartChildren(reorder.getKey(), reorder.getValue());
 		}
 	}
 }
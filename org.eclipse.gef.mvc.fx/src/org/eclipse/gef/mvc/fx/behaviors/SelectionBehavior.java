@@ -13,13 +13,19 @@
 package org.eclipse.gef.mvc.fx.behaviors;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.AggregatedSelectionFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IHandlePartFactory;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
 import javafx.collections.ListChangeListener;
@@ -28,6 +34,14 @@ import javafx.scene.Node;
 /**
  * The default selection behavior is responsible for creating and removing
  * selection feedback and handles.
+ * <p>
+ * If the number of selected parts exceeds the
+ * {@link #getAggregationThreshold() aggregation threshold}, individual
+ * feedback is only created for the primary selection, while the feedback for
+ * all other selected parts is rendered by the feedback parts of the
+ * {@link IFeedbackPartFactory} that is registered under the
+ * {@link #AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY} role (by default a
+ * single {@link AggregatedSelectionFeedbackPart}).
  *
  * @author anyssen
  * @author mwienand
@@ -35,6 +49,17 @@ import javafx.scene.Node;
  */
 public class SelectionBehavior extends AbstractBehavior {
 
+	/**
+	 * The default {@link #getAggregationThreshold() aggregation threshold}.
+	 */
+	public static final int DEFAULT_AGGREGATION_THRESHOLD = 100;
+
+	/**
+	 * The adapter role for the {@link IFeedbackPartFactory} that is used to
+	 * generate the aggregated selection feedback parts.
+	 */
+	public static final String AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY = "AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY";
+
 	/**
 	 * The adapter role for the {@link IFeedbackPartFactory} that is used to
 	 * generate hover feedback parts.
@@ -47,6 +72,10 @@ public class SelectionBehavior extends AbstractBehavior {
 	 */
 	public static final String SELECTION_HANDLE_PART_FACTORY = "SELECTION_HANDLE_PART_FACTORY";
 
+	private int aggregationThreshold = DEFAULT_AGGREGATION_THRESHOLD;
+
+	private Set<IVisualPart<? extends Node>> aggregatedFeedbackTargets;
+
 	private ListChangeListener<IContentPart<? extends Node>> selectionObserver = new ListChangeListener<IContentPart<? extends Node>>() {
 		@Override
 		public void onChanged(
@@ -70,9 +99,30 @@ public class SelectionBehavior extends AbstractBehavior {
 	protected void addFeedbackAndHandles(
 			List<? extends IContentPart<? extends Node>> selected) {
 		if (!selected.isEmpty()) {
-			// add feedback individually for the selected parts
-			for (IContentPart<? extends Node> sel : selected) {
-				addFeedback(sel);
+			if (selected.size() > 1
+					&& selected.size() > aggregationThreshold) {
+				// add feedback individually for the primary selection only
+				addFeedback(selected.get(0));
+				// register the aggregated feedback for the set of all other
+				// selected parts (like individual feedback), so that it can
+				// be queried and removed as such
+				List<? extends IContentPart<? extends Node>> targets = selected
+						.subList(1, selected.size());
+				aggregatedFeedbackTargets = Collections.newSetFromMap(
+						new IdentityHashMap<IVisualPart<? extends Node>, Boolean>());
+				aggregatedFeedbackTargets.addAll(targets);
+				List<IFeedbackPart<? extends Node>> feedbackParts = createAggregatedFeedbackParts(
+						targets);
+				getFeedbackPerTargetSet().put(aggregatedFeedbackTargets,
+						feedbackParts);
+				if (!feedbackParts.isEmpty()) {
+					addAnchoreds(targets, feedbackParts);
+				}
+			} else {
+				// add feedback individually for the selected parts
+				for (IContentPart<? extends Node> sel : selected) {
+					addFeedback(sel);
+				}
 			}
 			// XXX: For a multi selection, handles are generated for the whole
 			// selection and not for each part individually. For a single
@@ -87,6 +137,34 @@ public class SelectionBehavior extends AbstractBehavior {
 		}
 	}
 
+	/**
+	 * Creates the {@link IFeedbackPart}s that render the feedback for all
+	 * (secondary) selected parts if the number of selected parts exceeds the
+	 * {@link #getAggregationThreshold() aggregation threshold}. The parts are
+	 * created by the {@link IFeedbackPartFactory} that is registered under the
+	 * {@link #AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY} role.
+	 *
+	 * @param targets
+	 *            The (secondary) selected parts for which to create aggregated
+	 *            feedback.
+	 * @return The {@link IFeedbackPart}s that render the aggregated feedback.
+	 */
+	protected List<IFeedbackPart<? extends Node>> createAggregatedFeedbackParts(
+			List<? extends IContentPart<? extends Node>> targets) {
+		IFeedbackPartFactory factory = getFeedbackPartFactory(
+				targets.get(0).getRoot().getViewer(),
+				AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY);
+		List<IFeedbackPart<? extends Node>> feedbackParts = null;
+		if (factory != null) {
+			feedbackParts = factory.createFeedbackParts(targets,
+					Collections.emptyMap());
+		}
+		if (feedbackParts == null) {
+			feedbackParts = Collections.emptyList();
+		}
+		return feedbackParts;
+	}
+
 	@Override
 	protected void doActivate() {
 		// register
@@ -110,6 +188,17 @@ public class SelectionBehavior extends AbstractBehavior {
 				.removeListener(selectionObserver);
 	}
 
+	/**
+	 * Returns the number of selected parts above which the feedback for all
+	 * but the primary selection is aggregated into a single
+	 * {@link IFeedbackPart}.
+	 *
+	 * @return The aggregation threshold.
+	 */
+	public int getAggregationThreshold() {
+		return aggregationThreshold;
+	}
+
 	@Override
 	protected IFeedbackPartFactory getFeedbackPartFactory(IViewer viewer) {
 		return getFeedbackPartFactory(viewer, SELECTION_FEEDBACK_PART_FACTORY);
@@ -141,9 +230,17 @@ public class SelectionBehavior extends AbstractBehavior {
 	protected void removeFeedbackAndHandles(
 			List<? extends IContentPart<? extends Node>> selected) {
 		if (!selected.isEmpty()) {
-			// remove feedback individually for all parts
-			for (IContentPart<? extends Node> sel : selected) {
-				removeFeedback(sel);
+			if (aggregatedFeedbackTargets != null) {
+				// remove feedback for the primary selection and the aggregated
+				// feedback for all other parts
+				removeFeedback(selected.get(0));
+				removeFeedback(aggregatedFeedbackTargets);
+				aggregatedFeedbackTargets = null;
+			} else {
+				// remove feedback individually for all parts
+				for (IContentPart<? extends Node> sel : selected) {
+					removeFeedback(sel);
+				}
 			}
 			// XXX: For a multi selection, handles are generated for the whole
 			// selection and not for each part individually. For a single
@@ -157,4 +254,20 @@ public class SelectionBehavior extends AbstractBehavior {
 			}
 		}
 	}
+
+	/**
+	 * Sets the number of selected parts above which the feedback for all but
+	 * the primary selection is aggregated into a single {@link IFeedbackPart}.
+	 * The new threshold is respected when the selection changes the next time.
+	 *
+	 * @param aggregationThreshold
+	 *            The new aggregation threshold.
+	 */
+	public void setAggregationThreshold(int aggregationThreshold) {
+		if (aggregationThreshold < 0) {
+			throw new IllegalArgumentException(
+					"The aggregation threshold may not be negative.");
+		}
+		this.aggregationThreshold = aggregationThreshold;
+	}
 }
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.operations.IOperationHistory;
@@ -35,6 +36,11 @@ import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.common.adapt.inject.InjectAdapters;
 import org.eclipse.gef.mvc.fx.gestures.IGesture;
 import org.eclipse.gef.mvc.fx.operations.AbstractCompositeOperation;
+import org.eclipse.gef.mvc.fx.operations.BendContentOperation;
+import org.eclipse.gef.mvc.fx.operations.BendVisualOperation;
+import org.eclipse.gef.mvc.fx.operations.ChangeContentChildrenOperation;
+import org.eclipse.gef.mvc.fx.operations.ChangeContentsOperation;
+import org.eclipse.gef.mvc.fx.operations.ChangeViewportOperation;
 import org.eclipse.gef.mvc.fx.operations.ForwardUndoCompositeOperation;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.operations.ReverseUndoCompositeOperation;
@@ -51,12 +57,52 @@ import javafx.collections.ObservableMap;
  * The {@link HistoricizingDomain} is an {@link IDomain} that uses an
  * {@link IOperationHistory} for executing {@link ITransactionalOperation
  * ITransactionalOperations}.
+ * <p>
+ * The undo history is compacted whenever an operation is added to it (see
+ * {@link #compactHistory(IUndoableOperation)}): Consecutive operations of the
+ * same interaction that can be
+ * {@link #merge(IUndoableOperation, IUndoableOperation) merged} (e.g.
+ * subsequent viewport changes) are combined into a single one, and the oldest
+ * operations are removed from the history if its total
+ * {@link #getWeight(IUndoableOperation) weight} exceeds the
+ * {@link #getHistoryBudget() history budget}.
  *
  * @author anyssen
  */
 public class HistoricizingDomain implements IDomain {
 
 	private static final int DEFAULT_UNDO_LIMIT = 128;
+
+	/**
+	 * The default {@link #getHistoryBudget() history budget}, which allows to
+	 * keep a few snapshots of the contents of a large diagram within the
+	 * history, e.g. four {@link ChangeContentsOperation}s that replace 8000
+	 * content objects each.
+	 */
+	protected static final int DEFAULT_HISTORY_BUDGET = 65536;
+
+	/**
+	 * The default {@link #getMergeDelayMillis() merge delay}.
+	 */
+	protected static final long DEFAULT_MERGE_DELAY_MILLIS = 1000;
+
+	/**
+	 * Records the origin and the weight of an operation within the history.
+	 */
+	private static class HistoryEntry {
+		private final IGesture gesture;
+		private final long startMillis;
+		private final long endMillis;
+		private int weight = -1;
+
+		private HistoryEntry(IGesture gesture, long startMillis,
+				long endMillis) {
+			this.gesture = gesture;
+			this.startMillis = startMillis;
+			this.endMillis = endMillis;
+		}
+	}
+
 	private static final UncaughtExceptionHandler UNCAUGHT_EXCEPTION_HANDLER = new UncaughtExceptionHandler() {
 		@Override
 		public void uncaughtException(Thread t, Throwable e) {
@@ -76,7 +122,11 @@ public class HistoricizingDomain implements IDomain {
 	private IOperationHistory operationHistory;
 	private IUndoContext undoContext;
 
+	// origins and weights of the operations within the history
+	private Map<IUndoableOperation, HistoryEntry> historyEntries = new WeakHashMap<>();
+
 	private AbstractCompositeOperation transaction;
+	private long transactionStartMillis;
 	private Set<IGesture> transactionContext = new HashSet<>();
 	private IOperationHistoryListener transactionListener = new IOperationHistoryListener() {
 		@Override
@@ -189,12 +239,68 @@ public class HistoricizingDomain implements IDomain {
 				// only add undo context if we have a content related change
 				applyUndoContext(transaction);
 				getOperationHistory().add(transaction);
+				historyEntries.put(transaction,
+						new HistoryEntry(gesture, transactionStartMillis,
+								System.currentTimeMillis()));
+				compactHistory(transaction);
 			}
 			transaction = null;
 		}
 		transactionContext.remove(gesture);
 	}
 
+	/**
+	 * Compacts the undo history of this domain's {@link #getUndoContext() undo
+	 * context} after the given operation was added to it. If the given
+	 * operation belongs to the same interaction as its predecessor (see
+	 * {@link #getMergeDelayMillis()}) and can be
+	 * {@link #merge(IUndoableOperation, IUndoableOperation) merged} into it,
+	 * the predecessor is removed. Afterwards, the
+	 * oldest operations are removed from the history as long as its total
+	 * {@link #getWeight(IUndoableOperation) weight} exceeds the
+	 * {@link #getHistoryBudget() history budget}. The given operation is never
+	 * removed.
+	 *
+	 * @param latest
+	 *            The {@link IUndoableOperation} that was added to the
+	 *            operation history.
+	 */
+	protected void compactHistory(IUndoableOperation latest) {
+		IOperationHistory history = getOperationHistory();
+		IUndoContext context = getUndoContext();
+		if (history == null || context == null
+				|| !latest.hasContext(context)) {
+			return;
+		}
+		IUndoableOperation[] undoHistory = history.getUndoHistory(context);
+		int count = undoHistory.length;
+		if (count == 0 || undoHistory[count - 1] != latest) {
+			return;
+		}
+
+		// merge with the preceding operation
+		if (count > 1 && isSameInteraction(undoHistory[count - 2], latest)
+				&& merge(undoHistory[count - 2], latest)) {
+			remove(undoHistory[count - 2]);
+			undoHistory = history.getUndoHistory(context);
+			count = undoHistory.length;
+		}
+
+		// remove the oldest operations while the budget is exceeded
+		int weight = 0;
+		for (IUndoableOperation operation : undoHistory) {
+			weight += getCachedWeight(operation);
+		}
+		for (IUndoableOperation operation : history
+				.getRedoHistory(context)) {
+			weight += getCachedWeight(operation);
+		}
+		for (int i = 0; weight > getHistoryBudget() && i < count - 1; i++) {
+			weight -= getCachedWeight(undoHistory[i]);
+			remove(undoHistory[i]);
+		}
+	}
+
 	/**
 	 * Creates a {@link ForwardUndoCompositeOperation} which is used to store
 	 * the operations within an execution transaction. The operation is opened
@@ -296,7 +402,11 @@ public class HistoricizingDomain implements IDomain {
 		} else {
 			// execute operation directly on operation history
 			applyUndoContext(operation);
+			long startMillis = System.currentTimeMillis();
 			getOperationHistory().execute(operation, monitor, null);
+			historyEntries.put(operation, new HistoryEntry(null, startMillis,
+					System.currentTimeMillis()));
+			compactHistory(operation);
 		}
 	}
 
@@ -337,11 +447,51 @@ public class HistoricizingDomain implements IDomain {
 		return ads.getAdapters(key);
 	}
 
+	private int getCachedWeight(IUndoableOperation operation) {
+		HistoryEntry entry = historyEntries.get(operation);
+		if (entry == null) {
+			// operation was added to the history by someone else
+			entry = new HistoryEntry(null, 0, 0);
+			historyEntries.put(operation, entry);
+		}
+		if (entry.weight < 0) {
+			entry.weight = getWeight(operation);
+		}
+		return entry.weight;
+	}
+
 	@Override
 	public Map<AdapterKey<? extends IGesture>, IGesture> getGestures() {
 		return ads.getAdapters(IGesture.class);
 	}
 
+	/**
+	 * Returns the maximum total {@link #getWeight(IUndoableOperation) weight}
+	 * of the operations within the undo and redo history of this domain's
+	 * {@link #getUndoContext() undo context}. Per default, returns
+	 * {@link #DEFAULT_HISTORY_BUDGET}.
+	 *
+	 * @return The maximum total weight of the operations within the history.
+	 */
+	protected int getHistoryBudget() {
+		return DEFAULT_HISTORY_BUDGET;
+	}
+
+	/**
+	 * Returns the maximum number of milliseconds that may pass between the
+	 * addition of an operation to the history and the start of the next
+	 * operation of the same {@link IGesture}, so that both operations are
+	 * considered to belong to the same interaction, and may thus be
+	 * {@link #merge(IUndoableOperation, IUndoableOperation) merged}. Per
+	 * default, returns {@link #DEFAULT_MERGE_DELAY_MILLIS}.
+	 *
+	 * @return The maximum delay in milliseconds between two operations of the
+	 *         same interaction.
+	 */
+	protected long getMergeDelayMillis() {
+		return DEFAULT_MERGE_DELAY_MILLIS;
+	}
+
 	/**
 	 * Returns the {@link IOperationHistory} used by this
 	 * {@link HistoricizingDomain} to execute transactions.
@@ -379,6 +529,54 @@ public class HistoricizingDomain implements IDomain {
 		return ads.getAdapters(IViewer.class);
 	}
 
+	/**
+	 * Returns the weight of the given operation, which approximates the amount
+	 * of memory it retains. Per default, the weight of an
+	 * {@link AbstractCompositeOperation} is the sum of the weights of its
+	 * nested operations. Any other operation weighs <code>1</code> plus the
+	 * number of content objects or bend points it retains, i.e. the sizes of
+	 * the initial and new contents of a {@link ChangeContentsOperation}, the
+	 * initial and new content children of a
+	 * {@link ChangeContentChildrenOperation}, and the initial and final bend
+	 * points of a {@link BendContentOperation} or {@link BendVisualOperation}.
+	 * The weight of an operation is only computed once, i.e. it may not change
+	 * while the operation is part of the history.
+	 *
+	 * @param operation
+	 *            The {@link IUndoableOperation} for which to determine the
+	 *            weight.
+	 * @return The weight of the given operation.
+	 */
+	protected int getWeight(IUndoableOperation operation) {
+		if (operation instanceof AbstractCompositeOperation) {
+			int weight = 0;
+			for (IUndoableOperation nested : ((AbstractCompositeOperation) operation)
+					.getOperations()) {
+				weight += getWeight(nested);
+			}
+			return weight;
+		}
+		int weight = 1;
+		if (operation instanceof ChangeContentsOperation) {
+			ChangeContentsOperation op = (ChangeContentsOperation) operation;
+			weight += size(op.getInitialContents())
+					+ size(op.getNewContents());
+		} else if (operation instanceof ChangeContentChildrenOperation) {
+			ChangeContentChildrenOperation op = (ChangeContentChildrenOperation) operation;
+			weight += size(op.getInitialContentChildren())
+					+ size(op.getNewContentChildren());
+		} else if (operation instanceof BendContentOperation) {
+			BendContentOperation op = (BendContentOperation) operation;
+			weight += size(op.getInitialBendPoints())
+					+ size(op.getFinalBendPoints());
+		} else if (operation instanceof BendVisualOperation) {
+			BendVisualOperation op = (BendVisualOperation) operation;
+			weight += size(op.getInitialBendPoints())
+					+ size(op.getFinalBendPoints());
+		}
+		return weight;
+	}
+
 	@Override
 	public final boolean isActive() {
 		return acs.isActive();
@@ -400,6 +598,68 @@ public class HistoricizingDomain implements IDomain {
 		return transactionContext.contains(gesture);
 	}
 
+	/**
+	 * Returns <code>true</code> if both given operations were added to the
+	 * history by this domain as the result of an execution transaction of the
+	 * same {@link IGesture}, and the latest operation was started less than
+	 * {@link #getMergeDelayMillis()} after the previous operation was added.
+	 */
+	private boolean isSameInteraction(IUndoableOperation previous,
+			IUndoableOperation latest) {
+		HistoryEntry previousEntry = historyEntries.get(previous);
+		HistoryEntry latestEntry = historyEntries.get(latest);
+		return previousEntry != null && latestEntry != null
+				&& previousEntry.gesture != null
+				&& previousEntry.gesture == latestEntry.gesture
+				&& latestEntry.startMillis
+						- previousEntry.endMillis < getMergeDelayMillis();
+	}
+
+	/**
+	 * Merges the given latest operation with the given preceding operation,
+	 * i.e. adjusts the latest operation so that undoing it also reverts the
+	 * effect of the preceding operation, if possible. Returns
+	 * <code>true</code> if the operations were merged, so that the preceding
+	 * operation can be removed from the history. Otherwise returns
+	 * <code>false</code>.
+	 * <p>
+	 * This method is only called for operations that belong to the same
+	 * interaction, i.e. that were contributed by the same {@link IGesture}
+	 * within {@link #getMergeDelayMillis()}. Per default, two
+	 * {@link ChangeViewportOperation}s (which may each be wrapped into an
+	 * {@link AbstractCompositeOperation} of their own) that manipulate the same
+	 * {@link org.eclipse.gef.fx.nodes.InfiniteCanvas} are merged.
+	 *
+	 * @param previous
+	 *            The operation preceding the latest operation in the history.
+	 * @param latest
+	 *            The latest operation within the history.
+	 * @return <code>true</code> if the operations were merged, otherwise
+	 *         <code>false</code>.
+	 */
+	protected boolean merge(IUndoableOperation previous,
+			IUndoableOperation latest) {
+		IUndoableOperation p = unwrapSingle(previous);
+		IUndoableOperation l = unwrapSingle(latest);
+		if (p instanceof ChangeViewportOperation
+				&& l instanceof ChangeViewportOperation) {
+			ChangeViewportOperation pv = (ChangeViewportOperation) p;
+			ChangeViewportOperation lv = (ChangeViewportOperation) l;
+			if (pv.getInfiniteCanvas() != lv.getInfiniteCanvas()) {
+				return false;
+			}
+			lv.setInitialWidth(pv.getInitialWidth());
+			lv.setInitialHeight(pv.getInitialHeight());
+			lv.setInitialContentTransform(pv.getInitialContentTransform());
+			lv.setInitialHorizontalScrollOffset(
+					pv.getInitialHorizontalScrollOffset());
+			lv.setInitialVerticalScrollOffset(
+					pv.getInitialVerticalScrollOffset());
+			return true;
+		}
+		return false;
+	}
+
 	@Override
 	public void openExecutionTransaction(IGesture gesture) {
 		// Create a new transaction in case the gesture is the first one to open
@@ -415,9 +675,16 @@ public class HistoricizingDomain implements IDomain {
 						"A transaction is already active, while this is the first gesture within the transaction context.");
 			}
 			transaction = createExecutionTransaction();
+			transactionStartMillis = System.currentTimeMillis();
 		}
 	}
 
+	private void remove(IUndoableOperation operation) {
+		getOperationHistory().replaceOperation(operation,
+				new IUndoableOperation[0]);
+		historyEntries.remove(operation);
+	}
+
 	@Override
 	public <T> void setAdapter(T adapter) {
 		ads.setAdapter(adapter);
@@ -483,6 +750,20 @@ public class HistoricizingDomain implements IDomain {
 		}
 	}
 
+	private static int size(List<?> list) {
+		return list == null ? 0 : list.size();
+	}
+
+	private IUndoableOperation unwrapSingle(IUndoableOperation operation) {
+		while (operation instanceof AbstractCompositeOperation
+				&& ((AbstractCompositeOperation) operation).getOperations()
+						.size() == 1) {
+			operation = ((AbstractCompositeOperation) operation)
+					.getOperations().get(0);
+		}
+		return operation;
+	}
+
 	@Override
 	public <T> void unsetAdapter(T adapter) {
 		ads.unsetAdapter(adapter);
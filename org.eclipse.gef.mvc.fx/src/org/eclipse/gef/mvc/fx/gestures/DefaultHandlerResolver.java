@@ -12,9 +12,13 @@
 package org.eclipse.gef.mvc.fx.gestures;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.common.adapt.IAdaptable;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
 import org.eclipse.gef.mvc.fx.handlers.IHandler;
@@ -25,6 +29,9 @@ import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
 import com.google.common.reflect.TypeToken;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
 import javafx.scene.Node;
 
 /**
@@ -42,6 +49,13 @@ import javafx.scene.Node;
  * have been located before, the {@link IRootPart} is queried last. The
  * retrieved handlers (if more than one) are (lexicographically) sorted by their
  * role, so that the target handler selection is deterministic.
+ * <p>
+ * As the resolution is performed for each input event, the gestures of the
+ * {@link IDomain} as well as the handlers of each visual part (per handler
+ * type) are cached. The cached gestures are discarded when the adapters of the
+ * {@link IDomain} change, and the cached handlers are discarded when the
+ * adapters or the parent of any visual part for which handlers are cached
+ * change.
  *
  * @author mwienand
  *
@@ -49,8 +63,98 @@ import javafx.scene.Node;
 public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		implements IHandlerResolver {
 
+	private List<IGesture> gestures;
+
+	private Map<IVisualPart<? extends Node>, Map<Class<?>, List<?>>> handlerCache = new IdentityHashMap<>();
+
+	private MapChangeListener<AdapterKey<?>, Object> domainAdaptersObserver = new MapChangeListener<AdapterKey<?>, Object>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends AdapterKey<?>, ? extends Object> change) {
+			gestures = null;
+		}
+	};
+
+	private MapChangeListener<AdapterKey<?>, Object> partAdaptersObserver = new MapChangeListener<AdapterKey<?>, Object>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends AdapterKey<?>, ? extends Object> change) {
+			clearHandlers();
+		}
+	};
+
+	private ChangeListener<IVisualPart<? extends Node>> partParentObserver = new ChangeListener<IVisualPart<? extends Node>>() {
+		@Override
+		public void changed(
+				ObservableValue<? extends IVisualPart<? extends Node>> observable,
+				IVisualPart<? extends Node> oldValue,
+				IVisualPart<? extends Node> newValue) {
+			clearHandlers();
+		}
+	};
+
+	private void clearHandlers() {
+		for (IVisualPart<? extends Node> part : handlerCache.keySet()) {
+			part.adaptersProperty().removeListener(partAdaptersObserver);
+			part.parentProperty().removeListener(partParentObserver);
+		}
+		handlerCache.clear();
+	}
+
+	/**
+	 * Returns the {@link IGesture}s of the given {@link IDomain}. In case the
+	 * given {@link IDomain} is the one this {@link DefaultHandlerResolver} is
+	 * bound to, the {@link IGesture}s are cached.
+	 *
+	 * @param domain
+	 *            The {@link IDomain} for which to return the {@link IGesture}s.
+	 * @return The {@link IGesture}s of the given {@link IDomain}.
+	 */
+	@SuppressWarnings("serial")
+	private List<IGesture> getGestures(IDomain domain) {
+		if (domain == getAdaptable() && gestures != null) {
+			return gestures;
+		}
+		List<IGesture> domainGestures = new ArrayList<>(
+				domain.getAdapters(new TypeToken<IGesture>() {
+				}).values());
+		if (domain == getAdaptable()) {
+			gestures = domainGestures;
+		}
+		return domainGestures;
+	}
+
+	/**
+	 * Returns the handlers of the given type that are registered at the given
+	 * part. The result is cached per part and handler type.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} for which to return the handlers.
+	 * @param handlerType
+	 *            The type of the handlers to return.
+	 * @return An unmodifiable list containing the handlers of the given type.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends IHandler> List<T> getHandlers(
+			IVisualPart<? extends Node> part, Class<T> handlerType) {
+		Map<Class<?>, List<?>> partHandlers = handlerCache.get(part);
+		if (partHandlers == null) {
+			partHandlers = new HashMap<>();
+			handlerCache.put(part, partHandlers);
+			part.adaptersProperty().addListener(partAdaptersObserver);
+			part.parentProperty().addListener(partParentObserver);
+		}
+		List<T> typeHandlers = (List<T>) partHandlers.get(handlerType);
+		if (typeHandlers == null) {
+			typeHandlers = Collections.unmodifiableList(new ArrayList<>(
+					part.getAdapters(handlerType).values()));
+			partHandlers.put(handlerType, typeHandlers);
+		}
+		return typeHandlers;
+	}
+
 	@Override
-	@SuppressWarnings({ "serial", "unchecked" })
+	@SuppressWarnings("unchecked")
 	public <T extends IHandler> List<? extends T> resolve(IGesture gesture,
 			Node target, IViewer viewer, Class<T> handlerType) {
 		// System.out.println("\n=== determine target handlers ===");
@@ -61,17 +165,17 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		// determine outer targets, i.e. already running/active handlers of
 		// other gestures
 		// System.out.println("Outer target handlers:");
-		List<T> outerTargetHandlers = new ArrayList<>();
-		Collection<IGesture> gestures = viewer.getDomain()
-				.getAdapters(new TypeToken<IGesture>() {
-				}).values();
-		for (IGesture g : gestures) {
+		List<T> outerTargetHandlers = null;
+		for (IGesture g : getGestures(viewer.getDomain())) {
 			// System.out.println("[find active handlers of " + gesture + "]");
 			if (g != gesture) {
 				for (IHandler handler : g.getActiveHandlers(viewer)) {
 					if (handler.getClass().isAssignableFrom(handlerType)) {
 						// System.out.println("add active handler " + handler);
 						try {
+							if (outerTargetHandlers == null) {
+								outerTargetHandlers = new ArrayList<>();
+							}
 							outerTargetHandlers.add((T) handler);
 						} catch (ClassCastException e) {
 							// ignore target handler if type parameter is not
@@ -84,7 +188,7 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 
 		// already active handlers that can process the events take precedence
 		// over scene graph related target handlers
-		if (!outerTargetHandlers.isEmpty()) {
+		if (outerTargetHandlers != null) {
 			// System.out.println("RETURN outer target handlers:");
 			// for (T p : outerTargetHandlers) {
 			// System.out.println(p.getHost() + " -> " + p);
@@ -102,11 +206,11 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 
 		// search handlers up the hierarchy
 		IVisualPart<? extends Node> part = targetPart;
-		List<T> handlers = new ArrayList<>();
+		List<T> handlers = Collections.emptyList();
 		while (part != null && handlers.isEmpty()) {
 			// System.out.println("[find handlers for " + part + "]");
 			// determine handlers
-			handlers.addAll(part.getAdapters(handlerType).values());
+			handlers = getHandlers(part, handlerType);
 
 			// go one level up in the hierarchy
 			part = part.getParent();
@@ -119,4 +223,18 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 
 		return handlers;
 	}
+
+	@Override
+	public void setAdaptable(IDomain adaptable) {
+		IDomain oldDomain = getAdaptable();
+		if (oldDomain != null) {
+			oldDomain.adaptersProperty().removeListener(domainAdaptersObserver);
+		}
+		gestures = null;
+		clearHandlers();
+		super.setAdaptable(adaptable);
+		if (adaptable != null) {
+			adaptable.adaptersProperty().addListener(domainAdaptersObserver);
+		}
+	}
 }
@@ -12,8 +12,10 @@
 package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
@@ -24,6 +26,11 @@ import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.providers.ISnappingLocationProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
 /**
@@ -31,6 +38,15 @@ import javafx.scene.Node;
  * {@link ISnapToStrategy} implementation, i.e. storage for the
  * {@link SnappingLocation}s and the currently snapped part, and filtering of
  * {@link IContentPart}s to determine the snapping-relevant parts.
+ * <p>
+ * The target {@link SnappingLocation}s are indexed by their position (per
+ * orientation), so that the nearest and matching locations for a position can
+ * be determined by a binary search. The index is computed lazily from the
+ * locations returned by {@link #getHorizontalTargetLocations()} and
+ * {@link #getVerticalTargetLocations()}, and is discarded whenever the target
+ * locations are changed. If a subclass returns other lists than the ones
+ * maintained by this class, changes cannot be tracked, and the index is
+ * computed anew for each query.
  */
 public abstract class AbstractSnapTo implements ISnapToStrategy {
 
@@ -39,9 +55,139 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	 */
 	public static final double MAX_SNAPPING_DISTANCE_DEFAULT = 15d;
 
+	/**
+	 * The target {@link SnappingLocation}s of one orientation, sorted by their
+	 * position. The relative order of locations with the same position is
+	 * preserved. Positions are considered equal if they are equal according
+	 * to <code>==</code>, i.e. <code>-0.0</code> equals <code>0.0</code>, and
+	 * <code>NaN</code> does not match any position.
+	 */
+	private static final class LocationIndex {
+
+		private final SnappingLocation[] locations;
+		private final double[] positions;
+		private final int[] indices;
+
+		LocationIndex(List<SnappingLocation> unsorted) {
+			final SnappingLocation[] all = unsorted
+					.toArray(new SnappingLocation[unsorted.size()]);
+			Integer[] order = new Integer[all.length];
+			for (int i = 0; i < order.length; i++) {
+				order[i] = i;
+			}
+			// stable sort, so that the original order is preserved for equal
+			// positions
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer i1, Integer i2) {
+					return Double.compare(
+							normalize(all[i1].getPositionInScene()),
+							normalize(all[i2].getPositionInScene()));
+				}
+			});
+			locations = new SnappingLocation[all.length];
+			positions = new double[all.length];
+			indices = new int[all.length];
+			for (int i = 0; i < order.length; i++) {
+				locations[i] = all[order[i]];
+				positions[i] = normalize(locations[i].getPositionInScene());
+				indices[i] = order[i];
+			}
+		}
+
+		/**
+		 * Returns the given position, with <code>-0.0</code> replaced by
+		 * <code>0.0</code>, so that the order imposed by
+		 * {@link Double#compare(double, double)} is consistent with
+		 * <code>==</code>.
+		 */
+		private static double normalize(double position) {
+			return position + 0.0;
+		}
+
+		/**
+		 * Returns the index of the first location whose position is not
+		 * smaller than the given position.
+		 */
+		int lowerBound(double position) {
+			position = normalize(position);
+			int low = 0;
+			int high = positions.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (Double.compare(positions[mid], position) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		List<SnappingLocation> matching(double position) {
+			List<SnappingLocation> matching = new ArrayList<>();
+			for (int i = lowerBound(position); i < positions.length
+					&& positions[i] == position; i++) {
+				matching.add(locations[i]);
+			}
+			return matching;
+		}
+
+		SnappingLocation nearest(double position) {
+			if (positions.length == 0) {
+				return null;
+			}
+			int above = lowerBound(position);
+			if (above == 0) {
+				return locations[0];
+			}
+			// determine the first of the locations below with equal position
+			int below = lowerBound(positions[above - 1]);
+			if (above == positions.length) {
+				return locations[below];
+			}
+			double distanceBelow = position - positions[below];
+			double distanceAbove = positions[above] - position;
+			// NaN positions are sorted last and are never nearer
+			if (distanceBelow < distanceAbove
+					|| Double.isNaN(distanceAbove)) {
+				return locations[below];
+			} else if (distanceAbove < distanceBelow) {
+				return locations[above];
+			}
+			// prefer the location that was provided first
+			return indices[below] < indices[above] ? locations[below]
+					: locations[above];
+		}
+	}
+
 	private IContentPart<? extends Node> snappedPart;
-	private List<SnappingLocation> xLocations = new ArrayList<>();
-	private List<SnappingLocation> yLocations = new ArrayList<>();
+	private ObservableList<SnappingLocation> xLocations = FXCollections
+			.observableArrayList();
+	private ObservableList<SnappingLocation> yLocations = FXCollections
+			.observableArrayList();
+	// the indices of xLocations and yLocations
+	private LocationIndex xIndex;
+	private LocationIndex yIndex;
+
+	/**
+	 * Constructs a new {@link AbstractSnapTo}.
+	 */
+	public AbstractSnapTo() {
+		// discard the indices whenever the locations change
+		xLocations.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				xIndex = null;
+			}
+		});
+		yLocations.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				yIndex = null;
+			}
+		});
+	}
 
 	/**
 	 * Determines the horizontal {@link SnappingLocation}s for the given
@@ -94,11 +240,90 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return xLocations;
 	}
 
+	private LocationIndex getLocationIndex(Orientation orientation) {
+		List<SnappingLocation> locations;
+		if (orientation == Orientation.HORIZONTAL) {
+			locations = getHorizontalTargetLocations();
+		} else if (orientation == Orientation.VERTICAL) {
+			locations = getVerticalTargetLocations();
+		} else {
+			throw new IllegalArgumentException(
+					"The given Orientation is neither HORIZONTAL nor VERTICAL.");
+		}
+		if (locations == xLocations) {
+			if (xIndex == null) {
+				xIndex = new LocationIndex(xLocations);
+			}
+			return xIndex;
+		} else if (locations == yLocations) {
+			if (yIndex == null) {
+				yIndex = new LocationIndex(yLocations);
+			}
+			return yIndex;
+		}
+		// the locations are provided by a subclass, so that changes cannot
+		// be tracked
+		return new LocationIndex(locations);
+	}
+
+	/**
+	 * Returns all target {@link SnappingLocation}s of the given
+	 * {@link Orientation} whose position equals (<code>==</code>) the given
+	 * position.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target
+	 *            {@link SnappingLocation}s.
+	 * @param positionInScene
+	 *            The position (in scene coordinates).
+	 * @return A {@link List} containing the target {@link SnappingLocation}s at
+	 *         the given position.
+	 */
+	public List<SnappingLocation> getMatchingTargetLocations(
+			Orientation orientation, double positionInScene) {
+		return getLocationIndex(orientation).matching(positionInScene);
+	}
+
 	@Override
 	public double getMaximumSnappingDistance() {
 		return MAX_SNAPPING_DISTANCE_DEFAULT;
 	}
 
+	/**
+	 * Returns the target {@link SnappingLocation} of the given
+	 * {@link Orientation} that is nearest to the given position. If multiple
+	 * locations have the same distance, the one that was provided first is
+	 * returned.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target
+	 *            {@link SnappingLocation}s.
+	 * @param positionInScene
+	 *            The position (in scene coordinates).
+	 * @return The nearest target {@link SnappingLocation}, or
+	 *         <code>null</code> if there are no target {@link SnappingLocation}s
+	 *         for the given {@link Orientation}.
+	 */
+	protected SnappingLocation getNearestTargetLocation(
+			Orientation orientation, double positionInScene) {
+		return getLocationIndex(orientation).nearest(positionInScene);
+	}
+
+	/**
+	 * Returns the {@link IContentPart}s that are tested for
+	 * {@link #isRelevant(IContentPart) relevance} when a part is
+	 * {@link #setSnappedPart(IContentPart) snapped}. By default, all
+	 * {@link IContentPart}s of the given {@link IViewer} are returned.
+	 *
+	 * @param viewer
+	 *            The {@link IViewer} of the snapped part.
+	 * @return The {@link IContentPart}s that are tested for relevance.
+	 */
+	protected Collection<? extends IContentPart<? extends Node>> getSnappingCandidates(
+			IViewer viewer) {
+		return viewer.getContentPartMap().values();
+	}
+
 	@Override
 	public IContentPart<? extends Node> getSnappedPart() {
 		return snappedPart;
@@ -156,20 +381,21 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	@Override
 	public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
 		this.snappedPart = snappedPart;
-		xLocations.clear();
-		yLocations.clear();
+		List<SnappingLocation> newXLocations = new ArrayList<>();
+		List<SnappingLocation> newYLocations = new ArrayList<>();
 		if (snappedPart != null) {
 			List<IContentPart<? extends Node>> relevantParts = PartUtils
 					.filterParts(
-							snappedPart.getViewer().getContentPartMap()
-									.values(),
+							getSnappingCandidates(snappedPart.getViewer()),
 							(p) -> p != snappedPart && p instanceof IContentPart
 									&& isRelevant(
 											(IContentPart<? extends Node>) p));
 			for (IContentPart<? extends Node> rp : relevantParts) {
-				xLocations.addAll(determineHorizontalTargetLocations(rp));
-				yLocations.addAll(determineVerticalTargetLocations(rp));
+				newXLocations.addAll(determineHorizontalTargetLocations(rp));
+				newYLocations.addAll(determineVerticalTargetLocations(rp));
 			}
 		}
+		xLocations.setAll(newXLocations);
+		yLocations.setAll(newYLocations);
 	}
 }
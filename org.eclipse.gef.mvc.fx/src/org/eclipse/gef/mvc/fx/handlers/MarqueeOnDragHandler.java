@@ -15,15 +15,21 @@ package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.mvc.fx.models.SpatialIndexModel;
 import org.eclipse.gef.mvc.fx.operations.SelectOperation;
 import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.DefaultSelectionFeedbackPartFactory;
@@ -37,6 +43,7 @@ import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Provider;
 
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -132,6 +139,108 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		return containedNodes;
 	}
 
+	/**
+	 * Returns a {@link List} of all {@link Node}s that are fully contained
+	 * within the bounds specified by <code>[x0, y0, x1, y1]</code> (in scene
+	 * coordinates), in the same order as
+	 * {@link #findContainedNodes(Node, double, double, double, double)} would
+	 * return them for the scene root. Instead of traversing the complete scene
+	 * graph, only the visuals of those {@link IContentPart}s that intersect the
+	 * bounds according to the given {@link SpatialIndexModel} (and their
+	 * descendants) are considered.
+	 *
+	 * @param spatialIndex
+	 *            The {@link SpatialIndexModel} that is queried for the visuals
+	 *            of the {@link IContentPart}s intersecting the bounds.
+	 * @param x0
+	 *            The minimum x-coordinate.
+	 * @param y0
+	 *            The minimum y-coordinate.
+	 * @param x1
+	 *            The maximum x-coordinate.
+	 * @param y1
+	 *            The maximum y-coordinate.
+	 * @return A {@link List} containing all {@link Node}s that are visuals (or
+	 *         descendants of visuals) of {@link IContentPart}s and fully
+	 *         contained within the specified bounds.
+	 */
+	protected static List<Node> findContainedNodes(
+			SpatialIndexModel spatialIndex, double x0, double y0, double x1,
+			double y1) {
+		Set<Node> candidates = new HashSet<>();
+		for (IContentPart<? extends Node> part : spatialIndex
+				.getContentPartsIntersecting(
+						new BoundingBox(x0, y0, x1 - x0, y1 - y0))) {
+			candidates.add(part.getVisual());
+		}
+
+		// traverse the sub-graphs of those candidates that are not nested
+		// within other candidates
+		List<Node> containedNodes = new ArrayList<>();
+		for (Node candidate : candidates) {
+			Node ancestor = candidate.getParent();
+			while (ancestor != null && !candidates.contains(ancestor)) {
+				ancestor = ancestor.getParent();
+			}
+			if (ancestor == null) {
+				containedNodes.addAll(
+						findContainedNodes(candidate, x0, y0, x1, y1));
+			}
+		}
+
+		// restore the breadth-first order of a scene graph traversal
+		final Map<Node, List<Integer>> paths = new IdentityHashMap<>();
+		final Map<Parent, Map<Node, Integer>> indices = new IdentityHashMap<>();
+		for (Node node : containedNodes) {
+			paths.put(node, getPath(node, indices));
+		}
+		Collections.sort(containedNodes, new Comparator<Node>() {
+			@Override
+			public int compare(Node n1, Node n2) {
+				List<Integer> p1 = paths.get(n1);
+				List<Integer> p2 = paths.get(n2);
+				if (p1.size() != p2.size()) {
+					return p1.size() - p2.size();
+				}
+				for (int i = 0; i < p1.size(); i++) {
+					int c = Integer.compare(p1.get(i), p2.get(i));
+					if (c != 0) {
+						return c;
+					}
+				}
+				return 0;
+			}
+		});
+		return containedNodes;
+	}
+
+	/**
+	 * Returns the indices of the given {@link Node} and all its ancestors
+	 * within the children of their respective parents, starting at the scene
+	 * root. The child indices of each parent are computed once and cached in
+	 * the given {@link Map}.
+	 */
+	private static List<Integer> getPath(Node node,
+			Map<Parent, Map<Node, Integer>> indices) {
+		LinkedList<Integer> path = new LinkedList<>();
+		Node current = node;
+		while (current.getParent() != null) {
+			Parent parent = current.getParent();
+			Map<Node, Integer> childIndices = indices.get(parent);
+			if (childIndices == null) {
+				childIndices = new IdentityHashMap<>();
+				List<Node> children = parent.getChildrenUnmodifiable();
+				for (int i = 0; i < children.size(); i++) {
+					childIndices.put(children.get(i), i);
+				}
+				indices.put(parent, childIndices);
+			}
+			path.addFirst(childIndices.get(current));
+			current = parent;
+		}
+		return new ArrayList<>(path);
+	}
+
 	// stores upon press() if the press-drag-release gesture is invalid
 	private boolean invalidGesture = false;
 
@@ -224,8 +333,16 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		double[] bbox = bbox(start, end);
 
 		// find nodes contained in bbox
-		List<Node> nodes = findContainedNodes(rootVisual.getScene().getRoot(),
-				bbox[0], bbox[1], bbox[2], bbox[3]);
+		List<Node> nodes;
+		SpatialIndexModel spatialIndex = root.getViewer()
+				.getAdapter(SpatialIndexModel.class);
+		if (spatialIndex != null) {
+			nodes = findContainedNodes(spatialIndex, bbox[0], bbox[1], bbox[2],
+					bbox[3]);
+		} else {
+			nodes = findContainedNodes(rootVisual.getScene().getRoot(), bbox[0],
+					bbox[1], bbox[2], bbox[3]);
+		}
 
 		// find content parts for contained nodes
 		List<IContentPart<? extends Node>> parts = getParts(nodes);
@@ -261,12 +378,13 @@ public class MarqueeOnDragHandler extends AbstractHandler
 	 */
 	protected List<IContentPart<? extends Node>> getParts(List<Node> nodes) {
 		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		Set<IVisualPart<? extends Node>> visited = new HashSet<>();
 		IViewer viewer = getHost().getRoot().getViewer();
 		for (Node node : nodes) {
 			IVisualPart<? extends Node> part = PartUtils
 					.retrieveVisualPart(viewer, node);
 			if (part != null && part instanceof IContentPart
-					&& !parts.contains(part)) {
+					&& visited.add(part)) {
 				parts.add((IContentPart<? extends Node>) part);
 			}
 		}
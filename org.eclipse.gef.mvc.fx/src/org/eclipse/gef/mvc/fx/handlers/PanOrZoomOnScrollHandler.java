@@ -201,6 +201,9 @@ public class PanOrZoomOnScrollHandler extends AbstractHandler
 	public void startScroll(ScrollEvent event) {
 		this.viewportPolicy = determineViewportPolicy();
 		init(viewportPolicy);
+		// apply the changes of subsequent events at most once per pulse
+		// (content-restricted panning/zooming depends on the applied state)
+		viewportPolicy.setDeferredExecution(!isContentRestricted());
 		// delegate to scroll() to perform panning/zooming
 		scroll(event);
 	}
@@ -11,6 +11,9 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.handlers;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
@@ -84,6 +87,16 @@ public class SnapToGrid extends AbstractSnapTo implements ISnapToStrategy {
 		return 1;
 	}
 
+	/**
+	 * Returns an empty collection, because grid snapping does not depend on
+	 * any target parts.
+	 */
+	@Override
+	protected Collection<? extends IContentPart<? extends Node>> getSnappingCandidates(
+			IViewer viewer) {
+		return Collections.emptyList();
+	}
+
 	@Override
 	public String getSourceLocationProviderRole() {
 		return SOURCE_SNAPPING_LOCATION_PROVIDER;
@@ -91,7 +104,6 @@ public class SnapToGrid extends AbstractSnapTo implements ISnapToStrategy {
 
 	@Override
 	protected boolean isRelevant(IContentPart<? extends Node> part) {
-		// TODO: prevent part iteration
 		return false;
 	}
 
@@ -236,12 +236,26 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		List<SnappingLocation> matchingHSLs = new ArrayList<>();
 		List<SnappingLocation> matchingVSLs = new ArrayList<>();
 		for (ISnapToStrategy snapper : supportedSnapToStrategies) {
+			// 7. find matching SLs for translated source SLs
+			if (snapper instanceof AbstractSnapTo) {
+				// use the index of the target locations (which respects
+				// overridden target location getters)
+				AbstractSnapTo indexed = (AbstractSnapTo) snapper;
+				for (SnappingLocation mySL : hTranslated) {
+					matchingHSLs.addAll(indexed.getMatchingTargetLocations(
+							Orientation.HORIZONTAL,
+							mySL.getPositionInScene()));
+				}
+				for (SnappingLocation mySL : vTranslated) {
+					matchingVSLs.addAll(indexed.getMatchingTargetLocations(
+							Orientation.VERTICAL, mySL.getPositionInScene()));
+				}
+				continue;
+			}
 			List<SnappingLocation> horizontalSnappingLocations = snapper
 					.getHorizontalTargetLocations();
 			List<SnappingLocation> verticalSnappingLocations = snapper
 					.getVerticalTargetLocations();
-
-			// 7. find matching SLs for translated source SLs
 			for (SnappingLocation mySL : hTranslated) {
 				for (SnappingLocation sl : horizontalSnappingLocations) {
 					if (mySL.getPositionInScene() == sl.getPositionInScene()) {
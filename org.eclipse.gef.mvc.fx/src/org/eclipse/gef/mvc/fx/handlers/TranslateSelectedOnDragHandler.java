@@ -28,14 +28,25 @@ import org.eclipse.gef.mvc.fx.models.SelectionModel;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.policies.TransformPolicy;
 
+import javafx.geometry.Point2D;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.transform.Translate;
 import javafx.util.Pair;
 
 /**
  * The {@link TranslateSelectedOnDragHandler} is an {@link IOnDragHandler} that
  * relocates its {@link #getHost() host} when it is dragged with the mouse.
+ * <p>
+ * If a large number of parts is dragged (see
+ * {@link #isFastDrag(MouseEvent, List)}), the {@link TransformPolicy}s of the
+ * target parts are not updated for each mouse move. Instead, a single
+ * {@link Translate} is shared by the visuals of all target parts with the same
+ * parent, and only this {@link Translate} is updated during the drag. The
+ * resulting translation is transferred to the {@link TransformPolicy}s once the
+ * drag ends.
  *
  * @author anyssen
  * @auther mwienand
@@ -44,6 +55,14 @@ import javafx.util.Pair;
 public class TranslateSelectedOnDragHandler extends AbstractHandler
 		implements IOnDragHandler {
 
+	/**
+	 * The number of target parts above which a fast drag is performed per
+	 * default.
+	 *
+	 * @see #isFastDrag(MouseEvent, List)
+	 */
+	protected static final int DEFAULT_FAST_DRAG_THRESHOLD = 100;
+
 	private ConnectedSupport connectedSupport;
 	private SnapToSupport snapToSupport = null;
 	private Point initialMouseLocationInScene = null;
@@ -54,12 +73,19 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 	private boolean invalidGesture = false;
 	private Map<IContentPart<? extends Node>, Rectangle> boundsInScene = new IdentityHashMap<>();
 
+	// shared translations (per parent) used during a fast drag
+	private Map<Parent, Translate> sharedTranslates = new IdentityHashMap<>();
+	private Map<IContentPart<? extends Node>, Translate> fastDragTranslates = new IdentityHashMap<>();
+
 	@Override
 	public void abortDrag() {
 		if (invalidGesture) {
 			return;
 		}
 
+		// remove shared translations
+		removeSharedTranslates();
+
 		// roll back changes for all target parts
 		for (Pair<IContentPart<? extends Node>, TransformPolicy> pair : targets) {
 			rollback(pair.getValue());
@@ -92,25 +118,39 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 		}
 		// determine if snapping is performed
 		boolean performSnapping = !isPrecise(e);
+		// snap to
+		Dimension snapDelta = null;
+		if (snapToSupport != null) {
+			if (performSnapping) {
+				snapDelta = snapToSupport.snap(delta);
+			} else {
+				snapToSupport.clearSnappingFeedback();
+			}
+		}
+		// update shared translations
+		for (Parent parent : sharedTranslates.keySet()) {
+			Point2D startInParent = parent.sceneToLocal(0, 0);
+			Point2D endInParent = parent.sceneToLocal(delta.width,
+					delta.height);
+			Translate translate = sharedTranslates.get(parent);
+			translate.setX(endInParent.getX() - startInParent.getX());
+			translate.setY(endInParent.getY() - startInParent.getY());
+		}
 		// apply changes to the target parts
 		for (Pair<IContentPart<? extends Node>, TransformPolicy> pair : targets) {
+			if (fastDragTranslates.containsKey(pair.getKey())) {
+				continue;
+			}
 			// determine start and end position in scene coordinates
 			Point startInScene = boundsInScene.get(pair.getKey()).getTopLeft();
 			Point endInScene = startInScene.getTranslated(delta);
-
-			// snap to
-			if (snapToSupport != null) {
-				if (performSnapping) {
-					endInScene.translate(snapToSupport.snap(delta));
-				} else {
-					snapToSupport.clearSnappingFeedback();
-				}
+			if (snapDelta != null) {
+				endInScene.translate(snapDelta);
 			}
-			Point newEndInScene = endInScene.getCopy();
 
 			// compute delta in parent coordinates
 			Point newEndInParent = NodeUtils.sceneToLocal(
-					pair.getKey().getVisual().getParent(), newEndInScene);
+					pair.getKey().getVisual().getParent(), endInScene);
 			Point startInParent = NodeUtils.sceneToLocal(
 					pair.getKey().getVisual().getParent(), startInScene);
 			Point deltaInParent = newEndInParent
@@ -135,6 +175,19 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 			return;
 		}
 
+		// transfer shared translations to the transform policies
+		Map<IContentPart<? extends Node>, Translate> translates = new IdentityHashMap<>(
+				fastDragTranslates);
+		removeSharedTranslates();
+		for (Pair<IContentPart<? extends Node>, TransformPolicy> pair : targets) {
+			Translate translate = translates.get(pair.getKey());
+			if (translate != null) {
+				pair.getValue().setPostTranslate(
+						translationIndices.get(pair.getKey()), translate.getX(),
+						translate.getY());
+			}
+		}
+
 		// commit changes for all target parts
 		for (Pair<IContentPart<? extends Node>, TransformPolicy> pair : targets) {
 			commit(pair.getValue());
@@ -220,6 +273,30 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 	public void hideIndicationCursor() {
 	}
 
+	/**
+	 * Returns <code>true</code> if a fast drag should be performed for the
+	 * given target parts, i.e. if their visuals should be moved by means of a
+	 * shared {@link Translate} during the drag, and their
+	 * {@link TransformPolicy}s should only be updated when the drag ends.
+	 * Otherwise returns <code>false</code>. Per default, returns
+	 * <code>true</code> if more than {@link #DEFAULT_FAST_DRAG_THRESHOLD}
+	 * parts are dragged.
+	 * <p>
+	 * Please note that the visuals of the target parts are not refreshed
+	 * during a fast drag, and that snapping is not supported for it.
+	 *
+	 * @param event
+	 *            The {@link MouseEvent} that started the drag.
+	 * @param targetParts
+	 *            The list of target {@link IContentPart}s.
+	 * @return <code>true</code> if a fast drag should be performed, otherwise
+	 *         <code>false</code>.
+	 */
+	protected boolean isFastDrag(MouseEvent event,
+			List<IContentPart<? extends Node>> targetParts) {
+		return targetParts.size() > DEFAULT_FAST_DRAG_THRESHOLD;
+	}
+
 	/**
 	 * Returns <code>true</code> if precise manipulations should be performed
 	 * for the given {@link MouseEvent}. Otherwise returns <code>false</code>.
@@ -273,6 +350,15 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 		return true;
 	}
 
+	private void removeSharedTranslates() {
+		for (IContentPart<? extends Node> part : fastDragTranslates.keySet()) {
+			part.getVisual().getTransforms()
+					.remove(fastDragTranslates.get(part));
+		}
+		fastDragTranslates.clear();
+		sharedTranslates.clear();
+	}
+
 	/**
 	 * Sets the initial mouse location to the given value.
 	 *
@@ -307,6 +393,7 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 
 		// save initial pointer location
 		setInitialMouseLocationInScene(new Point(e.getSceneX(), e.getSceneY()));
+		boolean fastDrag = isFastDrag(e, targetParts);
 
 		// initialize this policy for all determined target parts
 		for (IContentPart<? extends Node> part : targetParts) {
@@ -327,6 +414,21 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 					.localToScene(getHost().getVisual(), shapeBounds)
 					.getBounds();
 			boundsInScene.put(part, shapeBoundsInScene);
+
+			// share a translation between all visuals with the same parent,
+			// provided that it is applied in the parent's coordinate system
+			Node visual = part.getVisual();
+			if (fastDrag && visual.getParent() != null
+					&& visual.getRotate() == 0 && visual.getScaleX() == 1
+					&& visual.getScaleY() == 1) {
+				Translate translate = sharedTranslates.get(visual.getParent());
+				if (translate == null) {
+					translate = new Translate();
+					sharedTranslates.put(visual.getParent(), translate);
+				}
+				visual.getTransforms().add(0, translate);
+				fastDragTranslates.put(part, translate);
+			}
 		}
 
 		// snapping only for single selection
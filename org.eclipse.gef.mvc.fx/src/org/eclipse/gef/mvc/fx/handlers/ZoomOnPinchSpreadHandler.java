@@ -131,6 +131,9 @@ public class ZoomOnPinchSpreadHandler extends AbstractHandler
 		}
 		viewportPolicy = determineViewportPolicy();
 		viewportPolicy.init();
+		// apply the changes of subsequent events at most once per pulse
+		// (content-restricted zooming depends on the applied state)
+		viewportPolicy.setDeferredExecution(!isContentRestricted());
 	}
 
 	@Override
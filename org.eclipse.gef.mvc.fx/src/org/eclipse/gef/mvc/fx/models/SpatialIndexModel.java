@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.models;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.geometry.internal.utils.RTree;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.MapChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+
+/**
+ * The {@link SpatialIndexModel} maintains a spatial index (an R-tree) of the
+ * visual bounds of all {@link IContentPart}s of its {@link IViewer}, so that
+ * the {@link IContentPart}s within a certain area can be determined without
+ * traversing the scene graph.
+ * <p>
+ * The bounds are indexed within the coordinate system of the
+ * {@link IRootPart}'s visual (which hosts the content layer), so that they are
+ * not affected by scrolling or zooming the viewer. Only the bounds-in-parent
+ * and the parent of each {@link IContentPart}'s visual are observed. A change
+ * marks the {@link IContentPart} and its {@link IContentPart} descendants as
+ * dirty, and their bounds are recomputed before the next query. Changes of
+ * intermediate nodes that are not visuals of {@link IContentPart}s are thus
+ * only detected when they affect the bounds of an enclosing visual.
+ *
+ * @author agent
+ *
+ */
+public class SpatialIndexModel
+		extends org.eclipse.gef.common.adapt.IAdaptable.Bound.Impl<IViewer>
+		implements IDisposable {
+
+	private RTree<IContentPart<? extends Node>> index = new RTree<>();
+
+	private Set<IContentPart<? extends Node>> dirtyParts = new LinkedHashSet<>();
+
+	private Map<IContentPart<? extends Node>, InvalidationListener> visualObservers = new IdentityHashMap<>();
+
+	private Node indexedRootVisual;
+
+	private MapChangeListener<Object, IContentPart<? extends Node>> contentPartMapListener = new MapChangeListener<Object, IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends IContentPart<? extends Node>> change) {
+			// keep index in sync with part hierarchy
+			if (change.wasRemoved()) {
+				unregister(change.getValueRemoved());
+			}
+			if (change.wasAdded()) {
+				register(change.getValueAdded());
+			}
+		}
+	};
+
+	@Override
+	public void dispose() {
+		// setAdaptable() already clears the index
+	}
+
+	/**
+	 * Returns the visual bounds of the given {@link IContentPart} in scene
+	 * coordinates as recorded in the index, or <code>null</code> if the given
+	 * part is not indexed.
+	 *
+	 * @param part
+	 *            The {@link IContentPart} for which to return the bounds.
+	 * @return The indexed bounds of the given part in scene coordinates, or
+	 *         <code>null</code>.
+	 */
+	public Bounds getBounds(IContentPart<? extends Node> part) {
+		Node rootVisual = validate();
+		double[] bounds = index.getBounds(part);
+		if (rootVisual == null || bounds == null) {
+			return null;
+		}
+		return rootVisual.localToScene(new BoundingBox(bounds[0], bounds[1],
+				bounds[2] - bounds[0], bounds[3] - bounds[1]));
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s at the given position (in scene
+	 * coordinates), i.e. those {@link IContentPart}s whose visual bounds
+	 * contain the given position.
+	 *
+	 * @param sceneX
+	 *            The x coordinate of the position in scene coordinates.
+	 * @param sceneY
+	 *            The y coordinate of the position in scene coordinates.
+	 * @return A {@link List} containing all {@link IContentPart}s whose visual
+	 *         bounds contain the given position.
+	 */
+	public List<IContentPart<? extends Node>> getContentPartsAt(double sceneX,
+			double sceneY) {
+		Node rootVisual = validate();
+		if (rootVisual == null) {
+			return new ArrayList<>();
+		}
+		Point2D position = rootVisual.sceneToLocal(sceneX, sceneY);
+		return index.search(position.getX(), position.getY(), position.getX(),
+				position.getY());
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s whose visual bounds intersect the given
+	 * {@link Bounds} (in scene coordinates).
+	 *
+	 * @param sceneBounds
+	 *            The {@link Bounds} in scene coordinates.
+	 * @return A {@link List} containing all {@link IContentPart}s whose visual
+	 *         bounds intersect the given {@link Bounds}.
+	 */
+	public List<IContentPart<? extends Node>> getContentPartsIntersecting(
+			Bounds sceneBounds) {
+		Node rootVisual = validate();
+		if (rootVisual == null) {
+			return new ArrayList<>();
+		}
+		Bounds bounds = rootVisual.sceneToLocal(sceneBounds);
+		return index.search(bounds.getMinX(), bounds.getMinY(),
+				bounds.getMaxX(), bounds.getMaxY());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void markDirty(IContentPart<? extends Node> part) {
+		// the descendants of a part that is already dirty have been marked as
+		// well, so that they do not need to be visited again
+		if (dirtyParts.add(part)) {
+			for (IVisualPart<? extends Node> child : part
+					.getChildrenUnmodifiable()) {
+				if (child instanceof IContentPart
+						&& visualObservers.containsKey(child)) {
+					markDirty((IContentPart<? extends Node>) child);
+				}
+			}
+		}
+	}
+
+	private void register(final IContentPart<? extends Node> part) {
+		InvalidationListener observer = new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				markDirty(part);
+			}
+		};
+		visualObservers.put(part, observer);
+		Node visual = part.getVisual();
+		visual.boundsInParentProperty().addListener(observer);
+		visual.parentProperty().addListener(observer);
+		dirtyParts.add(part);
+	}
+
+	@Override
+	public void setAdaptable(IViewer adaptable) {
+		if (getAdaptable() != null) {
+			// unregister content-part-map listener
+			getAdaptable().contentPartMapProperty()
+					.removeListener(contentPartMapListener);
+			for (IContentPart<? extends Node> part : new ArrayList<>(
+					visualObservers.keySet())) {
+				unregister(part);
+			}
+		}
+		index.clear();
+		dirtyParts.clear();
+		indexedRootVisual = null;
+		super.setAdaptable(adaptable);
+		if (adaptable != null) {
+			// register for content-part-map changes
+			adaptable.contentPartMapProperty()
+					.addListener(contentPartMapListener);
+			for (IContentPart<? extends Node> part : adaptable
+					.getContentPartMap().values()) {
+				register(part);
+			}
+		}
+	}
+
+	private void unregister(IContentPart<? extends Node> part) {
+		InvalidationListener observer = visualObservers.remove(part);
+		if (observer != null) {
+			Node visual = part.getVisual();
+			visual.boundsInParentProperty().removeListener(observer);
+			visual.parentProperty().removeListener(observer);
+		}
+		dirtyParts.remove(part);
+		index.remove(part);
+	}
+
+	/**
+	 * Recomputes the bounds of all {@link IContentPart}s whose visuals changed
+	 * since the last query, and returns the visual of the {@link IRootPart}
+	 * (within whose coordinate system the bounds are indexed), or
+	 * <code>null</code> if no root part is available.
+	 */
+	private Node validate() {
+		IViewer viewer = getAdaptable();
+		IRootPart<? extends Node> rootPart = viewer == null ? null
+				: viewer.getRootPart();
+		if (rootPart == null) {
+			return null;
+		}
+		Node rootVisual = rootPart.getVisual();
+		if (rootVisual != indexedRootVisual) {
+			// all bounds have to be recomputed
+			dirtyParts.addAll(visualObservers.keySet());
+			indexedRootVisual = rootVisual;
+		}
+		List<IContentPart<? extends Node>> parts = new ArrayList<>(dirtyParts);
+		dirtyParts.clear();
+		for (IContentPart<? extends Node> part : parts) {
+			Node visual = part.getVisual();
+			// querying the (lazily computed) properties ensures that the
+			// observers are notified about subsequent changes
+			Bounds bounds = visual.getBoundsInParent();
+			Node parent = visual.getParent();
+			while (parent != null && parent != rootVisual) {
+				bounds = parent.localToParent(bounds);
+				parent = parent.getParent();
+			}
+			if (parent == null) {
+				// not (yet) part of the root visual's sub-graph
+				index.remove(part);
+				continue;
+			}
+			if (bounds == null || bounds.isEmpty()) {
+				index.remove(part);
+			} else {
+				index.insert(part, bounds.getMinX(), bounds.getMinY(),
+						bounds.getMaxX(), bounds.getMaxY());
+			}
+		}
+		return rootVisual;
+	}
+}
@@ -70,6 +70,26 @@ public class BendContentOperation extends AbstractOperation
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Returns the final bend points, which are applied when executing this
+	 * operation.
+	 *
+	 * @return The final bend points.
+	 */
+	public List<BendPoint> getFinalBendPoints() {
+		return finalBendPoints;
+	}
+
+	/**
+	 * Returns the initial bend points, which are restored when undoing this
+	 * operation.
+	 *
+	 * @return The initial bend points.
+	 */
+	public List<BendPoint> getInitialBendPoints() {
+		return initialBendPoints;
+	}
+
 	@Override
 	public boolean isContentRelevant() {
 		return true;
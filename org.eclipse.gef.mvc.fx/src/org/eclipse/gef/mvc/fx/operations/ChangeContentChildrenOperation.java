@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.operations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.AbstractOperation;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+
+import javafx.scene.Node;
+
+/**
+ * The {@link ChangeContentChildrenOperation} uses the {@link IContentPart} API
+ * to replace the content children of an {@link IContentPart} as a whole, i.e.
+ * to add, remove, and reorder any number of content children within a single
+ * change (see {@link IContentPart#changeContentChildren(List)}).
+ *
+ * @author agent
+ *
+ */
+public class ChangeContentChildrenOperation extends AbstractOperation
+		implements ITransactionalOperation {
+
+	/**
+	 * <pre>
+	 * &quot;Change Content Children&quot;
+	 * </pre>
+	 *
+	 * The default label for this operation (i.e. used if no label is
+	 * specified).
+	 */
+	public static final String DEFAULT_LABEL = "Change Content Children";
+
+	private final IContentPart<? extends Node> parent;
+	private List<Object> newContentChildren;
+	private final List<Object> initialContentChildren;
+
+	/**
+	 * Creates a new {@link ChangeContentChildrenOperation} for changing the
+	 * content children of the given <i>parent</i> {@link IContentPart} to the
+	 * given list of content {@link Object}s.
+	 *
+	 * @param parent
+	 *            The {@link IContentPart} whose content children are to be
+	 *            changed.
+	 * @param newContentChildren
+	 *            The list of content {@link Object}s that are to constitute
+	 *            the content children of the <i>parent</i>.
+	 */
+	public ChangeContentChildrenOperation(IContentPart<? extends Node> parent,
+			List<? extends Object> newContentChildren) {
+		super(DEFAULT_LABEL);
+		this.parent = parent;
+		this.newContentChildren = new ArrayList<>(newContentChildren);
+		this.initialContentChildren = new ArrayList<>(
+				parent.getContentChildrenUnmodifiable());
+	}
+
+	@Override
+	public IStatus execute(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		if (parent.getContent() != null && !parent
+				.getContentChildrenUnmodifiable().equals(newContentChildren)) {
+			parent.changeContentChildren(newContentChildren);
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Returns the list containing the initial content children by reference.
+	 *
+	 * @return The list containing the initial content children by reference.
+	 */
+	public List<Object> getInitialContentChildren() {
+		return initialContentChildren;
+	}
+
+	/**
+	 * Returns the list containing the new content children by reference.
+	 *
+	 * @return The list containing the new content children by reference.
+	 */
+	public List<Object> getNewContentChildren() {
+		return newContentChildren;
+	}
+
+	@Override
+	public boolean isContentRelevant() {
+		return true;
+	}
+
+	@Override
+	public boolean isNoOp() {
+		return initialContentChildren.equals(newContentChildren);
+	}
+
+	@Override
+	public IStatus redo(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		return execute(monitor, info);
+	}
+
+	/**
+	 * Sets the new content children to the given list.
+	 *
+	 * @param newContentChildren
+	 *            The new content children.
+	 */
+	public void setNewContentChildren(
+			List<? extends Object> newContentChildren) {
+		this.newContentChildren = new ArrayList<>(newContentChildren);
+	}
+
+	@Override
+	public IStatus undo(IProgressMonitor monitor, IAdaptable info)
+			throws ExecutionException {
+		if (parent.getContent() != null && !parent
+				.getContentChildrenUnmodifiable()
+				.equals(initialContentChildren)) {
+			parent.changeContentChildren(initialContentChildren);
+		}
+		return Status.OK_STATUS;
+	}
+
+}
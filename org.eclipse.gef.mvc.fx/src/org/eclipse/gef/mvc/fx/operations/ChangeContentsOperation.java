@@ -124,7 +124,7 @@ public class ChangeContentsOperation extends AbstractOperation
 	 *
 	 * @return the list containing the initial contents by reference.
 	 */
-	protected List<? extends Object> getInitialContents() {
+	public List<? extends Object> getInitialContents() {
 		return initialContents;
 	}
 
@@ -133,7 +133,7 @@ public class ChangeContentsOperation extends AbstractOperation
 	 *
 	 * @return the list containing the new contents by reference.
 	 */
-	protected List<? extends Object> getNewContents() {
+	public List<? extends Object> getNewContents() {
 		return newContents;
 	}
 
@@ -12,8 +12,11 @@
 package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.beans.property.ReadOnlySetMultimapProperty;
@@ -175,6 +178,34 @@ public abstract class AbstractContentPart<V extends Node>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Delegates to {@link #doChangeContentChildren(List)}, which may be
+	 * overwritten by subclasses. All changes are reported as a single change
+	 * of the {@link #contentChildrenUnmodifiableProperty()}.
+	 */
+	@Override
+	public final void changeContentChildren(
+			List<? extends Object> newContentChildren) {
+		if (new HashSet<>(newContentChildren).size() != newContentChildren
+				.size()) {
+			throw new IllegalArgumentException(
+					"Cannot change content children to " + newContentChildren
+							+ " because it contains duplicates.");
+		}
+		doChangeContentChildren(newContentChildren);
+		// check doChangeContentChildren(List) does not violate postconditions
+		List<? extends Object> contentChildrenAfterChange = doGetContentChildren();
+		if (!contentChildrenAfterChange.equals(newContentChildren)) {
+			throw new IllegalStateException(
+					"doChangeContentChildren(List) did not change content children to "
+							+ newContentChildren + ", but to "
+							+ contentChildrenAfterChange + ".");
+		}
+		contentChildren.setAll(contentChildrenAfterChange);
+	}
+
 	@Override
 	public ReadOnlySetMultimapProperty<Object, String> contentAnchoragesUnmodifiableProperty() {
 		if (contentAnchoragesUnmodifiableProperty == null) {
@@ -276,6 +307,74 @@ public abstract class AbstractContentPart<V extends Node>
 						+ this.getClass());
 	}
 
+	/**
+	 * Changes this part's content children, so that the given list of
+	 * <i>newContentChildren</i> will be returned by subsequent calls to
+	 * {@link #doGetContentChildren()}. Per default, delegates to
+	 * {@link #doRemoveContentChild(Object)},
+	 * {@link #doAddContentChild(Object, int)}, and
+	 * {@link #doReorderContentChild(Object, int)} for each individual change,
+	 * only reordering those content children that are not part of a longest
+	 * subsequence that is already in the correct relative order. Subclasses
+	 * may overwrite this method to replace the content children of the
+	 * underlying model at once.
+	 *
+	 * @param newContentChildren
+	 *            The list of content {@link Object}s that are to constitute
+	 *            this part's content children.
+	 */
+	protected void doChangeContentChildren(
+			List<? extends Object> newContentChildren) {
+		Map<Object, Integer> newIndexes = new HashMap<>();
+		for (int i = 0; i < newContentChildren.size(); i++) {
+			newIndexes.put(newContentChildren.get(i), i);
+		}
+		// remove obsolete content children (and keep track of the new indexes
+		// of the remaining ones)
+		List<Object> remainingContentChildren = new ArrayList<>();
+		List<Integer> sequence = new ArrayList<>();
+		for (Object contentChild : new ArrayList<>(doGetContentChildren())) {
+			Integer newIndex = newIndexes.get(contentChild);
+			if (newIndex == null) {
+				doRemoveContentChild(contentChild);
+			} else {
+				remainingContentChildren.add(contentChild);
+				sequence.add(newIndex);
+			}
+		}
+		// the remaining content children that are part of a longest increasing
+		// subsequence of new indexes are already in the correct relative
+		// order; all others are moved to the end first
+		int[] newIndexSequence = new int[sequence.size()];
+		for (int i = 0; i < newIndexSequence.length; i++) {
+			newIndexSequence[i] = sequence.get(i);
+		}
+		boolean[] stationary = getLongestIncreasingSubsequence(
+				newIndexSequence);
+		Set<Object> movedContentChildren = new HashSet<>();
+		for (int i = 0; i < stationary.length; i++) {
+			if (!stationary[i]) {
+				Object contentChild = remainingContentChildren.get(i);
+				doReorderContentChild(contentChild,
+						remainingContentChildren.size() - 1);
+				movedContentChildren.add(contentChild);
+			}
+		}
+		// in ascending order of new indexes, all preceding content children are
+		// already in place, followed by the remaining stationary ones; add new
+		// content children and move the others into place
+		Set<Object> remainingContentChildrenSet = new HashSet<>(
+				remainingContentChildren);
+		for (int i = 0; i < newContentChildren.size(); i++) {
+			Object contentChild = newContentChildren.get(i);
+			if (movedContentChildren.contains(contentChild)) {
+				doReorderContentChild(contentChild, i);
+			} else if (!remainingContentChildrenSet.contains(contentChild)) {
+				doAddContentChild(contentChild, i);
+			}
+		}
+	}
+
 	/**
 	 * Detaches this part's content from the given <i>contentAnchorage</i> under
 	 * the specified <i>role</i>, so that it will no longer be returned by
@@ -17,6 +17,9 @@ package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -592,6 +595,44 @@ public abstract class AbstractVisualPart<V extends Node>
 		return ads.getAdapters(IHandler.class);
 	}
 
+	/**
+	 * Returns a longest strictly increasing subsequence of the given sequence,
+	 * in terms of a flag per index that indicates whether the element at that
+	 * index is part of the subsequence. The subsequence is computed in
+	 * O(n log n) time via patience sorting.
+	 */
+	static boolean[] getLongestIncreasingSubsequence(int[] sequence) {
+		// tails[k] is the index of the smallest element that ends an
+		// increasing subsequence of length k + 1
+		int[] tails = new int[sequence.length];
+		int[] predecessors = new int[sequence.length];
+		int length = 0;
+		for (int i = 0; i < sequence.length; i++) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sequence[tails[mid]] < sequence[i]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] subsequence = new boolean[sequence.length];
+		int i = length > 0 ? tails[length - 1] : -1;
+		while (i >= 0) {
+			subsequence[i] = true;
+			i = predecessors[i];
+		}
+		return subsequence;
+	}
+
 	@Override
 	public IVisualPart<? extends Node> getParent() {
 		return parentProperty.get();
@@ -756,6 +797,62 @@ public abstract class AbstractVisualPart<V extends Node>
 		addChild(child, index);
 	}
 
+	@Override
+	public void reorderChildren(
+			List<? extends IVisualPart<? extends Node>> children) {
+		if (children.size() != this.children.size()
+				|| !new HashSet<>(this.children)
+						.equals(new HashSet<>(children))) {
+			throw new IllegalArgumentException("Cannot reorder children of "
+					+ this + " to " + children
+					+ " because they are no permutation of the children.");
+		}
+		final Map<IVisualPart<? extends Node>, Integer> newIndexes = new HashMap<>();
+		for (int i = 0; i < children.size(); i++) {
+			newIndexes.put(children.get(i), i);
+		}
+		int[] sequence = new int[children.size()];
+		for (int i = 0; i < sequence.length; i++) {
+			sequence[i] = newIndexes.get(this.children.get(i));
+		}
+
+		// Only the children that are not part of a longest increasing
+		// subsequence of new indexes have to be moved, as the relative order of
+		// all others is already correct.
+		boolean[] stationary = getLongestIncreasingSubsequence(sequence);
+		boolean[] movedToIndex = new boolean[sequence.length];
+		boolean changed = false;
+		// remove the visuals of the moved children in descending order, so
+		// that the indexes of the remaining ones are not affected
+		for (int i = sequence.length - 1; i >= 0; i--) {
+			if (!stationary[i]) {
+				doRemoveChildVisual(this.children.get(i), i);
+				movedToIndex[sequence[i]] = true;
+				changed = true;
+			}
+		}
+		if (!changed) {
+			return;
+		}
+
+		// permute the children (resulting in a single change notification)
+		this.children.sort(new Comparator<IVisualPart<? extends Node>>() {
+			@Override
+			public int compare(IVisualPart<? extends Node> o1,
+					IVisualPart<? extends Node> o2) {
+				return Integer.compare(newIndexes.get(o1), newIndexes.get(o2));
+			}
+		});
+
+		// re-add the visuals of the moved children in ascending order of their
+		// new indexes, so that all preceding visuals are already in place
+		for (int i = 0; i < movedToIndex.length; i++) {
+			if (movedToIndex[i]) {
+				doAddChildVisual(this.children.get(i), i);
+			}
+		}
+	}
+
 	@Override
 	public void setAdaptable(IViewer viewer) {
 		IViewer oldViewer = viewerProperty.get();
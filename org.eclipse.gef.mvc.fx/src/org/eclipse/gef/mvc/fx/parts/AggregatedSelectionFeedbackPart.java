@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.parts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+
+import com.google.common.reflect.TypeToken;
+import com.google.inject.Provider;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.StrokeType;
+
+/**
+ * The {@link AggregatedSelectionFeedbackPart} is an {@link AbstractFeedbackPart}
+ * that renders the selection feedback for all of its anchorages at once, by
+ * means of a small number of {@link Path}s, each of which contains the bounds
+ * outlines of up to {@link #BUCKET_SIZE} anchorages. It is used by the
+ * {@link org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior} instead of
+ * individual {@link SelectionFeedbackPart}s if a large number of parts is
+ * selected.
+ * <p>
+ * In contrast to other feedback parts, a change of an anchorage's visual does
+ * not lead to a complete refresh, but only the outline of the respective
+ * anchorage is updated.
+ *
+ * @author agent
+ *
+ */
+public class AggregatedSelectionFeedbackPart
+		extends AbstractFeedbackPart<Group> {
+
+	/**
+	 * The maximum number of outlines that are rendered by a single
+	 * {@link Path}.
+	 */
+	public static final int BUCKET_SIZE = 256;
+
+	// the number of path elements per outline
+	private static final int OUTLINE_SIZE = 5;
+
+	private final Map<IVisualPart<? extends Node>, PathElement[]> outlines = new IdentityHashMap<>();
+	private final Map<IVisualPart<? extends Node>, Path> buckets = new IdentityHashMap<>();
+	private final Map<IVisualPart<? extends Node>, InvalidationListener> visualObservers = new IdentityHashMap<>();
+	private final Map<IVisualPart<? extends Node>, Integer> anchorageLinkCount = new IdentityHashMap<>();
+	private final Set<IVisualPart<? extends Node>> dirtyAnchorages = Collections
+			.newSetFromMap(
+					new IdentityHashMap<IVisualPart<? extends Node>, Boolean>());
+
+	private Path createBucket() {
+		Path bucket = new Path();
+		bucket.setFill(null);
+		bucket.setMouseTransparent(true);
+		bucket.setManaged(false);
+		bucket.setStrokeType(StrokeType.OUTSIDE);
+		bucket.setStrokeWidth(SelectionFeedbackPart.DEFAULT_STROKE_WIDTH);
+		bucket.setStroke(getSecondarySelectionColor());
+		return bucket;
+	}
+
+	@Override
+	protected void doAttachToAnchorageVisual(
+			final IVisualPart<? extends Node> anchorage, String role) {
+		setRefreshVisual(true);
+
+		// we only add one outline per anchorage, so we need to keep track of
+		// the number of links to an anchorage (roles)
+		Integer count = anchorageLinkCount.get(anchorage);
+		if (count == null) {
+			PathElement[] outline = new PathElement[] { new MoveTo(),
+					new LineTo(), new LineTo(), new LineTo(), new ClosePath() };
+			Path bucket = getBucket();
+			bucket.getElements().addAll(outline);
+			outlines.put(anchorage, outline);
+			buckets.put(anchorage, bucket);
+
+			// only the outline of the changed anchorage is updated
+			InvalidationListener observer = new InvalidationListener() {
+				@Override
+				public void invalidated(Observable observable) {
+					dirtyAnchorages.add(anchorage);
+					refreshVisual();
+				}
+			};
+			visualObservers.put(anchorage, observer);
+			Node anchorageVisual = anchorage.getVisual();
+			anchorageVisual.boundsInLocalProperty().addListener(observer);
+			anchorageVisual.localToSceneTransformProperty()
+					.addListener(observer);
+			dirtyAnchorages.add(anchorage);
+		}
+		anchorageLinkCount.put(anchorage, count == null ? 1 : count + 1);
+	}
+
+	@Override
+	protected Group doCreateVisual() {
+		Group visual = new Group();
+		visual.setMouseTransparent(true);
+		visual.setManaged(false);
+		visual.setAutoSizeChildren(false);
+		return visual;
+	}
+
+	@Override
+	protected void doDetachFromAnchorageVisual(
+			IVisualPart<? extends Node> anchorage, String role) {
+		int count = anchorageLinkCount.get(anchorage);
+		if (count > 1) {
+			anchorageLinkCount.put(anchorage, count - 1);
+			return;
+		}
+		anchorageLinkCount.remove(anchorage);
+
+		InvalidationListener observer = visualObservers.remove(anchorage);
+		Node anchorageVisual = anchorage.getVisual();
+		anchorageVisual.boundsInLocalProperty().removeListener(observer);
+		anchorageVisual.localToSceneTransformProperty()
+				.removeListener(observer);
+		dirtyAnchorages.remove(anchorage);
+
+		// the removal only affects the bucket of the anchorage
+		Path bucket = buckets.remove(anchorage);
+		bucket.getElements()
+				.removeAll(Arrays.asList(outlines.remove(anchorage)));
+		if (bucket.getElements().isEmpty()) {
+			getVisual().getChildren().remove(bucket);
+		}
+
+		// disable visual refresh when no anchorage is available
+		if (anchorageLinkCount.isEmpty()) {
+			setRefreshVisual(false);
+		}
+	}
+
+	@Override
+	protected void doRefreshVisual(Group visual) {
+		if (dirtyAnchorages.isEmpty()) {
+			return;
+		}
+		List<IVisualPart<? extends Node>> anchorages = new ArrayList<>(
+				dirtyAnchorages);
+		dirtyAnchorages.clear();
+		for (IVisualPart<? extends Node> anchorage : anchorages) {
+			Node anchorageVisual = anchorage.getVisual();
+			// querying the (lazily computed) properties ensures that the
+			// observer is notified about subsequent changes
+			Bounds bounds = visual.sceneToLocal(anchorageVisual
+					.getLocalToSceneTransform()
+					.transform(anchorageVisual.getBoundsInLocal()));
+			PathElement[] outline = outlines.get(anchorage);
+			((MoveTo) outline[0]).setX(bounds.getMinX());
+			((MoveTo) outline[0]).setY(bounds.getMinY());
+			((LineTo) outline[1]).setX(bounds.getMaxX());
+			((LineTo) outline[1]).setY(bounds.getMinY());
+			((LineTo) outline[2]).setX(bounds.getMaxX());
+			((LineTo) outline[2]).setY(bounds.getMaxY());
+			((LineTo) outline[3]).setX(bounds.getMinX());
+			((LineTo) outline[3]).setY(bounds.getMaxY());
+		}
+	}
+
+	/**
+	 * Returns a {@link Path} that can take up another outline, creating a new
+	 * one if all existing {@link Path}s are full.
+	 */
+	private Path getBucket() {
+		for (Node child : getVisual().getChildren()) {
+			Path bucket = (Path) child;
+			if (bucket.getElements().size() < BUCKET_SIZE * OUTLINE_SIZE) {
+				return bucket;
+			}
+		}
+		Path bucket = createBucket();
+		getVisual().getChildren().add(bucket);
+		return bucket;
+	}
+
+	/**
+	 * Returns the secondary selection {@link Color}.
+	 *
+	 * @return The secondary selection {@link Color}.
+	 */
+	protected Color getSecondarySelectionColor() {
+		@SuppressWarnings("serial")
+		Provider<Color> connectedColorProvider = getViewer()
+				.getAdapter(AdapterKey.get(new TypeToken<Provider<Color>>() {
+				}, DefaultSelectionFeedbackPartFactory.SECONDARY_SELECTION_FEEDBACK_COLOR_PROVIDER));
+		return connectedColorProvider == null
+				? DefaultSelectionFeedbackPartFactory.DEFAULT_SECONDARY_SELECTION_FEEDBACK_COLOR
+				: connectedColorProvider.get();
+	}
+}
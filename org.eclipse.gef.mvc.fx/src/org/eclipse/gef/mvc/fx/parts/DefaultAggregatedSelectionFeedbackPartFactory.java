@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.parts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.scene.Node;
+
+/**
+ * The {@link DefaultAggregatedSelectionFeedbackPartFactory} creates a single
+ * {@link AggregatedSelectionFeedbackPart} that renders the selection feedback
+ * for all given targets.
+ *
+ * @author agent
+ *
+ */
+public class DefaultAggregatedSelectionFeedbackPartFactory
+		implements IFeedbackPartFactory {
+
+	@Inject
+	private Injector injector;
+
+	@Override
+	public List<IFeedbackPart<? extends Node>> createFeedbackParts(
+			List<? extends IVisualPart<? extends Node>> targets,
+			Map<Object, Object> contextMap) {
+		// check that we have targets
+		if (targets == null || targets.isEmpty()) {
+			throw new IllegalArgumentException(
+					"Part factory is called without targets.");
+		}
+
+		List<IFeedbackPart<? extends Node>> feedbackParts = new ArrayList<>();
+		feedbackParts.add(
+				injector.getInstance(AggregatedSelectionFeedbackPart.class));
+		return feedbackParts;
+	}
+}
@@ -14,7 +14,10 @@
 package org.eclipse.gef.mvc.fx.parts;
 
 import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.common.beans.property.ReadOnlySetMultimapProperty;
 import org.eclipse.gef.common.collections.ObservableSetMultimap;
@@ -82,6 +85,49 @@ public interface IContentPart<V extends Node> extends IVisualPart<V> {
 	 */
 	public void attachToContentAnchorage(Object contentAnchorage, String role);
 
+	/**
+	 * Changes this part's content children, so that the given list of
+	 * <i>newContentChildren</i> will be returned by subsequent calls to
+	 * {@link #getContentChildrenUnmodifiable()}. All content children that are
+	 * not contained in the given list are removed, and the remaining ones are
+	 * added or reordered, so that their order corresponds to the given list.
+	 * <p>
+	 * Implementations should apply all changes as a single change of the
+	 * {@link #contentChildrenUnmodifiableProperty()}, so that the
+	 * {@link IContentPart} children have to be synchronized only once. The
+	 * default implementation delegates to
+	 * {@link #removeContentChild(Object)},
+	 * {@link #addContentChild(Object, int)}, and
+	 * {@link #reorderContentChild(Object, int)} for each individual change.
+	 *
+	 * @param newContentChildren
+	 *            The list of content {@link Object}s that are to constitute
+	 *            this part's content children.
+	 */
+	public default void changeContentChildren(
+			List<? extends Object> newContentChildren) {
+		Set<Object> newContentChildrenSet = new HashSet<>(newContentChildren);
+		for (Object contentChild : new ArrayList<>(
+				getContentChildrenUnmodifiable())) {
+			if (!newContentChildrenSet.contains(contentChild)) {
+				removeContentChild(contentChild);
+			}
+		}
+		for (int i = 0; i < newContentChildren.size(); i++) {
+			Object contentChild = newContentChildren.get(i);
+			List<Object> contentChildren = getContentChildrenUnmodifiable();
+			if (i < contentChildren.size()
+					&& contentChildren.get(i).equals(contentChild)) {
+				continue;
+			}
+			if (contentChildren.contains(contentChild)) {
+				reorderContentChild(contentChild, i);
+			} else {
+				addContentChild(contentChild, i);
+			}
+		}
+	}
+
 	/**
 	 * Returns an unmodifiable read-only set-multimap property containing the
 	 * content anchorages.
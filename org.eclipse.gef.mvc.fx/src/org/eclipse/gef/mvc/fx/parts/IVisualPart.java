@@ -229,6 +229,7 @@ public interface IVisualPart<V extends Node> extends IAdaptable,
 	 * @see #removeChild(IVisualPart)
 	 * @see #removeChildren(List)
 	 * @see #reorderChild(IVisualPart, int)
+	 * @see #reorderChildren(List)
 	 *
 	 * @return An unmodifiable read-only property named
 	 *         {@link #CHILDREN_PROPERTY}.
@@ -431,6 +432,21 @@ public interface IVisualPart<V extends Node> extends IAdaptable,
 	 */
 	public void reorderChild(IVisualPart<? extends Node> child, int index);
 
+	/**
+	 * Reorders the children of this part, so that they correspond to the given
+	 * list, which has to be a permutation of the current children. In contrast
+	 * to a sequence of {@link #reorderChild(IVisualPart, int)} calls, the
+	 * children are reordered by a single change of the
+	 * {@link #childrenUnmodifiableProperty()}, and only the visuals of those
+	 * children that do not retain their relative order (i.e. that are not
+	 * part of a longest increasing subsequence) are moved.
+	 *
+	 * @param children
+	 *            The children of this part in their new order.
+	 */
+	public void reorderChildren(
+			List<? extends IVisualPart<? extends Node>> children);
+
 	/**
 	 * Used by a parent {@link IVisualPart} to establish/unestablish a
 	 * parent-child relationship with this child {@link IVisualPart}.
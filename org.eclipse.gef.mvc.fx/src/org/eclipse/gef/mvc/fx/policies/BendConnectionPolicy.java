@@ -38,6 +38,7 @@ import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.providers.IAnchorProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
 
 import com.google.inject.Provider;
 
@@ -259,10 +260,14 @@ public class BendConnectionPolicy extends AbstractPolicy {
 			Point selectedPointCurrentPositionInScene = FX2Geometry
 					.toPoint(getConnection().localToScene(
 							Geometry2FX.toFXPoint(positionInLocal)));
-			List<Node> pickedNodes = NodeUtils.getNodesAt(
-					getHost().getRoot().getVisual(),
-					selectedPointCurrentPositionInScene.x,
-					selectedPointCurrentPositionInScene.y);
+			IViewer viewer = getHost().getRoot().getViewer();
+			List<Node> pickedNodes = viewer instanceof InfiniteCanvasViewer
+					? ((InfiniteCanvasViewer) viewer).getNodePicker()
+							.getNodesAt(selectedPointCurrentPositionInScene.x,
+									selectedPointCurrentPositionInScene.y)
+					: NodeUtils.getNodesAt(getHost().getRoot().getVisual(),
+							selectedPointCurrentPositionInScene.x,
+							selectedPointCurrentPositionInScene.y);
 			anchor = getCompatibleAnchor(explicitAnchorIndex,
 					getParts(pickedNodes), selectedPointCurrentPositionInScene);
 		}
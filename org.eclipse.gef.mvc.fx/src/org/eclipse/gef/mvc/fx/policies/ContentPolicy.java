@@ -11,9 +11,12 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.policies;
 
+import java.util.List;
+
 import org.eclipse.gef.mvc.fx.operations.AbstractCompositeOperation;
 import org.eclipse.gef.mvc.fx.operations.AddContentChildOperation;
 import org.eclipse.gef.mvc.fx.operations.AttachToContentAnchorageOperation;
+import org.eclipse.gef.mvc.fx.operations.ChangeContentChildrenOperation;
 import org.eclipse.gef.mvc.fx.operations.DetachFromContentAnchorageOperation;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.operations.RemoveContentChildOperation;
@@ -35,6 +38,9 @@ import javafx.scene.Node;
  * <li>{@link #addContentChild(Object, int)} will delegate through a
  * {@link AddContentChildOperation} to
  * {@link IContentPart#addContentChild(Object, int)}</li>
+ * <li>{@link #changeContentChildren(List)} will delegate through a
+ * {@link ChangeContentChildrenOperation} to
+ * {@link IContentPart#changeContentChildren(List)}</li>
  * <li>{@link #removeContentChild(Object)} will delegate through a
  * {@link RemoveContentChildOperation} to
  * {@link IContentPart#removeContentChild(Object)}</li>
@@ -90,6 +96,29 @@ public class ContentPolicy extends AbstractPolicy {
 		locallyExecuteOperation();
 	}
 
+	/**
+	 * Creates and records operations to change the content children of the
+	 * {@link #getHost() host} of this {@link ContentPolicy} to the given list
+	 * of content {@link Object}s, i.e. to add, remove, and reorder any number
+	 * of content children within a single change. In contrast to a sequence of
+	 * {@link #addContentChild(Object, int)} and
+	 * {@link #removeContentChild(Object)} calls, the {@link IContentPart}
+	 * children of the {@link #getHost() host} only have to be synchronized
+	 * once.
+	 *
+	 * @param newContentChildren
+	 *            The list of content {@link Object}s that are to constitute
+	 *            the content children of the {@link #getHost() host} of this
+	 *            {@link ContentPolicy}.
+	 */
+	public void changeContentChildren(
+			List<? extends Object> newContentChildren) {
+		checkInitialized();
+		getCompositeOperation().add(new ChangeContentChildrenOperation(
+				getHost(), newContentChildren));
+		locallyExecuteOperation();
+	}
+
 	@Override
 	protected ITransactionalOperation createOperation() {
 		return new ReverseUndoCompositeOperation("Content Change");
@@ -20,15 +20,24 @@ import java.util.Locale;
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.mvc.fx.operations.ChangeViewportOperation;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Point2D;
 
 /**
  * An {@link IPolicy} to change the viewport of an {@link IViewer} via its
  * {@link InfiniteCanvas}.
+ * <p>
+ * If {@link #setDeferredExecution(boolean) deferred execution} is enabled,
+ * the changes applied through the "work" methods are only recorded within the
+ * operation, and are applied to the {@link InfiniteCanvas} at most once per
+ * pulse (i.e. frame), so that a high frequency of input events (e.g. when
+ * scrolling via a trackpad) does not lead to redundant updates of the
+ * viewport, the scrollbars, and the content bounds.
  *
  * @author anyssen
  * @author mwienand
@@ -39,6 +48,26 @@ public class ViewportPolicy extends AbstractPolicy {
 	private static final double DEFAULT_ZOOM_MIN = 0.0625;
 	private static final double DEFAULT_ZOOM_MAX = 16d;
 
+	private boolean deferredExecution;
+	// whether recorded changes were not yet applied to the canvas
+	private boolean executionPending;
+	private AnimationTimer pulseTimer;
+
+	private void cancelPendingExecution() {
+		executionPending = false;
+		if (pulseTimer != null) {
+			pulseTimer.stop();
+		}
+	}
+
+	@Override
+	public ITransactionalOperation commit() {
+		cancelPendingExecution();
+		deferredExecution = false;
+		// commit() locally executes the operation
+		return super.commit();
+	}
+
 	@Override
 	protected ITransactionalOperation createOperation() {
 		InfiniteCanvas canvas = (InfiniteCanvas) getHost().getRoot().getViewer()
@@ -78,6 +107,8 @@ public class ViewportPolicy extends AbstractPolicy {
 	 *            The maximum zoom factor.
 	 */
 	public void fitToSize(double zoomMin, double zoomMax) {
+		// fit-to-size is computed by the canvas based on its current state
+		flush();
 		ChangeViewportOperation viewportOperation = getChangeViewportOperation();
 		InfiniteCanvas canvas = viewportOperation.getInfiniteCanvas();
 
@@ -95,6 +126,19 @@ public class ViewportPolicy extends AbstractPolicy {
 				.setNewVerticalScrollOffset(canvas.getVerticalScrollOffset());
 	}
 
+	/**
+	 * Applies all changes that were recorded while
+	 * {@link #setDeferredExecution(boolean) deferred execution} is enabled but
+	 * not yet applied to the {@link InfiniteCanvas}. Does nothing if no such
+	 * changes exist.
+	 */
+	public void flush() {
+		if (executionPending) {
+			cancelPendingExecution();
+			super.locallyExecuteOperation();
+		}
+	}
+
 	/**
 	 * Returns an {@link ChangeViewportOperation} that is extracted from the
 	 * operation created by {@link #createOperation()}.
@@ -106,6 +150,76 @@ public class ViewportPolicy extends AbstractPolicy {
 		return (ChangeViewportOperation) super.getOperation();
 	}
 
+	/**
+	 * Returns the position within the coordinate system of the
+	 * {@link InfiniteCanvas#getContentGroup() content group} that corresponds
+	 * to the given scene position, taking into account changes that are not yet
+	 * applied to the {@link InfiniteCanvas}.
+	 */
+	private Point2D getContentGroupPosition(double sceneX, double sceneY) {
+		InfiniteCanvas canvas = (InfiniteCanvas) getHost().getRoot()
+				.getViewer().getCanvas();
+		if (!executionPending) {
+			return canvas.getContentGroup().sceneToLocal(sceneX, sceneY);
+		}
+		// The content group is transformed by the content transform and
+		// translated (via its parent) by the scroll offsets, so that we can
+		// substitute the recorded values for the applied ones.
+		ChangeViewportOperation operation = getChangeViewportOperation();
+		Point2D scrolled = canvas.getContentGroup().getParent()
+				.sceneToLocal(sceneX, sceneY);
+		Point position = operation.getNewContentTransform().getInverse()
+				.getTransformed(new Point(
+						scrolled.getX() + canvas.getHorizontalScrollOffset()
+								- operation.getNewHorizontalScrollOffset(),
+						scrolled.getY() + canvas.getVerticalScrollOffset()
+								- operation.getNewVerticalScrollOffset()));
+		return new Point2D(position.x, position.y);
+	}
+
+	@Override
+	public void init() {
+		super.init();
+		deferredExecution = false;
+		executionPending = false;
+	}
+
+	/**
+	 * Returns whether deferred execution is enabled, i.e. whether changes are
+	 * applied to the {@link InfiniteCanvas} at most once per pulse.
+	 *
+	 * @return <code>true</code> if deferred execution is enabled, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isDeferredExecution() {
+		return deferredExecution;
+	}
+
+	@Override
+	protected void locallyExecuteOperation() {
+		if (!deferredExecution) {
+			super.locallyExecuteOperation();
+			return;
+		}
+		executionPending = true;
+		if (pulseTimer == null) {
+			pulseTimer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					flush();
+				}
+			};
+		}
+		pulseTimer.start();
+	}
+
+	@Override
+	public void rollback() {
+		cancelPendingExecution();
+		deferredExecution = false;
+		super.rollback();
+	}
+
 	/**
 	 * Advances the viewport transformation by the given translation values.
 	 *
@@ -135,6 +249,26 @@ public class ViewportPolicy extends AbstractPolicy {
 		locallyExecuteOperation();
 	}
 
+	/**
+	 * Enables or disables deferred execution for the current interaction. If
+	 * enabled, changes are recorded within the operation, and are applied to
+	 * the {@link InfiniteCanvas} at most once per pulse (as well as when
+	 * committing). Pending changes are applied when disabling deferred
+	 * execution. Deferred execution is disabled upon {@link #init()},
+	 * {@link #commit()}, and {@link #rollback()}.
+	 *
+	 * @param deferredExecution
+	 *            <code>true</code> to enable deferred execution,
+	 *            <code>false</code> to disable it.
+	 */
+	public void setDeferredExecution(boolean deferredExecution) {
+		checkInitialized();
+		this.deferredExecution = deferredExecution;
+		if (!deferredExecution) {
+			flush();
+		}
+	}
+
 	/**
 	 * Sets the x and y translation of the viewport to the given values. Does
 	 * not alter scaling.
@@ -226,9 +360,7 @@ public class ViewportPolicy extends AbstractPolicy {
 		}
 
 		// transform pivot to local coordinates
-		Point2D contentGroupPivot = ((InfiniteCanvas) getHost().getRoot()
-				.getViewer().getCanvas()).getContentGroup().sceneToLocal(sceneX,
-						sceneY);
+		Point2D contentGroupPivot = getContentGroupPosition(sceneX, sceneY);
 		// compute zoom transform
 		AffineTransform zoomTx = new AffineTransform()
 				.translate(contentGroupPivot.getX(), contentGroupPivot.getY())
@@ -25,6 +25,7 @@ import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.fx.utils.NodePicker;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
@@ -60,6 +61,7 @@ import javafx.stage.Window;
 public class InfiniteCanvasViewer implements IViewer {
 
 	private InfiniteCanvas infiniteCanvas;
+	private NodePicker nodePicker;
 
 	private boolean isInitialized = false;
 	private boolean isWindowFocused = false;
@@ -240,6 +242,10 @@ public class InfiniteCanvasViewer implements IViewer {
 			infiniteCanvas.sceneProperty().removeListener(sceneListener);
 			infiniteCanvas = null;
 		}
+		if (nodePicker != null) {
+			nodePicker.dispose();
+			nodePicker = null;
+		}
 
 		// unbind viewer focused property
 		viewerFocusedProperty.unbind();
@@ -358,6 +364,24 @@ public class InfiniteCanvasViewer implements IViewer {
 		return infiniteCanvas;
 	}
 
+	/**
+	 * Returns a {@link NodePicker} that can be used to pick the visuals of
+	 * this {@link InfiniteCanvasViewer} at a specific position. In contrast to
+	 * {@link NodeUtils#getNodesAt(Node, double, double)}, the
+	 * {@link NodePicker} maintains a spatial index of the visuals below the
+	 * {@link #getRootPart() root part's} visual, so that not all visuals have
+	 * to be visited for each query.
+	 *
+	 * @return The {@link NodePicker} for the visuals of this
+	 *         {@link InfiniteCanvasViewer}.
+	 */
+	public NodePicker getNodePicker() {
+		if (nodePicker == null) {
+			nodePicker = new NodePicker(getRootPart().getVisual());
+		}
+		return nodePicker;
+	}
+
 	/**
 	 * @see IViewer#getContentPartMap()
 	 */
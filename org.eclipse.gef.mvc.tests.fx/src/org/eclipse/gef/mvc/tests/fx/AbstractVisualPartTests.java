@@ -13,6 +13,7 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -162,4 +163,42 @@ public class AbstractVisualPartTests {
 		listChangeListener.check();
 		Assert.assertEquals(3, parent.getChildrenUnmodifiable().size());
 	}
+
+	@Test
+	public void testReorderChildren() {
+		AbstractVisualPartStub parent = new AbstractVisualPartStub();
+		AbstractVisualPartStub child1 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child2 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child3 = new AbstractVisualPartStub();
+		AbstractVisualPartStub child4 = new AbstractVisualPartStub();
+		parent.addChild(child1);
+		parent.addChild(child2);
+		parent.addChild(child3);
+		parent.addChild(child4);
+
+		// check that the children are reordered by a single permutation
+		// change (which neither removes nor adds children)
+		ListChangeExpector<IVisualPart<? extends Object>> listChangeListener = new ListChangeExpector<>(
+				parent.getChildrenUnmodifiable());
+		parent.getChildrenUnmodifiable().addListener(listChangeListener);
+		listChangeListener.addExpectation(Collections.<IVisualPart<? extends Object>>emptyList(),
+				Collections.<IVisualPart<? extends Object>>emptyList());
+		parent.reorderChildren(Arrays.asList(child4, child1, child3, child2));
+		listChangeListener.check();
+		Assert.assertEquals(Arrays.asList(child4, child1, child3, child2), parent.getChildrenUnmodifiable());
+
+		// check that no change is fired if the order is not changed
+		parent.reorderChildren(Arrays.asList(child4, child1, child3, child2));
+		listChangeListener.check();
+
+		// check that a list that is not a permutation of the children is
+		// rejected
+		try {
+			parent.reorderChildren(Arrays.asList(child4, child1, child3));
+			fail("Expected an IllegalArgumentException.");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		Assert.assertEquals(Arrays.asList(child4, child1, child3, child2), parent.getChildrenUnmodifiable());
+	}
 }
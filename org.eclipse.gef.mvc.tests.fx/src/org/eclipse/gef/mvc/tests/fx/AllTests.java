@@ -18,9 +18,11 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentSynchronizationTests.class,
-		FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
+		DefaultHandlerResolverTests.class, FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
 		BendConnectionPolicyTests.class, ClickDragGestureTests.class, TypeStrokeGestureTests.class, TransformPolicyTests.class,
-		FocusTraversalPolicyTests.class, ResizePolicyTests.class })
+		FocusTraversalPolicyTests.class, ResizePolicyTests.class, SelectionBehaviorTests.class,
+		SnapToSupportTests.class, SpatialIndexModelTests.class, TranslateSelectedOnDragHandlerTests.class,
+		HistoricizingDomainTests.class, ViewportPolicyTests.class })
 public class AllTests {
 
 }
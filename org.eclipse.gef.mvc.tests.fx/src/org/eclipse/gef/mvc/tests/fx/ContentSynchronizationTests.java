@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
@@ -43,6 +45,7 @@ import org.junit.Test;
 
 import com.google.inject.Guice;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 
@@ -79,6 +82,68 @@ public class ContentSynchronizationTests {
 		});
 	}
 
+	/**
+	 * This scenario tests if adding, removing, and reordering content children
+	 * through a single batch change is reported as a single change and results in
+	 * correctly ordered parts.
+	 */
+	@Test
+	public void batchChangeContentChildren() throws Throwable {
+		List<Cell> cells = createCells(100);
+		Cell container = new Cell("0", cells.subList(0, 50).toArray(new Cell[0]));
+		setContents(Arrays.asList(container));
+		IContentPart<? extends Node> containerPart = viewer.getContentPartMap().get(container);
+
+		// remove every third cell, add the remaining cells, and reverse the order
+		List<Cell> newChildren = new ArrayList<>();
+		for (int i = 0; i < cells.size(); i++) {
+			if (i >= 50 || i % 3 != 0) {
+				newChildren.add(cells.get(i));
+			}
+		}
+		Collections.reverse(newChildren);
+
+		AtomicInteger changes = new AtomicInteger();
+		ListChangeListener<Object> listener = new ListChangeListener<Object>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends Object> c) {
+				changes.incrementAndGet();
+			}
+		};
+		ctx.runAndWait(() -> {
+			containerPart.contentChildrenUnmodifiableProperty().addListener(listener);
+			containerPart.changeContentChildren(newChildren);
+			containerPart.contentChildrenUnmodifiableProperty().removeListener(listener);
+		});
+		assertEquals(1, changes.get());
+		assertEquals(newChildren, containerPart.getContentChildrenUnmodifiable());
+		verifyPartsAndOrder(Arrays.asList(container));
+		for (int i = 0; i < 50; i += 3) {
+			assertNull(viewer.getContentPartMap().get(cells.get(i)));
+		}
+	}
+
+	/**
+	 * This scenario tests if a batch change that interleaves moved, added, and
+	 * stationary content children results in correctly ordered parts.
+	 */
+	@Test
+	public void batchChangeContentChildrenShuffled() throws Throwable {
+		List<Cell> cells = createCells(60);
+		Cell container = new Cell("0", cells.subList(0, 40).toArray(new Cell[0]));
+		setContents(Arrays.asList(container));
+		IContentPart<? extends Node> containerPart = viewer.getContentPartMap().get(container);
+
+		List<Cell> newChildren = new ArrayList<>(cells.subList(5, 60));
+		Collections.shuffle(newChildren, new Random(42));
+		ctx.runAndWait(() -> {
+			containerPart.changeContentChildren(newChildren);
+		});
+		assertEquals(newChildren, container.children);
+		assertEquals(newChildren, containerPart.getContentChildrenUnmodifiable());
+		verifyPartsAndOrder(Arrays.asList(container));
+	}
+
 	@Test
 	public void consecutiveAddUndoOrder() throws Throwable {
 		List<Cell> cells = new ArrayList<>();
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.gestures.AbstractGesture;
+import org.eclipse.gef.mvc.fx.gestures.IGesture;
+import org.eclipse.gef.mvc.fx.gestures.IHandlerResolver;
+import org.eclipse.gef.mvc.fx.handlers.AbstractHandler;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+public class DefaultHandlerResolverTests {
+
+	private static class TestGesture extends AbstractGesture {
+		public void setActiveHandler(IViewer viewer, TestHandler handler) {
+			setActiveHandlers(viewer, Collections.singletonList(handler));
+		}
+	}
+
+	private static class TestHandler extends AbstractHandler {
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private IHandlerResolver resolver;
+	private IGesture gesture;
+	private Map<String, Cell> cells = new HashMap<>();
+
+	private IContentPart<? extends Node> getPart(String name) {
+		return viewer.getContentPartMap().get(cells.get(name));
+	}
+
+	private List<? extends TestHandler> resolve(String name) {
+		return resolver.resolve(gesture, getPart(name).getVisual(), viewer, TestHandler.class);
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			protected void bindIContentPartFactory() {
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				bindIContentPartFactory();
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 100, 100);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		Cell root = Cell.createCellTree("R-C0-C00\nR-C1", cells);
+		viewer.getContents().setAll(Collections.singletonList(root));
+		domain.activate();
+		resolver = domain.getAdapter(IHandlerResolver.class);
+		gesture = domain.getAdapters(IGesture.class).values().iterator().next();
+	}
+
+	@Test
+	public void test_domain_gestures_changed() {
+		TestHandler handler = new TestHandler();
+		getPart("C0").setAdapter(handler);
+		assertEquals(Collections.singletonList(handler), resolve("C00"));
+
+		// an active handler of a gesture that is added to the domain takes
+		// precedence over the handlers of the target part
+		TestGesture otherGesture = new TestGesture();
+		TestHandler activeHandler = new TestHandler();
+		getPart("C1").setAdapter(activeHandler);
+		domain.setAdapter(otherGesture);
+		otherGesture.setActiveHandler(viewer, activeHandler);
+		assertEquals(Collections.singletonList(activeHandler), resolve("C00"));
+
+		domain.unsetAdapter(otherGesture);
+		assertEquals(Collections.singletonList(handler), resolve("C00"));
+	}
+
+	@Test
+	public void test_part_adapters_changed() {
+		assertTrue(resolve("C00").isEmpty());
+
+		// handlers of the parent are resolved if the target part has none
+		TestHandler parentHandler = new TestHandler();
+		getPart("C0").setAdapter(parentHandler);
+		List<? extends TestHandler> handlers = resolve("C00");
+		assertEquals(Collections.singletonList(parentHandler), handlers);
+		// the handlers are cached as long as the parts do not change
+		assertSame(handlers, resolve("C00"));
+
+		TestHandler childHandler = new TestHandler();
+		getPart("C00").setAdapter(childHandler);
+		assertEquals(Collections.singletonList(childHandler), resolve("C00"));
+		assertEquals(Collections.singletonList(parentHandler), resolve("C0"));
+		assertTrue(resolve("C1").isEmpty());
+
+		getPart("C00").unsetAdapter(childHandler);
+		assertEquals(Collections.singletonList(parentHandler), resolve("C00"));
+	}
+
+	@Test
+	public void test_part_parent_changed() {
+		TestHandler handler = new TestHandler();
+		getPart("C0").setAdapter(handler);
+		assertEquals(Collections.singletonList(handler), resolve("C00"));
+
+		// move C00 from C0 to C1
+		IContentPart<? extends Node> childPart = getPart("C00");
+		getPart("C0").removeChild(childPart);
+		getPart("C1").addChild(childPart);
+		assertTrue(resolve("C00").isEmpty());
+	}
+
+}
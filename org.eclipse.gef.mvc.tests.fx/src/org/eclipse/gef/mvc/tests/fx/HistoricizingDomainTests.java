@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.IUndoableOperation;
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.HistoricizingDomain;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.gestures.AbstractGesture;
+import org.eclipse.gef.mvc.fx.gestures.IGesture;
+import org.eclipse.gef.mvc.fx.operations.ChangeContentsOperation;
+import org.eclipse.gef.mvc.fx.operations.ChangeViewportOperation;
+import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
+import org.eclipse.gef.mvc.fx.operations.ReverseUndoCompositeOperation;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.NullContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class HistoricizingDomainTests {
+
+	public static class TestDomain extends HistoricizingDomain {
+		private int historyBudget = DEFAULT_HISTORY_BUDGET;
+		private long mergeDelayMillis = DEFAULT_MERGE_DELAY_MILLIS;
+
+		@Override
+		protected int getHistoryBudget() {
+			return historyBudget;
+		}
+
+		@Override
+		protected long getMergeDelayMillis() {
+			return mergeDelayMillis;
+		}
+	}
+
+	private static class TestGesture extends AbstractGesture {
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	private TestDomain domain;
+
+	private InfiniteCanvas canvas;
+
+	private void execute(IGesture gesture, ITransactionalOperation... operations) throws ExecutionException {
+		domain.openExecutionTransaction(gesture);
+		for (ITransactionalOperation operation : operations) {
+			domain.execute(operation, null);
+		}
+		domain.closeExecutionTransaction(gesture);
+	}
+
+	private IUndoableOperation[] getUndoHistory() {
+		return domain.getOperationHistory().getUndoHistory(domain.getUndoContext());
+	}
+
+	private ChangeViewportOperation scrollTo(double x) {
+		return new ChangeViewportOperation(canvas, x, 0);
+	}
+
+	private void undo() throws ExecutionException {
+		domain.getOperationHistory().undo(domain.getUndoContext(), null, null);
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindIDomain() {
+				binder().bind(IDomain.class).to(TestDomain.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(NullContentPartFactory.class);
+			}
+		});
+		domain = (TestDomain) injector.getInstance(IDomain.class);
+		canvas = new InfiniteCanvas();
+	}
+
+	@Test
+	public void test_eviction_order() throws ExecutionException {
+		domain.historyBudget = 3;
+		// a transaction weighs as much as its nested operations
+		ReverseUndoCompositeOperation composite = new ReverseUndoCompositeOperation("composite");
+		composite.add(scrollTo(10));
+		composite.add(scrollTo(20));
+		domain.execute(composite, null);
+		IUndoableOperation first = getUndoHistory()[0];
+		domain.execute(scrollTo(30), null);
+		IUndoableOperation second = getUndoHistory()[1];
+		assertArrayEquals(new IUndoableOperation[] { first, second }, getUndoHistory());
+
+		// the oldest operation is evicted once the budget is exceeded
+		domain.execute(scrollTo(40), null);
+		IUndoableOperation third = getUndoHistory()[1];
+		assertArrayEquals(new IUndoableOperation[] { second, third }, getUndoHistory());
+		domain.execute(scrollTo(50), null);
+		IUndoableOperation fourth = getUndoHistory()[2];
+		assertArrayEquals(new IUndoableOperation[] { second, third, fourth }, getUndoHistory());
+
+		// the latest operation is never evicted
+		domain.historyBudget = 0;
+		domain.execute(scrollTo(60), null);
+		assertEquals(1, getUndoHistory().length);
+		undo();
+		assertEquals(50, canvas.getHorizontalScrollOffset(), 0);
+	}
+
+	@Test
+	public void test_eviction_default_budget() throws ExecutionException {
+		// operations weigh as much as the content snapshots they retain, so
+		// that the default budget is exceeded long before the undo limit
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		List<List<Object>> snapshots = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			List<Object> contents = new ArrayList<>();
+			for (int j = 0; j < 10000; j++) {
+				contents.add(i + "-" + j);
+			}
+			snapshots.add(contents);
+			domain.execute(new ChangeContentsOperation(viewer, contents), null);
+		}
+		// the first operation weighs 10001, all others 20001
+		IUndoableOperation[] undoHistory = getUndoHistory();
+		assertEquals(3, undoHistory.length);
+		assertEquals(snapshots.get(5), viewer.getContents());
+
+		// the remaining operations can still be undone
+		undo();
+		assertEquals(snapshots.get(4), viewer.getContents());
+		undo();
+		assertEquals(snapshots.get(3), viewer.getContents());
+		undo();
+		assertEquals(snapshots.get(2), viewer.getContents());
+		assertEquals(0, getUndoHistory().length);
+	}
+
+	@Test
+	public void test_merge_same_gesture() throws ExecutionException {
+		IGesture gesture = new TestGesture();
+		execute(gesture, scrollTo(10));
+		execute(gesture, scrollTo(20));
+		execute(gesture, scrollTo(30));
+		assertEquals(30, canvas.getHorizontalScrollOffset(), 0);
+		assertEquals(1, getUndoHistory().length);
+
+		// undo reverts all merged viewport changes
+		undo();
+		assertEquals(0, canvas.getHorizontalScrollOffset(), 0);
+		domain.getOperationHistory().redo(domain.getUndoContext(), null, null);
+		assertEquals(30, canvas.getHorizontalScrollOffset(), 0);
+	}
+
+	@Test
+	public void test_no_merge_across_gestures() throws ExecutionException {
+		execute(new TestGesture(), scrollTo(10));
+		execute(new TestGesture(), scrollTo(20));
+		// operations outside of a transaction are not merged either
+		domain.execute(scrollTo(30), null);
+		domain.execute(scrollTo(40), null);
+		assertEquals(4, getUndoHistory().length);
+
+		undo();
+		assertEquals(30, canvas.getHorizontalScrollOffset(), 0);
+		undo();
+		assertEquals(20, canvas.getHorizontalScrollOffset(), 0);
+		undo();
+		assertEquals(10, canvas.getHorizontalScrollOffset(), 0);
+		undo();
+		assertEquals(0, canvas.getHorizontalScrollOffset(), 0);
+	}
+
+	@Test
+	public void test_no_merge_after_delay() throws ExecutionException {
+		// operations of the same gesture belong to different interactions if
+		// the delay between them is exceeded
+		domain.mergeDelayMillis = 0;
+		IGesture gesture = new TestGesture();
+		execute(gesture, scrollTo(10));
+		execute(gesture, scrollTo(20));
+		assertEquals(2, getUndoHistory().length);
+	}
+
+}
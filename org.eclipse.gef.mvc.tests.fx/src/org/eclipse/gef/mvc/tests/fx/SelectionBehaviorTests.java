@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.AggregatedSelectionFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.DefaultAggregatedSelectionFeedbackPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.NestedCellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+
+public class SelectionBehaviorTests {
+
+	public static class TestAggregatedSelectionFeedbackPart extends AggregatedSelectionFeedbackPart {
+		private boolean disposed = false;
+
+		@Override
+		public void dispose() {
+			disposed = true;
+			super.dispose();
+		}
+	}
+
+	public static class TestAggregatedSelectionFeedbackPartFactory
+			extends DefaultAggregatedSelectionFeedbackPartFactory {
+		@Inject
+		private Injector injector;
+
+		private List<TestAggregatedSelectionFeedbackPart> createdParts = new ArrayList<>();
+
+		@Override
+		public List<IFeedbackPart<? extends Node>> createFeedbackParts(
+				List<? extends IVisualPart<? extends Node>> targets, Map<Object, Object> contextMap) {
+			TestAggregatedSelectionFeedbackPart part = injector.getInstance(TestAggregatedSelectionFeedbackPart.class);
+			createdParts.add(part);
+			return Collections.<IFeedbackPart<? extends Node>> singletonList(part);
+		}
+	}
+
+	public static class TestSelectionBehavior extends SelectionBehavior {
+		@Override
+		public List<IFeedbackPart<? extends Node>> getFeedback(
+				Collection<? extends IVisualPart<? extends Node>> targets) {
+			return super.getFeedback(targets);
+		}
+
+		@Override
+		public boolean hasFeedback(Collection<? extends IVisualPart<? extends Node>> targets) {
+			return super.hasFeedback(targets);
+		}
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private SelectionModel selectionModel;
+	private TestAggregatedSelectionFeedbackPartFactory factory;
+	private Map<String, Cell> cells = new HashMap<>();
+
+	private List<AggregatedSelectionFeedbackPart> getAggregatedFeedbackParts() {
+		List<AggregatedSelectionFeedbackPart> parts = new ArrayList<>();
+		for (IVisualPart<? extends Node> child : viewer.getRootPart().getChildrenUnmodifiable()) {
+			if (child instanceof AggregatedSelectionFeedbackPart) {
+				parts.add((AggregatedSelectionFeedbackPart) child);
+			}
+		}
+		return parts;
+	}
+
+	/**
+	 * Returns the outlines rendered by the given aggregated feedback part,
+	 * within the coordinate system of its visual.
+	 */
+	private List<Bounds> getOutlines(AggregatedSelectionFeedbackPart part) {
+		List<Bounds> outlines = new ArrayList<>();
+		for (Node bucket : part.getVisual().getChildren()) {
+			List<PathElement> elements = ((Path) bucket).getElements();
+			assertEquals(0, elements.size() % 5);
+			for (int i = 0; i < elements.size(); i += 5) {
+				MoveTo topLeft = (MoveTo) elements.get(i);
+				LineTo topRight = (LineTo) elements.get(i + 1);
+				LineTo bottomRight = (LineTo) elements.get(i + 2);
+				LineTo bottomLeft = (LineTo) elements.get(i + 3);
+				assertTrue(elements.get(i + 4) instanceof ClosePath);
+				// a closed, axis-parallel rectangle
+				assertEquals(topLeft.getY(), topRight.getY(), 0);
+				assertEquals(topRight.getX(), bottomRight.getX(), 0);
+				assertEquals(bottomRight.getY(), bottomLeft.getY(), 0);
+				assertEquals(bottomLeft.getX(), topLeft.getX(), 0);
+				outlines.add(new BoundingBox(topLeft.getX(), topLeft.getY(), bottomRight.getX() - topLeft.getX(),
+						bottomRight.getY() - topLeft.getY()));
+			}
+		}
+		return outlines;
+	}
+
+	private List<IContentPart<? extends Node>> getParts(String... names) {
+		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		for (String name : names) {
+			parts.add(viewer.getContentPartMap().get(cells.get(name)));
+		}
+		return parts;
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindAggregatedSelectionFeedbackPartFactoryAsContentViewerAdapter(
+					MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				adapterMapBinder.addBinding(AdapterKey.role(SelectionBehavior.AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY))
+						.to(TestAggregatedSelectionFeedbackPartFactory.class);
+			}
+
+			@Override
+			protected void bindSelectionBehaviorAsIRootPartAdapter(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(TestSelectionBehavior.class);
+			}
+
+			protected void bindIContentPartFactory() {
+				binder().bind(IContentPartFactory.class).to(NestedCellContentPartFactory.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				bindIContentPartFactory();
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 100, 100);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		Cell root = Cell.createCellTree("R-C0\nR-C1\nR-C2\nR-C3\nR-C4", cells);
+		viewer.getContents().setAll(Collections.singletonList(root));
+		domain.activate();
+		selectionModel = viewer.getAdapter(SelectionModel.class);
+		factory = (TestAggregatedSelectionFeedbackPartFactory) viewer.getAdapter(
+				AdapterKey.get(IFeedbackPartFactory.class, SelectionBehavior.AGGREGATED_SELECTION_FEEDBACK_PART_FACTORY));
+		viewer.getRootPart().getAdapter(SelectionBehavior.class).setAggregationThreshold(3);
+	}
+
+	@Test
+	public void test_aggregation_threshold() {
+		// individual feedback up to the threshold
+		selectionModel.setSelection(getParts("C0", "C1", "C2"));
+		assertTrue(getAggregatedFeedbackParts().isEmpty());
+		assertTrue(factory.createdParts.isEmpty());
+
+		// aggregated feedback above the threshold, excluding the primary
+		// selection
+		selectionModel.setSelection(getParts("C0", "C1", "C2", "C3"));
+		assertEquals(1, factory.createdParts.size());
+		TestAggregatedSelectionFeedbackPart aggregated = factory.createdParts.get(0);
+		assertEquals(Collections.singletonList(aggregated), getAggregatedFeedbackParts());
+		assertEquals(new HashSet<>(getParts("C1", "C2", "C3")),
+				new HashSet<>(aggregated.getAnchoragesUnmodifiable().keySet()));
+		assertFalse(aggregated.disposed);
+
+		// the aggregated feedback is replaced when the selection changes
+		selectionModel.setSelection(getParts("C4", "C3", "C2", "C1", "C0"));
+		assertTrue(aggregated.disposed);
+		assertEquals(2, factory.createdParts.size());
+		aggregated = factory.createdParts.get(1);
+		assertEquals(Collections.singletonList(aggregated), getAggregatedFeedbackParts());
+		assertEquals(new HashSet<>(getParts("C3", "C2", "C1", "C0")),
+				new HashSet<>(aggregated.getAnchoragesUnmodifiable().keySet()));
+
+		// back to individual feedback below the threshold
+		selectionModel.setSelection(getParts("C0", "C1"));
+		assertTrue(aggregated.disposed);
+		assertTrue(aggregated.getAnchoragesUnmodifiable().isEmpty());
+		assertTrue(getAggregatedFeedbackParts().isEmpty());
+		assertEquals(2, factory.createdParts.size());
+
+		// and aggregated again
+		selectionModel.setSelection(getParts("C0", "C1", "C2", "C3", "C4"));
+		assertEquals(3, factory.createdParts.size());
+		assertEquals(Collections.singletonList(factory.createdParts.get(2)), getAggregatedFeedbackParts());
+
+		selectionModel.clearSelection();
+		assertTrue(factory.createdParts.get(2).disposed);
+		assertTrue(getAggregatedFeedbackParts().isEmpty());
+	}
+
+	@Test
+	public void test_aggregated_outlines() {
+		// move the cells apart, so that their outlines can be distinguished
+		List<IContentPart<? extends Node>> parts = getParts("C0", "C1", "C2", "C3", "C4");
+		for (int i = 0; i < parts.size(); i++) {
+			parts.get(i).getVisual().relocate(30 * i, 10 * i);
+		}
+		selectionModel.setSelection(parts);
+		AggregatedSelectionFeedbackPart aggregated = factory.createdParts.get(0);
+		List<Bounds> expected = new ArrayList<>();
+		for (IContentPart<? extends Node> part : parts.subList(1, parts.size())) {
+			Node visual = part.getVisual();
+			expected.add(aggregated.getVisual().sceneToLocal(visual.localToScene(visual.getBoundsInLocal())));
+		}
+		// one outline per (secondary) selected part, around its visual
+		assertEquals(new HashSet<>(expected), new HashSet<>(getOutlines(aggregated)));
+		assertEquals(4, getOutlines(aggregated).size());
+		assertEquals(new BoundingBox(30, 10, 20, 20), expected.get(0));
+
+		// only the outline of a moved part changes
+		parts.get(2).getVisual().relocate(100, 100);
+		Node visual = parts.get(2).getVisual();
+		expected.set(1, aggregated.getVisual().sceneToLocal(visual.localToScene(visual.getBoundsInLocal())));
+		assertEquals(new BoundingBox(100, 100, 20, 20), expected.get(1));
+		assertEquals(new HashSet<>(expected), new HashSet<>(getOutlines(aggregated)));
+		assertEquals(4, getOutlines(aggregated).size());
+	}
+
+	@Test
+	public void test_aggregated_registration() {
+		TestSelectionBehavior behavior = (TestSelectionBehavior) viewer.getRootPart()
+				.getAdapter(SelectionBehavior.class);
+		selectionModel.setSelection(getParts("C0", "C1", "C2", "C3"));
+		TestAggregatedSelectionFeedbackPart aggregated = factory.createdParts.get(0);
+		// the aggregated feedback is registered for the set of secondary
+		// selected parts
+		assertTrue(behavior.hasFeedback(getParts("C1", "C2", "C3")));
+		assertEquals(Collections.singletonList(aggregated), behavior.getFeedback(getParts("C1", "C2", "C3")));
+		assertEquals(Collections.singletonList(aggregated), behavior.getFeedback(getParts("C3", "C2", "C1")));
+		assertFalse(behavior.hasFeedback(getParts("C1")));
+		assertTrue(behavior.hasFeedback(getParts("C0")));
+
+		selectionModel.clearSelection();
+		assertTrue(aggregated.disposed);
+		assertFalse(behavior.hasFeedback(getParts("C1", "C2", "C3")));
+		assertFalse(behavior.hasFeedback(getParts("C0")));
+	}
+
+	@Test
+	public void test_default_factory() {
+		// the default factory creates a single aggregated feedback part
+		DefaultAggregatedSelectionFeedbackPartFactory defaultFactory = new DefaultAggregatedSelectionFeedbackPartFactory();
+		Guice.createInjector().injectMembers(defaultFactory);
+		List<IFeedbackPart<? extends Node>> parts = defaultFactory.createFeedbackParts(getParts("C0", "C1"),
+				Collections.emptyMap());
+		assertEquals(1, parts.size());
+		assertTrue(parts.get(0) instanceof AggregatedSelectionFeedbackPart);
+	}
+
+}
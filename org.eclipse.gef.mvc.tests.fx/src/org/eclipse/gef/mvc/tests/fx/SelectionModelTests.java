@@ -15,6 +15,7 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -223,6 +224,43 @@ public class SelectionModelTests {
 		Assert.assertEquals(Collections.emptyList(), selectionModel.getSelectionUnmodifiable());
 	}
 
+	@Test
+	public void testLargeSelection() {
+		SelectionModel selectionModel = new SelectionModel();
+		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		for (int i = 0; i < 20000; i++) {
+			parts.add(new ContentPartStub());
+		}
+		ListChangeExpector<IContentPart<? extends Node>> listener = new ListChangeExpector<>(
+				selectionModel.getSelectionUnmodifiable());
+		selectionModel.getSelectionUnmodifiable().addListener(listener);
+
+		// ensure bulk operations raise a single event only
+		List<IContentPart<? extends Node>> firstHalf = parts.subList(0, 10000);
+		List<IContentPart<? extends Node>> secondHalf = parts.subList(10000, 20000);
+		listener.addExpectation(Collections.<IContentPart<? extends Node>>emptyList(), firstHalf);
+		selectionModel.appendToSelection(firstHalf);
+		listener.check();
+		// the selection is replaced as a whole
+		listener.addExpectation(firstHalf, parts);
+		selectionModel.appendToSelection(secondHalf);
+		listener.check();
+		Assert.assertEquals(parts, selectionModel.getSelectionUnmodifiable());
+		for (IContentPart<? extends Node> p : parts) {
+			Assert.assertTrue(selectionModel.isSelected(p));
+		}
+
+		selectionModel.getSelectionUnmodifiable().removeListener(listener);
+
+		selectionModel.removeFromSelection(firstHalf);
+		Assert.assertEquals(secondHalf, selectionModel.getSelectionUnmodifiable());
+		Assert.assertFalse(selectionModel.isSelected(parts.get(0)));
+		Assert.assertTrue(selectionModel.isSelected(parts.get(19999)));
+
+		selectionModel.prependToSelection(parts);
+		Assert.assertEquals(parts, selectionModel.getSelectionUnmodifiable());
+	}
+
 	@Test
 	public void testPrepend() {
 		SelectionModel selectionModel = new SelectionModel();
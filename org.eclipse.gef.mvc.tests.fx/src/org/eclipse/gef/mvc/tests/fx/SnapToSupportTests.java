@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.handlers.AbstractSnapTo;
+import org.eclipse.gef.mvc.fx.handlers.ISnapToStrategy;
+import org.eclipse.gef.mvc.fx.handlers.SnapToGeometry;
+import org.eclipse.gef.mvc.fx.handlers.SnapToSupport;
+import org.eclipse.gef.mvc.fx.models.SnappingModel;
+import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.TransformPolicyTests.TxContentPartFactory;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+public class SnapToSupportTests {
+
+	/**
+	 * A {@link SnapToGeometry} with fixed target locations, which are indexed.
+	 */
+	private static class IndexedSnapTo extends SnapToGeometry {
+		private List<SnappingLocation> targets;
+
+		public IndexedSnapTo(List<SnappingLocation> targets) {
+			this.targets = targets;
+			setSnappedPart(null);
+		}
+
+		public List<SnappingLocation> getMatching(Orientation orientation, double position) {
+			return getMatchingTargetLocations(orientation, position);
+		}
+
+		public SnappingLocation getNearest(Orientation orientation, double position) {
+			return getNearestTargetLocation(orientation, position);
+		}
+
+		@Override
+		public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
+			getHorizontalTargetLocations().clear();
+			getHorizontalTargetLocations().addAll(filter(targets, Orientation.HORIZONTAL));
+			getVerticalTargetLocations().clear();
+			getVerticalTargetLocations().addAll(filter(targets, Orientation.VERTICAL));
+		}
+	}
+
+	/**
+	 * A {@link SnapToGeometry} that provides its target locations by
+	 * overriding the respective getters.
+	 */
+	private static class OverridingSnapTo extends SnapToGeometry {
+		private List<SnappingLocation> horizontal;
+		private List<SnappingLocation> vertical;
+
+		public OverridingSnapTo(List<SnappingLocation> targets) {
+			horizontal = filter(targets, Orientation.HORIZONTAL);
+			vertical = filter(targets, Orientation.VERTICAL);
+		}
+
+		@Override
+		public List<SnappingLocation> getHorizontalTargetLocations() {
+			return horizontal;
+		}
+
+		@Override
+		public List<SnappingLocation> getVerticalTargetLocations() {
+			return vertical;
+		}
+
+		@Override
+		public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
+		}
+	}
+
+	/**
+	 * An {@link ISnapToStrategy} that does not extend {@link AbstractSnapTo},
+	 * and determines the nearest target location by a linear search.
+	 */
+	private static class UnindexedSnapTo implements ISnapToStrategy {
+		private List<SnappingLocation> horizontal;
+		private List<SnappingLocation> vertical;
+
+		public UnindexedSnapTo(List<SnappingLocation> targets) {
+			horizontal = filter(targets, Orientation.HORIZONTAL);
+			vertical = filter(targets, Orientation.VERTICAL);
+		}
+
+		@Override
+		public List<SnappingLocation> getHorizontalTargetLocations() {
+			return horizontal;
+		}
+
+		@Override
+		public double getMaximumSnappingDistance() {
+			return AbstractSnapTo.MAX_SNAPPING_DISTANCE_DEFAULT;
+		}
+
+		@Override
+		public IContentPart<? extends Node> getSnappedPart() {
+			return null;
+		}
+
+		@Override
+		public String getSourceLocationProviderRole() {
+			return null;
+		}
+
+		@Override
+		public List<SnappingLocation> getVerticalTargetLocations() {
+			return vertical;
+		}
+
+		@Override
+		public void setSnappedPart(IContentPart<? extends Node> snappedPart) {
+		}
+
+		@Override
+		public Dimension snap(Orientation orientation, double positionInScene) {
+			boolean horizontal = orientation == Orientation.HORIZONTAL;
+			SnappingLocation nearest = null;
+			double minDistance = 0;
+			for (SnappingLocation sl : horizontal ? getHorizontalTargetLocations() : getVerticalTargetLocations()) {
+				double distance = positionInScene - sl.getPositionInScene();
+				if (nearest == null || Math.abs(distance) < Math.abs(minDistance)) {
+					minDistance = distance;
+					nearest = sl;
+				}
+			}
+			if (nearest == null) {
+				return null;
+			}
+			double d = nearest.getPositionInScene() - positionInScene;
+			return horizontal ? new Dimension(d, 0) : new Dimension(0, d);
+		}
+	}
+
+	private static List<SnappingLocation> filter(List<SnappingLocation> locations, Orientation orientation) {
+		List<SnappingLocation> filtered = new ArrayList<>();
+		for (SnappingLocation sl : locations) {
+			if (sl.getOrientation() == orientation) {
+				filtered.add(sl);
+			}
+		}
+		return filtered;
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private IContentPart<? extends Node> snappedPart;
+
+	private SnappingLocation h(double position) {
+		return new SnappingLocation(snappedPart, Orientation.HORIZONTAL, position);
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(TxContentPartFactory.class);
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 100, 100);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		Point content = new Point(0, 0);
+		viewer.getContents().setAll(Collections.singletonList(content));
+		domain.activate();
+		snappedPart = viewer.getContentPartMap().get(content);
+	}
+
+	private List<Object> snap(ISnapToStrategy strategy, List<SnappingLocation> sources, Dimension delta) {
+		SnappingModel snappingModel = viewer.getAdapter(SnappingModel.class);
+		snappingModel.snapToStrategiesProperty().setAll(strategy);
+		SnapToSupport snapToSupport = viewer.getAdapter(SnapToSupport.class);
+		snapToSupport.startSnapping(snappedPart, sources);
+		Dimension snapped = snapToSupport.snap(delta);
+		List<SnappingLocation> matching = new ArrayList<>(snappingModel.getSnappingLocations());
+		snapToSupport.stopSnapping();
+		return Arrays.<Object> asList(snapped, matching);
+	}
+
+	@Test
+	public void test_indexed_equals_unindexed() {
+		Random random = new Random(42);
+		for (int run = 0; run < 50; run++) {
+			List<SnappingLocation> targets = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				// a small range of positions, so that there are ties
+				double position = random.nextInt(20) * 5;
+				targets.add(new SnappingLocation(snappedPart,
+						random.nextBoolean() ? Orientation.HORIZONTAL : Orientation.VERTICAL,
+						position == 0 && random.nextBoolean() ? -0.0 : position));
+			}
+			List<SnappingLocation> sources = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				sources.add(new SnappingLocation(snappedPart, i % 2 == 0 ? Orientation.HORIZONTAL : Orientation.VERTICAL,
+						random.nextInt(100)));
+			}
+			Dimension delta = new Dimension(random.nextInt(21) - 10 + random.nextInt(4) * 0.5,
+					random.nextInt(21) - 10 + random.nextInt(4) * 0.5);
+
+			List<Object> unindexed = snap(new UnindexedSnapTo(targets), sources, delta);
+			List<Object> indexed = snap(new IndexedSnapTo(targets), sources, delta);
+			List<Object> overriding = snap(new OverridingSnapTo(targets), sources, delta);
+			assertEquals(unindexed, indexed);
+			assertEquals(unindexed, overriding);
+		}
+	}
+
+	@Test
+	public void test_matching() {
+		SnappingLocation a = h(10);
+		SnappingLocation b = h(0);
+		SnappingLocation c = h(10);
+		SnappingLocation d = h(-0.0);
+		SnappingLocation e = h(Double.NaN);
+		IndexedSnapTo snapTo = new IndexedSnapTo(Arrays.asList(e, a, b, c, d));
+		List<SnappingLocation> matching = snapTo.getMatching(Orientation.HORIZONTAL, 10);
+		assertEquals(2, matching.size());
+		assertSame(a, matching.get(0));
+		assertSame(c, matching.get(1));
+		assertTrue(snapTo.getMatching(Orientation.HORIZONTAL, 11).isEmpty());
+		assertTrue(snapTo.getMatching(Orientation.VERTICAL, 10).isEmpty());
+		assertTrue(snapTo.getMatching(Orientation.HORIZONTAL, Double.NaN).isEmpty());
+
+		// -0.0 and 0.0 match each other (as by ==), in the provided order
+		for (double zero : new double[] { 0.0, -0.0 }) {
+			matching = snapTo.getMatching(Orientation.HORIZONTAL, zero);
+			assertEquals(2, matching.size());
+			assertSame(b, matching.get(0));
+			assertSame(d, matching.get(1));
+		}
+	}
+
+	@Test
+	public void test_nearest() {
+		SnappingLocation a = h(20);
+		SnappingLocation b = h(0);
+		SnappingLocation c = h(10);
+		SnappingLocation d = h(10);
+		SnappingLocation e = h(Double.NaN);
+		IndexedSnapTo snapTo = new IndexedSnapTo(Arrays.asList(a, b, c, d, e));
+		assertSame(c, snapTo.getNearest(Orientation.HORIZONTAL, 10));
+		assertSame(c, snapTo.getNearest(Orientation.HORIZONTAL, 12));
+		assertSame(b, snapTo.getNearest(Orientation.HORIZONTAL, -100));
+		// NaN positions are never nearer than any other position
+		assertSame(a, snapTo.getNearest(Orientation.HORIZONTAL, 100));
+		assertNull(snapTo.getNearest(Orientation.VERTICAL, 10));
+
+		// ties are resolved in favor of the location that was provided first
+		assertSame(b, snapTo.getNearest(Orientation.HORIZONTAL, 5));
+		assertSame(a, snapTo.getNearest(Orientation.HORIZONTAL, 15));
+
+		// -0.0 and 0.0 are equally near
+		SnappingLocation f = h(-0.0);
+		snapTo = new IndexedSnapTo(Arrays.asList(c, b, f));
+		assertSame(b, snapTo.getNearest(Orientation.HORIZONTAL, -1));
+		snapTo = new IndexedSnapTo(Arrays.asList(c, f, b));
+		assertSame(f, snapTo.getNearest(Orientation.HORIZONTAL, -1));
+	}
+
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.SpatialIndexModel;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.NestedCellContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.transform.Affine;
+
+public class SpatialIndexModelTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private SpatialIndexModel spatialIndex;
+	private Map<String, Cell> cells = new HashMap<>();
+
+	private IContentPart<? extends Node> getPart(String name) {
+		return viewer.getContentPartMap().get(cells.get(name));
+	}
+
+	private Point2D getSceneCenter(String name) {
+		Node visual = getPart(name).getVisual();
+		Bounds bounds = visual.localToScene(((Group) visual).getChildren().get(0).getBoundsInParent());
+		return new Point2D((bounds.getMinX() + bounds.getMaxX()) / 2, (bounds.getMinY() + bounds.getMaxY()) / 2);
+	}
+
+	private boolean isIndexedAt(String name, Point2D scenePosition) {
+		return spatialIndex.getContentPartsAt(scenePosition.getX(), scenePosition.getY()).contains(getPart(name));
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			protected void bindIContentPartFactory() {
+				binder().bind(IContentPartFactory.class).to(NestedCellContentPartFactory.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				bindIContentPartFactory();
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 400, 400);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		Cell root = Cell.createCellTree("R-C0-C00\nR-C1", cells);
+		viewer.getContents().setAll(Collections.singletonList(root));
+		domain.activate();
+		spatialIndex = viewer.getAdapter(SpatialIndexModel.class);
+		getPart("C0").getVisual().relocate(100, 0);
+		getPart("C00").getVisual().relocate(50, 50);
+		getPart("C1").getVisual().relocate(0, 100);
+	}
+
+	@Test
+	public void test_nested_visuals() {
+		Point2D c00 = getSceneCenter("C00");
+		assertTrue(isIndexedAt("C00", c00));
+		assertTrue(isIndexedAt("C0", c00));
+		assertTrue(isIndexedAt("R", c00));
+		assertFalse(isIndexedAt("C1", c00));
+
+		// moving the parent visual updates the bounds of the nested part
+		getPart("C0").getVisual().setTranslateY(200);
+		assertFalse(isIndexedAt("C00", c00));
+		assertTrue(isIndexedAt("C00", getSceneCenter("C00")));
+
+		// a part whose visual is removed from the scene graph is no longer
+		// indexed
+		((Group) getPart("C0").getVisual()).getChildren().remove(getPart("C00").getVisual());
+		assertNull(spatialIndex.getBounds(getPart("C00")));
+		assertFalse(spatialIndex.getContentPartsIntersecting(viewer.getCanvas().getBoundsInLocal())
+				.contains(getPart("C00")));
+	}
+
+	@Test
+	public void test_scroll_and_zoom() {
+		Point2D c1 = getSceneCenter("C1");
+		assertTrue(isIndexedAt("C1", c1));
+
+		InfiniteCanvas canvas = (InfiniteCanvas) viewer.getCanvas();
+		canvas.setHorizontalScrollOffset(30);
+		canvas.setVerticalScrollOffset(-40);
+		canvas.setContentTransform(new Affine(2, 0, 0, 0, 2, 0));
+
+		// the queries are mapped from scene coordinates into the index
+		Point2D moved = getSceneCenter("C1");
+		assertFalse(moved.equals(c1));
+		assertFalse(isIndexedAt("C1", c1));
+		assertTrue(isIndexedAt("C1", moved));
+		Bounds visualBounds = getPart("C1").getVisual().localToScene(getPart("C1").getVisual().getBoundsInLocal());
+		Bounds indexedBounds = spatialIndex.getBounds(getPart("C1"));
+		assertEquals(visualBounds.getMinX(), indexedBounds.getMinX(), 1e-9);
+		assertEquals(visualBounds.getMinY(), indexedBounds.getMinY(), 1e-9);
+		assertEquals(visualBounds.getWidth(), indexedBounds.getWidth(), 1e-9);
+		assertEquals(visualBounds.getHeight(), indexedBounds.getHeight(), 1e-9);
+	}
+
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.handlers.TranslateSelectedOnDragHandler;
+import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
+import org.eclipse.gef.mvc.fx.policies.TransformPolicy;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.TransformPolicyTests.TxContentPartFactory;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+
+public class TranslateSelectedOnDragHandlerTests {
+
+	private static class TestTranslateSelectedOnDragHandler extends TranslateSelectedOnDragHandler {
+		private boolean fastDrag;
+
+		@Override
+		protected boolean isFastDrag(MouseEvent event, List<IContentPart<? extends Node>> targetParts) {
+			return fastDrag;
+		}
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private List<IContentPart<? extends Node>> parts = new ArrayList<>();
+	private TestTranslateSelectedOnDragHandler handler;
+
+	private MouseEvent createMouseEvent(double x, double y) {
+		return new MouseEvent(MouseEvent.MOUSE_DRAGGED, x, y, x, y, MouseButton.PRIMARY, 1, false, false, false, false,
+				true, false, false, false, false, false, null);
+	}
+
+	private void drag(Dimension... deltas) {
+		handler.startDrag(createMouseEvent(5, 5));
+		for (Dimension delta : deltas) {
+			handler.drag(createMouseEvent(5 + delta.width, 5 + delta.height), delta);
+		}
+		Dimension delta = deltas[deltas.length - 1];
+		handler.endDrag(createMouseEvent(5 + delta.width, 5 + delta.height), delta);
+	}
+
+	private List<Transform> getTransforms() {
+		List<Transform> transforms = new ArrayList<>();
+		for (IContentPart<? extends Node> part : parts) {
+			Affine visualTransform = ((ITransformableContentPart<? extends Node>) part).getVisualTransform();
+			Affine contentTransform = ((ITransformableContentPart<? extends Node>) part).getContentTransform();
+			// the content transform is updated by the transaction
+			assertEquals(visualTransform.getTx(), contentTransform.getTx(), 1e-9);
+			assertEquals(visualTransform.getTy(), contentTransform.getTy(), 1e-9);
+			transforms.add(new Translate(visualTransform.getTx(), visualTransform.getTy()));
+		}
+		return transforms;
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindAbstractContentPartAdapters(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindAbstractContentPartAdapters(adapterMapBinder);
+				adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(TransformPolicy.class);
+			}
+
+			protected void bindIContentPartFactory() {
+				binder().bind(IContentPartFactory.class).to(TxContentPartFactory.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				bindIContentPartFactory();
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 400, 400);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		List<Point> contents = Arrays.asList(new Point(0, 0), new Point(20, 0), new Point(40, 0));
+		viewer.getContents().setAll(contents);
+		domain.activate();
+		for (Point content : contents) {
+			parts.add(viewer.getContentPartMap().get(content));
+		}
+		viewer.getAdapter(SelectionModel.class).setSelection(parts);
+		handler = new TestTranslateSelectedOnDragHandler();
+		parts.get(0).setAdapter(handler);
+		// zoom, so that scene and parent coordinates differ
+		((InfiniteCanvas) viewer.getCanvas()).setContentTransform(new Affine(2, 0, 10, 0, 2, 20));
+	}
+
+	@Test
+	public void test_fast_drag() {
+		handler.fastDrag = true;
+		handler.startDrag(createMouseEvent(5, 5));
+		handler.drag(createMouseEvent(35, 25), new Dimension(30, 20));
+
+		// all visuals share a single translation in parent coordinates
+		Transform shared = parts.get(0).getVisual().getTransforms().get(0);
+		assertTrue(shared instanceof Translate);
+		for (IContentPart<? extends Node> part : parts) {
+			assertSame(shared, part.getVisual().getTransforms().get(0));
+			// the transform policies are not updated during the drag
+			assertEquals(0, ((ITransformableContentPart<? extends Node>) part).getVisualTransform().getTx(), 1e-9);
+		}
+		assertEquals(15, shared.getTx(), 1e-9);
+		assertEquals(10, shared.getTy(), 1e-9);
+
+		// the translation is transferred to the transform policies
+		handler.endDrag(createMouseEvent(35, 25), new Dimension(30, 20));
+		for (IContentPart<? extends Node> part : parts) {
+			assertFalse(part.getVisual().getTransforms().contains(shared));
+		}
+		for (Transform transform : getTransforms()) {
+			assertEquals(15, transform.getTx(), 1e-9);
+			assertEquals(10, transform.getTy(), 1e-9);
+		}
+	}
+
+	@Test
+	public void test_fast_drag_abort() {
+		handler.fastDrag = true;
+		handler.startDrag(createMouseEvent(5, 5));
+		handler.drag(createMouseEvent(35, 25), new Dimension(30, 20));
+		Transform shared = parts.get(0).getVisual().getTransforms().get(0);
+		handler.abortDrag();
+		for (IContentPart<? extends Node> part : parts) {
+			assertFalse(part.getVisual().getTransforms().contains(shared));
+		}
+		for (Transform transform : getTransforms()) {
+			assertEquals(0, transform.getTx(), 1e-9);
+			assertEquals(0, transform.getTy(), 1e-9);
+		}
+	}
+
+	@Test
+	public void test_fast_drag_equals_regular_drag() {
+		Dimension[] deltas = new Dimension[] { new Dimension(10, 4), new Dimension(-6, 30), new Dimension(42, 18) };
+		handler.fastDrag = false;
+		drag(deltas);
+		List<Transform> regular = getTransforms();
+
+		handler.fastDrag = true;
+		drag(deltas);
+		List<Transform> fast = getTransforms();
+		for (int i = 0; i < parts.size(); i++) {
+			assertEquals(2 * regular.get(i).getTx(), fast.get(i).getTx(), 1e-9);
+			assertEquals(2 * regular.get(i).getTy(), fast.get(i).getTy(), 1e-9);
+		}
+		assertEquals(21, regular.get(0).getTx(), 1e-9);
+		assertEquals(9, regular.get(0).getTy(), 1e-9);
+	}
+
+}
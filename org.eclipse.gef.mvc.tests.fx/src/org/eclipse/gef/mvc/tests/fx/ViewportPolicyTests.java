@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.policies.ViewportPolicy;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.NullContentPartFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Scene;
+import javafx.scene.transform.Affine;
+
+public class ViewportPolicyTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private InfiniteCanvas canvas;
+	private ViewportPolicy viewportPolicy;
+
+	private void applyChanges() {
+		viewportPolicy.scroll(true, 10, 5);
+		viewportPolicy.zoom(true, false, 1.5, 50, 40);
+		viewportPolicy.scroll(true, -3, 7);
+		viewportPolicy.zoom(true, false, 0.8, 20, 30);
+		viewportPolicy.zoom(true, false, 1.25, 70, 10);
+	}
+
+	private void assertViewport(double[] expected) {
+		double[] actual = getViewport();
+		for (int i = 0; i < expected.length; i++) {
+			// the scene graph transforms positions at float precision
+			assertEquals(expected[i], actual[i], 1e-6);
+		}
+	}
+
+	private double[] getViewport() {
+		Affine tx = canvas.getContentTransform();
+		return new double[] { tx.getMxx(), tx.getMxy(), tx.getMyx(), tx.getMyy(), tx.getTx(), tx.getTy(),
+				canvas.getHorizontalScrollOffset(), canvas.getVerticalScrollOffset() };
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class).to(NullContentPartFactory.class);
+			}
+		});
+		injector.injectMembers(this);
+		IViewer viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 400, 400);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		domain.activate();
+		canvas = (InfiniteCanvas) viewer.getCanvas();
+		viewportPolicy = viewer.getRootPart().getAdapter(ViewportPolicy.class);
+	}
+
+	@Test
+	public void test_deferred_equals_immediate() {
+		double[] initial = getViewport();
+
+		// immediate execution
+		viewportPolicy.init();
+		applyChanges();
+		double[] immediate = getViewport();
+		viewportPolicy.rollback();
+		assertViewport(initial);
+
+		// deferred execution within a single pulse
+		viewportPolicy.init();
+		viewportPolicy.setDeferredExecution(true);
+		assertTrue(viewportPolicy.isDeferredExecution());
+		applyChanges();
+		// nothing is applied until the next pulse
+		assertViewport(initial);
+		// pending changes are applied when committing
+		viewportPolicy.commit();
+		assertFalse(viewportPolicy.isDeferredExecution());
+		assertViewport(immediate);
+	}
+
+	@Test
+	public void test_flush() {
+		double[] initial = getViewport();
+		viewportPolicy.init();
+		viewportPolicy.setDeferredExecution(true);
+		viewportPolicy.scroll(true, 10, 5);
+		viewportPolicy.zoom(true, false, 2, 100, 100);
+		assertViewport(initial);
+
+		// flush() applies the pending changes synchronously
+		viewportPolicy.flush();
+		double[] flushed = getViewport();
+		assertEquals(2, flushed[0], 1e-9);
+		assertEquals(10, flushed[6], 1e-9);
+		assertEquals(5, flushed[7], 1e-9);
+
+		// changes after a flush are deferred again, and applied when
+		// deferred execution is disabled
+		viewportPolicy.scroll(true, 10, 5);
+		assertViewport(flushed);
+		viewportPolicy.setDeferredExecution(false);
+		assertEquals(20, canvas.getHorizontalScrollOffset(), 1e-9);
+		assertEquals(10, canvas.getVerticalScrollOffset(), 1e-9);
+
+		// rollback discards pending changes
+		viewportPolicy.setDeferredExecution(true);
+		viewportPolicy.scroll(true, 10, 5);
+		viewportPolicy.rollback();
+		assertViewport(initial);
+		viewportPolicy.flush();
+		assertViewport(initial);
+	}
+
+}
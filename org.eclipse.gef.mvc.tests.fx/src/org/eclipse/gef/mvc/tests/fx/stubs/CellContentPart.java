@@ -28,6 +28,11 @@ public class CellContentPart extends AbstractContentPart<Node> {
 	protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
 	}
 
+	@Override
+	protected void doAddContentChild(Object contentChild, int index) {
+		((Cell) getContent()).children.add(index, (Cell) contentChild);
+	}
+
 	@Override
 	protected Node doCreateVisual() {
 		return new Rectangle();
@@ -51,6 +56,18 @@ public class CellContentPart extends AbstractContentPart<Node> {
 	protected void doRemoveChildVisual(IVisualPart<? extends Node> child, int index) {
 	}
 
+	@Override
+	protected void doRemoveContentChild(Object contentChild) {
+		((Cell) getContent()).children.remove(contentChild);
+	}
+
+	@Override
+	protected void doReorderContentChild(Object contentChild, int newIndex) {
+		List<Cell> children = ((Cell) getContent()).children;
+		children.remove(contentChild);
+		children.add(newIndex, (Cell) contentChild);
+	}
+
 	@Override
 	public boolean isFocusable() {
 		return ((Cell) getContent()).name.startsWith("C");
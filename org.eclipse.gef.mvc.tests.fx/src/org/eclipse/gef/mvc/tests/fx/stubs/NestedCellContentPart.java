@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx.stubs;
+
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * A {@link CellContentPart} whose visual contains the visuals of its children.
+ */
+public class NestedCellContentPart extends CellContentPart {
+
+	@Override
+	protected void doAddChildVisual(IVisualPart<? extends Node> child, int index) {
+		((Group) getVisual()).getChildren().add(index + 1, child.getVisual());
+	}
+
+	@Override
+	protected Node doCreateVisual() {
+		return new Group(new Rectangle(0, 0, 20, 20));
+	}
+
+	@Override
+	protected void doRemoveChildVisual(IVisualPart<? extends Node> child, int index) {
+		((Group) getVisual()).getChildren().remove(child.getVisual());
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.benchmarks;
+
+import java.util.Map;
+
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.eclipse.gef.zest.fx.parts.ZestFxContentPartFactory;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * A {@link ZestFxContentPartFactory} that creates {@link GraphPart}s,
+ * {@link NodePart}s, and {@link EdgePart}s, which count their visual
+ * refreshes.
+ *
+ * @author agent
+ *
+ */
+public class CountingContentPartFactory extends ZestFxContentPartFactory {
+
+	// only accessed from the JavaFX application thread
+	private static long refreshCount = 0;
+
+	/**
+	 * Returns the number of visual refreshes of all content parts that were
+	 * created by a {@link CountingContentPartFactory} so far.
+	 *
+	 * @return The number of visual refreshes.
+	 */
+	public static long getRefreshCount() {
+		return refreshCount;
+	}
+
+	@Override
+	public IContentPart<? extends Node> createContentPart(Object content,
+			Map<Object, Object> contextMap) {
+		IContentPart<? extends Node> part = null;
+		if (content instanceof Graph) {
+			part = new GraphPart() {
+				@Override
+				public void doRefreshVisual(Group visual) {
+					refreshCount++;
+					super.doRefreshVisual(visual);
+				}
+			};
+		} else if (content instanceof org.eclipse.gef.graph.Node) {
+			part = new NodePart() {
+				@Override
+				protected void doRefreshVisual(Group visual) {
+					refreshCount++;
+					super.doRefreshVisual(visual);
+				}
+			};
+		} else if (content instanceof Edge) {
+			part = new EdgePart() {
+				@Override
+				protected void doRefreshVisual(Connection visual) {
+					refreshCount++;
+					super.doRefreshVisual(visual);
+				}
+			};
+		} else {
+			return super.createContentPart(content, contextMap);
+		}
+		getInjector().injectMembers(part);
+		return part;
+	}
+}
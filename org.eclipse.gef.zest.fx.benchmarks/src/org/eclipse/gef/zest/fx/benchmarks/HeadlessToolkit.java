@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.benchmarks;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.scene.text.Text;
+
+/**
+ * The {@link HeadlessToolkit} starts the JavaFX toolkit on the (headless)
+ * Monocle platform, using the software renderer, so that a
+ * {@link javafx.stage.Stage} can be shown without a (visible) display. The
+ * platform and renderer can be overridden via the respective system properties
+ * (e.g. <code>-Dglass.platform=gtk -Dprism.order=sw</code> to use a virtual
+ * display).
+ * <p>
+ * Even without a display, JavaFX loads native libraries to render text (on
+ * Linux, FreeType, Fontconfig, and Pango). In case text cannot be rendered,
+ * {@link #start()} fails with an {@link IllegalStateException} that names the
+ * missing library.
+ *
+ * @author agent
+ *
+ */
+public class HeadlessToolkit {
+
+	private static boolean started = false;
+	private static IllegalStateException failure = null;
+
+	private static Throwable getRootCause(Throwable t) {
+		while (t.getCause() != null && t.getCause() != t) {
+			t = t.getCause();
+		}
+		return t;
+	}
+
+	/**
+	 * Executes the given {@link Callable} on the JavaFX application thread and
+	 * waits for its result.
+	 *
+	 * @param <T>
+	 *            The type of the result.
+	 * @param callable
+	 *            The {@link Callable} to execute.
+	 * @return The result of the {@link Callable}.
+	 */
+	public static <T> T runAndWait(Callable<T> callable) {
+		FutureTask<T> task = new FutureTask<>(callable);
+		Platform.runLater(task);
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static void setDefaultProperty(String key, String value) {
+		if (System.getProperty(key) == null) {
+			System.setProperty(key, value);
+		}
+	}
+
+	/**
+	 * Starts the JavaFX toolkit on the headless Monocle platform, unless it has
+	 * already been started, and ensures that text can be rendered.
+	 *
+	 * @throws IllegalStateException
+	 *             if the JavaFX toolkit cannot be started, or if text cannot be
+	 *             rendered, e.g. because of missing native libraries.
+	 */
+	public static synchronized void start() {
+		if (failure != null) {
+			throw failure;
+		}
+		if (started) {
+			return;
+		}
+		setDefaultProperty("glass.platform", "Monocle");
+		setDefaultProperty("monocle.platform", "Headless");
+		setDefaultProperty("prism.order", "sw");
+		try {
+			final CountDownLatch latch = new CountDownLatch(1);
+			Platform.startup(new Runnable() {
+				@Override
+				public void run() {
+					latch.countDown();
+				}
+			});
+			latch.await();
+			// keep the toolkit running when the stages are closed
+			Platform.setImplicitExit(false);
+			// the font libraries are only loaded when text is laid out
+			runAndWait(new Callable<Void>() {
+				@Override
+				public Void call() {
+					new Text("Headless").getLayoutBounds();
+					return null;
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (RuntimeException | LinkageError e) {
+			failure = new IllegalStateException(
+					"The JavaFX toolkit could not be started on the "
+							+ System.getProperty("glass.platform")
+							+ " platform, or cannot render text: "
+							+ getRootCause(e)
+							+ ". Text rendering requires the FreeType, "
+							+ "Fontconfig, and (on Linux) Pango libraries "
+							+ "to be installed.",
+					e);
+			throw failure;
+		}
+		started = true;
+	}
+}
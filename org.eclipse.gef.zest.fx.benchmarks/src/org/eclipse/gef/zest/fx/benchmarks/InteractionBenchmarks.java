@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.gestures.ScrollGesture;
+import org.eclipse.gef.mvc.fx.handlers.MarqueeOnDragHandler;
+import org.eclipse.gef.mvc.fx.handlers.TranslateSelectedOnDragHandler;
+import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.policies.ViewportPolicy;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.animation.PauseTransition;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.ScrollEvent.HorizontalTextScrollUnits;
+import javafx.scene.input.ScrollEvent.VerticalTextScrollUnits;
+import javafx.stage.Stage;
+
+/**
+ * Benchmarks that replay scripted gestures on an {@link IViewer} that renders
+ * a (grid-shaped) {@link Graph} via the Zest.FX content parts. The viewer is
+ * shown on a {@link Stage} of the headless Monocle platform (see
+ * {@link HeadlessToolkit}), and the gestures are replayed by firing synthetic
+ * input events on the JavaFX application thread:
+ * <ul>
+ * <li>{@link #dragSelection(InteractionCounters)} drags the selected nodes via
+ * the {@link TranslateSelectedOnDragHandler}.
+ * <li>{@link #marqueeSelection(InteractionCounters)} selects nodes via the
+ * {@link MarqueeOnDragHandler}.
+ * <li>{@link #zoom(InteractionCounters)} zooms in and out via the
+ * {@link ScrollEvent}s that are processed by the scroll gesture.
+ * <li>{@link #synchronizeContent(InteractionCounters)} removes and re-adds a
+ * tenth of the nodes (and their edges), so that the content parts have to be
+ * synchronized.
+ * </ul>
+ * After each step of a gesture, a pulse is performed synchronously, i.e. CSS
+ * is applied, the scene is laid out and rendered (into an image). The time
+ * spent within pulses, the number of visual refreshes of the content parts,
+ * and the memory allocated on the JavaFX application thread are reported as
+ * secondary results (see {@link InteractionCounters}).
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Guice (3.0) needs to define classes reflectively, which has to be permitted
+// explicitly on Java 9 and above
+@Fork(value = 1, jvmArgsAppend = { "-XX:+IgnoreUnrecognizedVMOptions",
+		"--add-opens=java.base/java.lang=ALL-UNNAMED" })
+@State(Scope.Benchmark)
+public class InteractionBenchmarks {
+
+	/**
+	 * A {@link ZestFxModule} that binds the
+	 * {@link CountingContentPartFactory}.
+	 */
+	private static class BenchmarkModule extends ZestFxModule {
+		@Override
+		protected void bindIContentPartFactory() {
+			binder().bind(IContentPartFactory.class)
+					.to(CountingContentPartFactory.class);
+		}
+
+		@Override
+		protected void bindScrollGestureAsDomainAdapter(
+				MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+			adapterMapBinder.addBinding(AdapterKey.defaultRole())
+					.to(BenchmarkScrollGesture.class);
+		}
+	}
+
+	/**
+	 * A {@link ScrollGesture} that can be finished explicitly, so that a zoom
+	 * interaction (including the commit of its viewport changes) is completed
+	 * within a benchmark invocation, instead of after the finish delay.
+	 */
+	private static class BenchmarkScrollGesture extends ScrollGesture {
+		private PauseTransition finishDelayTransition;
+
+		@Override
+		protected PauseTransition createFinishDelayTransition(
+				IViewer viewer) {
+			finishDelayTransition = super.createFinishDelayTransition(viewer);
+			return finishDelayTransition;
+		}
+
+		private void finish() {
+			finishDelayTransition.stop();
+			finishDelayTransition.getOnFinished().handle(null);
+		}
+	}
+
+	private static final double SPACING = 80;
+	private static final Dimension NODE_SIZE = new Dimension(40, 30);
+	private static final int WIDTH = 1024;
+	private static final int HEIGHT = 768;
+	private static final int STEPS = 10;
+
+	/**
+	 * The number of nodes of the {@link Graph}.
+	 */
+	@Param({ "100", "1000", "10000" })
+	public int nodeCount;
+
+	private Graph graph;
+	private List<org.eclipse.gef.graph.Node> selectedNodes;
+	private List<org.eclipse.gef.graph.Node> synchronizedNodes;
+	private List<Edge> synchronizedEdges;
+
+	private IDomain domain;
+	private IViewer viewer;
+	private ViewportPolicy viewportPolicy;
+	private BenchmarkScrollGesture scrollGesture;
+	private Stage stage;
+	private WritableImage image;
+
+	// the state of the gestures, which alternate between two directions
+	private boolean forward = true;
+	// the counters of the currently performed interaction
+	private InteractionCounters counters;
+
+	private static long getAllocatedBytes() {
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory
+				.getThreadMXBean();
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threadMXBean)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+	private void createGraph() {
+		int columns = (int) Math.ceil(Math.sqrt(nodeCount));
+		List<org.eclipse.gef.graph.Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			org.eclipse.gef.graph.Node node = new org.eclipse.gef.graph.Node();
+			ZestProperties.setLabel(node, Integer.toString(i));
+			ZestProperties.setPosition(node, new Point(
+					SPACING * (i % columns), SPACING * (i / columns)));
+			ZestProperties.setSize(node, NODE_SIZE);
+			nodes.add(node);
+			// connect to the left and upper neighbor
+			if (i % columns > 0) {
+				edges.add(new Edge(nodes.get(i - 1), node));
+			}
+			if (i >= columns) {
+				edges.add(new Edge(nodes.get(i - columns), node));
+			}
+		}
+		graph = new Graph.Builder().nodes(nodes.toArray(
+				new org.eclipse.gef.graph.Node[] {}))
+				.edges(edges.toArray(new Edge[] {})).build();
+
+		// select the (up to) 5x5 nodes in the upper left corner
+		selectedNodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			if (i % columns < 5 && i / columns < 5) {
+				selectedNodes.add(nodes.get(i));
+			}
+		}
+
+		// synchronize the last tenth of the nodes along with their edges
+		synchronizedNodes = new ArrayList<>(
+				nodes.subList(nodeCount - nodeCount / 10, nodeCount));
+		synchronizedEdges = new ArrayList<>();
+		for (Edge edge : edges) {
+			if (synchronizedNodes.contains(edge.getSource())
+					|| synchronizedNodes.contains(edge.getTarget())) {
+				synchronizedEdges.add(edge);
+			}
+		}
+	}
+
+	/**
+	 * Drags the selected nodes by {@value #STEPS} steps, alternating the
+	 * direction between subsequent invocations.
+	 *
+	 * @param counters
+	 *            The {@link InteractionCounters} to update.
+	 */
+	@Benchmark
+	public void dragSelection(InteractionCounters counters) {
+		perform(counters, new Runnable() {
+			@Override
+			public void run() {
+				Node target = getVisual(selectedNodes.get(0));
+				Bounds bounds = target.localToScene(target.getBoundsInLocal());
+				double x = bounds.getMinX() + bounds.getWidth() / 2;
+				double y = bounds.getMinY() + bounds.getHeight() / 2;
+				double delta = forward ? 4 : -4;
+				fireMouseEvent(target, MouseEvent.MOUSE_PRESSED, x, y);
+				for (int i = 1; i <= STEPS; i++) {
+					fireMouseEvent(target, MouseEvent.MOUSE_DRAGGED,
+							x + i * delta, y + i * delta);
+				}
+				fireMouseEvent(target, MouseEvent.MOUSE_RELEASED,
+						x + STEPS * delta, y + STEPS * delta);
+			}
+		});
+	}
+
+	private void fireMouseEvent(Node target,
+			EventType<MouseEvent> type, double sceneX,
+			double sceneY) {
+		Point2D screen = target.getScene().getRoot().localToScreen(sceneX,
+				sceneY);
+		boolean primaryButtonDown = type != MouseEvent.MOUSE_RELEASED;
+		Event.fireEvent(target, new MouseEvent(null, target,
+				type, sceneX, sceneY, screen.getX(), screen.getY(),
+				MouseButton.PRIMARY, 1, false, false, false, false,
+				primaryButtonDown, false, false, false, false, false,
+				new PickResult(target, sceneX, sceneY)));
+		pulse();
+	}
+
+	private void fireScrollEvent(Node target, double sceneX, double sceneY,
+			double deltaY) {
+		Point2D screen = target.getScene().getRoot().localToScreen(sceneX,
+				sceneY);
+		// zoom is triggered when the control key is pressed
+		Event.fireEvent(target,
+				new ScrollEvent(null, target, ScrollEvent.SCROLL, sceneX,
+						sceneY, screen.getX(), screen.getY(), false, true,
+						false, false, false, false, 0, deltaY, 0, deltaY,
+						HorizontalTextScrollUnits.NONE, 0,
+						VerticalTextScrollUnits.NONE, 0, 0,
+						new PickResult(target, sceneX, sceneY)));
+		// the viewport changes of the scroll gesture are deferred to an
+		// animation timer, which is not run by pulse()
+		viewportPolicy.flush();
+		pulse();
+	}
+
+	private Node getVisual(org.eclipse.gef.graph.Node node) {
+		return viewer.getContentPartMap().get(node).getVisual();
+	}
+
+	/**
+	 * Selects the nodes within a marquee, which is dragged open in
+	 * {@value #STEPS} steps, alternating between two marquee sizes between
+	 * subsequent invocations.
+	 *
+	 * @param counters
+	 *            The {@link InteractionCounters} to update.
+	 */
+	@Benchmark
+	public void marqueeSelection(InteractionCounters counters) {
+		perform(counters, new Runnable() {
+			@Override
+			public void run() {
+				Node target = viewer.getCanvas();
+				double x = 20;
+				double y = 20;
+				double dx = (forward ? 400 : 600) / STEPS;
+				double dy = (forward ? 300 : 450) / STEPS;
+				fireMouseEvent(target, MouseEvent.MOUSE_PRESSED, x, y);
+				for (int i = 1; i <= STEPS; i++) {
+					fireMouseEvent(target, MouseEvent.MOUSE_DRAGGED,
+							x + i * dx, y + i * dy);
+				}
+				fireMouseEvent(target, MouseEvent.MOUSE_RELEASED,
+						x + STEPS * dx, y + STEPS * dy);
+			}
+		});
+	}
+
+	private void perform(final InteractionCounters counters,
+			final Runnable interaction) {
+		this.counters = counters;
+		HeadlessToolkit.runAndWait(new Callable<Void>() {
+			@Override
+			public Void call() {
+				long allocatedBytes = getAllocatedBytes();
+				long refreshes = CountingContentPartFactory.getRefreshCount();
+				interaction.run();
+				counters.refreshes += CountingContentPartFactory
+						.getRefreshCount() - refreshes;
+				counters.allocatedBytes += getAllocatedBytes()
+						- allocatedBytes;
+				return null;
+			}
+		});
+		forward = !forward;
+	}
+
+	/**
+	 * Performs a pulse synchronously, i.e. applies CSS, lays out, and renders
+	 * the scene, and records the time that was spent. In contrast to a pulse of
+	 * the JavaFX toolkit, animations and animation timers are not run, so that
+	 * deferred changes have to be applied explicitly.
+	 */
+	private void pulse() {
+		long start = System.nanoTime();
+		Scene scene = stage.getScene();
+		scene.getRoot().applyCss();
+		scene.getRoot().layout();
+		scene.snapshot(image);
+		counters.pulseNanos += System.nanoTime() - start;
+		counters.pulses++;
+	}
+
+	/**
+	 * Creates the {@link Graph} and shows it within an {@link IViewer} on a
+	 * (headless) {@link Stage}.
+	 */
+	@Setup
+	public void setUp() {
+		createGraph();
+		HeadlessToolkit.start();
+		HeadlessToolkit.runAndWait(new Callable<Void>() {
+			@Override
+			public Void call() {
+				Injector injector = Guice.createInjector(new BenchmarkModule());
+				domain = injector.getInstance(IDomain.class);
+				viewer = domain.getAdapter(AdapterKey.get(IViewer.class,
+						IDomain.CONTENT_VIEWER_ROLE));
+				stage = new Stage();
+				stage.setScene(new Scene(viewer.getCanvas(), WIDTH, HEIGHT));
+				stage.show();
+				image = new WritableImage(WIDTH, HEIGHT);
+				domain.activate();
+				viewer.getContents().setAll(Collections.singletonList(graph));
+				viewportPolicy = viewer.getRootPart()
+						.getAdapter(ViewportPolicy.class);
+				scrollGesture = domain.getAdapter(BenchmarkScrollGesture.class);
+
+				// select the nodes that are dragged
+				List<IContentPart<? extends Node>> selection = new ArrayList<>();
+				for (org.eclipse.gef.graph.Node node : selectedNodes) {
+					selection.add(viewer.getContentPartMap().get(node));
+				}
+				viewer.getAdapter(SelectionModel.class)
+						.setSelection(selection);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Removes a tenth of the nodes (along with their edges) from the
+	 * {@link Graph} and adds them again.
+	 *
+	 * @param counters
+	 *            The {@link InteractionCounters} to update.
+	 */
+	@Benchmark
+	public void synchronizeContent(InteractionCounters counters) {
+		perform(counters, new Runnable() {
+			@Override
+			public void run() {
+				graph.getEdges().removeAll(synchronizedEdges);
+				graph.getNodes().removeAll(synchronizedNodes);
+				pulse();
+				graph.getNodes().addAll(synchronizedNodes);
+				graph.getEdges().addAll(synchronizedEdges);
+				pulse();
+			}
+		});
+	}
+
+	/**
+	 * Disposes the {@link IViewer} and hides the {@link Stage}.
+	 */
+	@TearDown
+	public void tearDown() {
+		HeadlessToolkit.runAndWait(new Callable<Void>() {
+			@Override
+			public Void call() {
+				domain.deactivate();
+				domain.dispose();
+				stage.hide();
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Zooms in by {@value #STEPS} steps and out again, and finishes the scroll
+	 * gesture.
+	 *
+	 * @param counters
+	 *            The {@link InteractionCounters} to update.
+	 */
+	@Benchmark
+	public void zoom(InteractionCounters counters) {
+		perform(counters, new Runnable() {
+			@Override
+			public void run() {
+				Node target = viewer.getCanvas();
+				for (int i = 0; i < STEPS; i++) {
+					fireScrollEvent(target, WIDTH / 2, HEIGHT / 2, 40);
+				}
+				for (int i = 0; i < STEPS; i++) {
+					fireScrollEvent(target, WIDTH / 2, HEIGHT / 2, -40);
+				}
+				scrollGesture.finish();
+				pulse();
+			}
+		});
+	}
+}
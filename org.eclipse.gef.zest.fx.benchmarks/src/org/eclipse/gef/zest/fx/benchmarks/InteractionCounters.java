@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary results of the {@link InteractionBenchmarks}, which are reported
+ * (as totals per iteration) along with the primary results. As the
+ * interactions are performed on the JavaFX application thread, they cannot be
+ * measured by the (benchmark thread local) JMH profilers.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class InteractionCounters {
+
+	/**
+	 * The number of bytes that were allocated on the JavaFX application thread.
+	 */
+	public long allocatedBytes;
+
+	/**
+	 * The number of pulses that were performed.
+	 */
+	public long pulses;
+
+	/**
+	 * The time (in nanoseconds) that was spent within pulses, i.e. for
+	 * applying CSS, layout, and rendering the scene.
+	 */
+	public long pulseNanos;
+
+	/**
+	 * The number of visual refreshes of content parts.
+	 */
+	public long refreshes;
+
+	/**
+	 * Resets all counters at the start of an iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void reset() {
+		allocatedBytes = 0;
+		pulses = 0;
+		pulseNanos = 0;
+		refreshes = 0;
+	}
+}